@@ -0,0 +1,59 @@
+package org.folio.circulation.rules.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2Drools;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time it takes to turn circulation rules text into a rules engine: parsing the text
+ * into Drools rules, compiling the Drools rules and building the decision table.
+ * <p>
+ * Compiling large rules takes seconds, so each invocation is measured on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RulesCompilationBenchmark {
+  @Param({"100", "1000", "4000"})
+  public int lines;
+
+  private String rules;
+  private String droolsText;
+
+  @Setup
+  public void setUp() {
+    rules = new RulesGenerator(lines).rules(lines);
+    droolsText = Text2Drools.convert(rules);
+  }
+
+  @Benchmark
+  public String convertToDrools() {
+    return Text2Drools.convert(rules);
+  }
+
+  @Benchmark
+  public Drools compileDrools() {
+    return new Drools("benchmark", droolsText);
+  }
+
+  @Benchmark
+  public CirculationRulesEngine buildDecisionTable() {
+    return Text2Drools.convertToDecisionTable(rules);
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.circulation.rules.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2Drools;
+import org.folio.circulation.rules.benchmark.RulesGenerator.Evaluation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Throughput of determining the loan policy with each rules engine. Run with
+ * {@code -prof gc} to also get the allocation per evaluation.
+ * <p>
+ * The parameters are generated up front and cycled through, so that the benchmark does
+ * not measure their creation and the engine cannot benefit from always seeing the same
+ * parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RulesEvaluationBenchmark {
+  private static final int EVALUATIONS = 1024;
+
+  @Param({"100", "1000", "4000"})
+  public int lines;
+
+  @Param({"drools", "decision-table"})
+  public String engineType;
+
+  private CirculationRulesEngine engine;
+  private List<Evaluation> evaluations;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final RulesGenerator generator = new RulesGenerator(lines);
+    final String rules = generator.rules(lines);
+
+    engine = "drools".equals(engineType)
+      ? new Drools("benchmark", Text2Drools.convert(rules))
+      : Text2Drools.convertToDecisionTable(rules);
+    evaluations = generator.evaluations(lines, EVALUATIONS);
+  }
+
+  @Benchmark
+  public CirculationRuleMatch loanPolicy() {
+    final Evaluation evaluation = nextEvaluation();
+
+    return engine.loanPolicy(evaluation.params(), evaluation.location());
+  }
+
+  @Benchmark
+  public JsonArray loanPolicies() {
+    final Evaluation evaluation = nextEvaluation();
+
+    return engine.loanPolicies(evaluation.params(), evaluation.location());
+  }
+
+  private Evaluation nextEvaluation() {
+    next = (next + 1) % EVALUATIONS;
+
+    return evaluations.get(next);
+  }
+}
@@ -0,0 +1,152 @@
+package org.folio.circulation.rules.benchmark;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Generates circulation rules resembling the rules of a large consortium: a tree of
+ * institutions, libraries, campuses and locations with rules for material types,
+ * loan types and patron groups nested below each of them, negations and {@code all}.
+ * <p>
+ * The same seed always generates the same rules and parameters, so that results of
+ * different runs can be compared.
+ */
+public class RulesGenerator {
+  private static final String POLICIES = ": l loan-%1$d r request-%1$d n notice-%1$d "
+    + "o overdue-%1$d i lost-item-%1$d";
+  /** lines generated for each location: the location line and three nested lines */
+  private static final int LINES_PER_LOCATION = 4;
+  private static final int MATERIAL_TYPES = 40;
+  private static final int LOAN_TYPES = 10;
+  private static final int PATRON_GROUPS = 20;
+  private static final int BRANCHES = 5;
+
+  private final Random random;
+  private int policy;
+
+  public RulesGenerator(long seed) {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * Rules with approximately the number of lines, not counting the header.
+   */
+  public String rules(int lines) {
+    policy = 0;
+
+    final StringBuilder rules = new StringBuilder()
+      .append("priority: t, s, c, b, a, m, g\n")
+      .append("fallback-policy").append(policies()).append("\n")
+      .append("m ").append(materialType(0)).append(" ").append(materialType(1))
+      .append(" + g all").append(policies()).append("\n")
+      .append("g !").append(patronGroup(0)).append(" !").append(patronGroup(1))
+      .append(policies()).append("\n");
+
+    final int locations = Math.max(1, lines / LINES_PER_LOCATION);
+
+    for (int location = 0; location < locations; location++) {
+      final int library = location / BRANCHES;
+      final int campus = library / BRANCHES;
+      final int institution = campus / BRANCHES;
+
+      if (location % BRANCHES == 0 && library % BRANCHES == 0 && campus % BRANCHES == 0) {
+        rules.append("a ").append(institution(institution)).append(policies()).append("\n");
+      }
+      if (location % BRANCHES == 0 && library % BRANCHES == 0) {
+        rules.append("  b ").append(campus(campus)).append(policies()).append("\n");
+      }
+      if (location % BRANCHES == 0) {
+        rules.append("    c ").append(library(library)).append(policies()).append("\n");
+      }
+
+      rules.append("      s ").append(location(location)).append(policies()).append("\n")
+        .append("        m ").append(materialType(random.nextInt(MATERIAL_TYPES)))
+        .append(" ").append(materialType(random.nextInt(MATERIAL_TYPES)))
+        .append(policies()).append("\n")
+        .append("          t ").append(loanType(random.nextInt(LOAN_TYPES)))
+        .append(" + g ").append(patronGroup(random.nextInt(PATRON_GROUPS)))
+        .append(policies()).append("\n")
+        .append("        g !").append(patronGroup(random.nextInt(PATRON_GROUPS)))
+        .append(policies()).append("\n");
+    }
+
+    return rules.toString();
+  }
+
+  /**
+   * Parameters and locations for evaluating the rules generated for the number of lines.
+   */
+  public List<Evaluation> evaluations(int lines, int count) {
+    final int locations = Math.max(1, lines / LINES_PER_LOCATION);
+
+    return IntStream.range(0, count)
+      .mapToObj(evaluation -> evaluation(random.nextInt(locations)))
+      .toList();
+  }
+
+  private Evaluation evaluation(int location) {
+    final int library = location / BRANCHES;
+    final int campus = library / BRANCHES;
+    final int institution = campus / BRANCHES;
+
+    final MultiMap params = MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, materialType(random.nextInt(MATERIAL_TYPES)))
+      .add(LOAN_TYPE_ID_NAME, loanType(random.nextInt(LOAN_TYPES)))
+      .add(PATRON_TYPE_ID_NAME, patronGroup(random.nextInt(PATRON_GROUPS)))
+      .add(LOCATION_ID_NAME, location(location));
+
+    return new Evaluation(params, new Location(location(location), null, null, null,
+      emptyList(), null, Institution.unknown(institution(institution)),
+      Campus.unknown(campus(campus)), Library.unknown(library(library)),
+      ServicePoint.unknown()));
+  }
+
+  private String policies() {
+    return String.format(POLICIES, policy++);
+  }
+
+  private static String institution(int index) {
+    return "institution-" + index;
+  }
+
+  private static String campus(int index) {
+    return "campus-" + index;
+  }
+
+  private static String library(int index) {
+    return "library-" + index;
+  }
+
+  private static String location(int index) {
+    return "location-" + index;
+  }
+
+  private static String materialType(int index) {
+    return "material-type-" + index;
+  }
+
+  private static String loanType(int index) {
+    return "loan-type-" + index;
+  }
+
+  private static String patronGroup(int index) {
+    return "patron-group-" + index;
+  }
+
+  public record Evaluation(MultiMap params, Location location) { }
+}
@@ -17,6 +17,143 @@ public class Environment {
     return getVariable("SCHEDULED_ANONYMIZATION_NUMBER_OF_LOANS_TO_CHECK", 50000);
   }
 
+  public static int getCirculationRulesMatchCacheSize() {
+    return getVariable("CIRCULATION_RULES_MATCH_CACHE_SIZE", 10000);
+  }
+
+  public static int getCirculationRulesCompilationThreads() {
+    return getVariable("CIRCULATION_RULES_COMPILATION_THREADS", 2);
+  }
+
+  public static int getCirculationRulesCacheMaximumTenants() {
+    return getVariable("CIRCULATION_RULES_CACHE_MAX_TENANTS", 0);
+  }
+
+  public static int getCirculationRulesCacheMaximumSizeInMegabytes() {
+    return getVariable("CIRCULATION_RULES_CACHE_MAX_SIZE_MB", 0);
+  }
+
+  public static int getCirculationRulesCacheIdleTimeoutInMinutes() {
+    return getVariable("CIRCULATION_RULES_CACHE_IDLE_TIMEOUT_MINUTES", 0);
+  }
+
+  public static int getCirculationRulesWarmUpEvaluations() {
+    return getVariable("CIRCULATION_RULES_WARM_UP_EVALUATIONS", 0);
+  }
+
+  public static int getLocationCacheTimeToLiveInSeconds() {
+    return getVariable("LOCATION_CACHE_TTL_SECONDS", 60);
+  }
+
+  public static int getLocationCacheRefreshAheadInSeconds() {
+    return getVariable("LOCATION_CACHE_REFRESH_AHEAD_SECONDS", 0);
+  }
+
+  /**
+   * Time to live of the cached reference records of the type, for example SERVICE_POINTS,
+   * falling back to the time to live of all reference records.
+   */
+  public static int getReferenceDataCacheTimeToLiveInSeconds(String recordType) {
+    return getVariable("REFERENCE_DATA_CACHE_" + recordType + "_TTL_SECONDS",
+      getVariable("REFERENCE_DATA_CACHE_TTL_SECONDS", 300));
+  }
+
+  /**
+   * Maximum number of cached reference records of the type per tenant, falling back to
+   * the maximum number of all reference records.
+   */
+  public static int getReferenceDataCacheMaximumSize(String recordType) {
+    return getVariable("REFERENCE_DATA_CACHE_" + recordType + "_MAX_SIZE",
+      getVariable("REFERENCE_DATA_CACHE_MAX_SIZE", 1000));
+  }
+
+  /**
+   * Time to live of the cached policies of the type, for example LOAN_POLICIES,
+   * falling back to the time to live of all policies.
+   */
+  public static int getPolicyCacheTimeToLiveInSeconds(String policyType) {
+    return getVariable("POLICY_CACHE_" + policyType + "_TTL_SECONDS",
+      getVariable("POLICY_CACHE_TTL_SECONDS", 60));
+  }
+
+  /**
+   * Maximum number of cached policies of the type per tenant, falling back to
+   * the maximum number of all policies.
+   */
+  public static int getPolicyCacheMaximumSize(String policyType) {
+    return getVariable("POLICY_CACHE_" + policyType + "_MAX_SIZE",
+      getVariable("POLICY_CACHE_MAX_SIZE", 500));
+  }
+
+  public static int getConfigurationCacheTimeToLiveInSeconds() {
+    return getVariable("CONFIGURATION_CACHE_TTL_SECONDS", 30);
+  }
+
+  public static int getCalendarCacheTimeToLiveInSeconds() {
+    return getVariable("CALENDAR_CACHE_TTL_SECONDS", 300);
+  }
+
+  public static int getCalendarCacheMaximumSize() {
+    return getVariable("CALENDAR_CACHE_MAX_SIZE", 1000);
+  }
+
+  /**
+   * Maximum number of values of the index, for example itemId, in each query of a search for
+   * many values, falling back to the maximum of all indexes.
+   */
+  public static int getCqlIndexValuesBatchSize(String indexName) {
+    return getVariable("CQL_INDEX_VALUES_BATCH_SIZE_" + toEnvironmentName(indexName),
+      getVariable("CQL_INDEX_VALUES_BATCH_SIZE", 50));
+  }
+
+  public static int getCqlIndexValuesMaximumConcurrentQueries() {
+    return getVariable("CQL_INDEX_VALUES_MAX_CONCURRENT_QUERIES", 10);
+  }
+
+  /**
+   * Number of pages fetched ahead of the page being processed by processes that go through
+   * many records, like age to lost, 0 fetches each page only once the previous one is processed.
+   */
+  public static int getPageableFetcherPrefetchPages() {
+    return getVariable("PAGED_PROCESSING_PREFETCH_PAGES", 1);
+  }
+
+  public static int getCirculationVerticleInstances() {
+    return getVariable("CIRCULATION_VERTICLE_INSTANCES",
+      Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Time a task may run on an event loop before Vert.x logs a warning that the event loop
+   * is blocked, with the stack trace of the task.
+   */
+  public static int getMaxEventLoopExecuteTimeInMilliseconds() {
+    return getVariable("MAX_EVENT_LOOP_EXECUTE_TIME_MS", 500);
+  }
+
+  /**
+   * Directory for the snapshots of the compiled circulation rules, empty when
+   * snapshots are disabled.
+   */
+  public static String getCirculationRulesSnapshotDirectory() {
+    return getVariable("CIRCULATION_RULES_SNAPSHOT_DIRECTORY", "");
+  }
+
+  /**
+   * itemId becomes ITEM_ID
+   */
+  private static String toEnvironmentName(String name) {
+    return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+      .replaceAll("[^A-Za-z0-9]", "_")
+      .toUpperCase();
+  }
+
+  private static String getVariable(String key, String defaultValue) {
+    final var variable = System.getenv().get(key);
+
+    return isBlank(variable) ? defaultValue : variable;
+  }
+
   private static int getVariable(String key, int defaultValue) {
     final var variable = System.getenv().get(key);
 
@@ -27,6 +27,7 @@ import org.folio.circulation.resources.LoanCirculationRulesEngineResource;
 import org.folio.circulation.resources.LoanCollectionResource;
 import org.folio.circulation.resources.LoanScheduledNoticeProcessingResource;
 import org.folio.circulation.resources.LostItemCirculationRulesEngineResource;
+import org.folio.circulation.resources.MetricsResource;
 import org.folio.circulation.resources.NoticeCirculationRulesEngineResource;
 import org.folio.circulation.resources.OverdueFineCirculationRulesEngineResource;
 import org.folio.circulation.resources.OverdueFineScheduledNoticeProcessingResource;
@@ -81,6 +82,7 @@ public class CirculationVerticle extends AbstractVerticle {
       .handler(rc -> LogHelper.logRequest(rc, log));
 
     new HealthResource().register(router);
+    new MetricsResource().register(router);
     new TenantActivationResource(client).register(router);
 
     new CheckOutByBarcodeResource("/circulation/check-out-by-barcode", client).register(router);
@@ -109,23 +111,28 @@ public class CirculationVerticle extends AbstractVerticle {
       .register(router);
     new LoanCirculationRulesEngineResource(
       "/circulation/rules/loan-policy",
-      "/circulation/rules/loan-policy-all", client)
+      "/circulation/rules/loan-policy-all",
+      "/circulation/rules/loan-policy-batch", client)
       .register(router);
     new OverdueFineCirculationRulesEngineResource(
       "/circulation/rules/overdue-fine-policy",
-      "/circulation/rules/overdue-fine-policy-all", client)
+      "/circulation/rules/overdue-fine-policy-all",
+      "/circulation/rules/overdue-fine-policy-batch", client)
       .register(router);
     new LostItemCirculationRulesEngineResource(
       "/circulation/rules/lost-item-policy",
-      "/circulation/rules/lost-item-policy-all", client)
+      "/circulation/rules/lost-item-policy-all",
+      "/circulation/rules/lost-item-policy-batch", client)
       .register(router);
     new RequestCirculationRulesEngineResource(
       "/circulation/rules/request-policy",
-      "/circulation/rules/request-policy-all", client)
+      "/circulation/rules/request-policy-all",
+      "/circulation/rules/request-policy-batch", client)
       .register(router);
     new NoticeCirculationRulesEngineResource(
       "/circulation/rules/notice-policy",
-      "/circulation/rules/notice-policy-all", client)
+      "/circulation/rules/notice-policy-all",
+      "/circulation/rules/notice-policy-batch", client)
       .register(router);
 
     new LoanScheduledNoticeProcessingResource(client).register(router);
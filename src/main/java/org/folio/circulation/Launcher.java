@@ -1,5 +1,7 @@
 package org.folio.circulation;
 
+import static org.folio.Environment.getCirculationVerticleInstances;
+
 import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
 import java.util.Set;
@@ -10,6 +12,7 @@ import java.util.concurrent.TimeoutException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.rules.CirculationRulesWarmUp;
 import org.folio.circulation.support.VertxAssistant;
 import org.folio.circulation.support.logging.Logging;
 
@@ -41,7 +44,8 @@ public class Launcher {
     Integer port = Integer.valueOf(
         System.getProperty("http.port", System.getProperty("port", "9801")));
 
-    launcher.start(port).get(10, TimeUnit.SECONDS);
+    // the optional circulation rules warm-up runs before the module starts listening
+    launcher.start(port).get(60, TimeUnit.SECONDS);
   }
 
   private void stop() {
@@ -65,15 +69,39 @@ public class Launcher {
 
     log.info("start:: server starting");
 
-    return deployVerticle(CirculationVerticle.class, new JsonObject().put("port", port))
+    // each instance has its own event loop, requests are shared between them by the server
+    final int instances = Math.max(getCirculationVerticleInstances(), 1);
+
+    log.info("start:: {} instances of the circulation verticle, {} available processors",
+      instances, Runtime.getRuntime().availableProcessors());
+
+    // warm up before listening, so that the first requests are not slower than later ones
+    return warmUpRulesEngines()
+      .thenCompose(v -> deployVerticle(CirculationVerticle.class,
+        new JsonObject().put("port", port), instances, false))
       .thenAccept(result -> log.info("start:: server started"))
-      .thenCompose(v -> deployVerticle(EventConsumerVerticle.class, EventConsumerVerticle.buildConfig()));
+      .thenCompose(v -> deployVerticle(EventConsumerVerticle.class, EventConsumerVerticle.buildConfig(), 1,
+        true));
+  }
+
+  /**
+   * The warm-up loads classes and JIT compiles code shared by the whole process, so it is
+   * run once, before any of the instances of the circulation verticle is deployed
+   */
+  private CompletableFuture<Void> warmUpRulesEngines() {
+    final CirculationRulesWarmUp warmUp = CirculationRulesWarmUp.fromEnvironment();
+
+    return vertxAssistant.executeBlocking(warmUp::warmUpRulesEngines)
+      .exceptionally(t -> {
+        log.warn("warmUpRulesEngines:: circulation rules warm-up failed", t);
+        return null;
+      });
   }
 
   private CompletableFuture<Void> deployVerticle(Class<? extends AbstractVerticle> verticleClass,
-    JsonObject config) {
+    JsonObject config, int instances, boolean worker) {
 
-    return vertxAssistant.deployVerticle(verticleClass, config)
+    return vertxAssistant.deployVerticle(verticleClass, config, instances, worker)
       .thenAccept(deploymentIds::add)
       .thenAccept(r -> log.info("deployVerticle:: verticle deployed: {}", verticleClass.getSimpleName()))
       .exceptionally(t -> {
@@ -1,9 +1,10 @@
 package org.folio.circulation.domain;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.ObjectUtils.allNotNull;
 import static org.folio.circulation.support.results.Result.succeeded;
-import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.utils.DateTimeUtil.isAfterMillis;
 import static org.folio.circulation.support.utils.DateTimeUtil.isBeforeMillis;
 import static org.folio.circulation.support.utils.DateTimeUtil.isWithinMillis;
@@ -14,10 +15,15 @@ import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.apache.logging.log4j.LogManager;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.infrastructure.storage.CalendarRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
@@ -40,19 +46,85 @@ public class OverduePeriodCalculatorService {
 
   public CompletableFuture<Result<Integer>> getMinutes(Loan loan, ZonedDateTime systemTime) {
     log.debug("getMinutes:: parameters loan: {}, systemTime: {}", () -> loan, () -> systemTime);
-    final Boolean shouldCountClosedPeriods = loan.getOverdueFinePolicy().getCountPeriodsWhenServicePointIsClosed();
 
-    if (preconditionsAreMet(loan, systemTime, shouldCountClosedPeriods)) {
-      log.info("getMinutes:: preconditions must be included");
+    return getMinutesForLoans(List.of(loan), systemTime)
+      .thenApply(mapResult(minutes -> minutes.get(loan.getId())));
+  }
+
+  /**
+   * Overdue minutes of each of the loans by loan id. The loan policies are looked up once
+   * for all of the loans and the opening days only once for each service point, from the
+   * earliest due date of its loans.
+   */
+  public CompletableFuture<Result<Map<String, Integer>>> getMinutesForLoans(
+    Collection<Loan> loans, ZonedDateTime systemTime) {
+
+    log.debug("getMinutesForLoans:: parameters loans: {}, systemTime: {}", loans::size, () -> systemTime);
+
+    final Map<String, Integer> minutes = new HashMap<>();
+    final List<Loan> overdueLoans = loans.stream()
+      .filter(loan -> {
+        minutes.put(loan.getId(), ZERO_MINUTES);
+        return preconditionsAreMet(loan, systemTime, shouldCountClosedPeriods(loan));
+      })
+      .toList();
+
+    if (overdueLoans.isEmpty()) {
+      return completedFuture(succeeded(minutes));
+    }
+
+    return loanPolicyRepository.lookupPolicies(overdueLoans, Loan::getItem, Loan::getUser)
+      .thenApply(r -> r.map(policies -> IntStream.range(0, overdueLoans.size())
+        .mapToObj(index -> overdueLoans.get(index).withLoanPolicy(policies.get(index)))
+        .toList()))
+      .thenCompose(r -> r.after(loansWithPolicies ->
+        fetchOpeningDays(loansWithPolicies, systemTime)
+          .thenApply(mapResult(openingDays -> loansWithPolicies.stream()
+            .map(loan -> getOverdueMinutes(loan, systemTime, openingDays)
+              .next(overdueMinutes -> adjustOverdueWithGracePeriod(loan, overdueMinutes))
+              .map(overdueMinutes -> Pair.of(loan.getId(), overdueMinutes)))
+            .toList()))
+          .thenApply(r2 -> r2.next(Result::combineAll))))
+      .thenApply(r -> r.map(overdueMinutes -> {
+        overdueMinutes.forEach(pair -> minutes.put(pair.getKey(), pair.getValue()));
+        return minutes;
+      }));
+  }
+
+  private CompletableFuture<Result<Map<String, Collection<OpeningDay>>>> fetchOpeningDays(
+    List<Loan> loans, ZonedDateTime systemTime) {
+
+    final Map<String, ZonedDateTime> earliestDueDates = loans.stream()
+      .filter(loan -> !countsClosedPeriods(loan))
+      .collect(toMap(loan -> getItemLocationPrimaryServicePoint(loan).toString(),
+        Loan::getDueDate, (first, second) -> isBeforeMillis(first, second) ? first : second));
+
+    if (earliestDueDates.isEmpty()) {
+      return completedFuture(succeeded(Map.of()));
+    }
+
+    return calendarRepository.fetchOpeningDaysBetweenDates(earliestDueDates, systemTime);
+  }
+
+  private Result<Integer> getOverdueMinutes(Loan loan, ZonedDateTime systemTime,
+    Map<String, Collection<OpeningDay>> openingDays) {
 
-      return completedFuture(loan)
-        .thenComposeAsync(loanPolicyRepository::lookupPolicy)
-        .thenApply(r -> r.map(loan::withLoanPolicy))
-        .thenCompose(r -> r.after(l -> getOverdueMinutes(l, systemTime, shouldCountClosedPeriods)
-            .thenApply(flatMapResult(om -> adjustOverdueWithGracePeriod(l, om)))));
+    if (countsClosedPeriods(loan)) {
+      return succeeded(calculateDiffInMinutes(loan.getDueDate(), systemTime));
     }
 
-    return completedFuture(succeeded(ZERO_MINUTES));
+    return getOpeningDaysDurationMinutes(
+      openingDays.get(getItemLocationPrimaryServicePoint(loan).toString()),
+      loan.getDueDate(), systemTime);
+  }
+
+  private boolean countsClosedPeriods(Loan loan) {
+    return Boolean.TRUE.equals(shouldCountClosedPeriods(loan))
+      || getItemLocationPrimaryServicePoint(loan) == null;
+  }
+
+  private static Boolean shouldCountClosedPeriods(Loan loan) {
+    return loan.getOverdueFinePolicy().getCountPeriodsWhenServicePointIsClosed();
   }
 
   boolean preconditionsAreMet(Loan loan, ZonedDateTime systemTime, Boolean shouldCountClosedPeriods) {
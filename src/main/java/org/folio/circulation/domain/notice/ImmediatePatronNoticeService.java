@@ -7,17 +7,18 @@ import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.folio.circulation.domain.notice.combiner.NoticeContextCombiner;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
 import org.folio.circulation.rules.AppliedRuleConditions;
-import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 
@@ -44,16 +45,19 @@ public class ImmediatePatronNoticeService extends PatronNoticeService {
   }
 
   public CompletableFuture<Result<Void>> acceptNoticeEvents(Collection<PatronNoticeEvent> events) {
-    return allOf(events, this::fetchNoticePolicyId)
+    return fetchNoticePolicyIds(new ArrayList<>(events))
       .thenApply(mapResult(this::groupEvents))
       .thenCompose(r -> r.after(this::handleEventGroups));
   }
 
-  private CompletableFuture<Result<PatronNoticeEvent>> fetchNoticePolicyId(PatronNoticeEvent event) {
-    return ofAsync(() -> event)
-      .thenCompose(r -> r.after(noticePolicyRepository::lookupPolicyId))
-      .thenApply(mapResult(CirculationRuleMatch::getPolicyId))
-      .thenApply(mapResult(event::withPatronNoticePolicyId));
+  private CompletableFuture<Result<List<PatronNoticeEvent>>> fetchNoticePolicyIds(
+    List<PatronNoticeEvent> events) {
+
+    return noticePolicyRepository.lookupPolicyIds(events, PatronNoticeEvent::getItem,
+        PatronNoticeEvent::getUser)
+      .thenApply(mapResult(matches -> IntStream.range(0, events.size())
+        .mapToObj(i -> events.get(i).withPatronNoticePolicyId(matches.get(i).getPolicyId()))
+        .collect(toList())));
   }
 
   private List<EventGroupContext> groupEvents(List<PatronNoticeEvent> events) {
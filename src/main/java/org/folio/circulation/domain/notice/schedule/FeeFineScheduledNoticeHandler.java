@@ -42,8 +42,14 @@ public class FeeFineScheduledNoticeHandler extends ScheduledNoticeHandler {
       .thenCompose(r -> r.after(this::fetchAction))
       .thenCompose(r -> r.after(this::fetchAccount))
       .thenCompose(r -> r.after(this::fetchChargeAction))
-      .thenCompose(r -> r.after(this::fetchLoan))
-      .thenCompose(r -> r.after(this::fetchPatronNoticePolicyIdForLoan));
+      .thenCompose(r -> r.after(this::fetchLoan));
+  }
+
+  @Override
+  protected PatronNoticePolicyCriteria getPatronNoticePolicyCriteria(
+    ScheduledNoticeContext context) {
+
+    return PatronNoticePolicyCriteria.of(context.getLoan());
   }
 
   private CompletableFuture<Result<ScheduledNoticeContext>> fetchAction(
@@ -13,6 +13,7 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,7 +58,7 @@ public abstract class GroupedScheduledNoticeHandler {
     log.debug("handleNoticeGroup:: processing group of {} scheduled notices", notices.size());
 
     //TODO: user and template are the same for all notices in the group, so they can be fetched only once
-    return allResultsOf(notices, this::buildContext)
+    return buildContexts(notices)
       .thenCompose(this::discardContextBuildingFailures)
       .thenCompose(r -> r.after(this::sendGroupedNotice))
       .thenCompose(r -> r.after(this::updateGroupedNotice))
@@ -65,11 +66,23 @@ public abstract class GroupedScheduledNoticeHandler {
       .exceptionally(t -> handleException(t, notices));
   }
 
-  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(ScheduledNotice notice) {
+  private CompletableFuture<List<Result<ScheduledNoticeContext>>> buildContexts(
+    List<ScheduledNotice> notices) {
+
+    return singleNoticeHandler.fetchDataWithPatronNoticePolicyIds(notices.stream()
+        .map(ScheduledNoticeContext::new)
+        .toList())
+      .thenCompose(fetchedData -> allResultsOf(
+        IntStream.range(0, notices.size()).boxed().toList(),
+        index -> buildContext(fetchedData.get(index), notices.get(index))));
+  }
+
+  private CompletableFuture<Result<ScheduledNoticeContext>> buildContext(
+    CompletableFuture<Result<ScheduledNoticeContext>> fetchedData, ScheduledNotice notice) {
+
     log.debug("buildContext:: building context for notice {}", notice);
 
-    return ofAsync(() -> new ScheduledNoticeContext(notice))
-      .thenCompose(r -> r.after(singleNoticeHandler::fetchData))
+    return fetchedData
       .thenApply(r -> r.map(this::buildNoticeContextJson))
       .thenApply(r -> r.map(this::buildNoticeLogContextItem))
       .thenCompose(r -> handleContextBuildingFailure(r, notice))
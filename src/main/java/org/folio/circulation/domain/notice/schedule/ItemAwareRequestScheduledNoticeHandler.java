@@ -23,8 +23,14 @@ public class ItemAwareRequestScheduledNoticeHandler extends RequestScheduledNoti
 
     return ofAsync(() -> context)
       .thenCompose(r -> r.after(this::fetchTemplate))
-      .thenCompose(r -> r.after(this::fetchRequestRelatedRecords))
-      .thenCompose(r -> r.after(this::fetchPatronNoticePolicyIdForRequest));
+      .thenCompose(r -> r.after(this::fetchRequestRelatedRecords));
+  }
+
+  @Override
+  protected PatronNoticePolicyCriteria getPatronNoticePolicyCriteria(
+    ScheduledNoticeContext context) {
+
+    return PatronNoticePolicyCriteria.of(context.getRequest());
   }
 
   @Override
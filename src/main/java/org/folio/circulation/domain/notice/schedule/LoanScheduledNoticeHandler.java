@@ -55,8 +55,14 @@ public class LoanScheduledNoticeHandler extends ScheduledNoticeHandler {
       .thenApply(r -> r.next(this::failWhenNoticeHasNoLoanId))
       .thenCompose(r -> r.after(this::fetchTemplate))
       .thenCompose(r -> r.after(this::fetchLoan))
-      .thenCompose(r -> r.after(this::fetchLostItemFeesForAgedToLostNotice))
-      .thenCompose(r -> r.after(this::fetchPatronNoticePolicyIdForLoan));
+      .thenCompose(r -> r.after(this::fetchLostItemFeesForAgedToLostNotice));
+  }
+
+  @Override
+  protected PatronNoticePolicyCriteria getPatronNoticePolicyCriteria(
+    ScheduledNoticeContext context) {
+
+    return PatronNoticePolicyCriteria.of(context.getLoan());
   }
 
   protected Result<ScheduledNoticeContext> failWhenNoticeHasNoLoanId(ScheduledNoticeContext context) {
@@ -5,7 +5,9 @@ import static org.folio.circulation.domain.notice.NoticeEventType.DUE_DATE;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.folio.circulation.domain.Loan;
@@ -45,7 +47,24 @@ public class LoanScheduledNoticeService {
   }
 
   public Result<Void> scheduleAgedToLostNotices(Collection<Loan> loans) {
-    loans.forEach(loan -> scheduleLoanNotices(loan, AGED_TO_LOST, loan.getAgedToLostDateTime()));
+    final List<Loan> agedToLostLoans = new ArrayList<>(loans);
+
+    // policies of all loans are looked up at once, loans are handled one by one
+    // only when that fails so that a single incomplete loan does not affect the others
+    noticePolicyRepository.lookupPolicies(agedToLostLoans, Loan::getItem, Loan::getUser)
+      .thenAccept(r -> {
+        if (r.succeeded()) {
+          List<PatronNoticePolicy> policies = r.value();
+          for (int i = 0; i < agedToLostLoans.size(); i++) {
+            Loan loan = agedToLostLoans.get(i);
+            scheduleLoanNoticesBasedOnPolicy(loan, AGED_TO_LOST, loan.getAgedToLostDateTime(),
+              policies.get(i));
+          }
+        } else {
+          agedToLostLoans.forEach(loan ->
+            scheduleLoanNotices(loan, AGED_TO_LOST, loan.getAgedToLostDateTime()));
+        }
+      });
 
     return succeeded(null);
   }
@@ -87,16 +87,22 @@ public class ScheduledDigitalReminderHandler extends LoanScheduledNoticeHandler
   }
 
   @Override
-  protected CompletableFuture<Result<ScheduledNotice>> handleContext(ScheduledNoticeContext context) {
-    final ScheduledNotice notice = context.getNotice();
-    return ofAsync(context)
-      .thenCompose(r -> r.after(this::fetchNoticeData))
-      .thenCompose(r -> r.after(when(this::isOpenDay, this::processNotice, this::skip)))
-      .thenCompose(r -> handleResult(r, notice))
-      .exceptionally(t -> handleException(t, notice));
+  protected CompletableFuture<Result<ScheduledNotice>> processNotice(
+    ScheduledNoticeContext context) {
+
+    return when(this::isOpenDay, this::processReminder, this::skip).apply(context);
+  }
+
+  @Override
+  protected PatronNoticePolicyCriteria getPatronNoticePolicyCriteria(
+    ScheduledNoticeContext context) {
+
+    return null;
   }
 
-  private CompletableFuture<Result<ScheduledNotice>> processNotice(ScheduledNoticeContext context) {
+  private CompletableFuture<Result<ScheduledNotice>> processReminder(
+    ScheduledNoticeContext context) {
+
     return ofAsync(context)
       .thenCompose(r -> r.after(this::persistAccount))
       .thenCompose(r -> r.after(this::createFeeFineAction))
@@ -1,6 +1,7 @@
 package org.folio.circulation.domain.notice.schedule;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Predicate.not;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
 import static org.folio.circulation.support.results.Result.failed;
@@ -10,12 +11,17 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.ItemRelatedRecord;
+import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.UserRelatedRecord;
 import org.folio.circulation.domain.notice.ScheduledPatronNoticeService;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
@@ -56,44 +62,85 @@ public abstract class ScheduledNoticeHandler {
     this.eventPublisher = new EventPublisher(clients.pubSubPublishingService());
   }
 
+  /**
+   * Handles the notices together: the data of each notice is fetched, then the patron notice
+   * policies of all of them are determined at once, then each notice is sent and updated.
+   */
   public CompletableFuture<Result<List<ScheduledNotice>>> handleContexts(
     Collection<ScheduledNoticeContext> contexts) {
 
-    return allOf(contexts, this::handleContext);
+    final List<ScheduledNoticeContext> noticeContexts = List.copyOf(contexts);
+
+    return fetchDataWithPatronNoticePolicyIds(noticeContexts)
+      .thenCompose(fetchedData -> allOf(indexesOf(noticeContexts),
+        index -> handleFetchedData(fetchedData.get(index),
+          noticeContexts.get(index).getNotice())));
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
     Collection<ScheduledNotice> scheduledNotices) {
 
-    return allOf(scheduledNotices, this::handleNotice);
-  }
-
-  private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
-    return handleContext(new ScheduledNoticeContext(notice));
+    return handleContexts(scheduledNotices.stream()
+      .map(ScheduledNoticeContext::new)
+      .toList());
   }
 
-  protected CompletableFuture<Result<ScheduledNotice>> handleContext(ScheduledNoticeContext context) {
-    final ScheduledNotice notice = context.getNotice();
+  private CompletableFuture<Result<ScheduledNotice>> handleFetchedData(
+    CompletableFuture<Result<ScheduledNoticeContext>> fetchedData, ScheduledNotice notice) {
 
-    return ofAsync(context)
-      .thenCompose(r -> r.after(this::fetchNoticeData))
-      .thenCompose(r -> r.after(this::sendNotice))
-      .thenCompose(r -> r.after(this::updateNotice))
+    return fetchedData
+      .thenApply(r -> r.mapFailure(f -> publishErrorEvent(f, notice)))
+      .thenCompose(r -> r.after(this::processNotice))
       .thenCompose(r -> handleResult(r, notice))
       .exceptionally(t -> handleException(t, notice));
   }
 
-  protected CompletableFuture<Result<ScheduledNoticeContext>> fetchNoticeData(
+  /**
+   * Sends and updates the notice once its data, including its patron notice policy,
+   * has been fetched.
+   */
+  protected CompletableFuture<Result<ScheduledNotice>> processNotice(
     ScheduledNoticeContext context) {
 
-    return ofAsync(() -> context)
-      .thenCompose(r -> r.after(this::fetchData))
-      .thenApply(r -> r.mapFailure(f -> publishErrorEvent(f, context.getNotice())));
+    return sendNotice(context)
+      .thenCompose(r -> r.after(this::updateNotice));
+  }
+
+  /**
+   * Fetches the data of each notice, followed by the patron notice policies of all of
+   * them at once. Failures of a notice are kept in the result for that notice, in the order
+   * of the contexts.
+   */
+  CompletableFuture<List<CompletableFuture<Result<ScheduledNoticeContext>>>>
+  fetchDataWithPatronNoticePolicyIds(List<ScheduledNoticeContext> contexts) {
+
+    final List<CompletableFuture<Result<ScheduledNoticeContext>>> fetchedData = contexts.stream()
+      .map(context -> ofAsync(() -> context)
+        .thenCompose(r -> r.after(this::fetchData)))
+      .toList();
+
+    return CompletableFuture.allOf(fetchedData.toArray(new CompletableFuture[0]))
+      .handle((ignored, throwable) -> contextsNeedingPatronNoticePolicyId(fetchedData))
+      .thenCompose(this::lookupPatronNoticePolicyIds)
+      .thenApply(policyIds -> fetchedData.stream()
+        .map(fetched -> fetched.thenCompose(r -> r.after(
+          context -> withPatronNoticePolicyId(context, policyIds))))
+        .toList());
   }
 
   protected abstract CompletableFuture<Result<ScheduledNoticeContext>> fetchData(
     ScheduledNoticeContext context);
 
+  /**
+   * Item and user the patron notice policy of the notice is determined for, null when
+   * the notice does not need the policy.
+   */
+  protected PatronNoticePolicyCriteria getPatronNoticePolicyCriteria(
+    ScheduledNoticeContext context) {
+
+    return null;
+  }
+
   protected abstract CompletableFuture<Result<ScheduledNotice>> updateNotice(
     ScheduledNoticeContext context);
 
@@ -162,31 +209,89 @@ public abstract class ScheduledNoticeHandler {
       .thenApply(r -> r.map(v -> context));
   }
 
-  protected CompletableFuture<Result<ScheduledNoticeContext>> fetchPatronNoticePolicyIdForLoan(
-    ScheduledNoticeContext context) {
+  private List<ScheduledNoticeContext> contextsNeedingPatronNoticePolicyId(
+    List<CompletableFuture<Result<ScheduledNoticeContext>>> fetchedData) {
 
-    return fetchPatronNoticePolicyId(context, context.getLoan());
+    return fetchedData.stream()
+      .filter(not(CompletableFuture::isCompletedExceptionally))
+      .map(CompletableFuture::join)
+      .filter(result -> result.succeeded())
+      .map(Result::value)
+      .filter(this::needsPatronNoticePolicyIdSafely)
+      .toList();
   }
 
-  protected CompletableFuture<Result<ScheduledNoticeContext>> fetchPatronNoticePolicyIdForRequest(
-    ScheduledNoticeContext context) {
+  private boolean needsPatronNoticePolicyId(ScheduledNoticeContext context) {
+    return getPatronNoticePolicyCriteria(context) != null && !isNoticeIrrelevant(context);
+  }
 
-    return fetchPatronNoticePolicyId(context, context.getRequest());
+  /**
+   * A notice whose relevance cannot be determined is left out of the batch, the failure
+   * is then raised when the notice is processed on its own.
+   */
+  private boolean needsPatronNoticePolicyIdSafely(ScheduledNoticeContext context) {
+    try {
+      return needsPatronNoticePolicyId(context);
+    } catch (Exception e) {
+      return false;
+    }
   }
 
-  protected <T extends UserRelatedRecord & ItemRelatedRecord>
-  CompletableFuture<Result<ScheduledNoticeContext>> fetchPatronNoticePolicyId(
-    ScheduledNoticeContext context, T userAndItemRelatedRecord) {
+  /**
+   * Determines the patron notice policies of the notices at once, executing the rules only
+   * once for each distinct combination of criteria. The policies are keyed by the identity
+   * of the contexts, a failed result means each notice looks up its own policy.
+   */
+  private CompletableFuture<Result<Map<ScheduledNoticeContext, String>>>
+  lookupPatronNoticePolicyIds(List<ScheduledNoticeContext> contexts) {
 
-    if (isNoticeIrrelevant(context)) {
+    if (contexts.isEmpty()) {
+      return ofAsync(IdentityHashMap::new);
+    }
+
+    return patronNoticePolicyRepository.lookupPolicyIds(contexts,
+        context -> getPatronNoticePolicyCriteria(context).item(),
+        context -> getPatronNoticePolicyCriteria(context).user())
+      .thenApply(mapResult(matches -> {
+        final Map<ScheduledNoticeContext, String> policyIds = new IdentityHashMap<>();
+
+        for (int index = 0; index < contexts.size(); index++) {
+          policyIds.put(contexts.get(index), matches.get(index).getPolicyId());
+        }
+
+        return policyIds;
+      }))
+      .thenApply(r -> r.mapFailure(failure -> {
+        log.warn("lookupPatronNoticePolicyIds:: failed to look up patron notice policies " +
+          "of {} notices at once, looking them up one by one: {}", contexts.size(), failure);
+        return failed(failure);
+      }));
+  }
+
+  private CompletableFuture<Result<ScheduledNoticeContext>> withPatronNoticePolicyId(
+    ScheduledNoticeContext context, Result<Map<ScheduledNoticeContext, String>> policyIds) {
+
+    if (!needsPatronNoticePolicyId(context)) {
       return ofAsync(() -> context);
     }
 
-    return patronNoticePolicyRepository.lookupPolicyId(userAndItemRelatedRecord)
+    if (policyIds.succeeded() && policyIds.value().containsKey(context)) {
+      return ofAsync(() -> context.withPatronNoticePolicyId(policyIds.value().get(context)));
+    }
+
+    final PatronNoticePolicyCriteria criteria = getPatronNoticePolicyCriteria(context);
+
+    return patronNoticePolicyRepository.lookupPolicyId(criteria.item(), criteria.user())
       .thenApply(mapResult(CirculationRuleMatch::getPolicyId))
       .thenApply(mapResult(context::withPatronNoticePolicyId));
   }
 
+  private static List<Integer> indexesOf(List<?> list) {
+    return IntStream.range(0, list.size())
+      .boxed()
+      .toList();
+  }
+
   protected CompletableFuture<Result<ScheduledNoticeContext>> fetchTemplate(
     ScheduledNoticeContext context) {
 
@@ -223,4 +328,15 @@ public abstract class ScheduledNoticeHandler {
     return succeeded(notice);
   }
 
+  protected record PatronNoticePolicyCriteria(Item item, User user) {
+    static <T extends UserRelatedRecord & ItemRelatedRecord> PatronNoticePolicyCriteria of(
+      T userAndItemRelatedRecord) {
+
+      return userAndItemRelatedRecord == null
+        ? null
+        : new PatronNoticePolicyCriteria(userAndItemRelatedRecord.getItem(),
+          userAndItemRelatedRecord.getUser());
+    }
+  }
+
 }
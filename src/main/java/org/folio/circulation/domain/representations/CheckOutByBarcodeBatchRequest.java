@@ -0,0 +1,81 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.LOAN_DATE;
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.OVERRIDE_BLOCKS;
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.PROXY_USER_BARCODE;
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.SERVICE_POINT_ID;
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.USER_BARCODE;
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.defaultLoanDate;
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getObjectProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
+import static org.folio.circulation.support.json.JsonStringArrayPropertyFetcher.toStream;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.override.BlockOverrides;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Request to check out many items to the same patron, all of them at the same service
+ * point and with the same loan date
+ */
+@AllArgsConstructor
+@Getter
+public class CheckOutByBarcodeBatchRequest {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String ITEM_BARCODES = "itemBarcodes";
+  public static final int MAXIMUM_ITEMS = 50;
+
+  private final String loanDate;
+  private final List<String> itemBarcodes;
+  private final String userBarcode;
+  private final String proxyUserBarcode;
+  private final String checkoutServicePointId;
+  private final BlockOverrides blockOverrides;
+
+  public static Result<CheckOutByBarcodeBatchRequest> from(JsonObject json) {
+    log.debug("from:: parameters json: {}", json);
+
+    // an item can only be checked out once, so repeated barcodes are ignored
+    final List<String> itemBarcodes = toStream(json, ITEM_BARCODES)
+      .distinct()
+      .toList();
+
+    if (itemBarcodes.isEmpty()) {
+      log.warn("from:: itemBarcodes is empty");
+      return failedValidation("Batch check out request must have at least one item barcode",
+        ITEM_BARCODES, null);
+    }
+
+    if (itemBarcodes.size() > MAXIMUM_ITEMS) {
+      log.warn("from:: {} itemBarcodes is more than the maximum of {}", itemBarcodes.size(),
+        MAXIMUM_ITEMS);
+      return failedValidation("Batch check out request must have at most " + MAXIMUM_ITEMS
+        + " item barcodes", ITEM_BARCODES, String.valueOf(itemBarcodes.size()));
+    }
+
+    return succeeded(new CheckOutByBarcodeBatchRequest(
+      defaultLoanDate(getProperty(json, LOAN_DATE)), itemBarcodes,
+      getProperty(json, USER_BARCODE), getProperty(json, PROXY_USER_BARCODE),
+      getProperty(json, SERVICE_POINT_ID),
+      BlockOverrides.from(getObjectProperty(json, OVERRIDE_BLOCKS))));
+  }
+
+  /**
+   * Request to check out one of the items, the loan date is the same for each of them
+   */
+  public CheckOutByBarcodeRequest forItem(String itemBarcode) {
+    return new CheckOutByBarcodeRequest(loanDate, itemBarcode, userBarcode, proxyUserBarcode,
+      checkoutServicePointId, blockOverrides);
+  }
+}
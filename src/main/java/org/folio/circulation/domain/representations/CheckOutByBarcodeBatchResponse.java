@@ -0,0 +1,87 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.support.http.server.JsonHttpResponse.ok;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.BadRequestFailure;
+import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.RecordNotFoundFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.http.server.ValidationError;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Outcome of checking out each item of a batch. An item that has not been checked out gets
+ * the status code and the errors that checking out only that item would have responded with.
+ */
+public class CheckOutByBarcodeBatchResponse {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private CheckOutByBarcodeBatchResponse() { }
+
+  public static JsonObject checkOut(String itemBarcode, Result<JsonObject> result) {
+    final JsonObject checkOut = new JsonObject().put("itemBarcode", itemBarcode);
+
+    if (result.succeeded()) {
+      return checkOut.put("loan", result.value());
+    }
+
+    return failedCheckOut(checkOut, result.cause());
+  }
+
+  public static HttpResponse toHttpResponse(List<JsonObject> checkOuts) {
+    return ok(new JsonObject()
+      .put("checkOuts", new JsonArray(checkOuts))
+      .put("totalRecords", checkOuts.size()));
+  }
+
+  private static JsonObject failedCheckOut(JsonObject checkOut, HttpFailure failure) {
+    if (failure instanceof ValidationErrorFailure validationFailure) {
+      return checkOut
+        .put("status", 422)
+        .put("errors", new JsonArray(validationFailure.getErrors().stream()
+          .map(ValidationError::toJson)
+          .toList()));
+    }
+
+    if (failure instanceof ForwardOnFailure forwardedFailure) {
+      final Response response = forwardedFailure.getFailureResponse();
+
+      return withError(checkOut, response.getStatusCode(), response.getBody());
+    }
+
+    if (failure instanceof BadRequestFailure badRequest) {
+      return withError(checkOut, 400, badRequest.getReason());
+    }
+
+    if (failure instanceof RecordNotFoundFailure notFound) {
+      return withError(checkOut, 404, notFound.toString());
+    }
+
+    if (failure instanceof ServerErrorFailure serverError) {
+      return withError(checkOut, 500, serverError.getReason());
+    }
+
+    log.warn("failedCheckOut:: unexpected failure of item {}: {}",
+      checkOut.getString("itemBarcode"), failure);
+
+    return withError(checkOut, 500, "Unknown internal error");
+  }
+
+  private static JsonObject withError(JsonObject checkOut, int status, String message) {
+    return checkOut
+      .put("status", status)
+      .put("errors", new JsonArray().add(new ValidationError(message).toJson()));
+  }
+}
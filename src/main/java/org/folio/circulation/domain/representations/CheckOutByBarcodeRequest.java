@@ -53,7 +53,7 @@ public class CheckOutByBarcodeRequest {
       proxyUserBarcode, checkoutServicePointId, blockOverrides);
   }
 
-  private static String defaultLoanDate(String loanDate) {
+  static String defaultLoanDate(String loanDate) {
     log.debug("defaultLoanDate:: parameters loanDate: {}", loanDate);
 
     String result = isNotBlank(loanDate)
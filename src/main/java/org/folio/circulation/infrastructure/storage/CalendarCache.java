@@ -0,0 +1,106 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.Environment.getCalendarCacheMaximumSize;
+import static org.folio.Environment.getCalendarCacheTimeToLiveInSeconds;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Openings of the service points of each tenant, as returned by the calendar for a date or
+ * a range of dates. Due dates, closed library strategies and overdue periods mostly ask for
+ * the same service points and dates, so the openings are kept for a time to live, together
+ * with a maximum number of openings per tenant. When that is exceeded, the least recently
+ * used openings are removed.
+ * <p>
+ * Failed lookups are not cached, and the cached openings must not be changed by their users.
+ */
+public final class CalendarCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final CalendarCache instance = new CalendarCache(
+    TimeUnit.SECONDS.toMillis(getCalendarCacheTimeToLiveInSeconds()),
+    getCalendarCacheMaximumSize());
+
+  /** cached openings by their lookup for each tenantId */
+  private final Map<String, Map<Object, CachedOpenings>> openings = new ConcurrentHashMap<>();
+  /** milliseconds */
+  private final long timeToLive;
+  private final int maximumSize;
+
+  public static CalendarCache getInstance() {
+    return instance;
+  }
+
+  CalendarCache(long timeToLive, int maximumSize) {
+    this.timeToLive = timeToLive;
+    this.maximumSize = maximumSize;
+  }
+
+  public boolean isEnabled() {
+    return timeToLive > 0 && maximumSize > 0;
+  }
+
+  /**
+   * Returns the cached openings for the lookup, or loads them using the loader and caches
+   * them when the load succeeds. The lookup must have value based equality, like a record.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<Result<T>> get(String tenantId, Object lookup,
+    Supplier<CompletableFuture<Result<T>>> loader) {
+
+    if (!isEnabled() || tenantId == null) {
+      return loader.get();
+    }
+
+    final Map<Object, CachedOpenings> tenantOpenings = openings.computeIfAbsent(tenantId,
+      key -> new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, CachedOpenings> eldest) {
+          return size() > maximumSize;
+        }
+      });
+
+    synchronized (tenantOpenings) {
+      final CachedOpenings cachedOpenings = tenantOpenings.get(lookup);
+
+      if (cachedOpenings != null
+        && System.currentTimeMillis() - cachedOpenings.loadedAt() < timeToLive) {
+
+        return ofAsync((T) cachedOpenings.value());
+      }
+    }
+
+    log.debug("get:: loading {} for tenant {}", lookup, tenantId);
+
+    return loader.get()
+      .thenApply(r -> r.map(loadedOpenings -> {
+        synchronized (tenantOpenings) {
+          tenantOpenings.put(lookup,
+            new CachedOpenings(loadedOpenings, System.currentTimeMillis()));
+        }
+        return loadedOpenings;
+      }));
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: removing cached openings of tenant {}", tenantId);
+    openings.remove(tenantId);
+  }
+
+  public void clear() {
+    openings.clear();
+  }
+
+  private record CachedOpenings(Object value, long loadedAt) { }
+}
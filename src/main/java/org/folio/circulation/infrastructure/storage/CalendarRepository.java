@@ -1,12 +1,17 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
+import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.UnaryOperator;
 
@@ -16,7 +21,7 @@ import org.folio.circulation.domain.OpeningDay;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
-import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.results.Result;
 
@@ -40,10 +45,12 @@ public class CalendarRepository {
 
   private final CollectionResourceClient calendarClient;
   private final ConfigurationRepository configurationRepository;
+  private final String tenantId;
 
   public CalendarRepository(Clients clients) {
     this.calendarClient = clients.calendarStorageClient();
     this.configurationRepository = new ConfigurationRepository(clients);
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(
@@ -51,37 +58,69 @@ public class CalendarRepository {
     String path = String.format(SURROUNDING_DATES_PATH, servicePointId, requestedDate);
 
     // TODO: Validation error should have parameters
-    return FetchSingleRecord
-      .<AdjacentOpeningDays>forRecord(OPENING_INFO_RECORD_TYPE)
-      .using(calendarClient)
-      .mapTo(CalendarRepository::convertToOpeningDays)
-      .whenNotFound(
-        failedValidation(
-          new ValidationError("Calendar open periods are not found", Collections.emptyMap())
+    return CalendarCache.getInstance().get(tenantId,
+      new SurroundingOpenings(servicePointId, requestedDate),
+      () -> FetchSingleRecord
+        .<AdjacentOpeningDays>forRecord(OPENING_INFO_RECORD_TYPE)
+        .using(calendarClient)
+        .mapTo(CalendarRepository::convertToOpeningDays)
+        .whenNotFound(
+          failedValidation(
+            new ValidationError("Calendar open periods are not found", Collections.emptyMap())
+          )
         )
-      )
-      .fetch(path);
+        .fetch(path));
   }
 
   public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
     String servicePointId, ZonedDateTime startDate, ZonedDateTime endDate) {
+
+    return fetchOpeningDaysBetweenDates(servicePointId, startDate.toLocalDate(),
+        endDate.toLocalDate())
+      .thenCombineAsync(
+        configurationRepository.findTimeZoneConfiguration(),
+        Result.combined(CalendarRepository::getOpeningDaysFromOpeningDayCollection)
+      );
+  }
+
+  /**
+   * Fetches the opening days of each service point, from its start date up to the end date,
+   * with a single request per service point.
+   *
+   * @param startDates start date for each service point id
+   * @return opening days for each service point id
+   */
+  public CompletableFuture<Result<Map<String, Collection<OpeningDay>>>>
+  fetchOpeningDaysBetweenDates(Map<String, ZonedDateTime> startDates, ZonedDateTime endDate) {
+
+    return configurationRepository.findTimeZoneConfiguration()
+      .thenCompose(r -> r.after(zone -> allOf(startDates.entrySet(), Map.Entry::getKey,
+        entry -> fetchOpeningDaysBetweenDates(entry.getKey(), entry.getValue().toLocalDate(),
+          endDate.toLocalDate())
+          .thenApply(flatMapResult(openingDays ->
+            getOpeningDaysFromOpeningDayCollection(openingDays, zone))))));
+  }
+
+  private CompletableFuture<Result<JsonObject>> fetchOpeningDaysBetweenDates(
+    String servicePointId, LocalDate startDate, LocalDate endDate) {
+
     String path = String.format(
       ALL_DATES_PATH,
       servicePointId,
-      startDate.toLocalDate(),
-      endDate.toLocalDate(),
+      startDate,
+      endDate,
       Integer.MAX_VALUE
     );
 
-    return calendarClient.get(path)
-      .thenCombineAsync(
-        configurationRepository.findTimeZoneConfiguration(),
-        Result.combined(CalendarRepository::getOpeningDaysFromOpeningDayCollection)
-      );
+    return CalendarCache.getInstance().get(tenantId,
+      new OpeningsBetweenDates(servicePointId, startDate, endDate),
+      () -> calendarClient.get(path)
+        .thenApply(flatMapResult(new ResponseInterpreter<JsonObject>()
+          .flatMapOn(200, mapUsingJson(identity()))::apply)));
   }
 
   private static Result<Collection<OpeningDay>> getOpeningDaysFromOpeningDayCollection(
-    Response openingDayCollection, ZoneId zone) {
+    JsonObject openingDayCollection, ZoneId zone) {
     return MultipleRecords.from(
         openingDayCollection,
         openingPeriod -> new OpeningDay(openingPeriod, zone),
@@ -103,4 +142,9 @@ public class CalendarRepository {
 
     return new AdjacentOpeningDays(previousDate, requestedDate, nextDate);
   }
+
+  private record SurroundingOpenings(String servicePointId, LocalDate date) { }
+
+  private record OpeningsBetweenDates(String servicePointId, LocalDate startDate,
+    LocalDate endDate) { }
 }
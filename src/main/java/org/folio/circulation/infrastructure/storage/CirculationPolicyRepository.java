@@ -1,17 +1,31 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.rules.RulesExecutionParameters.forItem;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.combineAll;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.results.ResultBinding.mapResult;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.ItemRelatedRecord;
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.UserRelatedRecord;
@@ -22,6 +36,7 @@ import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.results.Result;
 
@@ -32,12 +47,16 @@ public abstract class CirculationPolicyRepository<T> {
 
   protected final CollectionResourceClient policyStorageClient;
   protected final CirculationRulesProcessor circulationRulesProcessor;
+  protected final String tenantId;
+  private final ReferenceDataType policyType;
 
   protected CirculationPolicyRepository(CollectionResourceClient policyStorageClient,
-    Clients clients) {
+    Clients clients, ReferenceDataType policyType) {
 
     this.policyStorageClient = policyStorageClient;
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
+    this.tenantId = clients.tenantId();
+    this.policyType = policyType;
   }
 
   public CompletableFuture<Result<T>> lookupPolicy(Loan loan) {
@@ -67,12 +86,52 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(String policyId, AppliedRuleConditions conditionsEntity) {
     log.info("Looking up policy with id {}", policyId);
 
-    return SingleRecordFetcher.json(policyStorageClient, "circulation policy",
-      response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
-      .fetch(policyId)
+    return getPolicyRepresentation(policyId,
+      id -> SingleRecordFetcher.json(policyStorageClient, "circulation policy",
+        response -> failedDueToServerError(getPolicyNotFoundErrorMessage(id)))
+        .fetch(id))
       .thenApply(result -> result.next(json -> mapToPolicy(json, conditionsEntity)));
   }
 
+  /**
+   * Fetches the representation of the policy, null when it is not found.
+   */
+  protected CompletableFuture<Result<JsonObject>> findPolicyRepresentation(String policyId,
+    String recordType) {
+
+    return getPolicyRepresentation(policyId,
+      id -> FetchSingleRecord.<JsonObject>forRecord(recordType)
+        .using(policyStorageClient)
+        .mapTo(identity())
+        .whenNotFound(succeeded(null))
+        .fetch(id));
+  }
+
+  /**
+   * Fetches the representations of the policies with the ids, those that are not found
+   * are left out.
+   */
+  protected CompletableFuture<Result<MultipleRecords<JsonObject>>> findPolicyRepresentations(
+    Collection<String> policyIds, String recordsPropertyName) {
+
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, policyType,
+        json -> json.getString("id"), findWithMultipleCqlIndexValues(policyStorageClient,
+          recordsPropertyName, identity()))
+      .findByIds(policyIds)
+      .thenApply(mapResult(policies -> policies.mapRecords(JsonObject::copy)));
+  }
+
+  /**
+   * Policies are cached as representations, each lookup gets its own copy of them.
+   */
+  private CompletableFuture<Result<JsonObject>> getPolicyRepresentation(String policyId,
+    Function<String, CompletableFuture<Result<JsonObject>>> loader) {
+
+    return ReferenceDataCache.getInstance().getById(tenantId, policyType, policyId,
+        json -> json.getString("id"), loader)
+      .thenApply(mapResult(json -> json == null ? null : json.copy()));
+  }
+
   public <R extends UserRelatedRecord & ItemRelatedRecord>
   CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(R userAndItemRelatedRecord) {
 
@@ -84,42 +143,90 @@ public abstract class CirculationPolicyRepository<T> {
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(Item item, User user) {
+    return completedFuture(rulesExecutionParameters(item, user))
+      .thenCompose(r -> r.after(this::getPolicyAndMatch));
+  }
+
+  /**
+   * Looks up the policy ids for many records at once, executing the rules only once for
+   * each distinct combination of criteria. The matches are returned in the order of the records.
+   */
+  public <R> CompletableFuture<Result<List<CirculationRuleMatch>>> lookupPolicyIds(
+    List<R> records, Function<R, Item> itemGetter, Function<R, User> userGetter) {
+
+    log.debug("lookupPolicyIds:: parameters records: {}", records::size);
+
+    if (records.isEmpty()) {
+      return ofAsync(Collections::emptyList);
+    }
+
+    return completedFuture(combineAll(records.stream()
+      .map(rec -> rulesExecutionParameters(itemGetter.apply(rec), userGetter.apply(rec)))
+      .collect(toList())))
+      .thenCompose(r -> r.after(this::getPolicyAndMatches));
+  }
+
+  /**
+   * Looks up the policies for many records at once, fetching each distinct policy only once.
+   * The policies are returned in the order of the records.
+   */
+  public <R> CompletableFuture<Result<List<T>>> lookupPolicies(List<R> records,
+    Function<R, Item> itemGetter, Function<R, User> userGetter) {
+
+    return lookupPolicyIds(records, itemGetter, userGetter)
+      .thenCompose(r -> r.after(this::lookupPolicies));
+  }
+
+  private CompletableFuture<Result<List<T>>> lookupPolicies(List<CirculationRuleMatch> matches) {
+    final Map<List<Object>, CompletableFuture<Result<T>>> policies = new HashMap<>();
+
+    final List<CompletableFuture<Result<T>>> futures = matches.stream()
+      .map(match -> policies.computeIfAbsent(
+        List.of(match.getPolicyId(), match.getAppliedRuleConditions()),
+        key -> lookupPolicy(match.getPolicyId(), match.getAppliedRuleConditions())))
+      .collect(toList());
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+      .thenApply(v -> combineAll(futures.stream()
+        .map(CompletableFuture::join)
+        .collect(toList())));
+  }
+
+  private Result<RulesExecutionParameters> rulesExecutionParameters(Item item, User user) {
     if (item == null){
-      return completedFuture(failedDueToServerError(
-        "Unable to apply circulation rules for item that is null"));
+      return failedDueToServerError("Unable to apply circulation rules for item that is null");
     }
 
     if (user == null){
-      return completedFuture(failedDueToServerError(
-        "Unable to apply circulation rules for item with user that is null"));
+      return failedDueToServerError(
+        "Unable to apply circulation rules for item with user that is null");
     }
 
     if (item.isNotFound()) {
-      return completedFuture(failedDueToServerError(
-        "Unable to apply circulation rules for unknown item"));
+      return failedDueToServerError("Unable to apply circulation rules for unknown item");
     }
 
     if (user.getPatronGroupId() == null) {
       log.error("PatronGroupId is null for user {}", user.getId());
-      return completedFuture(failedDueToServerError("Unable to apply circulation rules to a user with null value as patronGroupId"));
+      return failedDueToServerError("Unable to apply circulation rules to a user with null value as patronGroupId");
     }
 
     if (item.getEffectiveLocationId() == null) {
       log.error("LocationId is null for item {}", item.getItemId());
-      return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item with null value as locationId"));
+      return failedDueToServerError("Unable to apply circulation rules to an item with null value as locationId");
     }
 
     if (item.getLoanTypeId() == null) {
       log.error("LoanTypeId is null for item {}", item.getItemId());
-      return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item which loan type can not be determined"));
+      return failedDueToServerError("Unable to apply circulation rules to an item which loan type can not be determined");
     }
 
     if (item.getMaterialTypeId() == null) {
       log.error("MaterialTypeId is null for item {}", item.getItemId());
-      return completedFuture(failedDueToServerError("Unable to apply circulation rules to an item with null value as materialTypeId"));
+      return failedDueToServerError("Unable to apply circulation rules to an item with null value as materialTypeId");
     }
 
-    return getPolicyAndMatch(forItem(item, user));
+    return succeeded(forItem(item, user));
   }
 
   protected abstract String getPolicyNotFoundErrorMessage(String policyId);
@@ -128,4 +235,7 @@ public abstract class CirculationPolicyRepository<T> {
 
   protected abstract CompletableFuture<Result<CirculationRuleMatch>> getPolicyAndMatch(
     RulesExecutionParameters rulesExecutionParameters);
+
+  protected abstract CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicyAndMatches(
+    List<RulesExecutionParameters> rulesExecutionParameters);
 }
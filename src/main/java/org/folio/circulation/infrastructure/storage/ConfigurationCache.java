@@ -0,0 +1,110 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.Environment.getConfigurationCacheTimeToLiveInSeconds;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Parsed configuration and settings of each tenant, like the time zone and the title level
+ * request settings, which are looked up by most circulation operations. They are kept for
+ * a short time to live, so that changes are used soon after they are made.
+ * <p>
+ * Lookups of a setting that is being loaded wait for that load instead of starting another
+ * one. Failed lookups are not cached, and the cached values must not be changed by their users.
+ */
+public final class ConfigurationCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ConfigurationCache instance = new ConfigurationCache(
+    TimeUnit.SECONDS.toMillis(getConfigurationCacheTimeToLiveInSeconds()));
+
+  private final Map<TenantAndSetting, CachedSetting> settings = new ConcurrentHashMap<>();
+  /** milliseconds */
+  private final long timeToLive;
+
+  public static ConfigurationCache getInstance() {
+    return instance;
+  }
+
+  ConfigurationCache(long timeToLive) {
+    this.timeToLive = timeToLive;
+  }
+
+  public boolean isEnabled() {
+    return timeToLive > 0;
+  }
+
+  /**
+   * Returns the cached setting, or loads it using the loader and caches it when the load
+   * succeeds.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<Result<T>> get(String tenantId, String settingName,
+    Supplier<CompletableFuture<Result<T>>> loader) {
+
+    if (!isEnabled() || tenantId == null) {
+      return loader.get();
+    }
+
+    final TenantAndSetting key = new TenantAndSetting(tenantId, settingName);
+    final long now = System.currentTimeMillis();
+    final CompletableFuture<Result<T>> loading = new CompletableFuture<>();
+
+    final CachedSetting cachedSetting = settings.compute(key,
+      (ignored, existing) -> existing != null && now - existing.loadedAt() < timeToLive
+        ? existing
+        : new CachedSetting(loading, now));
+
+    if (cachedSetting.value() != loading) {
+      return (CompletableFuture<Result<T>>) cachedSetting.value();
+    }
+
+    log.debug("get:: loading {} for tenant {}", settingName, tenantId);
+
+    final CompletableFuture<Result<T>> loaded;
+
+    try {
+      loaded = loader.get();
+    } catch (RuntimeException e) {
+      settings.remove(key, cachedSetting);
+      loading.completeExceptionally(e);
+      throw e;
+    }
+
+    loaded.whenComplete((result, throwable) -> {
+      if (throwable != null || result.failed()) {
+        settings.remove(key, cachedSetting);
+      }
+
+      if (throwable != null) {
+        loading.completeExceptionally(throwable);
+      } else {
+        loading.complete(result);
+      }
+    });
+
+    return loading;
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: removing cached configuration of tenant {}", tenantId);
+    settings.keySet().removeIf(key -> key.tenantId().equals(tenantId));
+  }
+
+  public void clear() {
+    settings.clear();
+  }
+
+  private record TenantAndSetting(String tenantId, String settingName) { }
+
+  private record CachedSetting(CompletableFuture<?> value, long loadedAt) { }
+}
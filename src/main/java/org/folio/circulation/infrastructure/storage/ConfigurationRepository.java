@@ -7,6 +7,7 @@ import java.time.ZoneId;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.folio.circulation.domain.Configuration;
 import org.folio.circulation.domain.ConfigurationService;
@@ -29,31 +30,36 @@ public class ConfigurationRepository {
   private static final PageLimit DEFAULT_PAGE_LIMIT = PageLimit.one();
 
   private final GetManyRecordsClient configurationClient;
+  private final String tenantId;
 
   public ConfigurationRepository(Clients clients) {
     configurationClient = clients.configurationStorageClient();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<PageLimit>> lookupSchedulerNoticesProcessingLimit() {
     Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
       "NOTIFICATION_SCHEDULER", "noticesLimit");
 
-    return lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesLimit())
-      .thenApply(result -> result.map(PageLimit::limit));
+    return cached("NOTIFICATION_SCHEDULER.noticesLimit",
+      () -> lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesLimit())
+        .thenApply(result -> result.map(PageLimit::limit)));
   }
 
   public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
     Result<CqlQuery> otherSettingsQuery = defineModuleNameAndConfigNameFilter(
       "CHECKOUT", "other_settings");
 
-    return lookupConfigurations(otherSettingsQuery, applySessionTimeout());
+    return cached("CHECKOUT.other_settings",
+      () -> lookupConfigurations(otherSettingsQuery, applySessionTimeout()));
   }
 
   public CompletableFuture<Result<TlrSettingsConfiguration>> lookupTlrSettings() {
     Result<CqlQuery> queryResult = defineModuleNameAndConfigNameFilter(
       "SETTINGS", "TLR");
 
-    return findAndMapFirstConfiguration(queryResult, TlrSettingsConfiguration::from);
+    return cached("SETTINGS.TLR",
+      () -> findAndMapFirstConfiguration(queryResult, TlrSettingsConfiguration::from));
   }
 
   /**
@@ -61,12 +67,13 @@ public class ConfigurationRepository {
    *
    */
   public CompletableFuture<Result<LoanAnonymizationConfiguration>> loanHistoryConfiguration() {
-    return defineModuleNameAndConfigNameFilter("LOAN_HISTORY", "loan_history")
-      .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
-      .thenApply(result -> result.next(response ->
-        MultipleRecords.from(response, Configuration::new, CONFIGS_KEY)))
-      .thenApply(r -> r.next(r1 -> r.map(MultipleRecords::getRecords)))
-      .thenApply(r -> r.map(ConfigurationRepository::getFirstConfiguration));
+    return cached("LOAN_HISTORY.loan_history",
+      () -> defineModuleNameAndConfigNameFilter("LOAN_HISTORY", "loan_history")
+        .after(query -> configurationClient.getMany(query, DEFAULT_PAGE_LIMIT))
+        .thenApply(result -> result.next(response ->
+          MultipleRecords.from(response, Configuration::new, CONFIGS_KEY)))
+        .thenApply(r -> r.next(r1 -> r.map(MultipleRecords::getRecords)))
+        .thenApply(r -> r.map(ConfigurationRepository::getFirstConfiguration)));
   }
 
   private static LoanAnonymizationConfiguration getFirstConfiguration(
@@ -85,7 +92,14 @@ public class ConfigurationRepository {
     Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
       "ORG", "localeSettings");
 
-    return lookupConfigurations(cqlQueryResult, applySearchDateTimeZone());
+    return cached("ORG.localeSettings",
+      () -> lookupConfigurations(cqlQueryResult, applySearchDateTimeZone()));
+  }
+
+  private <T> CompletableFuture<Result<T>> cached(String settingName,
+    Supplier<CompletableFuture<Result<T>>> loader) {
+
+    return ConfigurationCache.getInstance().get(tenantId, settingName, loader);
   }
 
   private <T> CompletableFuture<Result<T>> lookupConfigurations(
@@ -0,0 +1,257 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
+import org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.metrics.MetricsWriter;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Reference records, like material types, service points and circulation policies, of each
+ * tenant. They rarely change, so they are kept for a time to live that is configured for each
+ * type of record, together with the maximum number of records of a type kept for a tenant.
+ * When that is exceeded, the least recently used records are removed.
+ * <p>
+ * Only lookups by id are cached. Records that are not found are not cached, and the cached
+ * records must not be changed by their users.
+ */
+public final class ReferenceDataCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ReferenceDataCache instance = new ReferenceDataCache(
+    type -> new Settings(type.getTimeToLiveFromEnvironment(), type.getMaximumSizeFromEnvironment()));
+
+  private final Map<ReferenceDataType, Settings> settings = new EnumMap<>(ReferenceDataType.class);
+  /** cached records by id for each tenantId and type */
+  private final Map<TenantAndType, Map<String, CachedRecord>> records = new ConcurrentHashMap<>();
+  private final Map<ReferenceDataType, LongAdder> hits = new ConcurrentHashMap<>();
+  private final Map<ReferenceDataType, LongAdder> misses = new ConcurrentHashMap<>();
+
+  public static ReferenceDataCache getInstance() {
+    return instance;
+  }
+
+  ReferenceDataCache(Function<ReferenceDataType, Settings> settingsOfType) {
+    for (ReferenceDataType type : ReferenceDataType.values()) {
+      settings.put(type, settingsOfType.apply(type));
+    }
+  }
+
+  public boolean isEnabled(ReferenceDataType type) {
+    return settings.get(type).isEnabled();
+  }
+
+  /**
+   * Returns the cached record, or loads it using the loader and caches it when it is found,
+   * which is when the loaded record has the id.
+   */
+  public <T> CompletableFuture<Result<T>> getById(String tenantId, ReferenceDataType type,
+    String id, Function<T, String> idOf, Function<String, CompletableFuture<Result<T>>> loader) {
+
+    if (!isEnabled(type) || tenantId == null || id == null) {
+      return loader.apply(id);
+    }
+
+    final T cachedRecord = get(tenantId, type, id);
+
+    if (cachedRecord != null) {
+      return ofAsync(cachedRecord);
+    }
+
+    return loader.apply(id)
+      .thenApply(r -> r.map(loadedRecord -> {
+        if (loadedRecord != null && id.equals(idOf.apply(loadedRecord))) {
+          put(tenantId, type, id, loadedRecord);
+        }
+        return loadedRecord;
+      }));
+  }
+
+  /**
+   * Returns the cached records and loads the missing ones using the loader, in a single
+   * call, caching those that are found.
+   */
+  public <T> CompletableFuture<Result<Collection<T>>> getByIds(String tenantId,
+    ReferenceDataType type, Collection<String> ids, Function<T, String> idOf,
+    Function<Set<String>, CompletableFuture<Result<Collection<T>>>> loader) {
+
+    final Set<String> distinctIds = new LinkedHashSet<>(ids);
+    distinctIds.remove(null);
+
+    if (!isEnabled(type) || tenantId == null) {
+      return loader.apply(distinctIds);
+    }
+
+    final List<T> found = new ArrayList<>();
+    final Set<String> missing = new LinkedHashSet<>();
+
+    distinctIds.forEach(id -> {
+      final T cachedRecord = get(tenantId, type, id);
+
+      if (cachedRecord == null) {
+        missing.add(id);
+      } else {
+        found.add(cachedRecord);
+      }
+    });
+
+    log.debug("getByIds:: tenant {}, {}: {} cached, {} missing", tenantId, type,
+      found.size(), missing.size());
+
+    if (missing.isEmpty()) {
+      return ofAsync(found);
+    }
+
+    return loader.apply(missing)
+      .thenApply(r -> r.map(loadedRecords -> {
+        loadedRecords.stream()
+          .filter(Objects::nonNull)
+          .forEach(loadedRecord -> put(tenantId, type, idOf.apply(loadedRecord), loadedRecord));
+        found.addAll(loadedRecords);
+        return found;
+      }));
+  }
+
+  /**
+   * Finder that looks up records by id in the cache first and uses the finder for the
+   * missing records and for any other kind of search.
+   */
+  public <T> FindWithMultipleCqlIndexValues<T> cachedFinder(String tenantId,
+    ReferenceDataType type, Function<T, String> idOf, FindWithMultipleCqlIndexValues<T> finder) {
+
+    return new FindWithMultipleCqlIndexValues<>() {
+      @Override
+      public CompletableFuture<Result<MultipleRecords<T>>> findByIds(Collection<String> ids) {
+        return getByIds(tenantId, type, ids, idOf,
+          missingIds -> finder.findByIds(missingIds)
+            .thenApply(r -> r.map(MultipleRecords::getRecords)))
+          .thenApply(r -> r.map(found -> new MultipleRecords<>(found, found.size())));
+      }
+
+      @Override
+      public CompletableFuture<Result<MultipleRecords<T>>> findByIdIndexAndQuery(
+        Collection<String> ids, String indexName, Result<CqlQuery> andQuery) {
+
+        return finder.findByIdIndexAndQuery(ids, indexName, andQuery);
+      }
+
+      @Override
+      public CompletableFuture<Result<MultipleRecords<T>>> find(
+        MultipleCqlIndexValuesCriteria criteria) {
+
+        return finder.find(criteria);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(String tenantId, ReferenceDataType type, String id) {
+    final Map<String, CachedRecord> tenantRecords = records.get(new TenantAndType(tenantId, type));
+    CachedRecord cachedRecord = null;
+
+    if (tenantRecords != null) {
+      synchronized (tenantRecords) {
+        cachedRecord = tenantRecords.get(id);
+
+        if (cachedRecord != null
+          && System.currentTimeMillis() - cachedRecord.loadedAt() >= settings.get(type).timeToLive()) {
+
+          tenantRecords.remove(id);
+          cachedRecord = null;
+        }
+      }
+    }
+
+    (cachedRecord == null ? misses : hits).computeIfAbsent(type, key -> new LongAdder())
+      .increment();
+
+    return cachedRecord == null ? null : (T) cachedRecord.value();
+  }
+
+  private void put(String tenantId, ReferenceDataType type, String id, Object value) {
+    if (id == null) {
+      return;
+    }
+
+    final int maximumSize = settings.get(type).maximumSize();
+    final Map<String, CachedRecord> tenantRecords = records.computeIfAbsent(
+      new TenantAndType(tenantId, type), key -> new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedRecord> eldest) {
+          return size() > maximumSize;
+        }
+      });
+
+    synchronized (tenantRecords) {
+      tenantRecords.put(id, new CachedRecord(value, System.currentTimeMillis()));
+    }
+  }
+
+  public void invalidate(String tenantId) {
+    log.info("invalidate:: removing cached reference records of tenant {}", tenantId);
+    records.keySet().removeIf(key -> key.tenantId().equals(tenantId));
+  }
+
+  public void invalidate(String tenantId, ReferenceDataType type) {
+    log.info("invalidate:: removing cached {} records of tenant {}", type, tenantId);
+    records.remove(new TenantAndType(tenantId, type));
+  }
+
+  /**
+   * Removes the cached circulation policies and fixed due date schedules of the tenant,
+   * for example when the circulation rules change, which often comes with policy changes.
+   */
+  public void invalidatePolicies(String tenantId) {
+    log.info("invalidatePolicies:: removing cached policies of tenant {}", tenantId);
+    records.keySet().removeIf(key -> key.tenantId().equals(tenantId) && key.type().isPolicy());
+  }
+
+  public void clear() {
+    records.clear();
+  }
+
+  public void write(MetricsWriter writer) {
+    writer.counter("reference_data_cache_hits_total",
+      "Lookups of reference records by id that found them in the cache");
+    hits.forEach((type, count) -> writer.sample("reference_data_cache_hits_total",
+      Map.of("type", type.getEnvironmentName().toLowerCase()), count.sum()));
+
+    writer.counter("reference_data_cache_misses_total",
+      "Lookups of reference records by id that had to load them");
+    misses.forEach((type, count) -> writer.sample("reference_data_cache_misses_total",
+      Map.of("type", type.getEnvironmentName().toLowerCase()), count.sum()));
+  }
+
+  /**
+   * @param timeToLive milliseconds
+   */
+  record Settings(long timeToLive, int maximumSize) {
+    boolean isEnabled() {
+      return timeToLive > 0 && maximumSize > 0;
+    }
+  }
+
+  private record TenantAndType(String tenantId, ReferenceDataType type) { }
+
+  private record CachedRecord(Object value, long loadedAt) { }
+}
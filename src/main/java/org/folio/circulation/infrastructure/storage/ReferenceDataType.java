@@ -0,0 +1,72 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.Environment.getPolicyCacheMaximumSize;
+import static org.folio.Environment.getPolicyCacheTimeToLiveInSeconds;
+import static org.folio.Environment.getReferenceDataCacheMaximumSize;
+import static org.folio.Environment.getReferenceDataCacheTimeToLiveInSeconds;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Types of reference records that are kept in the {@link ReferenceDataCache}. Each type
+ * can be configured separately using environment variables containing its name.
+ * <p>
+ * Circulation policies and fixed due date schedules change more often than other reference
+ * records, they are configured by their own environment variables.
+ */
+public enum ReferenceDataType {
+  MATERIAL_TYPE("MATERIAL_TYPES"),
+  LOAN_TYPE("LOAN_TYPES"),
+  SERVICE_POINT("SERVICE_POINTS"),
+  PATRON_GROUP("PATRON_GROUPS"),
+  ADDRESS_TYPE("ADDRESS_TYPES"),
+  DEPARTMENT("DEPARTMENTS"),
+  IDENTIFIER_TYPE("IDENTIFIER_TYPES"),
+  INSTITUTION("INSTITUTIONS"),
+  CAMPUS("CAMPUSES"),
+  LIBRARY("LIBRARIES"),
+  LOAN_POLICY("LOAN_POLICIES", true),
+  REQUEST_POLICY("REQUEST_POLICIES", true),
+  PATRON_NOTICE_POLICY("PATRON_NOTICE_POLICIES", true),
+  OVERDUE_FINE_POLICY("OVERDUE_FINE_POLICIES", true),
+  LOST_ITEM_FEE_POLICY("LOST_ITEM_FEE_POLICIES", true),
+  FIXED_DUE_DATE_SCHEDULE("FIXED_DUE_DATE_SCHEDULES", true);
+
+  private final String environmentName;
+  private final boolean policy;
+
+  ReferenceDataType(String environmentName) {
+    this(environmentName, false);
+  }
+
+  ReferenceDataType(String environmentName, boolean policy) {
+    this.environmentName = environmentName;
+    this.policy = policy;
+  }
+
+  public String getEnvironmentName() {
+    return environmentName;
+  }
+
+  public boolean isPolicy() {
+    return policy;
+  }
+
+  /**
+   * Time to live in milliseconds, zero disables the cache for the type.
+   */
+  public long getTimeToLiveFromEnvironment() {
+    return TimeUnit.SECONDS.toMillis(policy
+      ? getPolicyCacheTimeToLiveInSeconds(environmentName)
+      : getReferenceDataCacheTimeToLiveInSeconds(environmentName));
+  }
+
+  /**
+   * Maximum number of records of the type per tenant, zero disables the cache for the type.
+   */
+  public int getMaximumSizeFromEnvironment() {
+    return policy
+      ? getPolicyCacheMaximumSize(environmentName)
+      : getReferenceDataCacheMaximumSize(environmentName);
+  }
+}
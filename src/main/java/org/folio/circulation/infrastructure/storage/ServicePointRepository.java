@@ -1,6 +1,7 @@
 package org.folio.circulation.infrastructure.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.SERVICE_POINT;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -39,9 +40,11 @@ public class ServicePointRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private final CollectionResourceClient servicePointsStorageClient;
+  private final String tenantId;
 
   public ServicePointRepository(Clients clients) {
     servicePointsStorageClient = clients.servicePointsStorage();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<ServicePoint>> getServicePointById(UUID id) {
@@ -63,11 +66,13 @@ public class ServicePointRepository {
 
     final var mapper = new ServicePointMapper();
 
-    return FetchSingleRecord.<ServicePoint>forRecord("service point")
+    return ReferenceDataCache.getInstance().getById(tenantId, SERVICE_POINT, id,
+      ServicePoint::getId, servicePointId -> FetchSingleRecord
+        .<ServicePoint>forRecord("service point")
         .using(servicePointsStorageClient)
         .mapTo(mapper::toDomain)
         .whenNotFound(succeeded(null))
-        .fetch(id);
+        .fetch(servicePointId));
   }
 
   public CompletableFuture<Result<ServicePoint>> getServicePointForRequest(Request request) {
@@ -230,7 +235,8 @@ public class ServicePointRepository {
   private FindWithMultipleCqlIndexValues<ServicePoint> createServicePointsFetcher() {
     final var mapper = new ServicePointMapper();
 
-    return findWithMultipleCqlIndexValues(servicePointsStorageClient,
-      "servicepoints", mapper::toDomain);
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, SERVICE_POINT,
+      ServicePoint::getId, findWithMultipleCqlIndexValues(servicePointsStorageClient,
+        "servicepoints", mapper::toDomain));
   }
 }
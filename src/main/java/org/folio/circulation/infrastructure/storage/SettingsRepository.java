@@ -21,9 +21,11 @@ import static org.folio.circulation.support.results.Result.succeeded;
 public class SettingsRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final GetManyRecordsClient settingsClient;
+  private final String tenantId;
 
   public SettingsRepository(Clients clients) {
     settingsClient = clients.settingsStorageClient();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<CheckoutLockConfiguration>> lookUpCheckOutLockSettings() {
@@ -32,14 +34,17 @@ public class SettingsRepository {
       final Result<CqlQuery> moduleQuery = exactMatch("scope", "mod-circulation");
       final Result<CqlQuery> configNameQuery = exactMatch("key", "checkoutLockFeature");
 
-      return moduleQuery.combine(configNameQuery, CqlQuery::and)
-        .after(cqlQuery -> settingsClient.getMany(cqlQuery, PageLimit.noLimit()))
-        .thenApply(result -> result.next(response -> MultipleRecords.from(response, Configuration::new, "items")))
-        .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
-          .map(Configuration::getValue)
-          .map(JsonObject::new)
-          .orElse(new JsonObject())))
-        .thenApply(r -> r.map(CheckoutLockConfiguration::from))
+      // only successful lookups are cached, failures fall back to the default settings
+      return ConfigurationCache.getInstance().get(tenantId,
+          "mod-circulation.checkoutLockFeature",
+          () -> moduleQuery.combine(configNameQuery, CqlQuery::and)
+            .after(cqlQuery -> settingsClient.getMany(cqlQuery, PageLimit.noLimit()))
+            .thenApply(result -> result.next(response -> MultipleRecords.from(response, Configuration::new, "items")))
+            .thenApply(r -> r.map(r1 -> r1.getRecords().stream().findFirst()
+              .map(Configuration::getValue)
+              .map(JsonObject::new)
+              .orElse(new JsonObject())))
+            .thenApply(r -> r.map(CheckoutLockConfiguration::from)))
         .thenApply(r -> r.mapFailure(failure -> {
           log.warn("lookUpCheckOutLockSettings:: Error while fetching checkout lock settings {}", failure);
           return succeeded(CheckoutLockConfiguration.from(new JsonObject()));
@@ -2,6 +2,7 @@ package org.folio.circulation.infrastructure.storage.inventory;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.IDENTIFIER_TYPE;
 import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -16,6 +17,7 @@ import org.folio.circulation.domain.IdentifierType;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.infrastructure.storage.IdentityMap;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.storage.mappers.IdentifierTypeMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
@@ -25,13 +27,21 @@ import org.folio.circulation.support.results.Result;
 
 public class IdentifierTypeRepository {
   private final CollectionResourceClient identifierTypeClient;
+  private final String tenantId;
 
   public IdentifierTypeRepository(CollectionResourceClient identifierTypeClient) {
-    this.identifierTypeClient = identifierTypeClient;
+    this(null, identifierTypeClient);
   }
 
   public IdentifierTypeRepository(Clients clients) {
-    this(clients.identifierTypesStorage());
+    this(clients.tenantId(), clients.identifierTypesStorage());
+  }
+
+  private IdentifierTypeRepository(String tenantId,
+    CollectionResourceClient identifierTypeClient) {
+
+    this.tenantId = tenantId;
+    this.identifierTypeClient = identifierTypeClient;
   }
 
   private final IdentityMap identityMap = new IdentityMap(
@@ -46,11 +56,14 @@ public class IdentifierTypeRepository {
       "identifierTypes", identity()));
     final var mapper = new IdentifierTypeMapper();
 
-    return finder.findByIds(item.getIdentifiers()
+    return ReferenceDataCache.getInstance().getByIds(tenantId, IDENTIFIER_TYPE,
+      item.getIdentifiers()
         .map(Identifier::getIdentifierTypeId)
-        .collect(Collectors.toList()))
-      .thenApply(mapResult(identityMap::add))
-      .thenApply(mapResult(records -> records.mapRecords(mapper::toDomain)))
-      .thenApply(r -> r.map(MultipleRecords::getRecords));
+        .collect(Collectors.toList()),
+      IdentifierType::getId,
+      identifierTypeIds -> finder.findByIds(identifierTypeIds)
+        .thenApply(mapResult(identityMap::add))
+        .thenApply(mapResult(records -> records.mapRecords(mapper::toDomain)))
+        .thenApply(r -> r.map(MultipleRecords::getRecords)));
   }
 }
@@ -3,6 +3,7 @@ package org.folio.circulation.infrastructure.storage.inventory;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.circulation.domain.ItemStatus.AVAILABLE;
 import static org.folio.circulation.domain.MultipleRecords.CombinationMatchers.matchRecordsById;
 import static org.folio.circulation.domain.representations.ItemProperties.LAST_CHECK_IN;
@@ -73,7 +74,7 @@ public class ItemRepository {
         new ServicePointRepository(clients)),
       new MaterialTypeRepository(clients), new InstanceRepository(clients),
       new HoldingsRepository(clients.holdingsStorage()),
-      new LoanTypeRepository(clients.loanTypesStorage()),
+      new LoanTypeRepository(clients),
       clients.circulationItemClient());
   }
 
@@ -154,6 +155,19 @@ public class ItemRepository {
       .thenComposeAsync(this::fetchItemRelatedRecords);
   }
 
+  /**
+   * Fetches the items with the barcodes, and their related records, together rather than
+   * one at a time. Items that are not in inventory, like circulation items, are not included.
+   */
+  public CompletableFuture<Result<Map<String, Item>>> fetchByBarcodes(
+    Collection<String> barcodes) {
+
+    return findBy("barcode", barcodes)
+      .thenApply(mapResult(items -> items.stream()
+        .filter(item -> item.getBarcode() != null)
+        .collect(toMap(Item::getBarcode, identity(), (first, second) -> first))));
+  }
+
   public CompletableFuture<Result<Item>> fetchById(String itemId) {
     return fetchItem(itemId)
       .thenComposeAsync(itemResult -> itemResult.after(when(item -> ofAsync(item::isNotFound),
@@ -1,5 +1,6 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LOAN_TYPE;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -9,7 +10,9 @@ import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.LoanType;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.storage.mappers.LoanTypeMapper;
+import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.SingleRecordFetcher;
 import org.folio.circulation.support.results.Result;
@@ -17,25 +20,37 @@ import org.folio.circulation.support.results.Result;
 public class LoanTypeRepository {
   private static final String LOAN_TYPES = "loantypes";
   public final CollectionResourceClient loanTypesClient;
+  private final String tenantId;
 
   public LoanTypeRepository(CollectionResourceClient loanTypesClient) {
+    this(null, loanTypesClient);
+  }
+
+  public LoanTypeRepository(Clients clients) {
+    this(clients.tenantId(), clients.loanTypesStorage());
+  }
+
+  private LoanTypeRepository(String tenantId, CollectionResourceClient loanTypesClient) {
+    this.tenantId = tenantId;
     this.loanTypesClient = loanTypesClient;
   }
 
   public CompletableFuture<Result<LoanType>> fetchById(String id) {
     final var mapper = new LoanTypeMapper();
 
-    return SingleRecordFetcher.json(loanTypesClient,
-        "loan types",
-        response -> succeeded(null))
-      .fetch(id)
-      .thenApply(mapResult(mapper::toDomain));
+    return ReferenceDataCache.getInstance().getById(tenantId, LOAN_TYPE, id, LoanType::getId,
+      loanTypeId -> SingleRecordFetcher.json(loanTypesClient,
+          "loan types",
+          response -> succeeded(null))
+        .fetch(loanTypeId)
+        .thenApply(mapResult(mapper::toDomain)));
   }
 
   CompletableFuture<Result<MultipleRecords<LoanType>>> findByIds(Set<String> ids) {
     final var mapper = new LoanTypeMapper();
 
-    return findWithMultipleCqlIndexValues(loanTypesClient, LOAN_TYPES, mapper::toDomain)
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, LOAN_TYPE, LoanType::getId,
+        findWithMultipleCqlIndexValues(loanTypesClient, LOAN_TYPES, mapper::toDomain))
       .findByIds(ids);
   }
 }
@@ -0,0 +1,163 @@
+package org.folio.circulation.infrastructure.storage.inventory;
+
+import static org.folio.Environment.getLocationCacheRefreshAheadInSeconds;
+import static org.folio.Environment.getLocationCacheTimeToLiveInSeconds;
+import static org.folio.circulation.support.results.Result.ofAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Locations of each tenant with their institution, campus, library and primary service point.
+ * Locations rarely change, so they are kept for a configurable time to live.
+ * <p>
+ * With refresh-ahead, a location that is older than the refresh-ahead time is returned
+ * from the cache and reloaded in the background, so that locations in regular use never
+ * expire and lookups do not wait for storage.
+ */
+public final class LocationCache {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final LocationCache instance = new LocationCache(
+    TimeUnit.SECONDS.toMillis(getLocationCacheTimeToLiveInSeconds()),
+    TimeUnit.SECONDS.toMillis(getLocationCacheRefreshAheadInSeconds()));
+
+  /** cached locations by location id for each tenantId */
+  private final Map<String, Map<String, CachedLocation>> locations = new ConcurrentHashMap<>();
+  /** tenantId and location id of the locations being reloaded in the background */
+  private final Set<List<String>> refreshing = ConcurrentHashMap.newKeySet();
+  /** milliseconds */
+  private final long timeToLive;
+  /** milliseconds */
+  private final long refreshAhead;
+
+  public static LocationCache getInstance() {
+    return instance;
+  }
+
+  LocationCache(long timeToLive, long refreshAhead) {
+    this.timeToLive = timeToLive;
+    this.refreshAhead = refreshAhead;
+  }
+
+  public boolean isEnabled() {
+    return timeToLive > 0;
+  }
+
+  /**
+   * Returns the cached locations and loads the missing or expired ones using the loader.
+   * Locations that are not found are not cached.
+   */
+  public CompletableFuture<Result<Collection<Location>>> getLocations(String tenantId,
+    Set<String> locationIds,
+    Function<Set<String>, CompletableFuture<Result<Collection<Location>>>> loader) {
+
+    if (!isEnabled() || tenantId == null) {
+      return loader.apply(locationIds);
+    }
+
+    final long now = System.currentTimeMillis();
+    final Map<String, CachedLocation> tenantLocations = locations.computeIfAbsent(tenantId,
+      key -> new ConcurrentHashMap<>());
+    final List<Location> found = new ArrayList<>();
+    final Set<String> missing = new HashSet<>();
+    final Set<String> stale = new HashSet<>();
+
+    locationIds.stream()
+      .filter(Objects::nonNull)
+      .forEach(id -> {
+        final CachedLocation cachedLocation = tenantLocations.get(id);
+
+        if (cachedLocation == null || cachedLocation.age(now) >= timeToLive) {
+          missing.add(id);
+        } else {
+          found.add(cachedLocation.location());
+          if (refreshAhead > 0 && cachedLocation.age(now) >= refreshAhead) {
+            stale.add(id);
+          }
+        }
+      });
+
+    log.debug("getLocations:: tenant {}: {} cached, {} missing, {} to refresh", tenantId,
+      found.size(), missing.size(), stale.size());
+
+    refresh(tenantId, stale, loader);
+
+    if (missing.isEmpty()) {
+      return ofAsync(found);
+    }
+
+    return loader.apply(missing)
+      .thenApply(r -> r.map(loaded -> {
+        put(tenantId, loaded);
+        found.addAll(loaded);
+        return found;
+      }));
+  }
+
+  private void refresh(String tenantId, Set<String> locationIds,
+    Function<Set<String>, CompletableFuture<Result<Collection<Location>>>> loader) {
+
+    final Set<String> idsToRefresh = locationIds.stream()
+      .filter(id -> refreshing.add(List.of(tenantId, id)))
+      .collect(Collectors.toSet());
+
+    if (idsToRefresh.isEmpty()) {
+      return;
+    }
+
+    log.info("refresh:: refreshing {} locations for tenant {}", idsToRefresh.size(), tenantId);
+
+    loader.apply(idsToRefresh)
+      .whenComplete((result, throwable) -> {
+        if (result != null && result.succeeded()) {
+          put(tenantId, result.value());
+        } else {
+          log.warn("refresh:: failed to refresh locations for tenant {}", tenantId);
+        }
+
+        idsToRefresh.forEach(id -> refreshing.remove(List.of(tenantId, id)));
+      });
+  }
+
+  private void put(String tenantId, Collection<Location> loadedLocations) {
+    final long now = System.currentTimeMillis();
+    final Map<String, CachedLocation> tenantLocations = locations.computeIfAbsent(tenantId,
+      key -> new ConcurrentHashMap<>());
+
+    loadedLocations.stream()
+      .filter(location -> location != null && location.getId() != null)
+      .forEach(location -> tenantLocations.put(location.getId(),
+        new CachedLocation(location, now)));
+  }
+
+  public void invalidate(String tenantId) {
+    locations.remove(tenantId);
+  }
+
+  public void clear() {
+    locations.clear();
+  }
+
+  private record CachedLocation(Location location, long loadedAt) {
+    long age(long now) {
+      return now - loadedAt;
+    }
+  }
+}
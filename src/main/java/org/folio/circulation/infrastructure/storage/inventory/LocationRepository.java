@@ -3,6 +3,9 @@ package org.folio.circulation.infrastructure.storage.inventory;
 import static java.util.Objects.isNull;
 import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.CAMPUS;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.INSTITUTION;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LIBRARY;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.AsynchronousResultBindings.combineAfter;
 import static org.folio.circulation.support.results.Result.ofAsync;
@@ -29,6 +32,7 @@ import org.folio.circulation.domain.Library;
 import org.folio.circulation.domain.Location;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
 import org.folio.circulation.storage.mappers.CampusMapper;
 import org.folio.circulation.storage.mappers.InstitutionMapper;
@@ -44,18 +48,20 @@ import org.folio.circulation.support.results.Result;
 
 public class LocationRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+  private final String tenantId;
   private final CollectionResourceClient locationsStorageClient;
   private final CollectionResourceClient institutionsStorageClient;
   private final CollectionResourceClient campusesStorageClient;
   private final CollectionResourceClient librariesStorageClient;
   private final ServicePointRepository servicePointRepository;
 
-  private LocationRepository(CollectionResourceClient locationsStorageClient,
+  private LocationRepository(String tenantId, CollectionResourceClient locationsStorageClient,
     CollectionResourceClient institutionsStorageClient,
     CollectionResourceClient campusesStorageClient,
     CollectionResourceClient librariesStorageClient,
     ServicePointRepository servicePointRepository) {
 
+    this.tenantId = tenantId;
     this.locationsStorageClient = locationsStorageClient;
     this.institutionsStorageClient = institutionsStorageClient;
     this.campusesStorageClient = campusesStorageClient;
@@ -66,13 +72,13 @@ public class LocationRepository {
   public static LocationRepository using(Clients clients,
     ServicePointRepository servicePointRepository) {
 
-    return new LocationRepository(clients.locationsStorage(),
+    return new LocationRepository(clients.tenantId(), clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
       clients.librariesStorage(), servicePointRepository);
   }
 
   public static LocationRepository using(Clients clients) {
-    return new LocationRepository(clients.locationsStorage(),
+    return new LocationRepository(clients.tenantId(), clients.locationsStorage(),
       clients.institutionsStorage(), clients.campusesStorage(),
       clients.librariesStorage(), new ServicePointRepository(clients));
   }
@@ -129,10 +135,25 @@ public class LocationRepository {
       .thenApply(mapResult(records -> records.toMap(Location::getId)));
   }
 
+  /**
+   * Locations with their institution, campus, library and primary service point,
+   * taken from the {@link LocationCache} when possible.
+   */
   public CompletableFuture<Result<MultipleRecords<Location>>> fetchLocations(
     Set<String> locationIds) {
 
     log.debug("fetchLocations:: parameters locationIds: {}", () -> collectionAsString(locationIds));
+
+    return LocationCache.getInstance()
+      .getLocations(tenantId, locationIds, this::fetchLocationsFromStorage)
+      .thenApply(mapResult(locations -> new MultipleRecords<>(locations, locations.size())));
+  }
+
+  private CompletableFuture<Result<Collection<Location>>> fetchLocationsFromStorage(
+    Set<String> locationIds) {
+
+    log.debug("fetchLocationsFromStorage:: parameters locationIds: {}",
+      () -> collectionAsString(locationIds));
     final FindWithMultipleCqlIndexValues<Location> fetcher
       = findWithMultipleCqlIndexValues(locationsStorageClient, "locations",
       new LocationMapper()::toDomain);
@@ -140,7 +161,9 @@ public class LocationRepository {
     return fetcher.findByIds(locationIds)
       .thenCompose(this::loadLibrariesForLocations)
       .thenCompose(this::loadCampusesForLocations)
-      .thenCompose(this::loadInstitutionsForLocations);
+      .thenCompose(this::loadInstitutionsForLocations)
+      .thenCompose(this::loadPrimaryServicePointsForLocations)
+      .thenApply(mapResult(MultipleRecords::getRecords));
   }
 
   private CompletableFuture<Result<Location>> loadLibrary(Location location) {
@@ -150,9 +173,11 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(librariesStorageClient, "library", response -> succeeded(null))
-      .fetch(location.getLibraryId())
-      .thenApply(mapResult(new LibraryMapper()::toDomain))
+    return ReferenceDataCache.getInstance().getById(tenantId, LIBRARY, location.getLibraryId(),
+        Library::getId, id -> SingleRecordFetcher.json(librariesStorageClient, "library",
+            response -> succeeded(null))
+          .fetch(id)
+          .thenApply(mapResult(new LibraryMapper()::toDomain)))
       .thenApply(mapResult(location::withLibrary));
   }
 
@@ -163,9 +188,11 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(campusesStorageClient, "campus", response -> succeeded(null))
-      .fetch(location.getCampusId())
-      .thenApply(mapResult(new CampusMapper()::toDomain))
+    return ReferenceDataCache.getInstance().getById(tenantId, CAMPUS, location.getCampusId(),
+        Campus::getId, id -> SingleRecordFetcher.json(campusesStorageClient, "campus",
+            response -> succeeded(null))
+          .fetch(id)
+          .thenApply(mapResult(new CampusMapper()::toDomain)))
       .thenApply(mapResult(location::withCampus));
   }
 
@@ -176,9 +203,12 @@ public class LocationRepository {
       return ofAsync(() -> location);
     }
 
-    return SingleRecordFetcher.json(institutionsStorageClient, "institution", response -> succeeded(null))
-      .fetch(location.getInstitutionId())
-      .thenApply(mapResult(new InstitutionMapper()::toDomain))
+    return ReferenceDataCache.getInstance().getById(tenantId, INSTITUTION,
+        location.getInstitutionId(), Institution::getId,
+        id -> SingleRecordFetcher.json(institutionsStorageClient, "institution",
+            response -> succeeded(null))
+          .fetch(id)
+          .thenApply(mapResult(new InstitutionMapper()::toDomain)))
       .thenApply(mapResult(location::withInstitution));
   }
 
@@ -200,9 +230,9 @@ public class LocationRepository {
 
     log.debug("getLibraries:: parameters locations: {}", () -> collectionAsString(locations));
 
-    final var fetcher
-      = findWithMultipleCqlIndexValues(librariesStorageClient, "loclibs",
-        new LibraryMapper()::toDomain);
+    final var fetcher = ReferenceDataCache.getInstance().cachedFinder(tenantId, LIBRARY,
+      Library::getId, findWithMultipleCqlIndexValues(librariesStorageClient, "loclibs",
+        new LibraryMapper()::toDomain));
 
     final Set<String> libraryIds = uniqueSet(locations, Location::getLibraryId);
 
@@ -228,9 +258,9 @@ public class LocationRepository {
 
     log.debug("getCampuses:: parameters locations: {}", () -> collectionAsString(locations));
 
-    final var fetcher
-      = findWithMultipleCqlIndexValues(campusesStorageClient, "loccamps",
-        new CampusMapper()::toDomain);
+    final var fetcher = ReferenceDataCache.getInstance().cachedFinder(tenantId, CAMPUS,
+      Campus::getId, findWithMultipleCqlIndexValues(campusesStorageClient, "loccamps",
+        new CampusMapper()::toDomain));
 
     final Set<String> campusesIds = uniqueSet(locations, Location::getCampusId);
 
@@ -256,9 +286,9 @@ public class LocationRepository {
 
     log.debug("getInstitutions:: parameters locations: {}", () -> collectionAsString(locations));
 
-    final var fetcher
-      = findWithMultipleCqlIndexValues(institutionsStorageClient, "locinsts",
-      new InstitutionMapper()::toDomain);
+    final var fetcher = ReferenceDataCache.getInstance().cachedFinder(tenantId, INSTITUTION,
+      Institution::getId, findWithMultipleCqlIndexValues(institutionsStorageClient, "locinsts",
+        new InstitutionMapper()::toDomain));
 
     final Set<String> institutionsIds = uniqueSet(locations, Location::getInstitutionId);
 
@@ -309,6 +339,21 @@ public class LocationRepository {
     return servicePointRepository.getServicePointById(location.getPrimaryServicePointId());
   }
 
+  private CompletableFuture<Result<MultipleRecords<Location>>> loadPrimaryServicePointsForLocations(
+    Result<MultipleRecords<Location>> multipleRecordsResult) {
+
+    log.debug("loadPrimaryServicePointsForLocations:: parameters multipleRecordsResult: {}",
+      () -> resultAsString(multipleRecordsResult));
+
+    return multipleRecordsResult.combineAfter(
+      locations -> servicePointRepository.findServicePointsByIds(uniqueSet(
+          locations.getRecords(), location -> Objects.toString(location.getPrimaryServicePointId(), null)))
+        .thenApply(mapResult(servicePoints -> new MultipleRecords<>(servicePoints, servicePoints.size())
+          .toMap(ServicePoint::getId))),
+      (locations, servicePoints) -> locations.mapRecords(location -> location.withPrimaryServicePoint(
+        servicePoints.get(Objects.toString(location.getPrimaryServicePointId(), null)))));
+  }
+
   public CompletableFuture<Result<Collection<Location>>> fetchLocationsForServicePoint(
     String servicePointId) {
 
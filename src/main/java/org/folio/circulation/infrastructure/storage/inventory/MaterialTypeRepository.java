@@ -1,6 +1,7 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
 import static java.util.Objects.isNull;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.MATERIAL_TYPE;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
@@ -13,6 +14,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.MaterialType;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.storage.mappers.MaterialTypeMapper;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
@@ -23,9 +25,11 @@ public class MaterialTypeRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private static final String MATERIAL_TYPES = "mtypes";
   private final CollectionResourceClient materialTypesStorageClient;
+  private final String tenantId;
 
   public MaterialTypeRepository(Clients clients) {
     materialTypesStorageClient = clients.materialTypesStorage();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<MaterialType>> getFor(Item item) {
@@ -39,10 +43,11 @@ public class MaterialTypeRepository {
 
     final var mapper = new MaterialTypeMapper();
 
-    return SingleRecordFetcher.json(materialTypesStorageClient, "material types",
-      response -> succeeded(null))
-      .fetch(materialTypeId)
-      .thenApply(r -> r.map(mapper::toDomain));
+    return ReferenceDataCache.getInstance().getById(tenantId, MATERIAL_TYPE, materialTypeId,
+      MaterialType::getId, id -> SingleRecordFetcher.json(materialTypesStorageClient,
+          "material types", response -> succeeded(null))
+        .fetch(id)
+        .thenApply(r -> r.map(mapper::toDomain)));
   }
 
   public CompletableFuture<Result<MultipleRecords<MaterialType>>> getMaterialTypes(
@@ -55,8 +60,9 @@ public class MaterialTypeRepository {
 
     final var materialTypeIds = inventoryRecords.toKeys(Item::getMaterialTypeId);
 
-    final var fetcher
-      = findWithMultipleCqlIndexValues(materialTypesStorageClient, MATERIAL_TYPES, mapper::toDomain);
+    final var fetcher = ReferenceDataCache.getInstance().cachedFinder(tenantId, MATERIAL_TYPE,
+      MaterialType::getId,
+      findWithMultipleCqlIndexValues(materialTypesStorageClient, MATERIAL_TYPES, mapper::toDomain));
 
     return fetcher.findByIds(materialTypeIds);
   }
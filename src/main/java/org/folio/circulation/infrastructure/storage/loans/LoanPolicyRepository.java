@@ -2,6 +2,8 @@ package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
 import static org.folio.circulation.domain.policy.LoanPolicy.unknown;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.FIXED_DUE_DATE_SCHEDULE;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LOAN_POLICY;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -28,12 +30,12 @@ import org.folio.circulation.domain.policy.FixedDueDateSchedules;
 import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.NoFixedDueDateSchedules;
 import org.folio.circulation.infrastructure.storage.CirculationPolicyRepository;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.results.Result;
@@ -45,7 +47,7 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
   private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
 
   public LoanPolicyRepository(Clients clients) {
-    super(clients.loanPoliciesStorage(), clients);
+    super(clients.loanPoliciesStorage(), clients, LOAN_POLICY);
     this.fixedDueDateSchedulesStorageClient = clients.fixedDueDateSchedules();
   }
 
@@ -92,11 +94,8 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       return ofAsync(() -> unknown(null));
     }
 
-    return FetchSingleRecord.<LoanPolicy>forRecord("loan policy")
-      .using(policyStorageClient)
-      .mapTo(LoanPolicy::from)
-      .whenNotFound(succeeded(unknown(loanPolicyId)))
-      .fetch(loanPolicyId);
+    return findPolicyRepresentation(loanPolicyId, "loan policy")
+      .thenApply(mapResult(json -> json == null ? unknown(loanPolicyId) : LoanPolicy.from(json)));
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findLoanPoliciesForLoans(MultipleRecords<Loan> multipleLoans) {
@@ -120,15 +119,8 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<LoanPolicy> fetcher = createLoanPoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(LoanPolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<LoanPolicy> createLoanPoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "loanPolicies",
-      LoanPolicy::from);
+    return findPolicyRepresentations(loansToFetch, "loanPolicies")
+      .thenApply(mapResult(r -> r.mapRecords(LoanPolicy::from).toMap(LoanPolicy::getId)));
   }
 
   @Override
@@ -178,8 +170,10 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
     log.debug("getSchedules:: parameters schedulesIds: {}", () -> collectionAsString(schedulesIds));
 
     final FindWithMultipleCqlIndexValues<FixedDueDateSchedules> fetcher
-      = findWithMultipleCqlIndexValues(fixedDueDateSchedulesStorageClient,
-        "fixedDueDateSchedules", FixedDueDateSchedules::from);
+      = ReferenceDataCache.getInstance().cachedFinder(tenantId, FIXED_DUE_DATE_SCHEDULE,
+        FixedDueDateSchedules::getId, findWithMultipleCqlIndexValues(
+          fixedDueDateSchedulesStorageClient, "fixedDueDateSchedules",
+          FixedDueDateSchedules::from));
 
     return fetcher.findByIds(schedulesIds)
       .thenApply(mapResult(schedules -> schedules.toMap(FixedDueDateSchedules::getId)));
@@ -202,4 +196,11 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
 
     return circulationRulesProcessor.getLoanPolicyAndMatch(rulesExecutionParameters);
   }
+
+  @Override
+  protected CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicyAndMatches(
+    List<RulesExecutionParameters> rulesExecutionParameters) {
+
+    return circulationRulesProcessor.getLoanPolicyAndMatches(rulesExecutionParameters);
+  }
 }
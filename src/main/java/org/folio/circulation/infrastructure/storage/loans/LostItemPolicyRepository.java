@@ -1,7 +1,7 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
-import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LOST_ITEM_FEE_POLICY;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -11,6 +11,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -27,8 +28,6 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
-import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -37,7 +36,7 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   public LostItemPolicyRepository(Clients clients) {
-    super(clients.lostItemPoliciesStorage(), clients);
+    super(clients.lostItemPoliciesStorage(), clients, LOST_ITEM_FEE_POLICY);
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupLostItemPolicy(
@@ -86,15 +85,9 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<LostItemPolicy> fetcher = createLostItemPoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(LostItemPolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<LostItemPolicy> createLostItemPoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "lostItemFeePolicies",
-      LostItemPolicy::from);
+    return findPolicyRepresentations(loansToFetch, "lostItemFeePolicies")
+      .thenApply(mapResult(r -> r.mapRecords(LostItemPolicy::from)
+        .toMap(LostItemPolicy::getId)));
   }
 
   public CompletableFuture<Result<Loan>> findLostItemPolicyForLoan(
@@ -117,11 +110,10 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
       return ofAsync(() -> LostItemPolicy.unknown(null));
     }
 
-    return FetchSingleRecord.<LostItemPolicy>forRecord("lostItemFeePolicies")
-      .using(policyStorageClient)
-      .mapTo(LostItemPolicy::from)
-      .whenNotFound(succeeded(LostItemPolicy.unknown(lostItemPolicyId)))
-      .fetch(lostItemPolicyId);
+    return findPolicyRepresentation(lostItemPolicyId, "lostItemFeePolicies")
+      .thenApply(mapResult(json -> json == null
+        ? LostItemPolicy.unknown(lostItemPolicyId)
+        : LostItemPolicy.from(json)));
   }
 
   @Override
@@ -130,4 +122,11 @@ public class LostItemPolicyRepository extends CirculationPolicyRepository<LostIt
 
     return circulationRulesProcessor.getLostItemPolicyAndMatch(rulesExecutionParameters);
   }
+
+  @Override
+  protected CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicyAndMatches(
+    List<RulesExecutionParameters> rulesExecutionParameters) {
+
+    return circulationRulesProcessor.getLostItemPolicyAndMatches(rulesExecutionParameters);
+  }
 }
@@ -1,7 +1,7 @@
 package org.folio.circulation.infrastructure.storage.loans;
 
 import static java.util.Objects.isNull;
-import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.OVERDUE_FINE_POLICY;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
@@ -11,6 +11,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -27,8 +28,6 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.FetchSingleRecord;
-import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
@@ -36,7 +35,7 @@ import io.vertx.core.json.JsonObject;
 public class OverdueFinePolicyRepository extends CirculationPolicyRepository<OverdueFinePolicy> {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   public OverdueFinePolicyRepository(Clients clients) {
-    super(clients.overdueFinesPoliciesStorage(), clients);
+    super(clients.overdueFinesPoliciesStorage(), clients, OVERDUE_FINE_POLICY);
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupOverdueFinePolicy(
@@ -86,15 +85,9 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
 
-    final FindWithMultipleCqlIndexValues<OverdueFinePolicy> fetcher = createOverdueFinePoliciesFetcher();
-
-    return fetcher.findByIds(loansToFetch)
-      .thenApply(mapResult(r -> r.toMap(OverdueFinePolicy::getId)));
-  }
-
-  private FindWithMultipleCqlIndexValues<OverdueFinePolicy> createOverdueFinePoliciesFetcher() {
-    return findWithMultipleCqlIndexValues(policyStorageClient, "overdueFinePolicies",
-      OverdueFinePolicy::from);
+    return findPolicyRepresentations(loansToFetch, "overdueFinePolicies")
+      .thenApply(mapResult(r -> r.mapRecords(OverdueFinePolicy::from)
+        .toMap(OverdueFinePolicy::getId)));
   }
 
   public CompletableFuture<Result<Loan>> findOverdueFinePolicyForLoan(Result<Loan> loanResult) {
@@ -111,11 +104,10 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
       return ofAsync(() -> OverdueFinePolicy.unknown(null));
     }
 
-    return FetchSingleRecord.<OverdueFinePolicy>forRecord("overdueFinePolicies")
-      .using(policyStorageClient)
-      .mapTo(OverdueFinePolicy::from)
-      .whenNotFound(succeeded(OverdueFinePolicy.unknown(overdueFinePolicyId)))
-      .fetch(overdueFinePolicyId);
+    return findPolicyRepresentation(overdueFinePolicyId, "overdueFinePolicies")
+      .thenApply(mapResult(json -> json == null
+        ? OverdueFinePolicy.unknown(overdueFinePolicyId)
+        : OverdueFinePolicy.from(json)));
   }
 
   @Override
@@ -124,4 +116,11 @@ public class OverdueFinePolicyRepository extends CirculationPolicyRepository<Ove
 
     return circulationRulesProcessor.getOverduePolicyAndMatch(rulesExecutionParameters);
   }
+
+  @Override
+  protected CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicyAndMatches(
+    List<RulesExecutionParameters> rulesExecutionParameters) {
+
+    return circulationRulesProcessor.getOverduePolicyAndMatches(rulesExecutionParameters);
+  }
 }
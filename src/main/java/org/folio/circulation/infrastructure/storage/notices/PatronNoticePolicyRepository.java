@@ -1,5 +1,8 @@
 package org.folio.circulation.infrastructure.storage.notices;
 
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.PATRON_NOTICE_POLICY;
+
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
@@ -23,7 +26,7 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
   private PatronNoticePolicyRepository(
     Clients clients,
     Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
-    super(clients.patronNoticePolicesStorageClient(), clients);
+    super(clients.patronNoticePolicesStorageClient(), clients, PATRON_NOTICE_POLICY);
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
   }
 
@@ -45,4 +48,11 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
 
     return circulationRulesProcessor.getNoticePolicyAndMatch(rulesExecutionParameters);
   }
+
+  @Override
+  protected CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicyAndMatches(
+    List<RulesExecutionParameters> rulesExecutionParameters) {
+
+    return circulationRulesProcessor.getNoticePolicyAndMatches(rulesExecutionParameters);
+  }
 }
@@ -4,6 +4,7 @@ import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.REQUEST_POLICY;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
@@ -29,6 +30,7 @@ import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
 import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.policy.RequestPolicy;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.rules.CirculationRuleCriteria;
 import org.folio.circulation.support.CirculationRulesClient;
 import org.folio.circulation.support.Clients;
@@ -46,10 +48,12 @@ public class RequestPolicyRepository {
 
   private final CirculationRulesClient circulationRequestRulesClient;
   private final CollectionResourceClient requestPoliciesStorageClient;
+  private final String tenantId;
 
   public RequestPolicyRepository(Clients clients) {
     this.circulationRequestRulesClient = clients.circulationRequestRules();
     this.requestPoliciesStorageClient = clients.requestPoliciesStorage();
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<RequestAndRelatedRecords>> lookupRequestPolicy(
@@ -100,23 +104,33 @@ public class RequestPolicyRepository {
       .collect(Collectors.toSet());
   }
 
+  /**
+   * The cached representation is shared by all requests of the tenant, callers get a copy.
+   */
   private CompletableFuture<Result<JsonObject>> lookupRequestPolicy(
     String requestPolicyId) {
 
     log.debug("lookupRequestPolicy:: parameters requestPolicyId: {}", requestPolicyId);
-    return SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
-        response -> failedDueToServerError(format(
-          "Request policy %s could not be found, please check circulation rules", requestPolicyId)))
-      .fetch(requestPolicyId);
+    return ReferenceDataCache.getInstance().getById(tenantId, REQUEST_POLICY, requestPolicyId,
+        json -> json.getString("id"),
+        id -> SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
+          response -> failedDueToServerError(format(
+            "Request policy %s could not be found, please check circulation rules", id)))
+          .fetch(id))
+      .thenApply(r -> r.map(json -> json == null ? null : json.copy()));
   }
 
   private CompletableFuture<Result<Map<RequestPolicy, Set<Item>>>>
   lookupRequestPolicies(Map<String, Set<Item>> requestPolicyIdMap) {
 
-    FindWithMultipleCqlIndexValues<RequestPolicy> finder = findWithMultipleCqlIndexValues(
-      requestPoliciesStorageClient, "requestPolicies", RequestPolicy::from);
+    FindWithMultipleCqlIndexValues<JsonObject> finder = ReferenceDataCache.getInstance()
+      .cachedFinder(tenantId, REQUEST_POLICY, json -> json.getString("id"),
+        findWithMultipleCqlIndexValues(requestPoliciesStorageClient, "requestPolicies",
+          identity()));
 
     return finder.findByIds(requestPolicyIdMap.keySet())
+      .thenApply(r -> r.map(policies -> policies.mapRecords(JsonObject::copy)))
+      .thenApply(r -> r.map(policies -> policies.mapRecords(RequestPolicy::from)))
       .thenApply(r -> r.map(MultipleRecords::getRecords))
       .thenApply(r -> r.map(requestPolicies -> requestPolicies.stream()
         .collect(toMap(identity(), policy -> requestPolicyIdMap.get(policy.getId())))));
@@ -1,5 +1,6 @@
 package org.folio.circulation.infrastructure.storage.users;
 
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.ADDRESS_TYPE;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
@@ -21,6 +22,7 @@ import org.folio.circulation.domain.AddressType;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
@@ -29,9 +31,11 @@ import org.folio.circulation.support.results.Result;
 public class AddressTypeRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient addressTypesStorageClient;
+  private final String tenantId;
 
   public AddressTypeRepository(Clients clients) {
     addressTypesStorageClient = clients.addressTypesStorage();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<AddressType>> getAddressTypeById(String id) {
@@ -41,19 +45,21 @@ public class AddressTypeRepository {
       return ofAsync(() -> null);
     }
 
-    return FetchSingleRecord.<AddressType>forRecord("address type")
-      .using(addressTypesStorageClient)
-      .mapTo(AddressType::fromJson)
-      .whenNotFound(succeeded(null))
-      .fetch(id);
+    return ReferenceDataCache.getInstance().getById(tenantId, ADDRESS_TYPE, id,
+      AddressType::getId, addressTypeId -> FetchSingleRecord.<AddressType>forRecord("address type")
+        .using(addressTypesStorageClient)
+        .mapTo(AddressType::fromJson)
+        .whenNotFound(succeeded(null))
+        .fetch(addressTypeId));
   }
 
   public CompletableFuture<Result<MultipleRecords<AddressType>>> getAddressTypesByIds(
       Collection<String> ids) {
 
     log.debug("getAddressTypesByIds:: parameters ids: {}", () -> collectionAsString(ids));
-    return findWithMultipleCqlIndexValues(addressTypesStorageClient,
-        "addressTypes", AddressType::fromJson)
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, ADDRESS_TYPE,
+        AddressType::getId, findWithMultipleCqlIndexValues(addressTypesStorageClient,
+          "addressTypes", AddressType::fromJson))
       .findByIds(ids);
   }
 
@@ -6,6 +6,7 @@ import org.folio.circulation.domain.Department;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
@@ -20,6 +21,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.DEPARTMENT;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.utils.LogUtil.multipleRecordsAsString;
@@ -28,9 +30,11 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 public class DepartmentRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient departmentClient;
+  private final String tenantId;
 
   public DepartmentRepository(Clients clients) {
     this.departmentClient = clients.departmentClient();
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<User>> findDepartmentsForUser(Result<User> user) {
@@ -81,8 +85,9 @@ public class DepartmentRepository {
   }
 
   private FindWithMultipleCqlIndexValues<Department> createDepartmentsFetcher() {
-    return findWithMultipleCqlIndexValues(departmentClient,
-      "departments", Department::new);
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, DEPARTMENT,
+      Department::getId, findWithMultipleCqlIndexValues(departmentClient,
+        "departments", Department::new));
   }
 
 }
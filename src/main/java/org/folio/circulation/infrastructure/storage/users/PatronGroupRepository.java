@@ -3,6 +3,7 @@ package org.folio.circulation.infrastructure.storage.users;
 import static java.util.Objects.isNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.PatronGroup.unknown;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.PATRON_GROUP;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -30,6 +31,7 @@ import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.PatronGroup;
 import org.folio.circulation.domain.Request;
 import org.folio.circulation.domain.User;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
@@ -39,9 +41,11 @@ import org.folio.circulation.support.results.Result;
 public class PatronGroupRepository {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
   private final CollectionResourceClient patronGroupsStorageClient;
+  private final String tenantId;
 
   public PatronGroupRepository(Clients clients) {
     patronGroupsStorageClient = clients.patronGroupsStorage();
+    tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<Request>> findPatronGroupsForSingleRequestUsers(
@@ -163,11 +167,13 @@ public class PatronGroupRepository {
       return ofAsync(() -> unknown(null));
     }
 
-    return FetchSingleRecord.<PatronGroup>forRecord("patron group")
-      .using(patronGroupsStorageClient)
-      .mapTo(PatronGroup::from)
-      .whenNotFound(succeeded(unknown(groupId)))
-      .fetch(groupId);
+    return ReferenceDataCache.getInstance().getById(tenantId, PATRON_GROUP, groupId,
+        PatronGroup::getId, id -> FetchSingleRecord.<PatronGroup>forRecord("patron group")
+          .using(patronGroupsStorageClient)
+          .mapTo(PatronGroup::from)
+          .whenNotFound(succeeded(null))
+          .fetch(id))
+      .thenApply(mapResult(group -> group == null ? unknown(groupId) : group));
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> findPatronGroupForLoanAndRelatedRecords(
@@ -229,7 +235,8 @@ public class PatronGroupRepository {
   }
 
   private FindWithMultipleCqlIndexValues<PatronGroup> createGroupsFetcher() {
-    return findWithMultipleCqlIndexValues(patronGroupsStorageClient,
-      "usergroups", PatronGroup::from);
+    return ReferenceDataCache.getInstance().cachedFinder(tenantId, PATRON_GROUP,
+      PatronGroup::getId, findWithMultipleCqlIndexValues(patronGroupsStorageClient,
+        "usergroups", PatronGroup::from));
   }
 }
@@ -1,9 +1,12 @@
 package org.folio.circulation.resources;
 
+import static java.lang.String.format;
 import static org.folio.circulation.rules.RulesExecutionParameters.forRequest;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -21,10 +24,12 @@ import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
 import lombok.val;
 
 /**
@@ -38,27 +43,38 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
   public static final String PATRON_TYPE_ID_NAME = "patron_type_id";
   public static final String LOCATION_ID_NAME = "location_id";
   public static final String LOAN_TYPE_ID_NAME = "loan_type_id";
+  public static final String CRITERIA_NAME = "criteria";
+
+  private static final String UUID_REGEX =
+    "^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[1-5][a-fA-F0-9]{3}-[89abAB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}$";
 
   private final String applyPath;
   private final String applyAllPath;
+  private final String applyBatchPath;
 
   private final GetSinglePolicy singlePolicyGetter;
   private final GetAllPolicies allPoliciesGetter;
+  private final GetPoliciesInBatch batchPoliciesGetter;
 
   /**
-   * Create a circulation rules engine that listens at applyPath and applyAllPath.
+   * Create a circulation rules engine that listens at applyPath, applyAllPath and applyBatchPath.
    * @param applyPath  URL path for circulation rules triggering that returns the first match
    * @param applyAllPath  URL path for circulation rules triggering that returns all matches
+   * @param applyBatchPath  URL path for circulation rules triggering that returns the first
+   *                        match for each of many sets of criteria
    * @param client  the HttpClient to use for requests via Okapi
    */
-  AbstractCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client,
-    GetSinglePolicy getSinglePolicy, GetAllPolicies getAllPolicies) {
+  AbstractCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client, GetSinglePolicy getSinglePolicy,
+    GetAllPolicies getAllPolicies, GetPoliciesInBatch getPoliciesInBatch) {
 
     super(client);
     this.applyPath = applyPath;
     this.applyAllPath = applyAllPath;
+    this.applyBatchPath = applyBatchPath;
     this.allPoliciesGetter = getAllPolicies;
     this.singlePolicyGetter = getSinglePolicy;
+    this.batchPoliciesGetter = getPoliciesInBatch;
   }
 
   /**
@@ -69,21 +85,22 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
   public void register(Router router) {
     router.get(applyPath   ).handler(this::apply);
     router.get(applyAllPath).handler(this::applyAll);
+    router.post(applyBatchPath).handler(BodyHandler.create());
+    router.post(applyBatchPath).handler(this::applyBatch);
   }
 
   private boolean invalidUuid(HttpServerRequest request, String paramName) {
     log.debug("invalidUuid:: parameters paramName: {}", paramName);
-    final String regex = "^[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[1-5][a-fA-F0-9]{3}-[89abAB][a-fA-F0-9]{3}-[a-fA-F0-9]{12}$";
     String uuid = request.getParam(paramName);
     if (uuid == null) {
       log.debug("invalidUuid:: {} is null", paramName);
       ClientErrorResponse.badRequest(request.response(), "required query parameter missing: " + paramName);
       return true;
     }
-    if (!uuid.matches(regex)) {
-      log.debug("invalidUuid:: {} does not match the regex {}", uuid, regex);
+    if (!uuid.matches(UUID_REGEX)) {
+      log.debug("invalidUuid:: {} does not match the regex {}", uuid, UUID_REGEX);
       ClientErrorResponse.badRequest(request.response(), "invalid uuid format of " + paramName +
-          ", expecting " + regex + " but it is " + uuid);
+          ", expecting " + UUID_REGEX + " but it is " + uuid);
       return true;
     }
     return false;
@@ -95,15 +112,19 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
 
   private CompletableFuture<Result<JsonObject>> buildJsonResult(CirculationRuleMatch entity) {
     log.debug("buildJsonResult:: parameters entity: {}", entity);
+
+    return CompletableFuture.completedFuture(succeeded(toJson(entity)));
+  }
+
+  private JsonObject toJson(CirculationRuleMatch entity) {
     JsonObject appliedRuleConditions = new JsonObject()
       .put("materialTypeMatch", entity.getAppliedRuleConditions().isItemTypePresent())
       .put("loanTypeMatch", entity.getAppliedRuleConditions().isLoanTypePresent())
       .put("patronGroupMatch", entity.getAppliedRuleConditions().isPatronGroupPresent());
 
-    return CompletableFuture.completedFuture(succeeded(new JsonObject()
+    return new JsonObject()
       .put(getPolicyIdKey(), entity.getPolicyId())
-      .put("appliedRuleConditions", appliedRuleConditions)
-    ));
+      .put("appliedRuleConditions", appliedRuleConditions);
   }
 
   private void applyAll(RoutingContext routingContext) {
@@ -135,6 +156,82 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
       .thenAccept(context::writeResultToHttpResponse);
   }
 
+  private void applyBatch(RoutingContext routingContext) {
+    final List<RulesExecutionParameters> parameters;
+
+    try {
+      parameters = batchParameters(routingContext.body().asJsonObject());
+    } catch (DecodeException | ClassCastException | IllegalArgumentException e) {
+      log.warn("applyBatch:: invalid request body: {}", e.getMessage());
+      ClientErrorResponse.badRequest(routingContext.response(), e.getMessage());
+      return;
+    }
+
+    final WebContext context = new WebContext(routingContext);
+    final Clients clients = Clients.create(context, client);
+
+    batchPoliciesGetter.getPolicies(clients.circulationRulesProcessor(), parameters)
+      .thenApply(r -> r.map(matches -> buildBatchJsonResult(parameters, matches)))
+      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private static List<RulesExecutionParameters> batchParameters(JsonObject body) {
+    if (body == null) {
+      throw new IllegalArgumentException("request body is missing");
+    }
+
+    final JsonArray criteria = body.getJsonArray(CRITERIA_NAME);
+    if (criteria == null) {
+      throw new IllegalArgumentException("required property missing: " + CRITERIA_NAME);
+    }
+
+    final List<RulesExecutionParameters> parameters = new ArrayList<>();
+    for (int i = 0; i < criteria.size(); i++) {
+      final JsonObject criterion = criteria.getJsonObject(i);
+      final String path = format("%s[%d].", CRITERIA_NAME, i);
+
+      parameters.add(new RulesExecutionParameters(
+        validUuid(criterion, LOAN_TYPE_ID_NAME, path),
+        validUuid(criterion, LOCATION_ID_NAME, path),
+        validUuid(criterion, ITEM_TYPE_ID_NAME, path),
+        validUuid(criterion, PATRON_TYPE_ID_NAME, path), null));
+    }
+
+    return parameters;
+  }
+
+  private static String validUuid(JsonObject criterion, String name, String path) {
+    final String uuid = criterion == null ? null : criterion.getString(name);
+
+    if (uuid == null) {
+      throw new IllegalArgumentException("required property missing: " + path + name);
+    }
+    if (!uuid.matches(UUID_REGEX)) {
+      throw new IllegalArgumentException("invalid uuid format of " + path + name +
+        ", expecting " + UUID_REGEX + " but it is " + uuid);
+    }
+
+    return uuid;
+  }
+
+  private JsonObject buildBatchJsonResult(List<RulesExecutionParameters> parameters,
+    List<CirculationRuleMatch> matches) {
+
+    final JsonArray results = new JsonArray();
+    for (int i = 0; i < parameters.size(); i++) {
+      final RulesExecutionParameters criterion = parameters.get(i);
+
+      results.add(toJson(matches.get(i))
+        .put(ITEM_TYPE_ID_NAME, criterion.getMaterialTypeId())
+        .put(LOAN_TYPE_ID_NAME, criterion.getLoanTypeId())
+        .put(PATRON_TYPE_ID_NAME, criterion.getPatronGroupId())
+        .put(LOCATION_ID_NAME, criterion.getLocationId()));
+    }
+
+    return new JsonObject().put("circulationRuleMatches", results);
+  }
+
   private boolean invalidApplyParameters(HttpServerRequest request) {
     return
         invalidUuid(request, ITEM_TYPE_ID_NAME) ||
@@ -156,4 +253,11 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
     CompletableFuture<Result<JsonArray>> getPolicies(
       CirculationRulesProcessor rulesProcessor, RulesExecutionParameters rulesExecutionParameters);
   }
+
+  @FunctionalInterface
+  protected interface GetPoliciesInBatch {
+    CompletableFuture<Result<List<CirculationRuleMatch>>> getPolicies(
+      CirculationRulesProcessor rulesProcessor,
+      List<RulesExecutionParameters> rulesExecutionParameters);
+  }
 }
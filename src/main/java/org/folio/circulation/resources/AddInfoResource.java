@@ -22,6 +22,7 @@ import org.folio.circulation.support.results.Result;
 
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.folio.circulation.domain.LoanAction.PATRON_INFO_ADDED;
 import static org.folio.circulation.domain.LoanAction.STAFF_INFO_ADDED;
@@ -60,6 +61,7 @@ public class AddInfoResource extends Resource {
 
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var itemRepository = new ItemRepository(clients);
     final var userRepository = new UserRepository(clients);
@@ -72,8 +74,8 @@ public class AddInfoResource extends Resource {
       .after(r -> getExistingLoan(loanRepository, r))
       .thenApply(this::toLoanAndRelatedRecords)
       .thenApply(r -> addPatronOrStaffInfo(r, request))
-      .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishInfoAddedEvent));
+      .thenComposeAsync(r -> r.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishInfoAddedEvent), executor);
   }
 
   private Result<AddInfoRequest> createAddInfoRequest(RoutingContext routingContext) {
@@ -14,6 +14,7 @@ import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import java.lang.invoke.MethodHandles;
 import java.time.ZonedDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -76,6 +77,7 @@ public class ChangeDueDateResource extends Resource {
 
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var itemRepository = new ItemRepository(clients);
     final var userRepository = new UserRepository(clients);
@@ -106,18 +108,18 @@ public class ChangeDueDateResource extends Resource {
     final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
     log.info("starting change due date process for loan {}", request.getLoanId());
     return succeeded(request)
-      .after(r -> getExistingLoan(loanRepository, r))
+      .after(r -> getExistingLoan(loanRepository, r, executor))
       .thenApply(LoanValidator::refuseWhenLoanIsClosed)
       .thenApply(this::toLoanAndRelatedRecords)
       .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
-        LoanAndRelatedRecords::withTlrSettings))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+        LoanAndRelatedRecords::withTlrSettings), executor)
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get), executor)
       .thenApply(itemStatusValidator::refuseWhenItemStatusDoesNotAllowDueDateChange)
       .thenCompose(r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository, errorHandler)))
       .thenApply(r -> changeDueDate(r, request))
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(r -> r.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(r -> r.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenApply(r -> r.next(scheduledRemindersService::rescheduleFirstReminder))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice));
@@ -155,13 +157,13 @@ public class ChangeDueDateResource extends Resource {
   }
 
   CompletableFuture<Result<Loan>> getExistingLoan(LoanRepository loanRepository,
-    ChangeDueDateRequest changeDueDateRequest) {
+    ChangeDueDateRequest changeDueDateRequest, Executor executor) {
 
     log.debug("getExistingLoan:: parameters changeDueDateRequest: {}", () -> changeDueDateRequest);
 
     return loanRepository.getById(changeDueDateRequest.getLoanId())
       .thenApplyAsync(r -> r.map(exitingLoan -> exitingLoan.setPreviousDueDate(
-        exitingLoan.getDueDate())));
+        exitingLoan.getDueDate())), executor);
   }
 
   private Result<LoanAndRelatedRecords> changeDueDate(Result<LoanAndRelatedRecords> loanResult,
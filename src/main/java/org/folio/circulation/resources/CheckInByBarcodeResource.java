@@ -5,6 +5,7 @@ import static org.folio.circulation.domain.validation.UserNotFoundValidator.refu
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -51,6 +52,7 @@ public class CheckInByBarcodeResource extends Resource {
     final WebContext context = new WebContext(routingContext);
 
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
@@ -66,7 +68,7 @@ public class CheckInByBarcodeResource extends Resource {
     final var checkInValidators = new CheckInValidators(this::errorWhenInIncorrectStatus);
     final CheckInProcessAdapter processAdapter = CheckInProcessAdapter.newInstance(clients,
       itemRepository, userRepository, loanRepository, requestRepository,
-      new RequestQueueRepository(requestRepository));
+      new RequestQueueRepository(requestRepository), executor);
 
     final RequestScheduledNoticeService requestScheduledNoticeService =
       RequestScheduledNoticeService.using(clients);
@@ -79,54 +81,61 @@ public class CheckInByBarcodeResource extends Resource {
 
     final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
 
-    refuseWhenLoggedInUserNotPresent(context)
+    final Result<CheckInContext> checkInContext = refuseWhenLoggedInUserNotPresent(context)
       .next(notUsed -> checkInRequestResult)
-      .map(CheckInContext::new)
+      .map(CheckInContext::new);
+
+    // the settings do not depend on the item, so they are fetched while the item is
+    final var tlrSettings = checkInContext.after(
+      notUsed -> configurationRepository.lookupTlrSettings());
+    final var timeZone = checkInContext.after(
+      notUsed -> configurationRepository.findTimeZoneConfiguration());
+
+    final var itemCheckIn = checkInContext
       .combineAfter(processAdapter::findItem, (records, item) -> records
         .withItemAndUpdatedLoan(item)
         .withItemStatusBeforeCheckIn(item.getStatus()))
       .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
-      .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
-        CheckInContext::withTlrSettings))
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        CheckInContext::withTimeZone))
+      .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved);
+
+    // the open loan for the item is fetched while the request queue is
+    final var singleOpenLoan = itemCheckIn.thenComposeAsync(
+      r -> r.after(processAdapter::findSingleOpenLoan), executor);
+
+    itemCheckIn
+      .thenComposeAsync(r -> r.combineAfter(() -> tlrSettings,
+        CheckInContext::withTlrSettings), executor)
+      .thenComposeAsync(r -> r.combineAfter(() -> timeZone,
+        CheckInContext::withTimeZone), executor)
       .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
-        processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
-      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+        processAdapter::getRequestQueue, CheckInContext::withRequestQueue), executor)
+      .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenApply(findRequestQueueResult -> findRequestQueueResult.map(
         processAdapter::setInHouseUse))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())), executor)
+      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation), executor)
       .thenComposeAsync(logCheckInResult -> logCheckInResult.combineAfter(
-        processAdapter::findSingleOpenLoan, CheckInContext::withLoan))
+        () -> singleOpenLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(findLoanResult -> findLoanResult.combineAfter(
-        processAdapter::checkInLoan, CheckInContext::withLoan))
+        processAdapter::checkInLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(checkInLoan -> checkInLoan.combineAfter(
-        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
-        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest))
+        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue), executor)
+        .thenComposeAsync(r -> r.after(processAdapter::findFulfillableRequest), executor)
       .thenComposeAsync(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
-        processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan))
+        processAdapter::updateItem, CheckInContext::withItemAndUpdatedLoan), executor)
       .thenApply(handleItemStatus -> handleItemStatus.next(
         requestNoticeSender::sendNoticeOnRequestAwaitingPickup))
+      .thenComposeAsync(updateItemResult -> updateItemResult.after(
+        processAdapter::findServicePointsAndRequester), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getDestinationServicePoint, CheckInContext::withItemAndUpdatedLoan))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::updateLoan, CheckInContext::withLoan))
+        processAdapter::updateLoan, CheckInContext::withLoan), executor)
       .thenComposeAsync(updateItemResult -> updateItemResult.after(
-        patronActionSessionService::saveCheckInSessionRecord))
-      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees))
+        patronActionSessionService::saveCheckInSessionRecord), executor)
+      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees), executor)
       .thenComposeAsync(r -> r.after(
-        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
-      .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)))
+        records -> processAdapter.createOverdueFineIfNecessary(records, context)), executor)
+      .thenComposeAsync(r -> r.after(v -> eventPublisher.publishItemCheckedInEvents(v, userRepository, loanRepository)),
+        executor)
       .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
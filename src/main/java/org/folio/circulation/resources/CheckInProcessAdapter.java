@@ -1,15 +1,22 @@
 package org.folio.circulation.resources;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.AddressType;
 import org.folio.circulation.domain.CheckInContext;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
@@ -21,6 +28,7 @@ import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.ServicePoint;
 import org.folio.circulation.domain.UpdateItem;
 import org.folio.circulation.domain.UpdateRequestQueue;
+import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.schedule.FeeFineScheduledNoticeService;
 import org.folio.circulation.infrastructure.storage.CalendarRepository;
 import org.folio.circulation.infrastructure.storage.ServicePointRepository;
@@ -66,6 +74,7 @@ class CheckInProcessAdapter {
   private final RequestQueueService requestQueueService;
   protected final EventPublisher eventPublisher;
   private final DepartmentRepository departmentRepository;
+  private final Executor executor;
 
   @SuppressWarnings("squid:S00107")
   CheckInProcessAdapter(
@@ -83,7 +92,7 @@ class CheckInProcessAdapter {
     LostItemFeeRefundService lostItemFeeRefundService,
     RequestQueueService requestQueueService,
     EventPublisher eventPublisher,
-    DepartmentRepository departmentRepository) {
+    DepartmentRepository departmentRepository, Executor executor) {
 
     this.itemFinder = itemFinder;
     this.singleOpenLoanFinder = singleOpenLoanFinder;
@@ -102,12 +111,13 @@ class CheckInProcessAdapter {
     this.requestQueueService = requestQueueService;
     this.eventPublisher = eventPublisher;
     this.departmentRepository = departmentRepository;
+    this.executor = executor;
   }
 
   public static CheckInProcessAdapter newInstance(Clients clients,
     ItemRepository itemRepository, UserRepository userRepository,
     LoanRepository loanRepository, RequestRepository requestRepository,
-    RequestQueueRepository requestQueueRepository) {
+    RequestQueueRepository requestQueueRepository, Executor executor) {
 
     final var itemFinder = new ItemByBarcodeInStorageFinder(itemRepository);
 
@@ -143,7 +153,7 @@ class CheckInProcessAdapter {
         userRepository, loanRepository),
       requestQueueService,
       new EventPublisher(clients.pubSubPublishingService()),
-      new DepartmentRepository(clients));
+      new DepartmentRepository(clients), executor);
   }
 
   CompletableFuture<Result<Item>> findItem(CheckInContext context) {
@@ -204,59 +214,90 @@ class CheckInProcessAdapter {
     return loanRepository.updateLoan(context.getLoan());
   }
 
-  CompletableFuture<Result<Item>> getDestinationServicePoint(CheckInContext context) {
-    log.debug("getDestinationServicePoint:: parameters context: {}", () -> context);
-    final Item item = context.getItem();
+  /**
+   * Fetches the destination, check in and pickup service points together, while the
+   * requester and the address type for the request being fulfilled are fetched
+   */
+  CompletableFuture<Result<CheckInContext>> findServicePointsAndRequester(
+    CheckInContext context) {
 
-    if (item.getInTransitDestinationServicePointId() != null) {
-      final UUID inTransitDestinationServicePointId = UUID.fromString(item.getInTransitDestinationServicePointId());
+    log.debug("findServicePointsAndRequester:: parameters context: {}", () -> context);
+    final Request firstRequest = context.getHighestPriorityFulfillableRequest();
 
-      return servicePointRepository.getServicePointById(inTransitDestinationServicePointId)
-        .thenApply(result -> result.map(item::withInTransitDestinationServicePoint));
-    }
+    final var servicePoints = findServicePoints(context, firstRequest);
+    final var requester = getRequester(firstRequest);
+    final var addressType = getAddressType(firstRequest);
 
-    return completedFuture(succeeded(item));
+    return servicePoints.thenCompose(r -> r.after(servicePointsById -> requester
+      .thenCombine(addressType, (requesterResult, addressTypeResult) -> requesterResult
+        .combine(addressTypeResult, (user, type) -> withServicePointsAndRequester(context,
+          firstRequest, servicePointsById, user, type)))));
   }
 
-  CompletableFuture<Result<ServicePoint>> getCheckInServicePoint(CheckInContext context) {
-    log.debug("getCheckInServicePoint:: parameters context: {}", () -> context);
-    return servicePointRepository.getServicePointById(context.getCheckInServicePointId());
-  }
+  private CompletableFuture<Result<Map<String, ServicePoint>>> findServicePoints(
+    CheckInContext context, Request firstRequest) {
 
-  CompletableFuture<Result<Request>> getPickupServicePoint(CheckInContext context) {
-    log.debug("getPickupServicePoint:: parameters context: {}", () -> context);
-    Request firstRequest = context.getHighestPriorityFulfillableRequest();
-    if (firstRequest == null) {
-      log.info("getPickupServicePoint:: firstRequest is null");
-      return completedFuture(succeeded(null));
+    final Set<String> ids = Stream.of(context.getItem().getInTransitDestinationServicePointId(),
+        Objects.toString(context.getCheckInServicePointId(), null),
+        firstRequest == null ? null : firstRequest.getPickupServicePointId())
+      .filter(StringUtils::isNotBlank)
+      .collect(Collectors.toSet());
+
+    if (ids.isEmpty()) {
+      return completedFuture(succeeded(Map.of()));
     }
-    return StringUtils.isNotBlank(firstRequest.getPickupServicePointId())
-      ? servicePointRepository.getServicePointById(UUID.fromString(firstRequest.getPickupServicePointId()))
-      .thenApply(r -> r.map(firstRequest::withPickupServicePoint))
-      : completedFuture(succeeded(firstRequest));
+
+    return servicePointRepository.findServicePointsByIds(ids)
+      .thenApply(r -> r.map(servicePoints -> servicePoints.stream()
+        .collect(Collectors.toMap(ServicePoint::getId, identity(), (first, second) -> first))));
   }
 
-  CompletableFuture<Result<Request>> getRequester(CheckInContext context) {
-    log.debug("getRequester:: parameters context: {}", () -> context);
-    Request firstRequest = context.getHighestPriorityFulfillableRequest();
+  private CompletableFuture<Result<User>> getRequester(Request firstRequest) {
     if (firstRequest == null) {
       log.info("getRequester:: firstRequest is null");
       return completedFuture(succeeded(null));
     }
+
     return userRepository.getUserWithPatronGroup(firstRequest)
-      .thenComposeAsync(departmentRepository::findDepartmentsForUser)
-      .thenApply(r -> r.map(firstRequest::withRequester));
+      .thenComposeAsync(departmentRepository::findDepartmentsForUser, executor);
   }
 
-  CompletableFuture<Result<Request>> getAddressType(CheckInContext context) {
-    log.debug("getAddressType:: parameters context: {}", () -> context);
-    Request firstRequest = context.getHighestPriorityFulfillableRequest();
+  private CompletableFuture<Result<AddressType>> getAddressType(Request firstRequest) {
     if (firstRequest == null) {
       log.info("getAddressType:: firstRequest is null");
       return completedFuture(succeeded(null));
     }
-    return addressTypeRepository.getAddressTypeById(firstRequest.getDeliveryAddressTypeId())
-      .thenApply(r -> r.map(firstRequest::withAddressType));
+
+    return addressTypeRepository.getAddressTypeById(firstRequest.getDeliveryAddressTypeId());
+  }
+
+  private CheckInContext withServicePointsAndRequester(CheckInContext context,
+    Request firstRequest, Map<String, ServicePoint> servicePointsById, User requester,
+    AddressType addressType) {
+
+    final Item item = context.getItem();
+    final String destinationServicePointId = item.getInTransitDestinationServicePointId();
+
+    final CheckInContext withServicePoints = context
+      .withItemAndUpdatedLoan(destinationServicePointId == null ? item
+        : item.withInTransitDestinationServicePoint(
+          servicePointsById.get(destinationServicePointId)))
+      .withCheckInServicePoint(servicePointsById.get(
+        Objects.toString(context.getCheckInServicePointId(), null)));
+
+    if (firstRequest == null) {
+      return withServicePoints;
+    }
+
+    final Request withPickupServicePoint = StringUtils.isNotBlank(
+      firstRequest.getPickupServicePointId())
+      ? firstRequest.withPickupServicePoint(
+        servicePointsById.get(firstRequest.getPickupServicePointId()))
+      : firstRequest;
+
+    return withServicePoints.withHighestPriorityFulfillableRequest(withPickupServicePoint
+      .withRequester(requester)
+      .withAddressType(addressType));
   }
 
   CheckInContext setInHouseUse(CheckInContext checkInContext) {
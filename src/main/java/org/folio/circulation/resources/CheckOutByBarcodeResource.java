@@ -14,26 +14,37 @@ import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.CheckOutLock;
+import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
 import org.folio.circulation.domain.RequestQueue;
 import org.folio.circulation.domain.UpdateRequestQueue;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.configuration.CheckoutLockConfiguration;
+import org.folio.circulation.domain.configuration.TlrSettingsConfiguration;
 import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
 import org.folio.circulation.domain.notice.schedule.ReminderFeeScheduledNoticeService;
 import org.folio.circulation.domain.notice.schedule.RequestScheduledNoticeService;
 import org.folio.circulation.domain.notice.session.PatronActionSessionService;
 import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.library.ClosedLibraryStrategyService;
+import org.folio.circulation.domain.representations.CheckOutByBarcodeBatchRequest;
+import org.folio.circulation.domain.representations.CheckOutByBarcodeBatchResponse;
 import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
 import org.folio.circulation.domain.validation.CheckOutValidators;
 import org.folio.circulation.infrastructure.storage.CheckOutLockRepository;
@@ -57,6 +68,7 @@ import org.folio.circulation.resources.handlers.error.OverridingErrorHandler;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.ValidationErrorFailure;
 import org.folio.circulation.support.http.OkapiPermissions;
 import org.folio.circulation.support.http.server.HttpResponse;
@@ -86,6 +98,8 @@ public class CheckOutByBarcodeResource extends Resource {
       rootPath, router);
 
     routeRegistration.create(this::checkOut);
+
+    new RouteRegistration(rootPath + "/batch", router).create(this::checkOutBatch);
   }
 
   private void checkOut(RoutingContext routingContext) {
@@ -96,8 +110,119 @@ public class CheckOutByBarcodeResource extends Resource {
 
     final Clients clients = Clients.create(context, client);
 
+    final var userRepository = new UserRepository(clients);
+    final var itemRepository = new ItemRepository(clients);
+
+    log.debug("checkOut:: parameters userBarcode: {}, proxyUserBarcode: {}, itemBarcode: {}",
+      request.getUserBarcode(), request.getProxyUserBarcode(), request.getItemBarcode());
+
+    final CheckOutLookups lookups = CheckOutLookups.start(request, userRepository,
+      itemRepository, new ConfigurationRepository(clients), new SettingsRepository(clients));
+
+    OkapiPermissions permissions = OkapiPermissions.from(context.getHeaders());
+    CirculationErrorHandler errorHandler = new OverridingErrorHandler(permissions);
+
+    checkOut(request, lookups, true, errorHandler, userRepository, itemRepository, clients,
+      context, routingContext)
+      .thenApply(r -> createdLoanFrom(r, errorHandler))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  /**
+   * Checks out many items to the same patron. The patron is validated once, then the items
+   * are fetched together and checked out one after another, so that the item limit for
+   * each of them includes the loans created for the items before it. A failure to check
+   * out an item does not stop the others from being checked out.
+   */
+  private void checkOutBatch(RoutingContext routingContext) {
+    final WebContext context = new WebContext(routingContext);
+
+    final Result<CheckOutByBarcodeBatchRequest> batchRequestResult =
+      CheckOutByBarcodeBatchRequest.from(routingContext.getBodyAsJson());
+
+    final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
+
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
+    final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
+    final var configurationRepository = new ConfigurationRepository(clients);
+    final var settingsRepository = new SettingsRepository(clients);
+
+    final OkapiPermissions permissions = OkapiPermissions.from(context.getHeaders());
+
+    batchRequestResult.after(batchRequest -> {
+      log.debug("checkOutBatch:: parameters userBarcode: {}, proxyUserBarcode: {}, " +
+        "itemBarcodes: {}", batchRequest.getUserBarcode(), batchRequest.getProxyUserBarcode(),
+        batchRequest.getItemBarcodes());
+
+      final CheckOutByBarcodeRequest patronRequest = batchRequest.forItem(null);
+      final CheckOutLookups patronLookups = CheckOutLookups.startWithoutItem(patronRequest,
+        userRepository, configurationRepository, settingsRepository);
+      final CirculationErrorHandler patronErrorHandler = new OverridingErrorHandler(permissions);
+      final CheckOutValidators patronValidators = new CheckOutValidators(patronRequest, clients,
+        patronErrorHandler, permissions, loanRepository);
+
+      final var items = itemRepository.fetchByBarcodes(batchRequest.getItemBarcodes());
+
+      return ofAsync(() -> new LoanAndRelatedRecords(patronRequest.toLoan()))
+        .thenApply(patronValidators::refuseCheckOutWhenServicePointIsNotPresent)
+        .thenComposeAsync(r -> lookupAndValidatePatron(r, patronLookups, patronValidators,
+          patronErrorHandler, executor), executor)
+        .thenApply(r -> r.next(patronErrorHandler::failWithValidationErrors))
+        .thenComposeAsync(r -> r.after(records -> items), executor)
+        .thenComposeAsync(r -> r.after(itemsByBarcode -> checkOutItems(batchRequest,
+          patronLookups, itemsByBarcode, permissions, userRepository, itemRepository, clients,
+          context, routingContext)), executor);
+    })
+      .thenApply(r -> r.map(CheckOutByBarcodeBatchResponse::toHttpResponse))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  @SuppressWarnings("squid:S00107")
+  private CompletableFuture<Result<List<JsonObject>>> checkOutItems(
+    CheckOutByBarcodeBatchRequest batchRequest, CheckOutLookups patronLookups,
+    Map<String, Item> itemsByBarcode, OkapiPermissions permissions,
+    UserRepository userRepository, ItemRepository itemRepository, Clients clients,
+    WebContext context, RoutingContext routingContext) {
+
+    final Executor executor = context.getExecutor();
+    final List<JsonObject> checkOuts = new ArrayList<>();
+    CompletableFuture<Void> previousCheckOut = completedFuture(null);
+
+    for (String itemBarcode : batchRequest.getItemBarcodes()) {
+      previousCheckOut = previousCheckOut.thenComposeAsync(ignored -> {
+        // items not in inventory, like circulation items, are looked up one at a time
+        final CompletableFuture<Result<Item>> item = itemsByBarcode.containsKey(itemBarcode)
+          ? completedFuture(succeeded(itemsByBarcode.get(itemBarcode)))
+          : itemRepository.fetchByBarcode(itemBarcode);
+
+        return checkOut(batchRequest.forItem(itemBarcode), patronLookups.withItem(item), false,
+          new OverridingErrorHandler(permissions), userRepository, itemRepository, clients,
+          context, routingContext)
+          .handle((result, throwable) -> throwable == null
+            ? result
+            : Result.<JsonObject>failed(new ServerErrorFailure(throwable)))
+          .thenAccept(result -> checkOuts.add(
+            CheckOutByBarcodeBatchResponse.checkOut(itemBarcode, result)));
+      }, executor);
+    }
+
+    return previousCheckOut.thenApply(ignored -> succeeded(checkOuts));
+  }
+
+  /**
+   * Checks out a single item. When the patron does not need to be validated, because they
+   * have already been for the whole batch, the users are only looked up.
+   */
+  @SuppressWarnings("squid:S00107")
+  private CompletableFuture<Result<JsonObject>> checkOut(CheckOutByBarcodeRequest request,
+    CheckOutLookups lookups, boolean validatePatron, CirculationErrorHandler errorHandler,
+    UserRepository userRepository, ItemRepository itemRepository, Clients clients,
+    WebContext context, RoutingContext routingContext) {
+
+    final Executor executor = context.getExecutor();
+
     final var loanRepository = new LoanRepository(clients, itemRepository, userRepository);
     final var requestRepository = RequestRepository.using(clients, itemRepository,
       userRepository, loanRepository);
@@ -108,15 +233,13 @@ public class CheckOutByBarcodeResource extends Resource {
     final LostItemPolicyRepository lostItemPolicyRepository = new LostItemPolicyRepository(clients);
     final PatronNoticePolicyRepository patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
-    final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
     final ScheduledNoticesRepository scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
     final LoanScheduledNoticeService scheduledNoticeService =
       new LoanScheduledNoticeService(scheduledNoticesRepository, patronNoticePolicyRepository);
     final ReminderFeeScheduledNoticeService reminderFeeScheduledNoticesService =
       new ReminderFeeScheduledNoticeService(clients);
 
-    OkapiPermissions permissions = OkapiPermissions.from(new WebContext(routingContext).getHeaders());
-    CirculationErrorHandler errorHandler = new OverridingErrorHandler(permissions);
+    OkapiPermissions permissions = OkapiPermissions.from(context.getHeaders());
     CheckOutValidators validators = new CheckOutValidators(request, clients, errorHandler,
       permissions, loanRepository);
 
@@ -138,68 +261,81 @@ public class CheckOutByBarcodeResource extends Resource {
 
     AtomicReference<String> checkOutLockId = new AtomicReference<>();
 
-    final SettingsRepository settingsRepository = new SettingsRepository(clients);
-
-    ofAsync(() -> new LoanAndRelatedRecords(request.toLoan()))
+    return ofAsync(() -> new LoanAndRelatedRecords(request.toLoan()))
       .thenApply(validators::refuseCheckOutWhenServicePointIsNotPresent)
-      .thenComposeAsync(r -> lookupUser(request.getUserBarcode(), userRepository, r, errorHandler))
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedManuallyForPatron)
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron)
-      .thenComposeAsync(r -> lookupProxyUser(request.getProxyUserBarcode(), userRepository, r, errorHandler))
-      .thenApply(validators::refuseWhenUserIsInactive)
-      .thenApply(validators::refuseWhenProxyUserIsInactive)
-      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship)
-      .thenComposeAsync(r -> lookupItem(request.getItemBarcode(), itemRepository, r))
+      .thenComposeAsync(r -> validatePatron
+        ? lookupAndValidatePatron(r, lookups, validators, errorHandler, executor)
+        : lookupPatron(r, lookups, errorHandler, executor), executor)
+      .thenComposeAsync(r -> lookupItem(lookups.item(), r), executor)
       .thenApply(validators::refuseWhenItemNotFound)
       .thenApply(validators::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(validators::refuseWhenItemIsNotAllowedForCheckOut)
-      .thenComposeAsync(validators::refuseWhenItemHasOpenLoans)
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
-        LoanAndRelatedRecords::withTlrSettings))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenComposeAsync(validators::refuseWhenItemHasOpenLoans, executor)
+      .thenComposeAsync(r -> r.combineAfter(lookups::tlrSettings,
+        LoanAndRelatedRecords::withTlrSettings), executor)
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get), executor)
       .thenCompose(validators::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)))
-      .thenComposeAsync(validators::refuseWhenItemLimitIsReached)
+      .thenComposeAsync(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)), executor)
+      .thenComposeAsync(validators::refuseWhenItemLimitIsReached, executor)
       .thenCompose(validators::refuseWhenItemIsNotLoanable)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        LoanAndRelatedRecords::withTimeZone))
-      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
+      .thenCompose(r -> r.combineAfter(lookups::timeZone, LoanAndRelatedRecords::withTimeZone))
+      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy), executor)
+      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy), executor)
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
-      .thenComposeAsync(r -> r.after(relatedRecords -> checkOut(relatedRecords, clients)))
+      .thenComposeAsync(r -> r.after(relatedRecords -> checkOut(relatedRecords, clients)), executor)
       .thenApply(r -> r.map(this::checkOutItem))
-      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(settingsRepository,
+      .thenCompose(r -> r.after(l -> acquireLockIfNeededOrFail(lookups.checkOutLockSettings(),
         checkOutLockRepository, l, checkOutLockId, validators, errorHandler)))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
+      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut), executor)
+      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices), executor)
+      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled), executor)
+      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords), executor)
+      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)), executor)
+      .thenComposeAsync(r -> r.after(loanRepository::createLoan), executor)
       .thenComposeAsync(r -> r.after(l -> saveCheckOutSessionRecord(l, patronActionSessionService,
-        errorHandler)))
+        errorHandler)), executor)
       .thenApply(r -> deleteCheckOutLock(r, checkOutLockRepository, checkOutLockId.get()))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
+      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())), executor)
       .thenComposeAsync(r -> r.after(l -> publishItemCheckedOutEvent(l, eventPublisher,
-        userRepository, errorHandler)))
+        userRepository, errorHandler)), executor)
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
       .thenApply(r -> r.next(reminderFeeScheduledNoticesService::scheduleFirstReminder))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
-      .thenApply(r -> r.map(loanRepresentation::extendedLoan))
-      .thenApply(r -> createdLoanFrom(r, errorHandler))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenApply(r -> r.map(loanRepresentation::extendedLoan));
+  }
+
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupAndValidatePatron(
+    Result<LoanAndRelatedRecords> result, CheckOutLookups lookups,
+    CheckOutValidators validators, CirculationErrorHandler errorHandler, Executor executor) {
+
+    return lookupUser(lookups.user(), result, errorHandler)
+      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedManuallyForPatron, executor)
+      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedAutomaticallyForPatron, executor)
+      .thenComposeAsync(r -> lookupProxyUser(lookups.proxyUser(), r, errorHandler), executor)
+      .thenApply(validators::refuseWhenUserIsInactive)
+      .thenApply(validators::refuseWhenProxyUserIsInactive)
+      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship, executor);
+  }
+
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupPatron(
+    Result<LoanAndRelatedRecords> result, CheckOutLookups lookups,
+    CirculationErrorHandler errorHandler, Executor executor) {
+
+    return lookupUser(lookups.user(), result, errorHandler)
+      .thenComposeAsync(r -> lookupProxyUser(lookups.proxyUser(), r, errorHandler), executor);
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> acquireLockIfNeededOrFail(
-    SettingsRepository settingsRepository, CheckOutLockRepository checkOutLockRepository,
+    CompletableFuture<Result<CheckoutLockConfiguration>> checkOutLockSettings,
+    CheckOutLockRepository checkOutLockRepository,
     LoanAndRelatedRecords loanAndRelatedRecords, AtomicReference<String> checkOutLockId,
     CheckOutValidators validators, CirculationErrorHandler errorHandler) {
 
     log.debug("acquireLockIfNeededOrFail:: parameters loanAndRelatedRecords: {}",
       () -> loanAndRelatedRecords);
 
-    return settingsRepository.lookUpCheckOutLockSettings()
+    return checkOutLockSettings
       .thenApply(cr -> succeeded(loanAndRelatedRecords).combine(cr,
         LoanAndRelatedRecords::withCheckoutLockConfiguration))
       .thenCompose(r -> r.after(records -> this.acquireLock(records, checkOutLockRepository,
@@ -316,34 +452,28 @@ public class CheckOutByBarcodeResource extends Resource {
     return String.format("/circulation/loans/%s", id);
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(
+    CompletableFuture<Result<User>> user, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    log.debug("lookupUser:: parameters barcode: {}", barcode);
-
-    return userRepository.getUserByBarcode(barcode)
+    return user
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withRequestingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_USER, loanResult));
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(
+    CompletableFuture<Result<User>> proxyUser, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    log.debug("lookupProxyUser:: parameters barcode: {}", barcode);
-
-    return userRepository.getProxyUserByBarcode(barcode)
+    return proxyUser
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withProxyingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_PROXY_USER, loanResult));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> lookupItem(
-    String barcode, ItemRepository itemRepository, Result<LoanAndRelatedRecords> loanResult) {
-
-    log.debug("lookupItem:: parameters barcode: {}", barcode);
+    CompletableFuture<Result<Item>> item, Result<LoanAndRelatedRecords> loanResult) {
 
-    return itemRepository.fetchByBarcode(barcode)
+    return item
       .thenApply(itemResult -> loanResult.combine(itemResult, LoanAndRelatedRecords::withItem));
   }
 
@@ -390,4 +520,45 @@ public class CheckOutByBarcodeResource extends Resource {
       .map(loan::changeDueDate)
       .map(loanAndRelatedRecords::withLoan);
   }
+
+  /**
+   * Lookups that only depend on the check out request, all started before the first of
+   * them is needed, so that they are made at the same time rather than one after another.
+   * Their results are still used, and their failures handled, in the same order as when
+   * they were made one after another.
+   */
+  private record CheckOutLookups(
+    CompletableFuture<Result<User>> user,
+    CompletableFuture<Result<User>> proxyUser,
+    CompletableFuture<Result<Item>> item,
+    CompletableFuture<Result<TlrSettingsConfiguration>> tlrSettings,
+    CompletableFuture<Result<ZoneId>> timeZone,
+    CompletableFuture<Result<CheckoutLockConfiguration>> checkOutLockSettings) {
+
+    private static CheckOutLookups start(CheckOutByBarcodeRequest request,
+      UserRepository userRepository, ItemRepository itemRepository,
+      ConfigurationRepository configurationRepository, SettingsRepository settingsRepository) {
+
+      return startWithoutItem(request, userRepository, configurationRepository,
+        settingsRepository).withItem(itemRepository.fetchByBarcode(request.getItemBarcode()));
+    }
+
+    private static CheckOutLookups startWithoutItem(CheckOutByBarcodeRequest request,
+      UserRepository userRepository, ConfigurationRepository configurationRepository,
+      SettingsRepository settingsRepository) {
+
+      return new CheckOutLookups(
+        userRepository.getUserByBarcode(request.getUserBarcode()),
+        userRepository.getProxyUserByBarcode(request.getProxyUserBarcode()),
+        null,
+        configurationRepository.lookupTlrSettings(),
+        configurationRepository.findTimeZoneConfiguration(),
+        settingsRepository.lookUpCheckOutLockSettings());
+    }
+
+    private CheckOutLookups withItem(CompletableFuture<Result<Item>> item) {
+      return new CheckOutLookups(user, proxyUser, item, tlrSettings, timeZone,
+        checkOutLockSettings);
+    }
+  }
 }
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.antlr.v4.runtime.Token;
@@ -99,7 +100,7 @@ public class CirculationRulesResource extends Resource {
               ForwardResponse.forward(routingContext.response(), response);
               return;
             }
-            JsonObject circulationRules = new JsonObject(response.getBody());
+            JsonObject circulationRules = new JsonObject(response.getBodyAsBuffer());
             context.write(ok(circulationRules));
           }
           catch (Exception e) {
@@ -111,7 +112,8 @@ public class CirculationRulesResource extends Resource {
   //Cannot combine exception catching as cannot resolve overloaded method for error
   @SuppressWarnings("squid:S2147")
   private void put(RoutingContext routingContext) {
-    final Clients clients = Clients.create(new WebContext(routingContext), client);
+    final WebContext context = new WebContext(routingContext);
+    final Clients clients = Clients.create(context, client);
     CollectionResourceClient loansRulesClient = clients.circulationRulesStorage();
 
     if (loansRulesClient == null) {
@@ -121,7 +123,7 @@ public class CirculationRulesResource extends Resource {
       return;
     }
 
-    getPolicyIdsByType(clients)
+    getPolicyIdsByType(clients, context.getExecutor())
       .thenAccept(result -> proceedWithUpdate(result.value(), routingContext, clients));
   }
 
@@ -187,7 +189,9 @@ public class CirculationRulesResource extends Resource {
             .getChild(POLICY_ID_POSITION_NUMBER).getText());
   }
 
-  private CompletableFuture<Result<Map<String, Set<String>>>> getPolicyIdsByType(Clients clients) {
+  private CompletableFuture<Result<Map<String, Set<String>>>> getPolicyIdsByType(Clients clients,
+    Executor executor) {
+
     CollectionResourceClient loanPolicyClient = clients.loanPoliciesStorage();
     CollectionResourceClient noticePolicyClient = clients.patronNoticePolicesStorageClient();
     CollectionResourceClient requestPolicyClient = clients.requestPoliciesStorage();
@@ -198,19 +202,19 @@ public class CirculationRulesResource extends Resource {
     return Result.ofAsync(() -> ids)
       .thenCombineAsync(
         getPolicyIdsByType(loanPolicyClient, "loanPolicies", "l"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap), executor)
       .thenCombineAsync(
         getPolicyIdsByType(noticePolicyClient, "patronNoticePolicies", "n"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap), executor)
       .thenCombineAsync(
         getPolicyIdsByType(requestPolicyClient, "requestPolicies", "r"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap), executor)
       .thenCombineAsync(
         getPolicyIdsByType(overdueFinePolicyClient, "overdueFinePolicies", "o"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap), executor)
       .thenCombineAsync(
         getPolicyIdsByType(lostItemFeePolicyClient, "lostItemFeePolicies", "i"),
-        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap));
+        (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap), executor);
   }
 
   private Map<String, Set<String>> getTotalMap(Map<String, Set<String>> totalMap,
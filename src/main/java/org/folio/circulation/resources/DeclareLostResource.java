@@ -10,6 +10,7 @@ import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
@@ -59,11 +60,12 @@ public class DeclareLostResource extends Resource {
     final WebContext context = new WebContext(routingContext);
 
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
     final EventPublisher eventPublisher = new EventPublisher(routingContext);
 
     validateDeclaredLostRequest(routingContext)
       .after(request -> declareItemLost(request, clients, context))
-      .thenComposeAsync(r -> r.after(loan -> publishEvent(loan, eventPublisher)))
+      .thenComposeAsync(r -> r.after(loan -> publishEvent(loan, eventPublisher)), executor)
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
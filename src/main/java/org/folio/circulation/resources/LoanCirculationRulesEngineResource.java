@@ -10,10 +10,13 @@ import io.vertx.core.http.HttpClient;
  */
 public class LoanCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public LoanCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
-    super(applyPath, applyAllPath, client,
+  public LoanCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client) {
+
+    super(applyPath, applyAllPath, applyBatchPath, client,
       CirculationRulesProcessor::getLoanPolicyAndMatch,
-      CirculationRulesProcessor::getLoanPolicies);
+      CirculationRulesProcessor::getLoanPolicies,
+      CirculationRulesProcessor::getLoanPolicyAndMatches);
   }
 
   @Override
@@ -12,6 +12,7 @@ import static org.folio.circulation.support.utils.LogUtil.resultAsString;
 
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -74,6 +75,7 @@ public class LoanCollectionResource extends CollectionResource {
     final Loan loan = Loan.from(incomingRepresentation);
 
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var itemRepository = new ItemRepository(clients);
     final var userRepository = new UserRepository(clients);
@@ -118,21 +120,21 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenNotOpenOrClosed)
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem, executor)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenApply(alreadyCheckedOutValidator::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(itemStatusValidator::refuseWhenItemIsMissing)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue)
-      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
+      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid), executor)
+      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue, executor)
+      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser, executor)
       .thenCompose(requestedByAnotherPatronValidator::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices))
-      .thenComposeAsync(r -> r.after(updateItem::onLoanCreated))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy), executor)
+      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut), executor)
+      .thenComposeAsync(r -> r.after(requestScheduledNoticeService::rescheduleRequestNotices), executor)
+      .thenComposeAsync(r -> r.after(updateItem::onLoanCreated), executor)
+      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled), executor)
+      .thenComposeAsync(r -> r.after(loanRepository::createLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::created))
@@ -150,6 +152,7 @@ public class LoanCollectionResource extends CollectionResource {
     final Loan loan = Loan.from(incomingRepresentation);
 
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
     final var itemRepository = new ItemRepository(clients);
     final var userRepository = new UserRepository(clients);
     final var loanRepository = new LoanRepository(clients,
@@ -185,28 +188,28 @@ public class LoanCollectionResource extends CollectionResource {
 
     final LoanNoticeSender loanNoticeSender = LoanNoticeSender.using(clients, loanRepository);
 
-    getExistingLoan(loanRepository , loan)
+    getExistingLoan(loanRepository, loan, executor)
       .thenApply(e -> e.map(existingLoan -> new LoanAndRelatedRecords(loan, existingLoan)))
       .thenCompose(larrResult -> getServicePointsForLoanAndRelated(larrResult, servicePointRepository))
       .thenApply(this::refuseWhenNotOpenOrClosed)
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
       .thenApply(this::refuseWhenClosedAndNoCheckInServicePointId)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem, executor)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenCompose(changeDueDateValidator::refuseChangeDueDateForItemInDisallowedStatus)
-      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser)
+      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser, executor)
       .thenCompose(r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository)))
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue)
+      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid), executor)
+      .thenCombineAsync(requestQueueRepository.getByItemId(loan.getItemId()), this::addRequestQueue, executor)
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn))
-      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate))
+      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn), executor)
+      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate), executor)
       // Loan must be updated after item
       // due to snapshot of item status stored with the loan
       // as this is how the loan action history is populated
-      .thenComposeAsync(result -> result.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenComposeAsync(result -> result.after(loanRepository::updateLoan), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenApply(r -> r.next(scheduledRemindersService::rescheduleFirstReminder))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice))
@@ -218,6 +221,7 @@ public class LoanCollectionResource extends CollectionResource {
   void get(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var userRepository = new UserRepository(clients);
     final var loanRepository = new LoanRepository(clients,
@@ -233,13 +237,13 @@ public class LoanCollectionResource extends CollectionResource {
     String id = routingContext.request().getParam("id");
 
     loanRepository.getById(id)
-      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan)
-      .thenComposeAsync(servicePointRepository::findServicePointsForLoan)
-      .thenComposeAsync(userRepository::findUserForLoan)
-      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan)
-      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
-      .thenComposeAsync(patronGroupRepository::findGroupForLoan)
+      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan, executor)
+      .thenComposeAsync(servicePointRepository::findServicePointsForLoan, executor)
+      .thenComposeAsync(userRepository::findUserForLoan, executor)
+      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan, executor)
+      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan, executor)
+      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan, executor)
+      .thenComposeAsync(patronGroupRepository::findGroupForLoan, executor)
       .thenApply(loanResult -> loanResult.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -400,7 +404,9 @@ public class LoanCollectionResource extends CollectionResource {
     return singleValidationError(message, ITEM_ID, item.getItemId());
   }
 
-  CompletableFuture<Result<Loan>> getExistingLoan(LoanRepository loanRepository, Loan loan) {
+  CompletableFuture<Result<Loan>> getExistingLoan(LoanRepository loanRepository, Loan loan,
+    Executor executor) {
+
     log.debug("getExistingLoan:: parameters loan: {}", loan);
 
     return loanRepository.getById(loan.getId())
@@ -408,7 +414,7 @@ public class LoanCollectionResource extends CollectionResource {
         exitingLoan.setPreviousDueDate(exitingLoan.getDueDate());
         loan.setPreviousDueDate(exitingLoan.getDueDate());
         return exitingLoan;
-      }));
+      }), executor);
   }
 
   private LoanAndRelatedRecords unsetDueDateChangedByRecallIfNoOpenRecallsInQueue(
@@ -6,10 +6,13 @@ import io.vertx.core.http.HttpClient;
 
 public class LostItemCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public LostItemCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
-    super(applyPath, applyAllPath, client,
+  public LostItemCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client) {
+
+    super(applyPath, applyAllPath, applyBatchPath, client,
       CirculationRulesProcessor::getLostItemPolicyAndMatch,
-      CirculationRulesProcessor::getLostItemPolicies);
+      CirculationRulesProcessor::getLostItemPolicies,
+      CirculationRulesProcessor::getLostItemPolicyAndMatches);
   }
 
   @Override
@@ -0,0 +1,32 @@
+package org.folio.circulation.resources;
+
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
+import org.folio.circulation.rules.cache.CirculationRulesMetrics;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.client.DeduplicatingOkapiHttpClient;
+import org.folio.circulation.support.metrics.MetricsWriter;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Metrics of the module in the Prometheus text format. Like the health check, this is
+ * meant to be scraped from the module directly rather than through Okapi.
+ */
+public class MetricsResource {
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration("/admin/metrics", router);
+    routeRegistration.getMany(this::getMetrics);
+  }
+
+  private void getMetrics(RoutingContext routingContext) {
+    final MetricsWriter writer = new MetricsWriter();
+    CirculationRulesMetrics.getInstance().write(writer);
+    ReferenceDataCache.getInstance().write(writer);
+    DeduplicatingOkapiHttpClient.write(writer);
+
+    routingContext.response()
+      .putHeader("content-type", MetricsWriter.CONTENT_TYPE)
+      .end(writer.toString());
+  }
+}
@@ -10,10 +10,13 @@ import io.vertx.core.http.HttpClient;
  */
 public class NoticeCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public NoticeCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
-    super(applyPath, applyAllPath, client,
+  public NoticeCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client) {
+
+    super(applyPath, applyAllPath, applyBatchPath, client,
       CirculationRulesProcessor::getNoticePolicyAndMatch,
-      CirculationRulesProcessor::getNoticePolicies);
+      CirculationRulesProcessor::getNoticePolicies,
+      CirculationRulesProcessor::getNoticePolicyAndMatches);
   }
 
   @Override
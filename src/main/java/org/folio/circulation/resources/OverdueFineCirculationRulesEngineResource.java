@@ -7,10 +7,13 @@ import io.vertx.core.http.HttpClient;
 
 public class OverdueFineCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public OverdueFineCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
-    super(applyPath, applyAllPath, client,
+  public OverdueFineCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client) {
+
+    super(applyPath, applyAllPath, applyBatchPath, client,
       CirculationRulesProcessor::getOverduePolicyAndMatch,
-      CirculationRulesProcessor::getOverduePolicies);
+      CirculationRulesProcessor::getOverduePolicies,
+      CirculationRulesProcessor::getOverduePolicyAndMatches);
   }
 
   @Override
@@ -39,6 +39,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -123,7 +124,7 @@ public class RequestByInstanceIdResource extends Resource {
 
     new ConfigurationRepository(clients).lookupTlrSettings()
       .thenCompose(r -> r.after(config -> buildAndPlaceRequests(clients, eventPublisher,
-        repositories, itemFinder, config, requestBody)))
+        repositories, itemFinder, config, requestBody, context.getExecutor())))
       .thenApply(r -> r.map(RequestAndRelatedRecords::getRequest))
       .thenApply(r -> r.map(new RequestRepresentation()::extendedRepresentation))
       .thenApply(r -> r.map(JsonHttpResponse::created))
@@ -239,11 +240,12 @@ public class RequestByInstanceIdResource extends Resource {
 
   private CompletableFuture<Result<RequestAndRelatedRecords>> buildAndPlaceRequests(
     Clients clients, EventPublisher eventPublisher, RequestRelatedRepositories repositories,
-    ItemByInstanceIdFinder itemFinder, TlrSettingsConfiguration tlrConfig, JsonObject requestBody) {
+    ItemByInstanceIdFinder itemFinder, TlrSettingsConfiguration tlrConfig, JsonObject requestBody,
+    Executor executor) {
 
     return buildRequests(requestBody, tlrConfig, itemFinder, repositories)
       .thenCompose(r -> r.after(requests -> placeRequests(clients, eventPublisher, repositories,
-        itemFinder, requests)));
+        itemFinder, requests, executor)));
   }
 
   private CompletableFuture<Result<List<JsonObject>>> buildRequests(
@@ -284,7 +286,8 @@ public class RequestByInstanceIdResource extends Resource {
 
   private CompletableFuture<Result<RequestAndRelatedRecords>> placeRequests(
     Clients clients, EventPublisher eventPublisher, RequestRelatedRepositories repositories,
-    ItemByInstanceIdFinder itemFinder, List<JsonObject> requestRepresentations) {
+    ItemByInstanceIdFinder itemFinder, List<JsonObject> requestRepresentations,
+    Executor executor) {
 
     final var itemRepository = repositories.getItemRepository();
     final var loanRepository = repositories.getLoanRepository();
@@ -304,12 +307,13 @@ public class RequestByInstanceIdResource extends Resource {
       new FailFastErrorHandler());
 
     return placeRequest(requestRepresentations, 0, createRequestService,
-      clients, new HashSet<>(), repositories);
+      clients, new HashSet<>(), repositories, executor);
   }
 
   private CompletableFuture<Result<RequestAndRelatedRecords>> placeRequest(
     List<JsonObject> itemRequests, int startIndex, CreateRequestService createRequestService,
-    Clients clients, Set<ValidationError> errors, RequestRelatedRepositories repositories) {
+    Clients clients, Set<ValidationError> errors, RequestRelatedRepositories repositories,
+    Executor executor) {
 
     log.debug("RequestByInstanceIdResource.placeRequest, startIndex: {}, itemRequestSize: {}",
       startIndex, itemRequests.size());
@@ -329,7 +333,7 @@ public class RequestByInstanceIdResource extends Resource {
         new ServicePointPickupLocationValidator(),
         new FailFastErrorHandler(),
         new ItemByInstanceIdFinder(clients.holdingsStorage(), repositories.getItemRepository()),
-        ItemForTlrService.using(repositories));
+        ItemForTlrService.using(repositories), executor);
 
     return requestFromRepresentationService.getRequestFrom(currentItemRequest)
       .thenCompose(r -> r.after(createRequestService::createRequest))
@@ -346,7 +350,7 @@ public class RequestByInstanceIdResource extends Resource {
               currentItemRequest.getString(ITEM_ID), failure);
 
             return placeRequest(itemRequests, startIndex +1,
-              createRequestService, clients, errors, repositories);
+              createRequestService, clients, errors, repositories, executor);
           }
         });
   }
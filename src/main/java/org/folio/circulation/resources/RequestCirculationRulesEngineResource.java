@@ -10,10 +10,13 @@ import io.vertx.core.http.HttpClient;
  */
 public class RequestCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public RequestCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
-    super(applyPath, applyAllPath, client,
+  public RequestCirculationRulesEngineResource(String applyPath, String applyAllPath,
+    String applyBatchPath, HttpClient client) {
+
+    super(applyPath, applyAllPath, applyBatchPath, client,
       CirculationRulesProcessor::getRequestPolicyAndMatch,
-      CirculationRulesProcessor::getRequestPolicies);
+      CirculationRulesProcessor::getRequestPolicies,
+      CirculationRulesProcessor::getRequestPolicyAndMatches);
   }
 
   @Override
@@ -106,7 +106,7 @@ public class RequestCollectionResource extends CollectionResource {
       createProxyRelationshipValidator(representation, clients),
       new ServicePointPickupLocationValidator(), errorHandler,
       new ItemByInstanceIdFinder(clients.holdingsStorage(), itemRepository),
-      ItemForTlrService.using(repositories));
+      ItemForTlrService.using(repositories), context.getExecutor());
 
     final var scheduledNoticeService = RequestScheduledNoticeService.using(clients);
 
@@ -162,7 +162,7 @@ public class RequestCollectionResource extends CollectionResource {
       Request.Operation.REPLACE, repositories, createProxyRelationshipValidator(representation, clients),
       new ServicePointPickupLocationValidator(), errorHandler,
       new ItemByInstanceIdFinder(clients.holdingsStorage(), itemRepository),
-      ItemForTlrService.using(repositories));
+      ItemForTlrService.using(repositories), context.getExecutor());
 
     final var requestScheduledNoticeService = RequestScheduledNoticeService.using(clients);
 
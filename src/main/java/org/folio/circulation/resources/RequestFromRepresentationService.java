@@ -45,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -101,12 +102,13 @@ class RequestFromRepresentationService {
   private final CirculationErrorHandler errorHandler;
   private final ItemByInstanceIdFinder itemByInstanceIdFinder;
   private final ItemForTlrService itemForTlrService;
+  private final Executor executor;
 
   public RequestFromRepresentationService(Request.Operation operation,
     RequestRelatedRepositories repositories, ProxyRelationshipValidator proxyRelationshipValidator,
     ServicePointPickupLocationValidator pickupLocationValidator,
     CirculationErrorHandler errorHandler, ItemByInstanceIdFinder itemByInstanceIdFinder,
-    ItemForTlrService itemForTlrService) {
+    ItemForTlrService itemForTlrService, Executor executor) {
 
     this.operation = operation;
 
@@ -125,6 +127,7 @@ class RequestFromRepresentationService {
     this.errorHandler = errorHandler;
     this.itemByInstanceIdFinder = itemByInstanceIdFinder;
     this.itemForTlrService = itemForTlrService;
+    this.executor = executor;
   }
 
   CompletableFuture<Result<RequestAndRelatedRecords>> getRequestFrom(JsonObject representation) {
@@ -145,19 +148,20 @@ class RequestFromRepresentationService {
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         Request::truncateRequestExpirationDateToTheEndOfTheDay))
       .thenComposeAsync(r -> r.after(when(
-        this::shouldFetchInstance, this::fetchInstance, req -> ofAsync(() -> req))))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getUser, Request::withRequester))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy))
+        this::shouldFetchInstance, this::fetchInstance, req -> ofAsync(() -> req))), executor)
+      .thenComposeAsync(r -> r.combineAfter(userRepository::getUser, Request::withRequester), executor)
+      .thenComposeAsync(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy), executor)
       .thenComposeAsync(r -> r.after(when(
-        this::shouldFetchInstanceItems, this::findInstanceItemsAndPolicies, req -> ofAsync(() -> req))))
+        this::shouldFetchInstanceItems, this::findInstanceItemsAndPolicies, req -> ofAsync(() -> req))),
+        executor)
       .thenComposeAsync(r -> r.combineAfter(servicePointRepository::getServicePointForRequest,
-        Request::withPickupServicePoint))
+        Request::withPickupServicePoint), executor)
       .thenApply(r -> r.map(RequestAndRelatedRecords::new))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenComposeAsync(r -> r.after(requestQueueRepository::get), executor)
       .thenComposeAsync(r -> r.after(when(
-        this::shouldFetchItemAndLoan, this::fetchItemAndLoan, records -> ofAsync(() -> records))))
+        this::shouldFetchItemAndLoan, this::fetchItemAndLoan, records -> ofAsync(() -> records))), executor)
       .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid)
-        .thenApply(res -> errorHandler.handleValidationResult(res, INVALID_PROXY_RELATIONSHIP, r)))
+        .thenApply(res -> errorHandler.handleValidationResult(res, INVALID_PROXY_RELATIONSHIP, r)), executor)
       .thenApply(r -> r.next(pickupLocationValidator::refuseInvalidPickupServicePoint)
         .mapFailure(err -> errorHandler.handleValidationError(err, INVALID_PICKUP_SERVICE_POINT, r)));
   }
@@ -332,11 +336,11 @@ class RequestFromRepresentationService {
       //take the loan that has been recalled the least times
       .thenComposeAsync(r -> r.after(when(loan -> shouldLookForTheLeastRecalledLoan(loan,
         recalledLoansIds), ignored -> ofAsync(requestQueue::getTheLeastRecalledLoan),
-        result -> ofAsync(() -> result))))
+        result -> ofAsync(() -> result))), executor)
       .thenApply(resultLoan -> resultLoan.map(request::withLoan))
       .thenCompose(r -> r.after(this::findItemForRecall))
       .thenComposeAsync(requestResult -> requestResult.combineAfter(
-        this::getUserForExistingLoan, this::addUserToLoan))
+        this::getUserForExistingLoan, this::addUserToLoan), executor)
       .thenApply(r -> errorHandler.handleValidationResult(r, INSTANCE_DOES_NOT_EXIST, request));
   }
 
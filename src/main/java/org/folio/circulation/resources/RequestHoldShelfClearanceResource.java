@@ -5,6 +5,7 @@ import static org.folio.circulation.domain.RequestStatus.CLOSED_CANCELLED;
 import static org.folio.circulation.domain.RequestStatus.CLOSED_PICKUP_EXPIRED;
 import static org.folio.circulation.domain.RequestStatus.OPEN_AWAITING_PICKUP;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allResultsOf;
 import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
@@ -18,6 +19,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -90,6 +92,7 @@ public class RequestHoldShelfClearanceResource extends Resource {
   private void getMany(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final ItemRepository itemRepository = new ItemRepository(clients);
     final GetManyRecordsClient requestsStorage = clients.requestsStorage();
@@ -98,12 +101,12 @@ public class RequestHoldShelfClearanceResource extends Resource {
     final String servicePointId = routingContext.request().getParam(SERVICE_POINT_ID_PARAM);
 
     itemReportRepository.getAllItemsByField(STATUS_NAME_KEY, AWAITING_PICKUP.getValue())
-      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList))
-      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds))
-      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()))
-      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
+      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList), executor)
+      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds), executor)
+      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()), executor)
+      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()), executor)
       .thenApply(r -> findExpiredOrCancelledRequestByServicePoint(servicePointId, r.value()))
-      .thenCompose(r -> fetchItemToRequest(r, itemRepository))
+      .thenCompose(r -> fetchItemToRequest(r, itemRepository, executor))
       .thenApply(this::mapResultToJson)
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -142,27 +145,23 @@ public class RequestHoldShelfClearanceResource extends Resource {
 
     log.debug("findAwaitingPickupRequestsByItemsIds:: parameters batchItemIds: {}",
       () -> listAsString(batchItemIds));
-    List<Result<MultipleRecords<Request>>> awaitingPickupRequests = findAwaitingPickupRequests(client, batchItemIds);
-
-    return CompletableFuture.completedFuture(Result.succeeded(
-      createHoldShelfClearanceRequestContext(batchItemIds, awaitingPickupRequests)));
+    return findAwaitingPickupRequests(client, batchItemIds)
+      .thenApply(awaitingPickupRequests -> Result.succeeded(
+        createHoldShelfClearanceRequestContext(batchItemIds, awaitingPickupRequests)));
   }
 
-  private List<Result<MultipleRecords<Request>>> findAwaitingPickupRequests(
+  private CompletableFuture<List<Result<MultipleRecords<Request>>>> findAwaitingPickupRequests(
     GetManyRecordsClient client, List<List<String>> batchItemIds) {
 
-    return batchItemIds.stream()
-      .map(batch -> {
-        final Result<CqlQuery> statusQuery = exactMatch(STATUS_KEY, OPEN_AWAITING_PICKUP.getValue());
-        final Result<CqlQuery> itemIdsQuery = exactMatchAny(ITEM_ID_KEY, batch);
+    return allResultsOf(batchItemIds, batch -> {
+      final Result<CqlQuery> statusQuery = exactMatch(STATUS_KEY, OPEN_AWAITING_PICKUP.getValue());
+      final Result<CqlQuery> itemIdsQuery = exactMatchAny(ITEM_ID_KEY, batch);
 
-        Result<CqlQuery> cqlQueryResult = statusQuery
-          .combine(itemIdsQuery, CqlQuery::and);
+      Result<CqlQuery> cqlQueryResult = statusQuery
+        .combine(itemIdsQuery, CqlQuery::and);
 
-        return findRequestsByCqlQuery(client, cqlQueryResult, limit(batch.size()));
-      })
-      .map(CompletableFuture::join)
-      .collect(Collectors.toList());
+      return findRequestsByCqlQuery(client, cqlQueryResult, limit(batch.size()));
+    });
   }
 
   private HoldShelfClearanceRequestContext createHoldShelfClearanceRequestContext(
@@ -188,14 +187,14 @@ public class RequestHoldShelfClearanceResource extends Resource {
   findExpiredOrCancelledRequestByItemIds(GetManyRecordsClient client,
     HoldShelfClearanceRequestContext context) {
 
-    List<Result<List<Request>>> requestList = findRequestsSortedByClosedDate(client,
-      context.getAwaitingPickupItemIds());
-    List<Request> firstRequestFromList = getFirstRequestFromList(requestList);
-    log.debug("findExpiredOrCancelledRequestByItemIds:: firstRequestFromList: {}",
-      () -> listAsString(firstRequestFromList));
+    return findRequestsSortedByClosedDate(client, context.getAwaitingPickupItemIds())
+      .thenApply(requestList -> {
+        List<Request> firstRequestFromList = getFirstRequestFromList(requestList);
+        log.debug("findExpiredOrCancelledRequestByItemIds:: firstRequestFromList: {}",
+          () -> listAsString(firstRequestFromList));
 
-    return CompletableFuture.completedFuture(Result.succeeded(
-      context.withExpiredOrCancelledRequests(firstRequestFromList)));
+        return Result.succeeded(context.withExpiredOrCancelledRequests(firstRequestFromList));
+      });
   }
 
   private Predicate<Request> hasContextRequestForServicePoint(String servicePointId) {
@@ -224,14 +223,11 @@ public class RequestHoldShelfClearanceResource extends Resource {
    * first request from each batch is included in the result (should be enough because we only need
    * first request later)
    */
-  private List<Result<List<Request>>> findRequestsSortedByClosedDate(
+  private CompletableFuture<List<Result<List<Request>>>> findRequestsSortedByClosedDate(
     GetManyRecordsClient client, List<String> itemIds) {
 
-    return splitIds(itemIds)
-      .stream()
-      .map(batch -> findRequestsSortedByClosedDateForSingleBatch(client, batch))
-      .map(CompletableFuture::join)
-      .collect(Collectors.toList());
+    return allResultsOf(splitIds(itemIds),
+      batch -> findRequestsSortedByClosedDateForSingleBatch(client, batch));
   }
 
   private CompletableFuture<Result<List<Request>>> findRequestsSortedByClosedDateForSingleBatch(
@@ -282,10 +278,10 @@ public class RequestHoldShelfClearanceResource extends Resource {
   }
 
   private CompletableFuture<Result<List<Request>>> fetchItemToRequest(
-    Result<List<Request>> requestsResult, ItemRepository itemRepository) {
+    Result<List<Request>> requestsResult, ItemRepository itemRepository, Executor executor) {
 
     return requestsResult.after(
-      requests -> allOf(requests, request -> fetchItem(itemRepository, request)));
+      requests -> allOf(requests, request -> fetchItem(itemRepository, request, executor)));
   }
 
   private Result<JsonObject> mapResultToJson(Result<List<Request>> requestsResult) {
@@ -302,9 +298,11 @@ public class RequestHoldShelfClearanceResource extends Resource {
       .put(TOTAL_RECORDS_KEY, requestsRepresentations.size());
   }
 
-  private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository, Request request) {
+  private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository,
+    Request request, Executor executor) {
+
     return CompletableFuture.completedFuture(Result.succeeded(request))
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
+      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem), executor);
   }
 
   private Result<MultipleRecords<Request>> mapResponseToRequest(Response response) {
@@ -11,6 +11,7 @@ import static org.folio.circulation.support.results.Result.succeeded;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -145,7 +146,7 @@ public class RequestQueueResource extends Resource {
       .thenApply(RequestQueueValidation::fulfillingRequestsPositioning)
       // Business logic block
       .thenCompose(updateRequestQueue::onReorder)
-      .thenApply(q -> publishReorderedQueue(eventPublisher, q))
+      .thenApply(q -> publishReorderedQueue(eventPublisher, q, context.getExecutor()))
       .thenCompose(r -> r.after(this::toRepresentation))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
@@ -167,13 +168,13 @@ public class RequestQueueResource extends Resource {
   }
 
   private Result<ReorderRequestContext> publishReorderedQueue(EventPublisher eventPublisher,
-    Result<ReorderRequestContext> reorderRequestContext) {
+    Result<ReorderRequestContext> reorderRequestContext, Executor executor) {
 
     reorderRequestContext.after(r -> {
       CompletableFuture.runAsync(() -> {
         List<Request> reordered = r.getReorderRequestToRequestMap().values().stream().filter(Request::hasChangedPosition).collect(Collectors.toList());
         eventPublisher.publishLogRecord(mapToRequestLogEventJson(reordered), LogEventType.REQUEST_REORDERED);
-      });
+      }, executor);
       return null;
     });
     return reorderRequestContext;
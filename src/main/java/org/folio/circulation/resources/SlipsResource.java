@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -107,6 +108,7 @@ public abstract class SlipsResource extends Resource {
   private void getMany(RoutingContext routingContext) {
     final WebContext context = new WebContext(routingContext);
     final Clients clients = Clients.create(context, client);
+    final Executor executor = context.getExecutor();
 
     final var userRepository = new UserRepository(clients);
     final var itemRepository = new ItemRepository(clients);
@@ -118,32 +120,33 @@ public abstract class SlipsResource extends Resource {
       routingContext.request().getParam(SERVICE_POINT_ID_PARAM));
 
       fetchLocationsForServicePoint(servicePointId, clients)
-        .thenComposeAsync(r -> r.after(ctx -> fetchItemsForLocations(ctx,
-          itemRepository, LocationRepository.using(clients, servicePointRepository))))
-        .thenComposeAsync(r -> r.after(ctx -> fetchRequests(ctx, clients)))
+        .thenComposeAsync(r -> r.after(ctx -> fetchItemsForLocations(ctx, itemRepository,
+          LocationRepository.using(clients, servicePointRepository), executor)), executor)
+        .thenComposeAsync(r -> r.after(ctx -> fetchRequests(ctx, clients, executor)), executor)
         .thenComposeAsync(r -> r.after(ctx -> userRepository.findUsersForRequests(
-          ctx.getRequests())))
-        .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-        .thenComposeAsync(r -> r.after(departmentRepository::findDepartmentsForRequestUsers))
-        .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
-        .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests))
+          ctx.getRequests())), executor)
+        .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers),
+          executor)
+        .thenComposeAsync(r -> r.after(departmentRepository::findDepartmentsForRequestUsers), executor)
+        .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests), executor)
+        .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests), executor)
         .thenApply(flatMapResult(this::mapResultToJson))
         .thenComposeAsync(r -> r.combineAfter(() -> servicePointRepository.getServicePointById(servicePointId),
-          this::addPrimaryServicePointNameToStaffSlipContext))
+          this::addPrimaryServicePointNameToStaffSlipContext), executor)
         .thenApply(r -> r.map(JsonHttpResponse::ok))
         .thenAccept(context::writeResultToHttpResponse);
   }
 
   private CompletableFuture<Result<StaffSlipsContext>> fetchTitleLevelRequests(
-    StaffSlipsContext staffSlipsContext, Clients clients) {
+    StaffSlipsContext staffSlipsContext, Clients clients, Executor executor) {
 
     final var instanceRepository = new InstanceRepository(clients);
     final var holdingsRepository = new HoldingsRepository(clients.holdingsStorage());
 
     return fetchTitleLevelRequests(clients, staffSlipsContext)
-      .thenComposeAsync(r -> r.after(ctx -> fetchByInstancesByRequests(ctx, instanceRepository)))
+      .thenComposeAsync(r -> r.after(ctx -> fetchByInstancesByRequests(ctx, instanceRepository)), executor)
       .thenApply(r -> r.next(this::mapRequestsToInstances))
-      .thenComposeAsync(r -> r.after(ctx -> fetchHoldingsByInstances(ctx, holdingsRepository)))
+      .thenComposeAsync(r -> r.after(ctx -> fetchHoldingsByInstances(ctx, holdingsRepository)), executor)
       .thenApply(r -> r.next(this::mapRequestsToHoldings));
   }
 
@@ -255,7 +258,7 @@ public abstract class SlipsResource extends Resource {
 
   private CompletableFuture<Result<StaffSlipsContext>> fetchItemsForLocations(
     StaffSlipsContext context, ItemRepository itemRepository,
-    LocationRepository locationRepository) {
+    LocationRepository locationRepository, Executor executor) {
 
     log.debug("fetchPagedItemsForLocations:: multipleLocations: {}",
       () -> multipleRecordsAsString(context.getLocations()));
@@ -278,15 +281,16 @@ public abstract class SlipsResource extends Resource {
 
     return itemRepository.findByIndexNameAndQuery(locationIds, EFFECTIVE_LOCATION_ID_KEY, statusQuery)
       .thenComposeAsync(r -> r.after(items -> fetchLocationDetailsForItems(items, locations,
-        locationRepository)))
+        locationRepository, executor)), executor)
       .thenApply(r -> r.map(context::withItems));
   }
 
   private CompletableFuture<Result<StaffSlipsContext>> fetchRequests(
-    StaffSlipsContext context, Clients clients) {
+    StaffSlipsContext context, Clients clients, Executor executor) {
 
     return fetchItemLevelRequests(context, clients)
-      .thenComposeAsync(r -> r.after(ctx -> fetchTitleLevelRequests(ctx, clients)))
+      .thenComposeAsync(r -> r.after(ctx -> fetchTitleLevelRequests(ctx, clients, executor)),
+        executor)
       .thenApply(r -> r.next(this::combineRequests));
   }
 
@@ -344,7 +348,7 @@ public abstract class SlipsResource extends Resource {
 
   private CompletableFuture<Result<Collection<Item>>> fetchLocationDetailsForItems(
     MultipleRecords<Item> items, Collection<Location> locationsForServicePoint,
-    LocationRepository locationRepository) {
+    LocationRepository locationRepository, Executor executor) {
 
     log.debug("fetchLocationDetailsForItems:: parameters items: {}",
       () -> multipleRecordsAsString(items));
@@ -361,9 +365,9 @@ public abstract class SlipsResource extends Resource {
     }
 
     return ofAsync(locationsForItems)
-      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses))
+      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries), executor)
+      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions), executor)
+      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses), executor)
       .thenApply(flatMapResult(locations -> matchLocationsToItems(items, locations)));
   }
 
@@ -6,6 +6,11 @@ import static org.folio.circulation.support.http.server.NoContentResponse.noCont
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.infrastructure.storage.CalendarCache;
+import org.folio.circulation.infrastructure.storage.ConfigurationCache;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
+import org.folio.circulation.infrastructure.storage.inventory.LocationCache;
+import org.folio.circulation.rules.CirculationRulesWarmUp;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.services.PubSubRegistrationService;
 import org.folio.circulation.support.Clients;
@@ -36,8 +41,14 @@ public class TenantActivationResource extends Resource {
     WebContext webContext = new WebContext(routingContext);
     Clients clients = Clients.create(webContext, client);
     Map<String, String> headers = webContext.getHeaders();
+    // reference data can be changed by the upgrade of other modules done together with this one
+    ReferenceDataCache.getInstance().invalidate(webContext.getTenantId());
+    LocationCache.getInstance().invalidate(webContext.getTenantId());
+    ConfigurationCache.getInstance().invalidate(webContext.getTenantId());
+    CalendarCache.getInstance().invalidate(webContext.getTenantId());
     PubSubRegistrationService.registerModule(headers, routingContext.vertx())
       .thenCompose(ignored -> warmUpCirculationRulesCache(webContext, clients))
+      .thenCompose(ignored -> warmUpCirculationRules(clients))
       .thenRun(() -> created(new JsonObject()).writeTo(routingContext.response()))
       .exceptionally(throwable -> {
         ServerErrorResponse.internalError(routingContext.response(), throwable.getLocalizedMessage());
@@ -49,10 +60,26 @@ public class TenantActivationResource extends Resource {
     log.info("warmUpCirculationRulesCache:: warming up circulation rules cache");
 
     return CirculationRulesCache.getInstance()
-      .reloadRules(context.getTenantId(), clients.circulationRulesStorage())
+      .reloadRules(context.getTenantId(), clients.circulationRulesStorage(),
+        clients.circulationSettingsStorageClient())
       .thenAccept(r -> r.applySideEffect(
         rules -> log.info("warmUpCirculationRulesCache:: warm-up complete"),
         failure -> log.error("warmUpCirculationRulesCache:: warm-up failed: {}", failure)
       ));
   }
+
+  private CompletableFuture<Void> warmUpCirculationRules(Clients clients) {
+    log.info("warmUpCirculationRules:: evaluating circulation rules");
+
+    return CirculationRulesWarmUp.fromEnvironment()
+      .warmUpTenant(clients.circulationRulesProcessor(), clients.locationsStorage())
+      .thenAccept(r -> r.applySideEffect(
+        ignored -> log.info("warmUpCirculationRules:: warm-up complete"),
+        failure -> log.error("warmUpCirculationRules:: warm-up failed: {}", failure)
+      ))
+      .exceptionally(throwable -> {
+        log.error("warmUpCirculationRules:: warm-up failed", throwable);
+        return null;
+      });
+  }
 }
@@ -43,6 +43,7 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
@@ -133,6 +134,7 @@ public abstract class RenewalResource extends Resource {
   private void renew(RoutingContext routingContext) {
     final WebContext webContext = new WebContext(routingContext);
     final Clients clients = Clients.create(webContext, client);
+    final Executor executor = webContext.getExecutor();
     final OkapiPermissions okapiPermissions = OkapiPermissions.from(webContext.getHeaders());
 
     final CirculationErrorHandler errorHandler = new OverridingErrorHandler(okapiPermissions);
@@ -177,30 +179,30 @@ public abstract class RenewalResource extends Resource {
 
     findLoan(bodyAsJson, loanRepository, itemRepository, userRepository, errorHandler)
       .thenApply(r -> r.map(loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())))
-      .thenComposeAsync(r -> refuseWhenPatronIsInactive(r, errorHandler, USER_IS_INACTIVE))
+      .thenComposeAsync(r -> refuseWhenPatronIsInactive(r, errorHandler, USER_IS_INACTIVE), executor)
       .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY))
+        manualPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_MANUALLY), executor)
       .thenComposeAsync(r -> refuseWhenRenewalActionIsBlockedForPatron(
-        automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY))
+        automatedPatronBlocksValidator, r, errorHandler, USER_IS_BLOCKED_AUTOMATICALLY), executor)
       .thenComposeAsync(r -> refuseIfNoPermissionsForRenewalOverride(
-        overrideRenewValidator, r, errorHandler))
+        overrideRenewValidator, r, errorHandler), executor)
       .thenCompose(r -> r.after(ctx -> lookupOverdueFinePolicy(ctx, overdueFinePolicyRepository, errorHandler)))
-      .thenComposeAsync(r -> r.after(ctx -> blockRenewalOfItemsWithReminderFees(ctx, errorHandler)))
+      .thenComposeAsync(r -> r.after(ctx -> blockRenewalOfItemsWithReminderFees(ctx, errorHandler)), executor)
       .thenCompose(r -> r.after(ctx -> lookupLoanPolicy(ctx, loanPolicyRepository, errorHandler)))
       .thenCompose(r -> r.combineAfter(configurationRepository::lookupTlrSettings,
         RenewalContext::withTlrSettings))
       .thenComposeAsync(r -> r.after(
-        ctx -> lookupRequestQueue(ctx, requestQueueRepository, errorHandler)))
+        ctx -> lookupRequestQueue(ctx, requestQueueRepository, errorHandler)), executor)
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RenewalContext::withTimeZone))
-      .thenComposeAsync(r -> r.after(context -> renew(context, clients, errorHandler)))
+      .thenComposeAsync(r -> r.after(context -> renew(context, clients, errorHandler)), executor)
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
       .thenApply(r -> r.map(this::unsetDueDateChangedByRecallIfNoOpenRecallsInQueue))
-      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
+      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage), executor)
       .thenComposeAsync(r -> r.after(context -> processFeesFines(context, clients,
-        itemRepository, userRepository, loanRepository, overdueFinePolicyRepository)))
-      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+        itemRepository, userRepository, loanRepository, overdueFinePolicyRepository)), executor)
+      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices), executor)
+      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent), executor)
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenApply(r -> r.next(scheduledRemindersService::rescheduleFirstReminder))
       .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice))
@@ -1,8 +1,10 @@
 package org.folio.circulation.rules;
 
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 @ToString
+@EqualsAndHashCode
 public class AppliedRuleConditions {
   boolean isItemTypePresent;
   boolean isLoanTypePresent;
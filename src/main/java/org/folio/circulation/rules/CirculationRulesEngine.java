@@ -0,0 +1,31 @@
+package org.folio.circulation.rules;
+
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Determines the policies of the circulation rules that match the given criteria.
+ */
+public interface CirculationRulesEngine {
+  CirculationRuleMatch loanPolicy(MultiMap params, Location location);
+
+  JsonArray loanPolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch requestPolicy(MultiMap params, Location location);
+
+  JsonArray requestPolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch noticePolicy(MultiMap params, Location location);
+
+  JsonArray noticePolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch overduePolicy(MultiMap params, Location location);
+
+  JsonArray overduePolicies(MultiMap params, Location location);
+
+  CirculationRuleMatch lostItemPolicy(MultiMap params, Location location);
+
+  JsonArray lostItemPolicies(MultiMap params, Location location);
+}
@@ -0,0 +1,30 @@
+package org.folio.circulation.rules;
+
+import java.util.Arrays;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The implementation of {@link CirculationRulesEngine} a tenant uses, chosen by the
+ * "circulationRulesEngine" circulation setting, for example
+ * <pre>{"name": "circulationRulesEngine", "value": {"engine": "decision-table"}}</pre>
+ */
+@Getter
+@AllArgsConstructor
+public enum CirculationRulesEngineType {
+  DROOLS("drools"),
+  DECISION_TABLE("decision-table");
+
+  public static final String SETTING_NAME = "circulationRulesEngine";
+  public static final String SETTING_VALUE_PROPERTY = "engine";
+
+  private final String value;
+
+  public static CirculationRulesEngineType from(String value) {
+    return Arrays.stream(values())
+      .filter(type -> type.getValue().equalsIgnoreCase(value))
+      .findFirst()
+      .orElse(DROOLS);
+  }
+}
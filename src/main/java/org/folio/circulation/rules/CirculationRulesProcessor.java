@@ -1,22 +1,34 @@
 package org.folio.circulation.rules;
 
-import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.folio.circulation.support.VertxContextExecutor.offEventLoop;
+import static org.folio.circulation.support.results.Result.combineAll;
 import static org.folio.circulation.support.results.Result.combined;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.infrastructure.storage.inventory.LocationRepository;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
-import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.CollectionResourceClient;
-import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import lombok.val;
 
@@ -25,14 +37,35 @@ public class CirculationRulesProcessor {
 
   private final String tenantId;
   private final CollectionResourceClient circulationRulesStorage;
-  private final CollectionResourceClient locationStorageClient;
+  private final LocationRepository locationRepository;
+  private final CollectionResourceClient circulationSettingsStorage;
+  /** false when the matches must not be taken from or added to the rule match cache */
+  private final boolean useMatchCache;
 
   public CirculationRulesProcessor(String tenantId, CollectionResourceClient circulationRulesClient,
-    CollectionResourceClient locationClient) {
+    LocationRepository locationRepository, CollectionResourceClient circulationSettingsClient) {
+
+    this(tenantId, circulationRulesClient, locationRepository, circulationSettingsClient, true);
+  }
+
+  private CirculationRulesProcessor(String tenantId,
+    CollectionResourceClient circulationRulesClient, LocationRepository locationRepository,
+    CollectionResourceClient circulationSettingsClient, boolean useMatchCache) {
 
     this.tenantId = tenantId;
     this.circulationRulesStorage = circulationRulesClient;
-    this.locationStorageClient = locationClient;
+    this.locationRepository = locationRepository;
+    this.circulationSettingsStorage = circulationSettingsClient;
+    this.useMatchCache = useMatchCache;
+  }
+
+  /**
+   * Processor that evaluates the rules for every lookup, for lookups whose criteria
+   * are not expected to be looked up again, e.g. the warm-up of the rules.
+   */
+  public CirculationRulesProcessor withoutMatchCache() {
+    return new CirculationRulesProcessor(tenantId, circulationRulesStorage, locationRepository,
+      circulationSettingsStorage, false);
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLoanPolicyAndMatch(
@@ -43,11 +76,19 @@ public class CirculationRulesProcessor {
     return executeRules(params, ExecutableRules::determineLoanPolicy);
   }
 
+  public CompletableFuture<Result<List<CirculationRuleMatch>>> getLoanPolicyAndMatches(
+    List<RulesExecutionParameters> params) {
+
+    log.debug("getLoanPolicyAndMatches:: parameters params: {}", params::size);
+
+    return executeRules(params, ExecutableRules::determineLoanPolicy);
+  }
+
   public CompletableFuture<Result<JsonArray>> getLoanPolicies(RulesExecutionParameters params) {
     log.debug("getLoanPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.loanPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.loanPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLostItemPolicyAndMatch(
@@ -58,11 +99,19 @@ public class CirculationRulesProcessor {
     return executeRules(params, ExecutableRules::determineLostItemPolicy);
   }
 
+  public CompletableFuture<Result<List<CirculationRuleMatch>>> getLostItemPolicyAndMatches(
+    List<RulesExecutionParameters> params) {
+
+    log.debug("getLostItemPolicyAndMatches:: parameters params: {}", params::size);
+
+    return executeRules(params, ExecutableRules::determineLostItemPolicy);
+  }
+
   public CompletableFuture<Result<JsonArray>> getLostItemPolicies(RulesExecutionParameters params) {
     log.debug("getLostItemPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getNoticePolicyAndMatch(
@@ -73,11 +122,19 @@ public class CirculationRulesProcessor {
     return executeRules(params, ExecutableRules::determineNoticePolicy);
   }
 
+  public CompletableFuture<Result<List<CirculationRuleMatch>>> getNoticePolicyAndMatches(
+    List<RulesExecutionParameters> params) {
+
+    log.debug("getNoticePolicyAndMatches:: parameters params: {}", params::size);
+
+    return executeRules(params, ExecutableRules::determineNoticePolicy);
+  }
+
   public CompletableFuture<Result<JsonArray>> getNoticePolicies(RulesExecutionParameters params) {
     log.debug("getNoticePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.noticePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.noticePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getOverduePolicyAndMatch(
@@ -88,11 +145,19 @@ public class CirculationRulesProcessor {
     return executeRules(params, ExecutableRules::determineOverduePolicy);
   }
 
+  public CompletableFuture<Result<List<CirculationRuleMatch>>> getOverduePolicyAndMatches(
+    List<RulesExecutionParameters> params) {
+
+    log.debug("getOverduePolicyAndMatches:: parameters params: {}", params::size);
+
+    return executeRules(params, ExecutableRules::determineOverduePolicy);
+  }
+
   public CompletableFuture<Result<JsonArray>> getOverduePolicies(RulesExecutionParameters params) {
     log.debug("getOverduePolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.overduePolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.overduePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getRequestPolicyAndMatch(
@@ -103,35 +168,123 @@ public class CirculationRulesProcessor {
     return executeRules(params, ExecutableRules::determineRequestPolicy);
   }
 
+  public CompletableFuture<Result<List<CirculationRuleMatch>>> getRequestPolicyAndMatches(
+    List<RulesExecutionParameters> params) {
+
+    log.debug("getRequestPolicyAndMatches:: parameters params: {}", params::size);
+
+    return executeRules(params, ExecutableRules::determineRequestPolicy);
+  }
+
   public CompletableFuture<Result<JsonArray>> getRequestPolicies(RulesExecutionParameters params) {
     log.debug("getRequestPolicies:: parameters params: {}", params);
 
     return triggerRules(params,
-      (drools, newParams) -> drools.requestPolicies(newParams.toMap(), newParams.getLocation()));
+      (engine, newParams) -> engine.requestPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   private <T> CompletableFuture<Result<T>> triggerRules(RulesExecutionParameters params,
-    BiFunction<Drools, RulesExecutionParameters, T> droolsFunction) {
+    BiFunction<CirculationRulesEngine, RulesExecutionParameters, T> engineFunction) {
 
+    final Context context = Vertx.currentContext();
     val rulesFuture = CirculationRulesCache.getInstance()
-      .getDrools(tenantId, circulationRulesStorage);
+      .getRulesEngine(tenantId, circulationRulesStorage, circulationSettingsStorage);
 
     return fetchLocation(params).thenCombine(rulesFuture, combined(
-      (newParams, drools) -> {
+      (newParams, engine) -> succeeded((Supplier<Result<T>>) () -> {
         log.info("Applying circulation rules with parameters: {}", newParams);
-        return succeeded(droolsFunction.apply(drools, newParams));
-      }));
+        return succeeded(engineFunction.apply(engine, newParams));
+      })))
+      .thenCompose(r -> r.after(evaluation -> offEventLoop(context, evaluation)));
   }
 
   private <T> CompletableFuture<Result<T>> executeRules(RulesExecutionParameters params,
     BiFunction<ExecutableRules, RulesExecutionParameters, Result<T>> rulesExecutor) {
 
-    val rulesFuture = CirculationRulesCache.getInstance()
-      .getExecutableRules(tenantId, circulationRulesStorage);
+    // evaluating the rules is CPU bound, it is kept off the event loop handling the request
+    final Context context = Vertx.currentContext();
+    val rulesFuture = getExecutableRules();
 
     return fetchLocation(params)
       .thenCombine(rulesFuture, combined((parametersWithLocation, rules) ->
-        rulesExecutor.apply(rules, parametersWithLocation)));
+        succeeded((Supplier<Result<T>>) () -> rulesExecutor.apply(rules, parametersWithLocation))))
+      .thenCompose(r -> r.after(evaluation -> offEventLoop(context, evaluation)));
+  }
+
+  /**
+   * Executes the rules for all the parameters, fetching the locations once and
+   * executing the rules once for each distinct combination of criteria.
+   * The matches are returned in the order of the parameters.
+   */
+  private <T> CompletableFuture<Result<List<T>>> executeRules(
+    List<RulesExecutionParameters> params,
+    BiFunction<ExecutableRules, RulesExecutionParameters, Result<T>> rulesExecutor) {
+
+    final Context context = Vertx.currentContext();
+    val rulesFuture = getExecutableRules();
+
+    return fetchLocations(params)
+      .thenCombine(rulesFuture, combined((parametersWithLocations, rules) ->
+        succeeded((Supplier<Result<List<T>>>) () ->
+          executeRulesOncePerCriteria(parametersWithLocations, rules, rulesExecutor))))
+      .thenCompose(r -> r.after(evaluation -> offEventLoop(context, evaluation)));
+  }
+
+  private CompletableFuture<Result<ExecutableRules>> getExecutableRules() {
+    return CirculationRulesCache.getInstance()
+      .getExecutableRules(tenantId, circulationRulesStorage, circulationSettingsStorage)
+      .thenApply(r -> r.map(rules -> useMatchCache ? rules : rules.withoutMatchCache()));
+  }
+
+  private static <T> Result<List<T>> executeRulesOncePerCriteria(
+    List<RulesExecutionParameters> params, ExecutableRules rules,
+    BiFunction<ExecutableRules, RulesExecutionParameters, Result<T>> rulesExecutor) {
+
+    final Map<List<String>, Result<T>> matches = new HashMap<>();
+
+    final List<Result<T>> results = params.stream()
+      .map(parameters -> matches.computeIfAbsent(criteria(parameters),
+        criteria -> rulesExecutor.apply(rules, parameters)))
+      .collect(toList());
+
+    log.info("executeRulesOncePerCriteria:: executed rules {} times for {} sets of parameters",
+      matches.size(), params.size());
+
+    return combineAll(results);
+  }
+
+  private static List<String> criteria(RulesExecutionParameters params) {
+    final Location location = params.getLocation();
+
+    return Arrays.asList(params.getMaterialTypeId(), params.getLoanTypeId(),
+      params.getPatronGroupId(), params.getLocationId(),
+      location == null ? null : location.getInstitutionId(),
+      location == null ? null : location.getCampusId(),
+      location == null ? null : location.getLibraryId());
+  }
+
+  private CompletableFuture<Result<List<RulesExecutionParameters>>> fetchLocations(
+    List<RulesExecutionParameters> params) {
+
+    final Set<String> locationIds = params.stream()
+      .filter(parameters -> parameters.getLocation() == null)
+      .map(RulesExecutionParameters::getLocationId)
+      .filter(Objects::nonNull)
+      .collect(toSet());
+
+    log.debug("fetchLocations:: fetching {} locations", locationIds::size);
+
+    if (locationIds.isEmpty()) {
+      return ofAsync(() -> params);
+    }
+
+    return locationRepository.fetchLocations(locationIds)
+      .thenApply(r -> r.map(locations -> locations.toMap(Location::getId)))
+      .thenApply(r -> r.map(locations -> params.stream()
+        .map(parameters -> parameters.getLocation() != null ? parameters
+          : parameters.withLocation(locations.get(parameters.getLocationId())))
+        .collect(toList())))
+      .thenApply(r -> r.mapFailure(failure -> withoutLocations(params, failure)));
   }
 
   private CompletableFuture<Result<RulesExecutionParameters>> fetchLocation(
@@ -144,12 +297,27 @@ public class CirculationRulesProcessor {
       return ofAsync(() -> params);
     }
 
-    return FetchSingleRecord.<Location>forRecord("location")
-      .using(locationStorageClient)
-      .mapTo(new LocationMapper()::toDomain)
-      .whenNotFound(failedValidation("Cannot find location", "location_id", params.getLocationId()))
-      .fetch(params.getLocationId())
-      .thenApply(r -> r.map(params::withLocation))
-      .thenApply(r -> r.mapFailure(failure -> succeeded(params)));
+    if (params.getLocationId() == null) {
+      log.info("fetchLocation:: location id is null");
+      return ofAsync(() -> params);
+    }
+
+    return locationRepository.fetchLocations(Set.of(params.getLocationId()))
+      .thenApply(r -> r.map(locations -> locations.getRecords().stream()
+        .findFirst()
+        .map(params::withLocation)
+        .orElse(params)))
+      .thenApply(r -> r.mapFailure(failure -> withoutLocations(params, failure)));
+  }
+
+  /**
+   * The rules can still be executed without the locations, they only cannot match
+   * the institution, campus or library of the location.
+   */
+  private static <T> Result<T> withoutLocations(T params, HttpFailure failure) {
+    log.warn("withoutLocations:: failed to fetch locations, executing rules without them: {}",
+      failure);
+
+    return succeeded(params);
   }
 }
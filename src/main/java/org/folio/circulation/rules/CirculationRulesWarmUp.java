@@ -0,0 +1,163 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
+import static org.folio.Environment.getCirculationRulesWarmUpEvaluations;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.http.client.PageLimit.limit;
+import static org.folio.circulation.support.results.Result.emptyAsync;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Evaluates the circulation rules a number of times before real requests arrive, so that
+ * the first requests after a deployment do not pay for loading the rules engine classes,
+ * building the rules, fetching locations and JIT compilation.
+ * <p>
+ * The warm-up is disabled when the number of evaluations is zero.
+ */
+public class CirculationRulesWarmUp {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String WARM_UP_TENANT_ID = "circulation_rules_warm_up";
+  private static final int SYNTHETIC_RULES = 50;
+  private static final String POLICIES = ": l loan-%1$d r request-%1$d n notice-%1$d "
+    + "o overdue-%1$d i lost-item-%1$d";
+
+  private final int evaluations;
+
+  public CirculationRulesWarmUp(int evaluations) {
+    this.evaluations = evaluations;
+  }
+
+  public static CirculationRulesWarmUp fromEnvironment() {
+    return new CirculationRulesWarmUp(getCirculationRulesWarmUpEvaluations());
+  }
+
+  public boolean isEnabled() {
+    return evaluations > 0;
+  }
+
+  /**
+   * Builds synthetic rules with each rules engine and evaluates them, this does not need
+   * a tenant. Blocks for the time it takes, it must not be run on the event loop.
+   */
+  public void warmUpRulesEngines() {
+    if (!isEnabled()) {
+      log.info("warmUpRulesEngines:: circulation rules warm-up is disabled");
+      return;
+    }
+
+    final long start = System.nanoTime();
+    final String rules = syntheticRules();
+    final List<CirculationRulesEngine> engines = List.of(
+      new Drools(WARM_UP_TENANT_ID, Text2Drools.convert(rules)),
+      Text2Drools.convertToDecisionTable(rules));
+
+    engines.forEach(engine -> IntStream.range(0, evaluations)
+      .forEach(evaluation -> evaluate(engine, evaluation)));
+
+    log.info("warmUpRulesEngines:: {} evaluations of each rules engine took {} ms",
+      evaluations, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  /**
+   * Determines each type of policy for a number of the tenant's locations through the
+   * processor, which loads the tenant's rules and fetches the locations. The synthetic
+   * criteria would only push real matches out of the tenant's rule match cache, so the
+   * matches are not cached.
+   */
+  public CompletableFuture<Result<Void>> warmUpTenant(CirculationRulesProcessor rulesProcessor,
+    CollectionResourceClient locationsStorageClient) {
+
+    if (!isEnabled()) {
+      return emptyAsync();
+    }
+
+    final long start = System.nanoTime();
+    final CirculationRulesProcessor processor = rulesProcessor.withoutMatchCache();
+
+    return locationsStorageClient.get(limit(evaluations))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response, identity(), "locations")))
+      .thenApply(r -> r.map(locations -> syntheticParameters(locations.getRecords().stream()
+        .map(location -> location.getString("id"))
+        .toList())))
+      .thenCompose(r -> r.after(parameters -> processor.getLoanPolicyAndMatches(parameters)
+        .thenCompose(ignored -> processor.getRequestPolicyAndMatches(parameters))
+        .thenCompose(ignored -> processor.getNoticePolicyAndMatches(parameters))
+        .thenCompose(ignored -> processor.getOverduePolicyAndMatches(parameters))
+        .thenCompose(ignored -> processor.getLostItemPolicyAndMatches(parameters))))
+      .thenApply(r -> r.map(matches -> {
+        log.info("warmUpTenant:: warm-up took {} ms",
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return null;
+      }));
+  }
+
+  private List<RulesExecutionParameters> syntheticParameters(List<String> locationIds) {
+    final List<String> ids = locationIds.isEmpty() ? List.of(UUID.randomUUID().toString())
+      : locationIds;
+
+    return IntStream.range(0, evaluations)
+      .mapToObj(evaluation -> new RulesExecutionParameters(UUID.randomUUID().toString(),
+        ids.get(evaluation % ids.size()), UUID.randomUUID().toString(),
+        UUID.randomUUID().toString(), null))
+      .toList();
+  }
+
+  private static void evaluate(CirculationRulesEngine engine, int evaluation) {
+    final int rule = evaluation % SYNTHETIC_RULES;
+    final MultiMap params = MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, "material-type-" + rule)
+      .add(LOAN_TYPE_ID_NAME, "loan-type-" + (evaluation % 3 == 0 ? rule : -1))
+      .add(PATRON_TYPE_ID_NAME, "patron-group-" + rule)
+      .add(LOCATION_ID_NAME, "location-" + rule);
+    final Location location = new Location(null, null, null, null, emptyList(), null,
+      Institution.unknown("institution-" + rule), Campus.unknown("campus"),
+      Library.unknown("library"), ServicePoint.unknown());
+
+    engine.loanPolicy(params, location);
+    engine.requestPolicy(params, location);
+    engine.noticePolicy(params, location);
+    engine.overduePolicy(params, location);
+    engine.lostItemPolicy(params, location);
+    engine.loanPolicies(params, location);
+  }
+
+  private static String syntheticRules() {
+    final StringBuilder rules = new StringBuilder("priority: t, s, c, b, a, m, g\n")
+      .append("fallback-policy").append(String.format(POLICIES, 0)).append("\n");
+
+    for (int rule = 0; rule < SYNTHETIC_RULES; rule++) {
+      rules.append("m material-type-").append(rule)
+        .append(" + t loan-type-").append(rule)
+        .append(String.format(POLICIES, rule + 1)).append("\n")
+        .append("g patron-group-").append(rule)
+        .append(" + a institution-").append(rule)
+        .append(String.format(POLICIES, rule + SYNTHETIC_RULES + 1)).append("\n");
+    }
+
+    return rules.toString();
+  }
+}
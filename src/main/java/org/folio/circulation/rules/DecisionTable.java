@@ -0,0 +1,392 @@
+package org.folio.circulation.rules;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+import static org.folio.circulation.support.utils.LogUtil.asJson;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Matches circulation rules without Drools, using a bitmap index per criterium type.
+ * <p>
+ * Each row of the table is a rule line, the rows are sorted by descending priority
+ * (Drools salience). For each criterium type and each id mentioned in the rules the
+ * table holds a bitmap of the rows accepting that id. Matching is the conjunction of
+ * the bitmaps of the given ids, the first bit set is the matching rule.
+ * <p>
+ * The results are the same as those of the {@link Drools} reference implementation.
+ */
+public class DecisionTable implements CirculationRulesEngine {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  /** criterium type letters in index order */
+  static final String CRITERIUM_LETTERS = "mtgsabc";
+  private static final int ITEM_TYPE = 0;
+  private static final int LOAN_TYPE = 1;
+  private static final int PATRON_GROUP = 2;
+  private static final int LOCATION = 3;
+  private static final int INSTITUTION = 4;
+  private static final int CAMPUS = 5;
+  private static final int LIBRARY = 6;
+
+  private final Row[] rows;
+  /** rows accepting an id, for each criterium type */
+  private final List<Map<String, long[]>> acceptingRows;
+  /** rows accepting an id that is not mentioned in the rules (or null), for each criterium type */
+  private final long[][] acceptingOtherIds;
+  /** rows without institution, campus or library criteria */
+  private final long[] locationIndependentRows;
+
+  /**
+   * Create a decision table from the rule lines, as collected by {@link Text2Drools}.
+   * @param rows rule lines in any order
+   */
+  DecisionTable(List<Row> rows) {
+    this.rows = rows.stream()
+      .sorted(Comparator.comparingInt(Row::getSalience).reversed())
+      .toArray(Row[]::new);
+
+    int words = (this.rows.length + 63) >>> 6;
+
+    acceptingRows = new ArrayList<>(CRITERIUM_LETTERS.length());
+    acceptingOtherIds = new long[CRITERIUM_LETTERS.length()][];
+    locationIndependentRows = new long[words];
+
+    for (int criterium = 0; criterium < CRITERIUM_LETTERS.length(); criterium++) {
+      Map<String, long[]> index = new HashMap<>();
+      long[] other = new long[words];
+
+      for (String id : mentionedIds(criterium)) {
+        long[] bits = new long[words];
+        for (int row = 0; row < this.rows.length; row++) {
+          if (this.rows[row].accepts(criterium, id)) {
+            setBit(bits, row);
+          }
+        }
+        index.put(id, bits);
+      }
+
+      for (int row = 0; row < this.rows.length; row++) {
+        if (this.rows[row].accepts(criterium, null)) {
+          setBit(other, row);
+        }
+      }
+
+      acceptingRows.add(index);
+      acceptingOtherIds[criterium] = other;
+    }
+
+    for (int row = 0; row < this.rows.length; row++) {
+      if (!this.rows[row].usesCriterium(INSTITUTION)
+        && !this.rows[row].usesCriterium(CAMPUS)
+        && !this.rows[row].usesCriterium(LIBRARY)) {
+
+        setBit(locationIndependentRows, row);
+      }
+    }
+
+    log.info("DecisionTable:: {} rules indexed", this.rows.length);
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    log.debug("loanPolicy:: params params: {}, location: {}", params, location);
+    final Row row = firstMatch(params, location);
+
+    if (row == null) {
+      return new CirculationRuleMatch(null, new AppliedRuleConditions(false, false, false));
+    }
+
+    return new CirculationRuleMatch(row.loanPolicyId, new AppliedRuleConditions(
+      row.usesCriterium(ITEM_TYPE), row.usesCriterium(LOAN_TYPE),
+      row.usesCriterium(PATRON_GROUP)));
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    log.debug("loanPolicies:: params params: {}, location: {}", params, location);
+    final JsonArray array = allMatches(params, location, "loanPolicyId", Row::getLoanPolicyId);
+    log.info("loanPolicies:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
+    return policyMatch(firstMatch(params, location), Row::getRequestPolicyId);
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    log.debug("requestPolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = allMatches(params, location, "requestPolicyId",
+      Row::getRequestPolicyId);
+    log.info("requestPolicies:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
+    return policyMatch(firstMatch(params, location), Row::getNoticePolicyId);
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = allMatches(params, location, "noticePolicyId",
+      Row::getNoticePolicyId);
+    log.info("noticePolicies:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
+    return policyMatch(firstMatch(params, location), Row::getOverduePolicyId);
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = allMatches(params, location, "overduePolicyId",
+      Row::getOverduePolicyId);
+    log.info("overduePolicies:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
+    return policyMatch(firstMatch(params, location), Row::getLostItemPolicyId);
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
+    final JsonArray array = allMatches(params, location, "lostItemPolicyId",
+      Row::getLostItemPolicyId);
+    log.info("lostItemPolicies:: result: {}", () -> asJson(array.stream().toList()));
+    return array;
+  }
+
+  private static CirculationRuleMatch policyMatch(Row row,
+    Function<Row, String> policyId) {
+
+    return new CirculationRuleMatch(row == null ? null : policyId.apply(row),
+      new AppliedRuleConditions(false, false, false));
+  }
+
+  private Row firstMatch(MultiMap params, Location location) {
+    final int row = nextMatch(rowsAccepting(params, location), 0);
+
+    return row < 0 ? null : rows[row];
+  }
+
+  private JsonArray allMatches(MultiMap params, Location location, String policyIdName,
+    Function<Row, String> policyId) {
+
+    final long[][] accepting = rowsAccepting(params, location);
+    final JsonArray array = new JsonArray();
+
+    for (int row = nextMatch(accepting, 0); row >= 0; row = nextMatch(accepting, row + 1)) {
+      JsonObject json = new JsonObject();
+      write(json, policyIdName, policyId.apply(rows[row]));
+      write(json, "circulationRuleLine", rows[row].lineNumber);
+      array.add(json);
+    }
+
+    return array;
+  }
+
+  /**
+   * Find the first row at or after fromRow that is accepted for all criterium types.
+   * @param accepting the rows accepting the given ids, for each criterium type
+   * @return row index, or -1 if no more rows match
+   */
+  private int nextMatch(long[][] accepting, int fromRow) {
+    long mask = -1L << (fromRow & 63);
+
+    for (int word = fromRow >>> 6; word < locationIndependentRows.length; word++) {
+      long bits = mask;
+      for (long[] criterium : accepting) {
+        bits &= criterium[word];
+      }
+
+      if (bits != 0) {
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+      }
+      mask = -1L;
+    }
+
+    return -1;
+  }
+
+  private long[][] rowsAccepting(MultiMap params, Location location) {
+    // without a location Drools has no institution, campus and library facts,
+    // rules using any of these criteria cannot match
+    return new long[][] {
+      rowsAccepting(ITEM_TYPE, params.get(ITEM_TYPE_ID_NAME)),
+      rowsAccepting(LOAN_TYPE, params.get(LOAN_TYPE_ID_NAME)),
+      rowsAccepting(PATRON_GROUP, params.get(PATRON_TYPE_ID_NAME)),
+      rowsAccepting(LOCATION, params.get(LOCATION_ID_NAME)),
+      location == null ? locationIndependentRows
+        : rowsAccepting(INSTITUTION, location.getInstitutionId()),
+      location == null ? locationIndependentRows
+        : rowsAccepting(CAMPUS, location.getCampusId()),
+      location == null ? locationIndependentRows
+        : rowsAccepting(LIBRARY, location.getLibraryId())
+    };
+  }
+
+  private long[] rowsAccepting(int criterium, String id) {
+    final long[] bits = id == null ? null : acceptingRows.get(criterium).get(id);
+
+    return bits == null ? acceptingOtherIds[criterium] : bits;
+  }
+
+  private Set<String> mentionedIds(int criterium) {
+    final Set<String> ids = new HashSet<>();
+
+    for (Row row : rows) {
+      for (Condition condition : row.conditions) {
+        if (condition.criterium == criterium) {
+          ids.addAll(condition.ids);
+        }
+      }
+    }
+
+    return ids;
+  }
+
+  private static void setBit(long[] bits, int index) {
+    bits[index >>> 6] |= 1L << (index & 63);
+  }
+
+  /**
+   * A single criterium of a rule line, for example {@code m !book !dvd}.
+   */
+  static class Condition {
+    private final int criterium;
+    private final boolean all;
+    private final boolean negated;
+    private final Set<String> ids;
+
+    /**
+     * @param criteriumLetter one of t, a, b, c, s, m, g
+     * @param all whether the criterium is {@code all}
+     * @param negated whether the ids are negated with {@code !}
+     * @param ids the ids of the criterium, empty for {@code all}
+     */
+    Condition(String criteriumLetter, boolean all, boolean negated, Set<String> ids) {
+      this.criterium = CRITERIUM_LETTERS.indexOf(criteriumLetter);
+      this.all = all;
+      this.negated = negated;
+      this.ids = ids;
+
+      if (criterium < 0) {
+        throw new IllegalArgumentException(
+          "Expected criterium type t, a, b, c, s, m or g but found: " + criteriumLetter);
+      }
+    }
+
+    /**
+     * Same semantics as the Drools patterns {@code X()}, {@code X(id == ...)},
+     * {@code X(id in (...))}, {@code X(id != ...)} and {@code X(id not in (...))}.
+     * @param id the id of the fact, null if unknown
+     */
+    boolean accepts(String id) {
+      if (all) {
+        return true;
+      }
+
+      return negated != (id != null && ids.contains(id));
+    }
+  }
+
+  /**
+   * A rule line with all the conditions of its own and of its parent lines.
+   */
+  static class Row {
+    private final int lineNumber;
+    private final int salience;
+    private final List<Condition> conditions;
+    private final String loanPolicyId;
+    private final String requestPolicyId;
+    private final String noticePolicyId;
+    private final String overduePolicyId;
+    private final String lostItemPolicyId;
+
+    Row(int lineNumber, int salience, List<Condition> conditions, Map<String, String> policies) {
+      this.lineNumber = lineNumber;
+      this.salience = salience;
+      this.conditions = conditions;
+      this.loanPolicyId = policies.get("l");
+      this.requestPolicyId = policies.get("r");
+      this.noticePolicyId = policies.get("n");
+      this.overduePolicyId = policies.get("o");
+      this.lostItemPolicyId = policies.get("i");
+    }
+
+    private boolean accepts(int criterium, String id) {
+      for (Condition condition : conditions) {
+        if (condition.criterium == criterium && !condition.accepts(id)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean usesCriterium(int criterium) {
+      for (Condition condition : conditions) {
+        if (condition.criterium == criterium) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    int getSalience() {
+      return salience;
+    }
+
+    String getLoanPolicyId() {
+      return loanPolicyId;
+    }
+
+    String getRequestPolicyId() {
+      return requestPolicyId;
+    }
+
+    String getNoticePolicyId() {
+      return noticePolicyId;
+    }
+
+    String getOverduePolicyId() {
+      return overduePolicyId;
+    }
+
+    String getLostItemPolicyId() {
+      return lostItemPolicyId;
+    }
+  }
+}
@@ -7,22 +7,29 @@ import static org.folio.circulation.resources.AbstractCirculationRulesEngineReso
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.utils.LogUtil.asJson;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.drools.core.common.DroolsObjectInputStream;
+import org.drools.core.common.DroolsObjectOutputStream;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.folio.circulation.domain.Location;
+import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.builder.KieBuilder;
 import org.kie.api.builder.KieFileSystem;
 import org.kie.api.builder.Message.Level;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.event.rule.AfterMatchFiredEvent;
-import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 
 import io.vertx.core.MultiMap;
@@ -31,13 +38,15 @@ import io.vertx.core.json.JsonObject;
 
 /**
  * Holds a Drools kieSession to calculate a loan policy.
+ * <p>
+ * This is the reference implementation of {@link CirculationRulesEngine}.
  */
-public class Drools {
+public class Drools implements CirculationRulesEngine {
   // https://docs.jboss.org/drools/release/6.2.0.CR1/drools-docs/html/ch19.html
   // http://www.deepakgaikwad.net/index.php/2016/05/16/drools-tutorial-beginners.html
 
   private static final Logger log = LogManager.getLogger(CirculationRulesProcessor.class);
-  private final KieContainer kieContainer;
+  private final KieBase kieBase;
 
   /**
    * Create the Drools kieSession based on a String containing a drools file.
@@ -59,7 +68,34 @@ public class Drools {
     if (kieBuilder.getResults().hasMessages(Level.ERROR)) {
       throw new IllegalArgumentException("Drools build errors:\n" + kieBuilder.getResults().toString());
     }
-    kieContainer = kieServices.newKieContainer(releaseId);
+    kieBase = kieServices.newKieContainer(releaseId).getKieBase();
+  }
+
+  /**
+   * Create the Drools kieSession based on a kieBase serialized by {@link #serialize()}.
+   * The rules are not compiled again, which is much faster than building them from text.
+   * @param serializedKieBase The serialized kieBase, including the compiled rules.
+   */
+  public Drools(byte[] serializedKieBase) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream input = new DroolsObjectInputStream(
+      new ByteArrayInputStream(serializedKieBase))) {
+
+      kieBase = (KieBase) input.readObject();
+    }
+  }
+
+  /**
+   * Serialize the kieBase including the classes compiled from the rules.
+   * @return the kieBase that can be passed to {@link #Drools(byte[])}
+   */
+  public byte[] serialize() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream output = new DroolsObjectOutputStream(bytes)) {
+      output.writeObject(kieBase);
+    }
+
+    return bytes.toByteArray();
   }
 
   private KieSession createSession(MultiMap params, Location location, Match match) {
@@ -70,7 +106,7 @@ public class Drools {
     String patronGroupId = params.get(PATRON_TYPE_ID_NAME);
     String locationId = params.get(LOCATION_ID_NAME);
 
-    KieSession kieSession = kieContainer.newKieSession();
+    KieSession kieSession = kieBase.newKieSession();
     kieSession.setGlobal("match", match);
     kieSession.insert(new ItemType(itemTypeId));
     kieSession.insert(new LoanType(loanTypeId));
@@ -92,6 +128,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
     log.debug("loanPolicy:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -117,6 +154,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a loanPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray loanPolicies(MultiMap params, Location location) {
     log.debug("loanPolicies:: params params: {}, location: {}", params, location);
     final var match = new Match();
@@ -144,6 +182,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -163,6 +202,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a requestPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray requestPolicies(MultiMap params, Location location) {
     log.debug("requestPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -192,6 +232,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
     log.debug("noticePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -211,6 +252,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a noticePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray noticePolicies(MultiMap params, Location location) {
     log.debug("noticePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -239,6 +281,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
     log.debug("overduePolicy:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -258,6 +301,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a overduePolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray overduePolicies(MultiMap params, Location location) {
     log.debug("overduePolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -286,6 +330,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return CirculationRuleMatch object with the name of the loan policy and rule conditions
    */
+  @Override
   public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
     log.debug("lostItemPolicy:: parameters params: {}, location: {}", params, location);
 
@@ -306,6 +351,7 @@ public class Drools {
    * @param location - location with institution, library and campus
    * @return matches, each match has a lostItemPolicyId and a circulationRuleLine field
    */
+  @Override
   public JsonArray lostItemPolicies(MultiMap params, Location location) {
     log.debug("lostItemPolicies:: parameters params: {}, location: {}", params, location);
     final var match = new Match();
@@ -11,6 +11,8 @@ import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.cache.CirculationRuleMatchCache;
+import org.folio.circulation.rules.cache.CirculationRulesMetrics;
 import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.results.Result;
@@ -23,52 +25,77 @@ public class ExecutableRules {
 
   @Getter()
   private final String text;
-  private final Drools drools;
+  private final CirculationRulesEngine engine;
+  private final CirculationRuleMatchCache matchCache;
+
+  public ExecutableRules(String text, CirculationRulesEngine engine,
+    CirculationRuleMatchCache matchCache) {
 
-  public ExecutableRules(String text, Drools drools) {
     this.text = text;
-    this.drools = drools;
+    this.engine = engine;
+    this.matchCache = matchCache;
+  }
+
+  /**
+   * The same rules, determining every match by executing them.
+   */
+  public ExecutableRules withoutMatchCache() {
+    return new ExecutableRules(text, engine, new CirculationRuleMatchCache(0));
   }
 
   public Result<CirculationRuleMatch> determineLoanPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLoanPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::loanPolicy, "loan policy");
+    return determinePolicy(parameters, engine::loanPolicy, "loan policy", "loan");
   }
 
   public Result<CirculationRuleMatch> determineRequestPolicy(RulesExecutionParameters parameters) {
     log.debug("determineRequestPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::requestPolicy, "request policy");
+    return determinePolicy(parameters, engine::requestPolicy, "request policy", "request");
   }
 
   public Result<CirculationRuleMatch> determineNoticePolicy(RulesExecutionParameters parameters) {
     log.debug("determineNoticePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::noticePolicy, "notice policy");
+    return determinePolicy(parameters, engine::noticePolicy, "notice policy", "notice");
   }
 
   public Result<CirculationRuleMatch> determineLostItemPolicy(RulesExecutionParameters parameters) {
     log.debug("determineLostItemPolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::lostItemPolicy, "lost item policy");
+    return determinePolicy(parameters, engine::lostItemPolicy, "lost item policy", "lost-item");
   }
 
   public Result<CirculationRuleMatch> determineOverduePolicy(RulesExecutionParameters parameters) {
     log.debug("determineOverduePolicy:: parameters parameters: {}", parameters);
 
-    return determinePolicy(parameters, drools::overduePolicy, "overdude policy");
+    return determinePolicy(parameters, engine::overduePolicy, "overdude policy", "overdue");
   }
 
+  /**
+   * @param metricsPolicyType policy type the lookup and evaluation are recorded under
+   */
   private Result<CirculationRuleMatch> determinePolicy(RulesExecutionParameters parameters,
-    BiFunction<MultiMap, Location, CirculationRuleMatch> droolsExecutor, String policyType) {
+    BiFunction<MultiMap, Location, CirculationRuleMatch> engineExecutor, String policyType,
+    String metricsPolicyType) {
 
     if (log.isInfoEnabled()) {
       log.info("Executing circulation rules: `{}` with parameters: `{}` to determine {}",
         text, parameters, policyType);
     }
 
-    return of(() -> droolsExecutor.apply(parameters.toMap(), parameters.getLocation()))
+    final CirculationRulesMetrics metrics = CirculationRulesMetrics.getInstance();
+    metrics.recordLookup(metricsPolicyType);
+
+    return of(() -> matchCache.get(policyType, parameters, () -> {
+      final long start = System.nanoTime();
+      final CirculationRuleMatch match = engineExecutor.apply(parameters.toMap(),
+        parameters.getLocation());
+      metrics.recordEvaluation(metricsPolicyType, System.nanoTime() - start);
+
+      return match;
+    }))
       .failWhen(this::noMatch, fail(parameters, policyType));
   }
 
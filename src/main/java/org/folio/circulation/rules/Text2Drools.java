@@ -4,8 +4,10 @@ import static java.util.Collections.emptySet;
 import static org.apache.commons.text.StringEscapeUtils.escapeJava;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -37,7 +39,8 @@ import org.folio.circulation.rules.CirculationRulesParser.ThreePrioritiesContext
 import org.folio.circulation.rules.CirculationRulesParser.TwoPrioritiesContext;
 
 /**
- * Convert a circulation rules text in FOLIO format into a drools rules text.
+ * Convert a circulation rules text in FOLIO format into a drools rules text
+ * or into a {@link DecisionTable}.
  */
 public class Text2Drools extends CirculationRulesBaseListener {
   @SuppressWarnings("squid:CommentedOutCodeLine")  // Example code is allowed
@@ -90,6 +93,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
       "global Match match\n" +
       "\n");
 
+  private final List<DecisionTable.Row> decisionTableRows = new ArrayList<>();
   private final LinkedList<Matcher> stack = new LinkedList<>();
   private final String[] policyTypes = {"l", "r", "n", "o", "i"};
   private final PolicyValidator policyValidator;
@@ -131,8 +135,30 @@ public class Text2Drools extends CirculationRulesBaseListener {
     return getDroolsRepresentation(text, text2drools);
   }
 
+  /**
+   * Convert circulation rules from FOLIO text format into a decision table.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return decision table with the same matching results as the Drools file
+   */
+  public static DecisionTable convertToDecisionTable(String text) {
+    log.debug("convertToDecisionTable:: parameters text: {}", text);
+    Text2Drools text2drools = new Text2Drools((policyType, policies, token) -> {});
+    walk(text, text2drools);
+
+    return new DecisionTable(text2drools.decisionTableRows);
+  }
+
   private static String getDroolsRepresentation(String text, Text2Drools text2drools) {
     log.debug("getDroolsRepresentation:: parameters text: {}", text);
+    walk(text, text2drools);
+
+    String droolsRepresentation = text2drools.drools.toString();
+    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
+
+    return droolsRepresentation;
+  }
+
+  private static void walk(String text, Text2Drools text2drools) {
     CharStream input = CharStreams.fromString(text);
     CirculationRulesLexer lexer = new CirculationRulesLexer(input);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -142,11 +168,6 @@ public class Text2Drools extends CirculationRulesBaseListener {
     CirculationRulesFileContext entryPoint = parser.circulationRulesFile();
     ParseTreeWalker walker = new ParseTreeWalker();
     walker.walk(text2drools, entryPoint);
-
-    String droolsRepresentation = text2drools.drools.toString();
-    log.debug("getDroolsRepresentation:: result: {}", droolsRepresentation);
-
-    return droolsRepresentation;
   }
 
   /**
@@ -340,8 +361,9 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
 
     int line = policies.getStart().getLine();
+    int salience = getSalience(line);
     drools.append("rule \"line ").append(line).append("\"\n");
-    drools.append("  salience ").append(getSalience(line)).append("\n");
+    drools.append("  salience ").append(salience).append("\n");
     drools.append("  when\n");
     stack.descendingIterator().forEachRemaining(matcher -> drools.append(matcher.drools));
     drools.append("  then\n");
@@ -355,6 +377,20 @@ public class Text2Drools extends CirculationRulesBaseListener {
     drools.append("    match.lineNumber = ").append(line).append(";\n");
     drools.append("    drools.halt();\n");
     drools.append("end\n\n");
+
+    addDecisionTableRow(policies, line, salience);
+  }
+
+  private void addDecisionTableRow(PoliciesContext policies, int line, int salience) {
+    List<DecisionTable.Condition> conditions = new ArrayList<>();
+    stack.descendingIterator().forEachRemaining(matcher -> conditions.addAll(matcher.conditions));
+
+    Map<String, String> policyIds = new HashMap<>();
+    for (PolicyContext policy : policies.policy()) {
+      policyIds.put(policy.POLICY_TYPE().getText(), policy.NAME().getText());
+    }
+
+    decisionTableRows.add(new DecisionTable.Row(line, salience, conditions, policyIds));
   }
 
   private static String policyMatchString(PolicyContext policy) {
@@ -434,6 +470,8 @@ public class Text2Drools extends CirculationRulesBaseListener {
     if (criteriumContext.all() != null) {
       log.debug("addCriterium:: criteriumContext.all() is not null");
       matcher.drools.append("() // all\n");
+      matcher.conditions.add(
+        new DecisionTable.Condition(criteriumTypeLetter, true, false, emptySet()));
       return;
     }
 
@@ -445,6 +483,11 @@ public class Text2Drools extends CirculationRulesBaseListener {
       not = true;
     }
 
+    Set<String> names = new LinkedHashSet<>();
+    criteriumContext.NAME().forEach(name -> names.add(name.getText()));
+    matcher.conditions.add(
+      new DecisionTable.Condition(criteriumTypeLetter, false, not, names));
+
     if (criteriumContext.NAME().size() == 1) {
       log.debug("addCriterium:: criteriumContext.NAME().size() is 1");
       matcher.drools.append(not ? "(id != " : "(id == " );
@@ -502,6 +545,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     Set<String> criteriaUsed = new HashSet<>(4);
     int maxCriteriumPriority;
     StringBuilder drools;
+    List<DecisionTable.Condition> conditions = new ArrayList<>();
 
     public Matcher(int indentation, Set<String> criteriaUsed,
       int maxCriteriumPriority, StringBuilder drools) {
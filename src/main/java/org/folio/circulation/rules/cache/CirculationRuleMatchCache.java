@@ -0,0 +1,115 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+
+/**
+ * Bounded least recently used cache of the rule matches determined by a single version
+ * of the circulation rules of a tenant. A new cache is created whenever the rules
+ * are rebuilt, so cached matches never outlive the rules that produced them.
+ */
+public class CirculationRuleMatchCache {
+  /** rough number of heap bytes taken by a cached match, its key and the map entry */
+  private static final int BYTES_PER_MATCH = 600;
+
+  private final int maximumSize;
+  private final Map<Key, CirculationRuleMatch> matches;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public CirculationRuleMatchCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.matches = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, CirculationRuleMatch> eldest) {
+        return size() > CirculationRuleMatchCache.this.maximumSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached match for the policy type and parameters, or determines it
+   * using the matcher and caches it. Exceptions thrown by the matcher are not cached.
+   */
+  public CirculationRuleMatch get(String policyType, RulesExecutionParameters parameters,
+    Supplier<CirculationRuleMatch> matcher) {
+
+    if (maximumSize <= 0) {
+      misses.increment();
+      return matcher.get();
+    }
+
+    final Key key = Key.of(policyType, parameters);
+    CirculationRuleMatch match;
+
+    synchronized (matches) {
+      match = matches.get(key);
+    }
+
+    if (match != null) {
+      hits.increment();
+      return match;
+    }
+
+    misses.increment();
+    match = matcher.get();
+
+    if (match != null) {
+      synchronized (matches) {
+        matches.put(key, match);
+      }
+    }
+
+    return match;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public int size() {
+    synchronized (matches) {
+      return matches.size();
+    }
+  }
+
+  public long getEstimatedSize() {
+    return (long) size() * BYTES_PER_MATCH;
+  }
+
+  /**
+   * Everything a rule match depends on: the policy type, the criteria of the parameters
+   * and the institution, campus and library of the location when it is known.
+   */
+  private record Key(String policyType, String materialTypeId, String loanTypeId,
+    String patronGroupId, String locationId, boolean locationKnown, String institutionId,
+    String campusId, String libraryId) {
+
+    static Key of(String policyType, RulesExecutionParameters parameters) {
+      final Location location = parameters.getLocation();
+
+      if (location == null) {
+        return new Key(policyType, parameters.getMaterialTypeId(), parameters.getLoanTypeId(),
+          parameters.getPatronGroupId(), parameters.getLocationId(), false, null, null, null);
+      }
+
+      return new Key(policyType, parameters.getMaterialTypeId(), parameters.getLoanTypeId(),
+        parameters.getPatronGroupId(), parameters.getLocationId(), true,
+        location.getInstitutionId(), location.getCampusId(), location.getLibraryId());
+    }
+  }
+}
@@ -1,66 +1,329 @@
 package org.folio.circulation.rules.cache;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static java.util.function.Function.identity;
+import static org.folio.Environment.getCirculationRulesCompilationThreads;
+import static org.folio.Environment.getCirculationRulesMatchCacheSize;
+import static org.folio.circulation.rules.CirculationRulesEngineType.DECISION_TABLE;
+import static org.folio.circulation.rules.CirculationRulesEngineType.DROOLS;
+import static org.folio.circulation.rules.CirculationRulesEngineType.SETTING_NAME;
+import static org.folio.circulation.rules.CirculationRulesEngineType.SETTING_VALUE_PROPERTY;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.PageLimit.one;
+import static org.folio.circulation.support.results.Result.emptyAsync;
 import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.circulation.domain.CirculationSetting;
+import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.events.DomainEvent;
 import org.folio.circulation.domain.events.EntityChangedEventData;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.CirculationRulesEngineType;
 import org.folio.circulation.rules.Drools;
 import org.folio.circulation.rules.ExecutableRules;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.HttpFailure;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.VertxContextExecutor;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 public final class CirculationRulesCache {
   private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final CirculationRulesCache instance = new CirculationRulesCache();
-  /** rules and Drools for each tenantId */
+  /** rules and rules engine for each tenantId */
   private final Map<String, Rules> rulesMap = new ConcurrentHashMap<>();
+  /** loading of the rules from storage in progress for each tenantId */
+  private final Map<String, CompletableFuture<Result<Rules>>> loadingRules =
+    new ConcurrentHashMap<>();
+  /** last requested rebuild of the cached rules for each tenantId */
+  private final Map<String, CompletableFuture<Result<Rules>>> rebuildingRules =
+    new ConcurrentHashMap<>();
+  /** generation of the rules last installed for each tenantId */
+  private final Map<String, Long> installedGenerations = new ConcurrentHashMap<>();
+  /** increased for every installation of rules, loads only replace rules older than them */
+  private final AtomicLong generations = new AtomicLong();
+  /** building the rules engine can take seconds, it must not block the event loop */
+  private final ExecutorService compilationExecutor = createCompilationExecutor();
+  private final CirculationRulesEvictionPolicy evictionPolicy =
+    CirculationRulesEvictionPolicy.fromEnvironment();
+  /** compiled rules kept on disk to avoid compiling them again after a restart */
+  private final CirculationRulesSnapshotStore snapshotStore =
+    CirculationRulesSnapshotStore.fromEnvironment();
+  /** System.currentTimeMillis() of the last check for rules to evict */
+  private final AtomicLong lastEvictionCheck = new AtomicLong(System.currentTimeMillis());
+  private final LongAdder builds = new LongAdder();
+  private final LongAdder buildTime = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final CirculationRulesMetrics metrics = CirculationRulesMetrics.getInstance();
 
   public static CirculationRulesCache getInstance() {
     return instance;
   }
 
+  private static final long EVICTION_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+  private static final long ENGINE_TYPE_CHECK_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
   private CirculationRulesCache() {}
 
+  private static ExecutorService createCompilationExecutor() {
+    final AtomicInteger threadCount = new AtomicInteger();
+
+    return Executors.newFixedThreadPool(getCirculationRulesCompilationThreads(), runnable -> {
+      Thread thread = new Thread(runnable,
+        "circulation-rules-compiler-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
   public void dropCache() {
     rulesMap.clear();
+    loadingRules.clear();
+    rebuildingRules.clear();
+    installedGenerations.clear();
   }
 
-  public CompletableFuture<Result<Drools>> reloadRules(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+  public CompletableFuture<Result<CirculationRulesEngine>> reloadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient,
+    CollectionResourceClient circulationSettingsClient) {
 
     log.info("reloadRules:: reloading rules for tenant {}", tenantId);
 
-    return circulationRulesClient.get()
+    return completeOnCallerContext(
+      loadRules(tenantId, circulationRulesClient, circulationSettingsClient))
+      .thenApply(r -> r.map(Rules::getEngine));
+  }
+
+  /**
+   * Loads the rules from storage and builds them on the compilation executor. Only one
+   * load per tenant is in progress at a time, concurrent callers share its result.
+   * The loaded rules do not replace rules installed by a rebuild requested during the load.
+   */
+  private CompletableFuture<Result<Rules>> loadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient,
+    CollectionResourceClient circulationSettingsClient) {
+
+    final CompletableFuture<Result<Rules>> load = new CompletableFuture<>();
+    final long loadGeneration = generations.get();
+    final CompletableFuture<Result<Rules>> loadInProgress = loadingRules.putIfAbsent(tenantId, load);
+
+    if (loadInProgress != null) {
+      log.info("loadRules:: rules for tenant {} are already being loaded", tenantId);
+      return loadInProgress;
+    }
+
+    circulationRulesClient.get()
       .thenApply(r -> r.map(response -> getRulesAsText(response, tenantId)))
-      .thenApply(r -> r.next(rulesAsText -> buildRules(tenantId, rulesAsText)));
+      .thenCombine(getEngineType(tenantId, circulationSettingsClient),
+        (rulesAsText, engineType) -> rulesAsText.map(text -> engineType.succeeded()
+          ? buildRulesAsync(tenantId, text, engineType.value(), true, loadGeneration)
+          : buildRulesWithDefaultEngineAsync(tenantId, text, engineType.cause(),
+            loadGeneration)))
+      .thenCompose(r -> r.after(identity()))
+      .whenComplete((result, throwable) -> {
+        loadingRules.remove(tenantId, load);
+
+        if (throwable != null) {
+          load.completeExceptionally(throwable);
+        } else {
+          load.complete(result);
+        }
+      });
+
+    return load;
+  }
+
+  private CompletableFuture<Result<Rules>> buildRulesAsync(String tenantId, String rulesAsText,
+    CirculationRulesEngineType engineType, boolean engineTypeFromSetting, long loadGeneration) {
+
+    return CompletableFuture.supplyAsync(() -> installRules(tenantId, rulesAsText, engineType,
+      engineTypeFromSetting, loadGeneration), compilationExecutor);
+  }
+
+  /**
+   * Completes the future on the Vert.x context of the caller, so that the stages the caller
+   * chains to it do not run on the threads of the compilation executor.
+   */
+  private static <T> CompletableFuture<T> completeOnCallerContext(
+    CompletableFuture<T> future) {
+
+    if (future.isDone()) {
+      return future;
+    }
+
+    final Executor callerExecutor = Optional.ofNullable(Vertx.currentContext())
+      .map(VertxContextExecutor::contextExecutor)
+      .orElseGet(ForkJoinPool::commonPool);
+    final CompletableFuture<T> completion = new CompletableFuture<>();
+
+    future.whenComplete((result, throwable) -> callerExecutor.execute(() -> {
+      if (throwable != null) {
+        completion.completeExceptionally(throwable);
+      } else {
+        completion.complete(result);
+      }
+    }));
+
+    return completion;
+  }
+
+  /**
+   * Builds the rules with the default engine when the engine setting could not be fetched.
+   * The rules are marked as such, so that they are rebuilt once the setting can be fetched,
+   * even when it chooses the default engine.
+   */
+  private CompletableFuture<Result<Rules>> buildRulesWithDefaultEngineAsync(String tenantId,
+    String rulesAsText, HttpFailure failure, long loadGeneration) {
+
+    log.warn("buildRulesWithDefaultEngineAsync:: failed to fetch rules engine setting for " +
+      "tenant {}, using {} until it can be fetched: {}", tenantId, DROOLS, failure);
+
+    return buildRulesAsync(tenantId, rulesAsText, DROOLS, false, loadGeneration);
+  }
+
+  /**
+   * Rebuilds the rules on the compilation executor using the rules engine the tenant
+   * currently uses. The cached rules keep being used until the new ones are built.
+   * Rebuilds of the same tenant are done one after another in the order they were requested.
+   */
+  public CompletableFuture<Result<CirculationRulesEngine>> rebuildRules(String tenantId,
+    String rulesAsText) {
+
+    log.info("rebuildRules:: scheduling rebuild of rules for tenant {}", tenantId);
+
+    return scheduleRebuild(tenantId,
+      () -> installRulesWithCurrentEngine(tenantId, rulesAsText))
+      .thenApply(r -> r.map(Rules::getEngine));
+  }
+
+  /**
+   * Fetches the engine setting again, as it can be changed at any time, and rebuilds the
+   * cached rules when it chooses another engine than the one they were built with, or when
+   * it could not be fetched when they were built. The cached rules keep being used meanwhile.
+   */
+  CompletableFuture<Result<Rules>> checkEngineType(String tenantId,
+    CollectionResourceClient circulationSettingsClient) {
+
+    log.info("checkEngineType:: fetching rules engine setting for tenant {} again", tenantId);
+
+    return getEngineType(tenantId, circulationSettingsClient)
+      .thenApply(r -> r.mapFailure(failure -> {
+        log.warn("checkEngineType:: failed to fetch rules engine setting for tenant {}: {}",
+          tenantId, failure);
+        return failed(failure);
+      }))
+      .thenCompose(r -> r.after(engineType -> scheduleRebuild(tenantId,
+        () -> Optional.ofNullable(rulesMap.get(tenantId))
+          .map(rules -> rules.isEngineTypeFromSetting() && rules.getEngineType() == engineType
+            ? succeeded(rules)
+            : installRules(tenantId, rules.getRulesAsText(), engineType, true))
+          .orElseGet(() -> succeeded(null)))));
+  }
+
+  private CompletableFuture<Result<Rules>> scheduleRebuild(String tenantId,
+    Supplier<Result<Rules>> build) {
+
+    final CompletableFuture<Result<Rules>> rebuild = rebuildingRules.compute(tenantId,
+      (key, previousRebuild) -> Optional.ofNullable(previousRebuild)
+        .orElseGet(() -> CompletableFuture.completedFuture(null))
+        .handleAsync((previousResult, throwable) -> build.get(), compilationExecutor));
+
+    return rebuild
+      .whenComplete((result, throwable) -> rebuildingRules.remove(tenantId, rebuild));
+  }
+
+  private static CompletableFuture<Result<CirculationRulesEngineType>> getEngineType(
+    String tenantId, CollectionResourceClient circulationSettingsClient) {
+
+    log.debug("getEngineType:: parameters tenantId: {}", tenantId);
+
+    return exactMatch("name", SETTING_NAME)
+      .after(query -> circulationSettingsClient.getMany(query, one()))
+      .thenApply(r -> r.next(response -> MultipleRecords.from(response,
+        CirculationSetting::from, "circulationSettings")))
+      .thenApply(r -> r.map(settings -> settings.getRecords().stream()
+        .filter(Objects::nonNull)
+        .findFirst()
+        .map(setting -> setting.getValue().getString(SETTING_VALUE_PROPERTY))
+        .map(CirculationRulesEngineType::from)
+        .orElse(DROOLS)));
   }
 
   private static String getRulesAsText(Response response, String tenantId) {
     log.debug("getRulesAsText:: parameters tenantId: {}", tenantId);
-    final var circulationRules = new JsonObject(response.getBody());
+    final var circulationRules = new JsonObject(response.getBodyAsBuffer());
     log.debug("getRulesAsText:: circulationRules: {}", circulationRules::encodePrettily);
 
     return circulationRules.getString("rulesAsText");
   }
 
-  public Result<Drools> buildRules(String tenantId, String rulesAsText) {
-    log.info("buildRules:: building rules for tenant {}", tenantId);
+  /**
+   * Build the rules using the rules engine the tenant currently uses.
+   */
+  public Result<CirculationRulesEngine> buildRules(String tenantId, String rulesAsText) {
+    return installRulesWithCurrentEngine(tenantId, rulesAsText)
+      .map(Rules::getEngine);
+  }
+
+  public Result<CirculationRulesEngine> buildRules(String tenantId, String rulesAsText,
+    CirculationRulesEngineType engineType) {
+
+    return installRules(tenantId, rulesAsText, engineType, true)
+      .map(Rules::getEngine);
+  }
+
+  private Result<Rules> installRulesWithCurrentEngine(String tenantId, String rulesAsText) {
+    return Optional.ofNullable(rulesMap.get(tenantId))
+      .map(rules -> installRules(tenantId, rulesAsText, rules.getEngineType(),
+        rules.isEngineTypeFromSetting()))
+      .orElseGet(() -> installRules(tenantId, rulesAsText, DROOLS, false));
+  }
+
+  private Result<Rules> installRules(String tenantId, String rulesAsText,
+    CirculationRulesEngineType engineType, boolean engineTypeFromSetting) {
+
+    return installRules(tenantId, rulesAsText, engineType, engineTypeFromSetting,
+      Long.MAX_VALUE);
+  }
+
+  /**
+   * Builds the rules and replaces the cached rules of the tenant, together with
+   * the rule matches determined by them, in a single step. Cached rules installed after
+   * the given generation are newer than the built ones and are kept instead.
+   */
+  private Result<Rules> installRules(String tenantId, String rulesAsText,
+    CirculationRulesEngineType engineType, boolean engineTypeFromSetting,
+    long replaceableGeneration) {
+
+    log.info("buildRules:: building rules for tenant {} using {} engine", tenantId, engineType);
     log.debug("buildRules:: rules={}", rulesAsText);
 
     if (isBlank(rulesAsText)) {
@@ -68,51 +331,204 @@ public final class CirculationRulesCache {
       return failed(new ServerErrorFailure("Cannot apply blank circulation rules"));
     }
 
-    String droolsText = Text2Drools.convert(rulesAsText);
-    Drools drools = new Drools(tenantId, droolsText);
-    log.info("buildRules:: done building Drools for tenant {}", tenantId);
-    log.debug("buildRules:: Drools as text: {}", droolsText);
+    final String droolsText;
+    final CirculationRulesEngine engine;
+    final long buildStart = System.nanoTime();
+
+    if (engineType == DECISION_TABLE) {
+      droolsText = "";
+      engine = Text2Drools.convertToDecisionTable(rulesAsText);
+      log.info("buildRules:: done building decision table for tenant {}", tenantId);
+    } else {
+      droolsText = Text2Drools.convert(rulesAsText);
+      engine = buildDrools(tenantId, droolsText);
+      log.info("buildRules:: done building Drools for tenant {}", tenantId);
+      log.debug("buildRules:: Drools as text: {}", droolsText);
+    }
+
+    final long buildDurationInNanos = System.nanoTime() - buildStart;
+    final long buildDuration = TimeUnit.NANOSECONDS.toMillis(buildDurationInNanos);
+    metrics.recordBuild(tenantId, buildDurationInNanos, rulesAsText);
+    builds.increment();
+    buildTime.add(buildDuration);
+    log.info("buildRules:: building rules for tenant {} took {} ms", tenantId, buildDuration);
 
     long timestamp = System.currentTimeMillis();
     log.debug("buildRules:: timestamp={}", timestamp);
-    Rules rules = new Rules(rulesAsText, droolsText, drools, timestamp);
-    rulesMap.put(tenantId, rules);
+    Rules rules = new Rules(rulesAsText, droolsText, engineType, engineTypeFromSetting, engine,
+      new CirculationRuleMatchCache(getCirculationRulesMatchCacheSize()), timestamp,
+      buildDuration);
+    final long generation = generations.incrementAndGet();
+    final AtomicReference<Rules> previousRules = new AtomicReference<>();
+
+    final Rules installedRules = rulesMap.compute(tenantId, (key, currentRules) -> {
+      if (currentRules != null
+        && installedGenerations.getOrDefault(tenantId, 0L) > replaceableGeneration) {
+
+        return currentRules;
+      }
+
+      installedGenerations.put(tenantId, generation);
+      previousRules.set(currentRules);
+      return rules;
+    });
+
+    if (installedRules != rules) {
+      log.info("buildRules:: discarded rules built for tenant {}, newer rules were installed " +
+        "while they were loaded", tenantId);
+      return succeeded(installedRules);
+    }
 
-    return succeeded(drools);
+    if (previousRules.get() != null) {
+      CirculationRuleMatchCache previousMatches = previousRules.get().getMatchCache();
+      log.info("buildRules:: discarded rule match cache of tenant {}: hits {}, misses {}, " +
+          "size {}", tenantId, previousMatches.getHits(), previousMatches.getMisses(),
+        previousMatches.size());
+    }
+
+    evictRules();
+
+    return succeeded(rules);
+  }
+
+  /**
+   * Reads the compiled rules from their snapshot, or compiles them and writes the snapshot
+   * in the background.
+   */
+  private Drools buildDrools(String tenantId, String droolsText) {
+    return snapshotStore.read(tenantId, droolsText)
+      .orElseGet(() -> {
+        final Drools drools = new Drools(tenantId, droolsText);
+
+        if (snapshotStore.isEnabled()) {
+          compilationExecutor.execute(() -> snapshotStore.write(tenantId, droolsText, drools));
+        }
+
+        return drools;
+      });
+  }
+
+  /**
+   * Removes the rules chosen by the eviction policy. Evicted rules are loaded from storage
+   * again when they are next requested.
+   */
+  private void evictRules() {
+    final long now = System.currentTimeMillis();
+    lastEvictionCheck.set(now);
+
+    evictionPolicy.tenantsToEvict(rulesMap, now)
+      .forEach(tenantId -> {
+        final Rules rules = rulesMap.get(tenantId);
+
+        if (rules != null && rulesMap.remove(tenantId, rules)) {
+          evictions.increment();
+          metrics.recordEviction(tenantId);
+          log.info("evictRules:: evicted rules of tenant {}: estimated size {} bytes, " +
+              "build time {} ms, idle for {} ms", tenantId, rules.getEstimatedSize(),
+            rules.getBuildTime(), now - rules.getLastUsedTimestamp());
+        }
+      });
+  }
+
+  /**
+   * Rules only become idle when no requests are made for them, so the check for idle rules
+   * is triggered by lookups of any tenant, at most once per interval.
+   */
+  private void scheduleEvictionCheck() {
+    final long now = System.currentTimeMillis();
+    final long lastCheck = lastEvictionCheck.get();
+
+    if (evictionPolicy.getMaximumIdleTime() > 0 && now - lastCheck >= EVICTION_CHECK_INTERVAL
+      && lastEvictionCheck.compareAndSet(lastCheck, now)) {
+
+      compilationExecutor.execute(this::evictRules);
+    }
+  }
+
+  public CirculationRulesCacheStatistics getStatistics() {
+    return new CirculationRulesCacheStatistics(rulesMap.size(),
+      rulesMap.values().stream().mapToLong(Rules::getEstimatedSize).sum(),
+      builds.sum(), buildTime.sum(), evictions.sum());
   }
 
   public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+    CollectionResourceClient circulationRulesClient,
+    CollectionResourceClient circulationSettingsClient) {
 
-    return getDrools(tenantId, circulationRulesClient)
-      .thenApply(r -> r.map(drools ->
-        new ExecutableRules(rulesMap.get(tenantId).getRulesAsText(), drools)));
+    return getOrLoadRules(tenantId, circulationRulesClient, circulationSettingsClient)
+      .thenApply(r -> r.map(rules -> new ExecutableRules(rules.getRulesAsText(),
+        rules.getEngine(), rules.getMatchCache())));
   }
 
-  public CompletableFuture<Result<Drools>> getDrools(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+  public CompletableFuture<Result<CirculationRulesEngine>> getRulesEngine(String tenantId,
+    CollectionResourceClient circulationRulesClient,
+    CollectionResourceClient circulationSettingsClient) {
+
+    log.debug("getRulesEngine:: getting rules engine for tenant {}", tenantId);
+
+    return getOrLoadRules(tenantId, circulationRulesClient, circulationSettingsClient)
+      .thenApply(r -> r.map(Rules::getEngine));
+  }
+
+  private CompletableFuture<Result<Rules>> getOrLoadRules(String tenantId,
+    CollectionResourceClient circulationRulesClient,
+    CollectionResourceClient circulationSettingsClient) {
+
+    scheduleEvictionCheck();
+
+    final Rules cachedRules = getRules(tenantId);
+
+    if (cachedRules == null) {
+      return completeOnCallerContext(
+        loadRules(tenantId, circulationRulesClient, circulationSettingsClient));
+    }
+
+    if (cachedRules.shouldCheckEngineType(ENGINE_TYPE_CHECK_INTERVAL)) {
+      checkEngineType(tenantId, circulationSettingsClient);
+    }
 
-    log.info("getDrools:: getting Drools for tenant {}", tenantId);
+    return ofAsync(cachedRules);
+  }
+
+  /**
+   * Number of rule matches of the tenant found in the rule match cache since the current
+   * rules were built, zero when no rules are cached.
+   */
+  public long getRuleMatchCacheHits(String tenantId) {
+    return Optional.ofNullable(rulesMap.get(tenantId))
+      .map(Rules::getMatchCache)
+      .map(CirculationRuleMatchCache::getHits)
+      .orElse(0L);
+  }
 
-    return Optional.ofNullable(getRules(tenantId))
-      .map(Rules::getDrools)
-      .map(Result::ofAsync)
-      .orElseGet(() -> reloadRules(tenantId, circulationRulesClient));
+  /**
+   * Number of rule matches of the tenant that had to be determined by the rules engine
+   * since the current rules were built, zero when no rules are cached.
+   */
+  public long getRuleMatchCacheMisses(String tenantId) {
+    return Optional.ofNullable(rulesMap.get(tenantId))
+      .map(Rules::getMatchCache)
+      .map(CirculationRuleMatchCache::getMisses)
+      .orElse(0L);
   }
 
-  public void handleRulesUpdateEvent(DomainEvent<EntityChangedEventData> event) {
+  public CompletableFuture<Result<Void>> handleRulesUpdateEvent(
+    DomainEvent<EntityChangedEventData> event) {
+
     log.debug("handleRulesUpdateEvent:: event={}", () -> event);
 
     final String tenantId = event.tenantId();
     log.info("handleRulesUpdateEvent:: handling rules update event {} for tenant {}",
       event.id(), event.tenantId());
-    final Rules cachedRules = getRules(tenantId);
+    // policies are often changed together with the rules that refer to them
+    ReferenceDataCache.getInstance().invalidatePolicies(tenantId);
+    final Rules cachedRules = rulesMap.get(tenantId);
 
     if (cachedRules == null) {
       // if cache is empty, rules are downloaded from storage anyway when they are first requested
       log.info("handleRulesUpdateEvent:: no cached rules for tenant {}, ignoring event {}",
         tenantId, event.id());
-      return;
+      return emptyAsync();
     }
 
     final long eventTimestamp = event.timestamp();
@@ -120,18 +536,25 @@ public final class CirculationRulesCache {
     if (eventTimestamp < cacheTimestamp) {
       log.info("handleRulesUpdateEvent:: ignoring event {}: event timestamp is {}, " +
           "cache timestamp is {}", event.id(), eventTimestamp, cacheTimestamp);
-      return;
+      return emptyAsync();
     }
 
-    buildRules(tenantId, event.data().newVersion().getString("rulesAsText"));
+    return rebuildRules(tenantId, event.data().newVersion().getString("rulesAsText"))
+      .thenApply(r -> r.map(engine -> {
+        metrics.recordUpdateApplied(eventTimestamp);
+        return null;
+      }));
   }
 
   public Rules getRules(String tenantId) {
     final Rules cachedRules = rulesMap.get(tenantId);
     if (cachedRules == null) {
-      log.info("getRulesFromCache:: cache miss for tenant {}", tenantId);
+      log.debug("getRulesFromCache:: cache miss for tenant {}", tenantId);
+      metrics.recordCacheMiss(tenantId);
     } else {
-      log.info("getRulesFromCache:: cache hit for tenant {}", tenantId);
+      log.debug("getRulesFromCache:: cache hit for tenant {}", tenantId);
+      metrics.recordCacheHit(tenantId);
+      cachedRules.markUsed();
       log.debug("getRulesFromCache:: cached rules: {}", cachedRules::getRulesAsText);
     }
 
@@ -0,0 +1,9 @@
+package org.folio.circulation.rules.cache;
+
+/**
+ * Snapshot of the state of the {@link CirculationRulesCache}: the number of tenants whose
+ * rules are cached and their estimated size in bytes, how many times the rules were built
+ * and how long that took in total in milliseconds, and how many cached rules were evicted.
+ */
+public record CirculationRulesCacheStatistics(int tenants, long estimatedSize, long builds,
+  long buildTime, long evictions) { }
@@ -0,0 +1,87 @@
+package org.folio.circulation.rules.cache;
+
+import static java.util.Comparator.comparingLong;
+import static org.folio.Environment.getCirculationRulesCacheIdleTimeoutInMinutes;
+import static org.folio.Environment.getCirculationRulesCacheMaximumSizeInMegabytes;
+import static org.folio.Environment.getCirculationRulesCacheMaximumTenants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Limits the rules kept in the {@link CirculationRulesCache}. Rules that have not been used
+ * for longer than the maximum idle time are evicted first, then the least recently used rules
+ * until both the number of tenants and the estimated size are within their limits.
+ * A limit of zero means no limit. The most recently used rules are never evicted,
+ * so that rules bigger than the size limit do not have to be rebuilt on every lookup.
+ */
+@Getter
+@AllArgsConstructor
+public class CirculationRulesEvictionPolicy {
+  private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+  private final int maximumTenants;
+  /** bytes */
+  private final long maximumEstimatedSize;
+  /** milliseconds */
+  private final long maximumIdleTime;
+
+  public static CirculationRulesEvictionPolicy fromEnvironment() {
+    return new CirculationRulesEvictionPolicy(getCirculationRulesCacheMaximumTenants(),
+      getCirculationRulesCacheMaximumSizeInMegabytes() * BYTES_PER_MEGABYTE,
+      TimeUnit.MINUTES.toMillis(getCirculationRulesCacheIdleTimeoutInMinutes()));
+  }
+
+  public boolean isUnlimited() {
+    return maximumTenants <= 0 && maximumEstimatedSize <= 0 && maximumIdleTime <= 0;
+  }
+
+  /**
+   * Returns the tenants whose rules should be evicted, least recently used first.
+   */
+  public List<String> tenantsToEvict(Map<String, Rules> cachedRules, long now) {
+    final List<String> tenantsToEvict = new ArrayList<>();
+
+    if (isUnlimited() || cachedRules.size() <= 1) {
+      return tenantsToEvict;
+    }
+
+    final List<Map.Entry<String, Rules>> leastRecentlyUsedFirst = cachedRules.entrySet()
+      .stream()
+      .sorted(comparingLong(entry -> entry.getValue().getLastUsedTimestamp()))
+      .toList();
+
+    int remainingTenants = leastRecentlyUsedFirst.size();
+    long remainingSize = leastRecentlyUsedFirst.stream()
+      .mapToLong(entry -> entry.getValue().getEstimatedSize())
+      .sum();
+
+    for (Map.Entry<String, Rules> entry : leastRecentlyUsedFirst.subList(0, remainingTenants - 1)) {
+      final Rules rules = entry.getValue();
+
+      if (!isIdle(rules, now) && !exceedsLimits(remainingTenants, remainingSize)) {
+        break;
+      }
+
+      tenantsToEvict.add(entry.getKey());
+      remainingTenants--;
+      remainingSize -= rules.getEstimatedSize();
+    }
+
+    return tenantsToEvict;
+  }
+
+  private boolean isIdle(Rules rules, long now) {
+    return maximumIdleTime > 0 && now - rules.getLastUsedTimestamp() > maximumIdleTime;
+  }
+
+  private boolean exceedsLimits(int tenants, long estimatedSize) {
+    return (maximumTenants > 0 && tenants > maximumTenants)
+      || (maximumEstimatedSize > 0 && estimatedSize > maximumEstimatedSize);
+  }
+}
@@ -0,0 +1,143 @@
+package org.folio.circulation.rules.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.folio.circulation.support.metrics.Histogram;
+import org.folio.circulation.support.metrics.MetricsWriter;
+
+/**
+ * Metrics of the circulation rules engine: how long building the rules of each tenant
+ * takes and how large they are, how long evaluating the rules takes for each type of
+ * policy, how often the cached rules and rule matches are used and how long it takes
+ * for a change to the rules to be applied.
+ */
+public final class CirculationRulesMetrics {
+  private static final String TENANT = "tenant";
+  private static final String POLICY_TYPE = "policy_type";
+
+  private static final double[] BUILD_BUCKETS = { 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60 };
+  private static final double[] EVALUATION_BUCKETS = { 0.0001, 0.00025, 0.0005, 0.001, 0.0025,
+    0.005, 0.01, 0.025, 0.05, 0.1, 0.25 };
+  private static final double[] UPDATE_LAG_BUCKETS = { 0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 300 };
+
+  private static final CirculationRulesMetrics instance = new CirculationRulesMetrics();
+
+  /** metrics for each tenantId */
+  private final Map<String, TenantMetrics> tenants = new ConcurrentHashMap<>();
+  /** evaluations of the rules engine for each policy type */
+  private final Map<String, Histogram> evaluations = new ConcurrentHashMap<>();
+  /** rule match lookups, including those answered by the rule match cache, for each policy type */
+  private final Map<String, LongAdder> lookups = new ConcurrentHashMap<>();
+  private final Histogram updateLag = new Histogram(UPDATE_LAG_BUCKETS);
+
+  public static CirculationRulesMetrics getInstance() {
+    return instance;
+  }
+
+  CirculationRulesMetrics() {}
+
+  public void recordBuild(String tenantId, long durationInNanos, String rulesAsText) {
+    final TenantMetrics metrics = tenant(tenantId);
+    metrics.builds.record(durationInNanos);
+    metrics.rulesLength = rulesAsText.length();
+    metrics.rulesLines = rulesAsText.lines().count();
+  }
+
+  public void recordCacheHit(String tenantId) {
+    tenant(tenantId).cacheHits.increment();
+  }
+
+  public void recordCacheMiss(String tenantId) {
+    tenant(tenantId).cacheMisses.increment();
+  }
+
+  /**
+   * The rules of the tenant are no longer in memory, so their size is no longer reported.
+   */
+  public void recordEviction(String tenantId) {
+    final TenantMetrics metrics = tenant(tenantId);
+    metrics.evictions.increment();
+    metrics.rulesLength = 0;
+    metrics.rulesLines = 0;
+  }
+
+  public void recordLookup(String policyType) {
+    lookups.computeIfAbsent(policyType, key -> new LongAdder()).increment();
+  }
+
+  public void recordEvaluation(String policyType, long durationInNanos) {
+    evaluations.computeIfAbsent(policyType, key -> new Histogram(EVALUATION_BUCKETS))
+      .record(durationInNanos);
+  }
+
+  /**
+   * Time from the change of the rules, as given by the timestamp of the event, until the
+   * changed rules were built and used.
+   */
+  public void recordUpdateApplied(long eventTimestamp) {
+    updateLag.record(TimeUnit.MILLISECONDS.toNanos(
+      Math.max(0, System.currentTimeMillis() - eventTimestamp)));
+  }
+
+  private TenantMetrics tenant(String tenantId) {
+    return tenants.computeIfAbsent(String.valueOf(tenantId), key -> new TenantMetrics());
+  }
+
+  public void write(MetricsWriter writer) {
+    writer.histogram("circulation_rules_build_seconds",
+      "Time taken to build the circulation rules of a tenant");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_build_seconds",
+      Map.of(TENANT, tenantId), metrics.builds));
+
+    writer.gauge("circulation_rules_size_characters",
+      "Length of the circulation rules of a tenant that are in memory");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_size_characters",
+      Map.of(TENANT, tenantId), metrics.rulesLength));
+
+    writer.gauge("circulation_rules_size_lines",
+      "Number of lines of the circulation rules of a tenant that are in memory");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_size_lines",
+      Map.of(TENANT, tenantId), metrics.rulesLines));
+
+    writer.counter("circulation_rules_cache_hits_total",
+      "Lookups of the circulation rules of a tenant that found them in memory");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_cache_hits_total",
+      Map.of(TENANT, tenantId), metrics.cacheHits.sum()));
+
+    writer.counter("circulation_rules_cache_misses_total",
+      "Lookups of the circulation rules of a tenant that had to load them");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_cache_misses_total",
+      Map.of(TENANT, tenantId), metrics.cacheMisses.sum()));
+
+    writer.counter("circulation_rules_cache_evictions_total",
+      "Circulation rules of a tenant removed from memory to keep within the limits");
+    tenants.forEach((tenantId, metrics) -> writer.sample("circulation_rules_cache_evictions_total",
+      Map.of(TENANT, tenantId), metrics.evictions.sum()));
+
+    writer.counter("circulation_rules_lookups_total",
+      "Policies determined using the circulation rules, including cached rule matches");
+    lookups.forEach((policyType, count) -> writer.sample("circulation_rules_lookups_total",
+      Map.of(POLICY_TYPE, policyType), count.sum()));
+
+    writer.histogram("circulation_rules_evaluation_seconds",
+      "Time taken by the rules engine to determine a policy that was not in the rule match cache");
+    evaluations.forEach((policyType, histogram) -> writer.sample(
+      "circulation_rules_evaluation_seconds", Map.of(POLICY_TYPE, policyType), histogram));
+
+    writer.histogram("circulation_rules_update_lag_seconds",
+      "Time from a change of the circulation rules until the changed rules are used")
+      .sample("circulation_rules_update_lag_seconds", Map.of(), updateLag);
+  }
+
+  private static class TenantMetrics {
+    private final Histogram builds = new Histogram(BUILD_BUCKETS);
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile long rulesLength;
+    private volatile long rulesLines;
+  }
+}
@@ -0,0 +1,147 @@
+package org.folio.circulation.rules.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.Environment.getCirculationRulesSnapshotDirectory;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.rules.Drools;
+
+/**
+ * Keeps the compiled Drools rules of each tenant in a local directory, so that after
+ * a restart the rules do not have to be compiled again. A snapshot is identified by the
+ * tenant and a hash of the Drools text and the Drools version, so a snapshot is never
+ * used for rules or a Drools version it was not built from. Only the latest snapshot
+ * of each tenant is kept.
+ * <p>
+ * Snapshots contain compiled classes, the directory must only be writable by the module.
+ */
+public class CirculationRulesSnapshotStore {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String FILE_EXTENSION = ".kbase";
+  private static final int HASH_LENGTH = 64;
+
+  private final Path directory;
+
+  public CirculationRulesSnapshotStore(String directory) {
+    this.directory = isBlank(directory) ? null : Path.of(directory);
+  }
+
+  public static CirculationRulesSnapshotStore fromEnvironment() {
+    return new CirculationRulesSnapshotStore(getCirculationRulesSnapshotDirectory());
+  }
+
+  public boolean isEnabled() {
+    return directory != null;
+  }
+
+  /**
+   * Reads the snapshot of the rules, empty when there is none or it cannot be read.
+   */
+  public Optional<Drools> read(String tenantId, String droolsText) {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+
+    final Path snapshot = snapshotPath(tenantId, droolsText);
+
+    if (!Files.isRegularFile(snapshot)) {
+      log.info("read:: no snapshot of rules for tenant {}", tenantId);
+      return Optional.empty();
+    }
+
+    try {
+      final Drools drools = new Drools(Files.readAllBytes(snapshot));
+      log.info("read:: read snapshot {} of rules for tenant {}", snapshot, tenantId);
+
+      return Optional.of(drools);
+    } catch (Exception e) {
+      log.warn("read:: failed to read snapshot {} of rules for tenant {}", snapshot, tenantId, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Writes the snapshot of the rules and removes older snapshots of the tenant.
+   * Failures are logged, the rules can always be compiled again.
+   */
+  public void write(String tenantId, String droolsText, Drools drools) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    final Path snapshot = snapshotPath(tenantId, droolsText);
+
+    try {
+      Files.createDirectories(directory);
+      final Path temporaryFile = Files.createTempFile(directory, fileNamePrefix(tenantId), ".tmp");
+      Files.write(temporaryFile, drools.serialize());
+      Files.move(temporaryFile, snapshot, REPLACE_EXISTING, ATOMIC_MOVE);
+      log.info("write:: wrote snapshot {} of rules for tenant {}", snapshot, tenantId);
+
+      deleteOtherSnapshots(tenantId, snapshot);
+    } catch (Exception e) {
+      log.warn("write:: failed to write snapshot {} of rules for tenant {}", snapshot,
+        tenantId, e);
+    }
+  }
+
+  private void deleteOtherSnapshots(String tenantId, Path currentSnapshot) throws IOException {
+    final String prefix = fileNamePrefix(tenantId);
+
+    try (Stream<Path> files = Files.list(directory)) {
+      files.filter(file -> !file.equals(currentSnapshot))
+        .filter(file -> isSnapshotOf(file.getFileName().toString(), prefix))
+        .forEach(file -> {
+          try {
+            Files.deleteIfExists(file);
+          } catch (IOException e) {
+            log.warn("deleteOtherSnapshots:: failed to delete snapshot {}", file, e);
+          }
+        });
+    }
+  }
+
+  private static boolean isSnapshotOf(String fileName, String prefix) {
+    return fileName.startsWith(prefix) && fileName.endsWith(FILE_EXTENSION)
+      && fileName.length() == prefix.length() + HASH_LENGTH + FILE_EXTENSION.length();
+  }
+
+  private Path snapshotPath(String tenantId, String droolsText) {
+    return directory.resolve(fileNamePrefix(tenantId) + hash(droolsText) + FILE_EXTENSION);
+  }
+
+  /**
+   * Tenant ids only consist of letters, digits and underscores, anything else is replaced
+   * so that the tenant id cannot escape the directory or contain the separator.
+   */
+  private static String fileNamePrefix(String tenantId) {
+    return tenantId.replaceAll("\\W", "_") + "-";
+  }
+
+  private static String hash(String droolsText) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(org.drools.core.util.Drools.getFullVersion().getBytes(UTF_8));
+      digest.update(droolsText.getBytes(UTF_8));
+
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
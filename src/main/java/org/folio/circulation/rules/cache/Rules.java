@@ -1,23 +1,83 @@
 package org.folio.circulation.rules.cache;
 
-import org.folio.circulation.rules.Drools;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.CirculationRulesEngineType;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.AllArgsConstructor;
 
 @Getter
 @AllArgsConstructor
 public class Rules {
+  /**
+   * Rough number of heap bytes taken per character of the rules, including the compiled
+   * rules engine. The KieContainer holds several representations of the generated Drools,
+   * the decision table only the parsed rules.
+   */
+  private static final int DROOLS_BYTES_PER_CHARACTER = 64;
+  private static final int DECISION_TABLE_BYTES_PER_CHARACTER = 16;
+
   private final String rulesAsText;
   private final String rulesAsDrools;
-  private final Drools drools;
+  private final CirculationRulesEngineType engineType;
+  /** false when the engine setting could not be fetched and the default engine is used */
+  private final boolean engineTypeFromSetting;
+  private final CirculationRulesEngine engine;
+  private final CirculationRuleMatchCache matchCache;
   /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
   private final long reloadTimestamp;
+  /** milliseconds it took to build the rules engine */
+  private final long buildTime;
+  /** System.currentTimeMillis() of the last time the rules were taken from the cache */
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong lastUsedTimestamp = new AtomicLong(System.currentTimeMillis());
+  /** System.currentTimeMillis() of the last attempt to fetch the engine setting */
+  @Getter(AccessLevel.NONE)
+  private final AtomicLong lastEngineTypeCheck = new AtomicLong(System.currentTimeMillis());
 
   public Rules() {
     rulesAsText = "";
     rulesAsDrools = "";
-    drools = null;
+    engineType = CirculationRulesEngineType.DROOLS;
+    engineTypeFromSetting = false;
+    engine = null;
+    matchCache = new CirculationRuleMatchCache(0);
     reloadTimestamp = 0;
+    buildTime = 0;
+  }
+
+  public void markUsed() {
+    lastUsedTimestamp.set(System.currentTimeMillis());
+  }
+
+  public long getLastUsedTimestamp() {
+    return lastUsedTimestamp.get();
+  }
+
+  /**
+   * Whether the engine setting should be fetched again, because it has not been attempted
+   * for at least the interval. Only one caller is told to do so per interval.
+   */
+  public boolean shouldCheckEngineType(long interval) {
+    final long now = System.currentTimeMillis();
+    final long lastCheck = lastEngineTypeCheck.get();
+
+    return now - lastCheck >= interval && lastEngineTypeCheck.compareAndSet(lastCheck, now);
+  }
+
+  /**
+   * Estimated number of heap bytes taken by the rules, the rules engine and
+   * the cached rule matches.
+   */
+  public long getEstimatedSize() {
+    final long ruleBytes = engineType == CirculationRulesEngineType.DECISION_TABLE
+      ? (long) rulesAsText.length() * DECISION_TABLE_BYTES_PER_CHARACTER
+      : (long) rulesAsDrools.length() * DROOLS_BYTES_PER_CHARACTER;
+
+    return 2L * (rulesAsText.length() + rulesAsDrools.length()) + ruleBytes
+      + matchCache.getEstimatedSize();
   }
 }
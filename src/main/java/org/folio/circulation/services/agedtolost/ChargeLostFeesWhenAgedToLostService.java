@@ -10,10 +10,11 @@ import static org.folio.circulation.domain.representations.LoanProperties.DATE_L
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_STATUS;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_HAS_BEEN_BILLED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.fetching.SortKey.sortKey;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getNestedStringProperty;
 import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -104,7 +105,12 @@ public class ChargeLostFeesWhenAgedToLostService {
     log.info("Starting aged to lost items charging...");
 
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::chargeFees));
+      .after(query -> loanPageableFetcher.processPagesByKey(query,
+        List.of(sortKey(AGED_TO_LOST_DELAYED_BILLING + "." + DATE_LOST_ITEM_SHOULD_BE_BILLED,
+            loan -> getNestedStringProperty(loan.asJson(), AGED_TO_LOST_DELAYED_BILLING,
+              DATE_LOST_ITEM_SHOULD_BE_BILLED)),
+          sortKey("id", Loan::getId)),
+        this::chargeFees));
   }
 
   public CompletableFuture<Result<Void>> chargeFees(MultipleRecords<Loan> loans) {
@@ -274,8 +280,7 @@ public class ChargeLostFeesWhenAgedToLostService {
       lostItemHasBeenBilled, "false");
 
     return billingDateQuery.combine(agedToLostQuery, CqlQuery::and)
-      .combine(hasNotBeenBilledQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending(billingDateProperty)));
+      .combine(hasNotBeenBilledQuery, CqlQuery::and);
   }
 
   private Result<LoanToChargeFees> validateCanCreateAccountForLoan(LoanToChargeFees loanToChargeFees) {
@@ -3,11 +3,13 @@ package org.folio.circulation.services.agedtolost;
 import static org.folio.circulation.domain.ItemStatus.AGED_TO_LOST;
 import static org.folio.circulation.domain.ItemStatus.CLAIMED_RETURNED;
 import static org.folio.circulation.domain.ItemStatus.DECLARED_LOST;
+import static org.folio.circulation.domain.representations.LoanProperties.DUE_DATE;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
-import static org.folio.circulation.support.CqlSortBy.ascending;
+import static org.folio.circulation.support.fetching.SortKey.sortKey;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.utils.DateFormatUtil.formatDateTime;
 
@@ -60,7 +62,10 @@ public class MarkOverdueLoansAsAgedLostService {
     log.info("Running mark overdue loans as aged to lost process...");
 
     return loanFetchQuery()
-      .after(query -> loanPageableFetcher.processPages(query, this::processAgeToLost));
+      .after(query -> loanPageableFetcher.processPagesByKey(query,
+        List.of(sortKey(DUE_DATE, loan -> getProperty(loan.asJson(), DUE_DATE)),
+          sortKey("id", Loan::getId)),
+        this::processAgeToLost));
   }
 
   public CompletableFuture<Result<Void>> processAgeToLost(MultipleRecords<Loan> loans) {
@@ -148,8 +153,7 @@ public class MarkOverdueLoansAsAgedLostService {
     return statusQuery.combine(dueDateQuery, CqlQuery::and)
       .combine(claimedReturnedQuery, CqlQuery::and)
       .combine(agedToLostQuery, CqlQuery::and)
-      .combine(declaredLostQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending("dueDate")));
+      .combine(declaredLostQuery, CqlQuery::and);
   }
 
   private CompletableFuture<Result<Void>> scheduleAgedToLostNotices(Result<List<Loan>> result) {
@@ -6,7 +6,6 @@ import static org.folio.circulation.support.http.client.NamedQueryParameter.name
 import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
 
 import java.lang.invoke.MethodHandles;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.concurrent.CompletableFuture;
 
@@ -15,7 +14,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.client.Response;
-import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
 public class CirculationRulesClient {
@@ -24,12 +22,8 @@ public class CirculationRulesClient {
   private final URL root;
   private final OkapiHttpClient client;
 
-  CirculationRulesClient(OkapiHttpClient client,
-    WebContext context, String policyPath)
-
-    throws MalformedURLException {
-
-    root = context.getOkapiBasedUrl(policyPath);
+  CirculationRulesClient(OkapiHttpClient client, URL root) {
+    this.root = root;
     this.client = client;
   }
 
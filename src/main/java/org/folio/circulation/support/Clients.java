@@ -1,840 +1,1000 @@
 package org.folio.circulation.support;
 
 import java.net.MalformedURLException;
+import java.net.URL;
 
+import org.folio.circulation.infrastructure.storage.inventory.LocationRepository;
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.services.PubSubPublishingService;
+import org.folio.circulation.support.http.client.DeduplicatingOkapiHttpClient;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.server.WebContext;
 
 import io.vertx.core.http.HttpClient;
 
 public class Clients {
-  private final CollectionResourceClient requestsStorageClient;
-  private final CollectionResourceClient requestsBatchStorageClient;
-  private final CollectionResourceClient cancellationReasonStorageClient;
-  private final CollectionResourceClient itemsStorageClient;
-  private final CollectionResourceClient holdingsStorageClient;
-  private final CollectionResourceClient instancesStorageClient;
-  private final CollectionResourceClient identifierTypesStorageClient;
-  private final CollectionResourceClient usersStorageClient;
-  private final CollectionResourceClient addressTypesStorageClient;
-  private final CollectionResourceClient loansStorageClient;
-  private final CollectionResourceClient loansHistoryStorageClient;
-  private final CollectionResourceClient locationsStorageClient;
-  private final CollectionResourceClient institutionsStorageClient;
-  private final CollectionResourceClient campusesStorageClient;
-  private final CollectionResourceClient librariesStorageClient;
-  private final CollectionResourceClient materialTypesStorageClient;
-  private final CollectionResourceClient loanTypesStorageClient;
-  private final GetManyRecordsClient proxiesForClient;
-  private final CollectionResourceClient loanPoliciesStorageClient;
-  private final CollectionResourceClient overdueFinesPoliciesPoliciesStorageClient;
-  private final CollectionResourceClient lostItemPoliciesStorageClient;
-  private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
-  private final CirculationRulesClient circulationLoanRulesClient;
-  private final CirculationRulesClient circulationOverdueFinesRulesClient;
-  private final CirculationRulesClient circulationLostItemRulesClient;
-  private final CirculationRulesClient circulationRequestRulesClient;
-  private final CirculationRulesClient circulationNoticeRulesClient;
-  private final CollectionResourceClient circulationRulesStorageClient;
-  private final CollectionResourceClient requestPoliciesStorageClient;
-  private final CollectionResourceClient servicePointsStorageClient;
-  private final CollectionResourceClient calendarStorageClient;
-  private final CollectionResourceClient patronGroupsStorageClient;
-  private final CollectionResourceClient patronNoticePolicesStorageClient;
-  private final CollectionResourceClient patronNoticeClient;
-  private final GetManyRecordsClient configurationStorageClient;
-  private final CollectionResourceClient scheduledNoticesStorageClient;
-  private final CollectionResourceClient accountsStorageClient;
-  private final CollectionResourceClient feeFineActionsStorageClient;
-  private final CollectionResourceClient feeFineOwnerStorageClient;
-  private final CollectionResourceClient feeFineStorageClient;
-  private final CollectionResourceClient anonymizeStorageLoansClient;
-  private final CollectionResourceClient patronActionSessionsStorageClient;
-  private final CollectionResourceClient patronExpiredSessionsStorageClient;
-  private final GetManyRecordsClient userManualBlocksStorageClient;
-  private final CollectionResourceClient noticeTemplatesClient;
-  private final CollectionResourceClient checkInStorageClient;
-  private final CollectionResourceClient automatedPatronBlocksClient;
-  private final CollectionResourceClient notesClient;
-  private final CollectionResourceClient noteTypesClient;
-  private final PubSubPublishingService pubSubPublishingService;
-  private final CirculationRulesProcessor circulationRulesProcessor;
-  private final CollectionResourceClient accountsRefundClient;
-  private final CollectionResourceClient accountsCancelClient;
-  private final CollectionResourceClient actualCostRecordsStorageClient;
-  private final CollectionResourceClient actualCostFeeFineCancelClient;
-  private final CollectionResourceClient departmentClient;
-  private final CollectionResourceClient checkOutLockStorageClient;
-  private final CollectionResourceClient circulationItemClient;
-  private final GetManyRecordsClient settingsStorageClient;
-  private final CollectionResourceClient circulationSettingsStorageClient;
-  private final CollectionResourceClient printEventsStorageClient;
-
-
+  private final OkapiHttpClient client;
+  private final WebContext context;
+  private final String tenantId;
+  private CollectionResourceClient requestsStorageClient;
+  private CollectionResourceClient requestsBatchStorageClient;
+  private CollectionResourceClient cancellationReasonStorageClient;
+  private CollectionResourceClient itemsStorageClient;
+  private CollectionResourceClient holdingsStorageClient;
+  private CollectionResourceClient instancesStorageClient;
+  private CollectionResourceClient identifierTypesStorageClient;
+  private CollectionResourceClient usersStorageClient;
+  private CollectionResourceClient addressTypesStorageClient;
+  private CollectionResourceClient loansStorageClient;
+  private CollectionResourceClient loansHistoryStorageClient;
+  private CollectionResourceClient locationsStorageClient;
+  private CollectionResourceClient institutionsStorageClient;
+  private CollectionResourceClient campusesStorageClient;
+  private CollectionResourceClient librariesStorageClient;
+  private CollectionResourceClient materialTypesStorageClient;
+  private CollectionResourceClient loanTypesStorageClient;
+  private GetManyRecordsClient proxiesForClient;
+  private CollectionResourceClient loanPoliciesStorageClient;
+  private CollectionResourceClient overdueFinesPoliciesPoliciesStorageClient;
+  private CollectionResourceClient lostItemPoliciesStorageClient;
+  private GetManyRecordsClient fixedDueDateSchedulesStorageClient;
+  private CirculationRulesClient circulationLoanRulesClient;
+  private CirculationRulesClient circulationOverdueFinesRulesClient;
+  private CirculationRulesClient circulationLostItemRulesClient;
+  private CirculationRulesClient circulationRequestRulesClient;
+  private CirculationRulesClient circulationNoticeRulesClient;
+  private CollectionResourceClient circulationRulesStorageClient;
+  private CollectionResourceClient requestPoliciesStorageClient;
+  private CollectionResourceClient servicePointsStorageClient;
+  private CollectionResourceClient calendarStorageClient;
+  private CollectionResourceClient patronGroupsStorageClient;
+  private CollectionResourceClient patronNoticePolicesStorageClient;
+  private CollectionResourceClient patronNoticeClient;
+  private GetManyRecordsClient configurationStorageClient;
+  private CollectionResourceClient scheduledNoticesStorageClient;
+  private CollectionResourceClient accountsStorageClient;
+  private CollectionResourceClient feeFineActionsStorageClient;
+  private CollectionResourceClient feeFineOwnerStorageClient;
+  private CollectionResourceClient feeFineStorageClient;
+  private CollectionResourceClient anonymizeStorageLoansClient;
+  private CollectionResourceClient patronActionSessionsStorageClient;
+  private CollectionResourceClient patronExpiredSessionsStorageClient;
+  private GetManyRecordsClient userManualBlocksStorageClient;
+  private CollectionResourceClient noticeTemplatesClient;
+  private CollectionResourceClient checkInStorageClient;
+  private CollectionResourceClient automatedPatronBlocksClient;
+  private CollectionResourceClient notesClient;
+  private CollectionResourceClient noteTypesClient;
+  private PubSubPublishingService pubSubPublishingService;
+  private CirculationRulesProcessor circulationRulesProcessor;
+  private CollectionResourceClient accountsRefundClient;
+  private CollectionResourceClient accountsCancelClient;
+  private CollectionResourceClient actualCostRecordsStorageClient;
+  private CollectionResourceClient actualCostFeeFineCancelClient;
+  private CollectionResourceClient departmentClient;
+  private CollectionResourceClient checkOutLockStorageClient;
+  private CollectionResourceClient circulationItemClient;
+  private GetManyRecordsClient settingsStorageClient;
+  private CollectionResourceClient circulationSettingsStorageClient;
+  private CollectionResourceClient printEventsStorageClient;
+
+
+  /**
+   * Refuses an invalid Okapi location when creating the HTTP client, the clients for
+   * the other modules are only created when they are first used, as most requests
+   * only use a few of them
+   */
   public static Clients create(WebContext context, HttpClient httpClient) {
-    return new Clients(context.createHttpClient(httpClient), context);
+    return new Clients(new DeduplicatingOkapiHttpClient(
+      context.createHttpClient(httpClient)), context);
   }
 
   private Clients(OkapiHttpClient client, WebContext context) {
-    try {
-      requestsStorageClient = createRequestsStorageClient(client, context);
-      requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
-      cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
-      itemsStorageClient = createItemsStorageClient(client, context);
-      holdingsStorageClient = createHoldingsStorageClient(client, context);
-      instancesStorageClient = createInstanceStorageClient(client, context);
-      identifierTypesStorageClient = createIdentifierTypesStorageClient(client, context);
-      usersStorageClient = createUsersStorageClient(client, context);
-      addressTypesStorageClient = createAddressTypesStorageClient(client, context);
-      loansStorageClient = createLoansStorageClient(client, context);
-      loansHistoryStorageClient = createLoansHistoryStorageClient(client, context);
-      overdueFinesPoliciesPoliciesStorageClient = createOverdueFinesPoliciesStorageClient(client, context);
-      lostItemPoliciesStorageClient = createLostItemPoliciesStorageClient(client, context);
-      locationsStorageClient = createLocationsStorageClient(client, context);
-      anonymizeStorageLoansClient = createAnonymizeStorageLoansClient(client, context);
-      institutionsStorageClient = createInstitutionsStorageClient(client, context);
-      campusesStorageClient = createCampusesStorageClient(client, context);
-      librariesStorageClient = createLibrariesStorageClient(client, context);
-      materialTypesStorageClient = createMaterialTypesStorageClient(client, context);
-      loanTypesStorageClient = createLoanTypesStorageClient(client, context);
-      proxiesForClient = createProxyUsersStorageClient(client, context);
-      circulationLoanRulesClient = createCirculationLoanRulesClient(client, context);
-      circulationRequestRulesClient = createCirculationRequestRulesClient(client, context);
-      circulationNoticeRulesClient = createCirculationNoticeRulesClient(client, context);
-      circulationOverdueFinesRulesClient = createCirculationOverdueFinesRulesClient(client, context);
-      circulationLostItemRulesClient = createCirculationLostItemRulesClient(client, context);
-      circulationRulesStorageClient = createCirculationRulesStorageClient(client, context);
-      loanPoliciesStorageClient = createLoanPoliciesStorageClient(client, context);
-      requestPoliciesStorageClient = createRequestPoliciesStorageClient(client, context);
-      fixedDueDateSchedulesStorageClient = createFixedDueDateSchedulesStorageClient(client, context);
-      servicePointsStorageClient = createServicePointsStorageClient(client, context);
-      patronGroupsStorageClient = createPatronGroupsStorageClient(client, context);
-      calendarStorageClient = createCalendarStorageClient(client, context);
-      patronNoticePolicesStorageClient = createPatronNoticePolicesStorageClient(client, context);
-      patronNoticeClient = createPatronNoticeClient(client, context);
-      configurationStorageClient = createConfigurationStorageClient(client, context);
-      scheduledNoticesStorageClient = createScheduledNoticesStorageClient(client, context);
-      accountsStorageClient = createAccountsStorageClient(client, context);
-      feeFineActionsStorageClient = createFeeFineActionsStorageClient(client,context);
-      feeFineOwnerStorageClient = createFeeFineOwnerStorageClient(client,context);
-      feeFineStorageClient = createFeeFineStorageClient(client,context);
-      patronActionSessionsStorageClient = createPatronActionSessionsStorageClient(client, context);
-      patronExpiredSessionsStorageClient = createPatronExpiredSessionsStorageClient(client, context);
-      userManualBlocksStorageClient = createUserManualBlocksStorageClient(client, context);
-      noticeTemplatesClient = createNoticeTemplatesClient(client, context);
-      checkInStorageClient = createCheckInStorageClient(client, context);
-      automatedPatronBlocksClient = createAutomatedPatronBlocksClient(client, context);
-      notesClient = createNotesClient(client, context);
-      noteTypesClient = createNoteTypesClient(client, context);
-      pubSubPublishingService = createPubSubPublishingService(context);
-      circulationRulesProcessor = new CirculationRulesProcessor(context.getTenantId(),
-        circulationRulesStorageClient, locationsStorageClient);
-      accountsRefundClient = createAccountsRefundClient(client, context);
-      accountsCancelClient = createAccountsCancelClient(client, context);
-      actualCostRecordsStorageClient = createActualCostRecordClient(client, context);
-      actualCostFeeFineCancelClient = createActualCostFeeFineCancelClient(client, context);
-      departmentClient = createDepartmentClient(client, context);
-      checkOutLockStorageClient = createCheckoutLockClient(client, context);
-      settingsStorageClient = createSettingsStorageClient(client, context);
-      circulationItemClient = createCirculationItemClient(client, context);
-      circulationSettingsStorageClient = createCirculationSettingsStorageClient(client, context);
-      printEventsStorageClient = createPrintEventsStorageClient(client, context);
-
-    }
-    catch(MalformedURLException e) {
-      throw new InvalidOkapiLocationException(context.getOkapiLocation(), e);
-    }
+    this.client = client;
+    this.context = context;
+    tenantId = context.getTenantId();
   }
 
   public CollectionResourceClient requestsStorage() {
+    if (requestsStorageClient == null) {
+      requestsStorageClient = createRequestsStorageClient(client, context);
+    }
+
     return requestsStorageClient;
   }
 
   public CollectionResourceClient requestsBatchStorage() {
+    if (requestsBatchStorageClient == null) {
+      requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
+    }
+
     return requestsBatchStorageClient;
   }
 
   public CollectionResourceClient cancellationReasonStorage() {
+    if (cancellationReasonStorageClient == null) {
+      cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
+    }
+
     return cancellationReasonStorageClient;
   }
 
   public CollectionResourceClient requestPoliciesStorage() {
+    if (requestPoliciesStorageClient == null) {
+      requestPoliciesStorageClient = createRequestPoliciesStorageClient(client, context);
+    }
+
     return requestPoliciesStorageClient;
   }
 
   public CollectionResourceClient itemsStorage() {
+    if (itemsStorageClient == null) {
+      itemsStorageClient = createItemsStorageClient(client, context);
+    }
+
     return itemsStorageClient;
   }
 
   public CollectionResourceClient holdingsStorage() {
+    if (holdingsStorageClient == null) {
+      holdingsStorageClient = createHoldingsStorageClient(client, context);
+    }
+
     return holdingsStorageClient;
   }
 
   public CollectionResourceClient instancesStorage() {
+    if (instancesStorageClient == null) {
+      instancesStorageClient = createInstanceStorageClient(client, context);
+    }
+
     return instancesStorageClient;
   }
 
   public CollectionResourceClient identifierTypesStorage() {
+    if (identifierTypesStorageClient == null) {
+      identifierTypesStorageClient = createIdentifierTypesStorageClient(client, context);
+    }
+
     return identifierTypesStorageClient;
   }
 
   public CollectionResourceClient usersStorage() {
+    if (usersStorageClient == null) {
+      usersStorageClient = createUsersStorageClient(client, context);
+    }
+
     return usersStorageClient;
   }
 
   public CollectionResourceClient addressTypesStorage() {
+    if (addressTypesStorageClient == null) {
+      addressTypesStorageClient = createAddressTypesStorageClient(client, context);
+    }
+
     return addressTypesStorageClient;
   }
 
   public CollectionResourceClient loansStorage() {
+    if (loansStorageClient == null) {
+      loansStorageClient = createLoansStorageClient(client, context);
+    }
+
     return loansStorageClient;
   }
 
   public CollectionResourceClient loansHistoryStorageClient() {
+    if (loansHistoryStorageClient == null) {
+      loansHistoryStorageClient = createLoansHistoryStorageClient(client, context);
+    }
+
     return loansHistoryStorageClient;
   }
 
   public CollectionResourceClient anonymizeStorageLoansClient() {
+    if (anonymizeStorageLoansClient == null) {
+      anonymizeStorageLoansClient = createAnonymizeStorageLoansClient(client, context);
+    }
+
     return anonymizeStorageLoansClient;
   }
 
   public CollectionResourceClient locationsStorage() {
+    if (locationsStorageClient == null) {
+      locationsStorageClient = createLocationsStorageClient(client, context);
+    }
+
     return locationsStorageClient;
   }
 
   public CollectionResourceClient institutionsStorage() {
+    if (institutionsStorageClient == null) {
+      institutionsStorageClient = createInstitutionsStorageClient(client, context);
+    }
+
     return institutionsStorageClient;
   }
 
   public CollectionResourceClient campusesStorage() {
+    if (campusesStorageClient == null) {
+      campusesStorageClient = createCampusesStorageClient(client, context);
+    }
+
     return campusesStorageClient;
   }
 
   public CollectionResourceClient librariesStorage() {
+    if (librariesStorageClient == null) {
+      librariesStorageClient = createLibrariesStorageClient(client, context);
+    }
+
     return librariesStorageClient;
   }
 
   public CollectionResourceClient materialTypesStorage() {
+    if (materialTypesStorageClient == null) {
+      materialTypesStorageClient = createMaterialTypesStorageClient(client, context);
+    }
+
     return materialTypesStorageClient;
   }
 
   public CollectionResourceClient loanTypesStorage() {
+    if (loanTypesStorageClient == null) {
+      loanTypesStorageClient = createLoanTypesStorageClient(client, context);
+    }
+
     return loanTypesStorageClient;
   }
 
   public CollectionResourceClient loanPoliciesStorage() {
+    if (loanPoliciesStorageClient == null) {
+      loanPoliciesStorageClient = createLoanPoliciesStorageClient(client, context);
+    }
+
     return loanPoliciesStorageClient;
   }
 
   public CollectionResourceClient overdueFinesPoliciesStorage() {
+    if (overdueFinesPoliciesPoliciesStorageClient == null) {
+      overdueFinesPoliciesPoliciesStorageClient = createOverdueFinesPoliciesStorageClient(client, context);
+    }
+
     return overdueFinesPoliciesPoliciesStorageClient;
   }
 
   public CollectionResourceClient lostItemPoliciesStorage() {
+    if (lostItemPoliciesStorageClient == null) {
+      lostItemPoliciesStorageClient = createLostItemPoliciesStorageClient(client, context);
+    }
+
     return lostItemPoliciesStorageClient;
   }
 
   public GetManyRecordsClient fixedDueDateSchedules() {
+    if (fixedDueDateSchedulesStorageClient == null) {
+      fixedDueDateSchedulesStorageClient = createFixedDueDateSchedulesStorageClient(client, context);
+    }
+
     return fixedDueDateSchedulesStorageClient;
   }
 
   public CollectionResourceClient servicePointsStorage() {
+    if (servicePointsStorageClient == null) {
+      servicePointsStorageClient = createServicePointsStorageClient(client, context);
+    }
+
     return servicePointsStorageClient;
   }
 
   public CollectionResourceClient patronGroupsStorage() {
+    if (patronGroupsStorageClient == null) {
+      patronGroupsStorageClient = createPatronGroupsStorageClient(client, context);
+    }
+
     return patronGroupsStorageClient;
   }
 
   public CollectionResourceClient actualCostRecordsStorage() {
+    if (actualCostRecordsStorageClient == null) {
+      actualCostRecordsStorageClient = createActualCostRecordClient(client, context);
+    }
+
     return actualCostRecordsStorageClient;
   }
 
   public CollectionResourceClient calendarStorageClient() {
+    if (calendarStorageClient == null) {
+      calendarStorageClient = createCalendarStorageClient(client, context);
+    }
+
     return calendarStorageClient;
   }
 
   public GetManyRecordsClient configurationStorageClient() {
+    if (configurationStorageClient == null) {
+      configurationStorageClient = createConfigurationStorageClient(client, context);
+    }
+
     return configurationStorageClient;
   }
 
   public GetManyRecordsClient userProxies() {
+    if (proxiesForClient == null) {
+      proxiesForClient = createProxyUsersStorageClient(client, context);
+    }
+
     return proxiesForClient;
   }
 
   public CirculationRulesClient circulationLoanRules() {
+    if (circulationLoanRulesClient == null) {
+      circulationLoanRulesClient = createCirculationLoanRulesClient(client, context);
+    }
+
     return circulationLoanRulesClient;
   }
 
   public CirculationRulesClient circulationOverdueFineRules() {
+    if (circulationOverdueFinesRulesClient == null) {
+      circulationOverdueFinesRulesClient = createCirculationOverdueFinesRulesClient(client, context);
+    }
+
     return circulationOverdueFinesRulesClient;
   }
 
   public CirculationRulesClient circulationLostItemRules() {
+    if (circulationLostItemRulesClient == null) {
+      circulationLostItemRulesClient = createCirculationLostItemRulesClient(client, context);
+    }
+
     return circulationLostItemRulesClient;
   }
 
   public CirculationRulesClient circulationRequestRules(){
+    if (circulationRequestRulesClient == null) {
+      circulationRequestRulesClient = createCirculationRequestRulesClient(client, context);
+    }
+
     return circulationRequestRulesClient;
   }
 
   public CirculationRulesClient circulationNoticeRules(){
+    if (circulationNoticeRulesClient == null) {
+      circulationNoticeRulesClient = createCirculationNoticeRulesClient(client, context);
+    }
+
     return circulationNoticeRulesClient;
   }
 
   public CollectionResourceClient circulationRulesStorage() {
+    if (circulationRulesStorageClient == null) {
+      circulationRulesStorageClient = createCirculationRulesStorageClient(client, context);
+    }
+
     return circulationRulesStorageClient;
   }
 
   public CollectionResourceClient patronNoticePolicesStorageClient() {
+    if (patronNoticePolicesStorageClient == null) {
+      patronNoticePolicesStorageClient = createPatronNoticePolicesStorageClient(client, context);
+    }
+
     return patronNoticePolicesStorageClient;
   }
 
   public CollectionResourceClient patronNoticeClient() {
+    if (patronNoticeClient == null) {
+      patronNoticeClient = createPatronNoticeClient(client, context);
+    }
+
     return patronNoticeClient;
   }
 
   public CollectionResourceClient scheduledNoticesStorageClient() {
+    if (scheduledNoticesStorageClient == null) {
+      scheduledNoticesStorageClient = createScheduledNoticesStorageClient(client, context);
+    }
+
     return scheduledNoticesStorageClient;
   }
 
   public CollectionResourceClient accountsStorageClient() {
+    if (accountsStorageClient == null) {
+      accountsStorageClient = createAccountsStorageClient(client, context);
+    }
+
     return accountsStorageClient;
   }
 
   public CollectionResourceClient feeFineActionsStorageClient() {
+    if (feeFineActionsStorageClient == null) {
+      feeFineActionsStorageClient = createFeeFineActionsStorageClient(client, context);
+    }
+
     return feeFineActionsStorageClient;
   }
 
   public CollectionResourceClient feeFineOwnerStorageClient() {
+    if (feeFineOwnerStorageClient == null) {
+      feeFineOwnerStorageClient = createFeeFineOwnerStorageClient(client, context);
+    }
+
     return feeFineOwnerStorageClient;
   }
 
   public CollectionResourceClient feeFineStorageClient() {
+    if (feeFineStorageClient == null) {
+      feeFineStorageClient = createFeeFineStorageClient(client, context);
+    }
+
     return feeFineStorageClient;
   }
 
   public CollectionResourceClient patronActionSessionsStorageClient() {
+    if (patronActionSessionsStorageClient == null) {
+      patronActionSessionsStorageClient = createPatronActionSessionsStorageClient(client, context);
+    }
+
     return patronActionSessionsStorageClient;
   }
 
   public CollectionResourceClient patronExpiredSessionsStorageClient() {
+    if (patronExpiredSessionsStorageClient == null) {
+      patronExpiredSessionsStorageClient = createPatronExpiredSessionsStorageClient(client, context);
+    }
+
     return patronExpiredSessionsStorageClient;
   }
 
   public GetManyRecordsClient userManualBlocksStorageClient() {
+    if (userManualBlocksStorageClient == null) {
+      userManualBlocksStorageClient = createUserManualBlocksStorageClient(client, context);
+    }
+
     return userManualBlocksStorageClient;
   }
 
   public CollectionResourceClient checkInStorageClient() {
+    if (checkInStorageClient == null) {
+      checkInStorageClient = createCheckInStorageClient(client, context);
+    }
+
     return checkInStorageClient;
   }
 
   public CollectionResourceClient automatedPatronBlocksClient() {
+    if (automatedPatronBlocksClient == null) {
+      automatedPatronBlocksClient = createAutomatedPatronBlocksClient(client, context);
+    }
+
     return automatedPatronBlocksClient;
   }
 
   public CollectionResourceClient notesClient() {
+    if (notesClient == null) {
+      notesClient = createNotesClient(client, context);
+    }
+
     return notesClient;
   }
 
   public CollectionResourceClient noteTypesClient() {
+    if (noteTypesClient == null) {
+      noteTypesClient = createNoteTypesClient(client, context);
+    }
+
     return noteTypesClient;
   }
 
+  public String tenantId() {
+    return tenantId;
+  }
+
   public CirculationRulesProcessor circulationRulesProcessor() {
+    if (circulationRulesProcessor == null) {
+      circulationRulesProcessor = new CirculationRulesProcessor(tenantId,
+        circulationRulesStorage(), LocationRepository.using(this),
+        circulationSettingsStorageClient());
+    }
+
     return circulationRulesProcessor;
   }
 
   public PubSubPublishingService pubSubPublishingService() {
+    if (pubSubPublishingService == null) {
+      pubSubPublishingService = createPubSubPublishingService(context);
+    }
+
     return pubSubPublishingService;
   }
 
   public CollectionResourceClient accountsRefundClient() {
+    if (accountsRefundClient == null) {
+      accountsRefundClient = createAccountsRefundClient(client, context);
+    }
+
     return accountsRefundClient;
   }
 
   public CollectionResourceClient accountsCancelClient() {
+    if (accountsCancelClient == null) {
+      accountsCancelClient = createAccountsCancelClient(client, context);
+    }
+
     return accountsCancelClient;
   }
 
   public CollectionResourceClient actualCostFeeFineCancelClient() {
+    if (actualCostFeeFineCancelClient == null) {
+      actualCostFeeFineCancelClient = createActualCostFeeFineCancelClient(client, context);
+    }
+
     return actualCostFeeFineCancelClient;
   }
 
   public CollectionResourceClient departmentClient() {
+    if (departmentClient == null) {
+      departmentClient = createDepartmentClient(client, context);
+    }
+
     return departmentClient;
   }
 
   public CollectionResourceClient checkOutLockClient() {
+    if (checkOutLockStorageClient == null) {
+      checkOutLockStorageClient = createCheckoutLockClient(client, context);
+    }
+
     return checkOutLockStorageClient;
   }
 
   public GetManyRecordsClient settingsStorageClient() {
+    if (settingsStorageClient == null) {
+      settingsStorageClient = createSettingsStorageClient(client, context);
+    }
+
     return settingsStorageClient;
   }
 
   public CollectionResourceClient circulationItemClient() {
+    if (circulationItemClient == null) {
+      circulationItemClient = createCirculationItemClient(client, context);
+    }
+
     return circulationItemClient;
   }
 
   public CollectionResourceClient circulationSettingsStorageClient() {
+    if (circulationSettingsStorageClient == null) {
+      circulationSettingsStorageClient = createCirculationSettingsStorageClient(client, context);
+    }
+
     return circulationSettingsStorageClient;
   }
 
   public CollectionResourceClient printEventsStorageClient() {
+    if (printEventsStorageClient == null) {
+      printEventsStorageClient = createPrintEventsStorageClient(client, context);
+    }
+
     return printEventsStorageClient;
   }
 
   private static CollectionResourceClient getCollectionResourceClient(
     OkapiHttpClient client, WebContext context,
-    String path)
-    throws MalformedURLException {
+    String path) {
 
-    return new CollectionResourceClient(client, context.getOkapiBasedUrl(path));
+    return new CollectionResourceClient(client, okapiBasedUrl(context, path));
   }
 
   public CollectionResourceClient noticeTemplatesClient() {
+    if (noticeTemplatesClient == null) {
+      noticeTemplatesClient = createNoticeTemplatesClient(client, context);
+    }
+
     return noticeTemplatesClient;
   }
 
   private static CirculationRulesClient createCirculationLoanRulesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
-    return new CirculationRulesClient(client, context,
-      "/circulation/rules/loan-policy");
+    return new CirculationRulesClient(client, okapiBasedUrl(context,
+      "/circulation/rules/loan-policy"));
   }
 
   private static CirculationRulesClient createCirculationOverdueFinesRulesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
-    return new CirculationRulesClient(client, context,
-      "/circulation/rules/overdue-fine-policy");
+    return new CirculationRulesClient(client, okapiBasedUrl(context,
+      "/circulation/rules/overdue-fine-policy"));
   }
 
   private static CirculationRulesClient createCirculationLostItemRulesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
-    return new CirculationRulesClient(client, context,
-      "/circulation/rules/lost-item-policy");
+    return new CirculationRulesClient(client, okapiBasedUrl(context,
+      "/circulation/rules/lost-item-policy"));
   }
 
   private static CirculationRulesClient createCirculationRequestRulesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
-    return new CirculationRulesClient(client, context,
-      "/circulation/rules/request-policy");
+    return new CirculationRulesClient(client, okapiBasedUrl(context,
+      "/circulation/rules/request-policy"));
   }
 
   private static CirculationRulesClient createCirculationNoticeRulesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
-    return new CirculationRulesClient(client, context,
-      "/circulation/rules/notice-policy");
+    return new CirculationRulesClient(client, okapiBasedUrl(context,
+      "/circulation/rules/notice-policy"));
   }
 
   private static CollectionResourceClient createRequestsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/request-storage/requests");
   }
 
   private static CollectionResourceClient createRequestsBatchStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/request-storage-batch/requests");
   }
 
   private static CollectionResourceClient createCancellationReasonStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/cancellation-reason-storage/cancellation-reasons");
   }
 
   private static CollectionResourceClient createItemsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/item-storage/items");
   }
 
   private static CollectionResourceClient createHoldingsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/holdings-storage/holdings");
   }
 
   private static CollectionResourceClient createInstanceStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/instance-storage/instances");
   }
 
   private static CollectionResourceClient createIdentifierTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/identifier-types");
   }
 
   private static CollectionResourceClient createUsersStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/users");
   }
 
   private static CollectionResourceClient createAddressTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/addresstypes");
   }
 
   private static CollectionResourceClient createLoansStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/loan-storage/loans");
   }
 
   private static CollectionResourceClient createLoansHistoryStorageClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/loan-storage/loan-history");
   }
 
   private static CollectionResourceClient createAnonymizeStorageLoansClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/anonymize-storage-loans");
   }
 
   private static CollectionResourceClient createLocationsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/locations");
   }
 
   private static CollectionResourceClient createInstitutionsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/location-units/institutions");
   }
 
   private static CollectionResourceClient createCampusesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/location-units/campuses");
   }
 
   private static CollectionResourceClient createLibrariesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/location-units/libraries");
   }
 
-  private GetManyRecordsClient createProxyUsersStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static GetManyRecordsClient createProxyUsersStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/proxiesfor");
   }
 
-  private CollectionResourceClient createMaterialTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createMaterialTypesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/material-types");
   }
 
-  private CollectionResourceClient createLoanTypesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createLoanTypesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/loan-types");
   }
 
-  private CollectionResourceClient createLoanPoliciesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createLoanPoliciesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/loan-policy-storage/loan-policies");
   }
 
-  private CollectionResourceClient createOverdueFinesPoliciesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createOverdueFinesPoliciesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
             "/overdue-fines-policies");
   }
 
-  private CollectionResourceClient createLostItemPoliciesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createLostItemPoliciesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
             "/lost-item-fees-policies");
   }
 
-  private CollectionResourceClient createRequestPoliciesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createRequestPoliciesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/request-policy-storage/request-policies");
   }
 
-  private GetManyRecordsClient createFixedDueDateSchedulesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static GetManyRecordsClient createFixedDueDateSchedulesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/fixed-due-date-schedule-storage/fixed-due-date-schedules");
   }
 
 
-  private CollectionResourceClient createCirculationRulesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createCirculationRulesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/circulation-rules-storage");
   }
 
-  private CollectionResourceClient createServicePointsStorageClient(
-    OkapiHttpClient client, WebContext context)
-      throws MalformedURLException {
+  private static CollectionResourceClient createServicePointsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/service-points");
   }
 
-  private CollectionResourceClient createPatronGroupsStorageClient(
-    OkapiHttpClient client, WebContext context)
-      throws MalformedURLException {
+  private static CollectionResourceClient createPatronGroupsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/groups");
   }
 
-  private CollectionResourceClient createCalendarStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createCalendarStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/calendar/dates");
   }
 
-  private CollectionResourceClient createPatronNoticePolicesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createPatronNoticePolicesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/patron-notice-policy-storage/patron-notice-policies");
   }
 
-  private CollectionResourceClient createPatronNoticeClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createPatronNoticeClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/patron-notice");
   }
 
-  private GetManyRecordsClient createConfigurationStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static GetManyRecordsClient createConfigurationStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/configurations/entries");
   }
 
-  private CollectionResourceClient createScheduledNoticesStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createScheduledNoticesStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/scheduled-notice-storage/scheduled-notices");
   }
 
-  private CollectionResourceClient createAccountsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createAccountsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/accounts");
   }
 
-  private CollectionResourceClient createFeeFineActionsStorageClient(
-    OkapiHttpClient client, WebContext context)
-      throws MalformedURLException {
+  private static CollectionResourceClient createFeeFineActionsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/feefineactions");
   }
 
-  private CollectionResourceClient createFeeFineOwnerStorageClient(
+  private static CollectionResourceClient createFeeFineOwnerStorageClient(
     OkapiHttpClient client,
-    WebContext context)
-    throws MalformedURLException {
+    WebContext context) {
     return getCollectionResourceClient(client, context, "/owners");
   }
 
-  private CollectionResourceClient createFeeFineStorageClient(
+  private static CollectionResourceClient createFeeFineStorageClient(
     OkapiHttpClient client,
-    WebContext context)
-    throws MalformedURLException {
+    WebContext context) {
     return getCollectionResourceClient(client, context, "/feefines");
   }
 
 
-  private CollectionResourceClient createPatronActionSessionsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createPatronActionSessionsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/patron-action-session-storage/patron-action-sessions");
   }
 
-  private CollectionResourceClient createPatronExpiredSessionsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createPatronExpiredSessionsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/patron-action-session-storage");
   }
 
   private static GetManyRecordsClient createUserManualBlocksStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/manualblocks");
   }
 
-  private CollectionResourceClient createNoticeTemplatesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createNoticeTemplatesClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/templates");
   }
 
-  private CollectionResourceClient createCheckInStorageClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createCheckInStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/check-in-storage/check-ins");
   }
 
   private static CollectionResourceClient createAutomatedPatronBlocksClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/automated-patron-blocks");
   }
 
-  private CollectionResourceClient createNotesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createNotesClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/notes");
   }
 
-  private CollectionResourceClient createNoteTypesClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static CollectionResourceClient createNoteTypesClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/note-types");
   }
 
-  private PubSubPublishingService createPubSubPublishingService(WebContext context) {
+  private static PubSubPublishingService createPubSubPublishingService(WebContext context) {
     return new PubSubPublishingService(context);
   }
 
-  private CollectionResourceClient createAccountsRefundClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createAccountsRefundClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/accounts/%s/refund");
   }
 
-  private CollectionResourceClient createAccountsCancelClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createAccountsCancelClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/accounts/%s/cancel");
   }
 
-  private CollectionResourceClient createActualCostRecordClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createActualCostRecordClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/actual-cost-record-storage/actual-cost-records");
   }
 
-  private CollectionResourceClient createActualCostFeeFineCancelClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createActualCostFeeFineCancelClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/actual-cost-fee-fine/cancel");
   }
 
-  private CollectionResourceClient createDepartmentClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createDepartmentClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context, "/departments");
   }
 
-  private CollectionResourceClient createCheckoutLockClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createCheckoutLockClient(
+    OkapiHttpClient client, WebContext context) {
 
     return  getCollectionResourceClient(client, context, "/check-out-lock-storage");
   }
 
-  private CollectionResourceClient createCirculationItemClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createCirculationItemClient(
+    OkapiHttpClient client, WebContext context) {
 
     return  getCollectionResourceClient(client, context, "/circulation-item");
   }
 
-  private CollectionResourceClient createCirculationSettingsStorageClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createCirculationSettingsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return  getCollectionResourceClient(client, context,
       "/circulation-settings-storage/circulation-settings");
   }
 
-  private CollectionResourceClient createPrintEventsStorageClient(
-    OkapiHttpClient client, WebContext context) throws MalformedURLException {
+  private static CollectionResourceClient createPrintEventsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return  getCollectionResourceClient(client, context,
       "/print-events-storage/print-events-entry");
   }
 
-  private GetManyRecordsClient createSettingsStorageClient(
-    OkapiHttpClient client, WebContext context)
-    throws MalformedURLException {
+  private static GetManyRecordsClient createSettingsStorageClient(
+    OkapiHttpClient client, WebContext context) {
 
     return getCollectionResourceClient(client, context,
       "/settings/entries");
   }
 
+  /**
+   * The Okapi location has already been validated when the HTTP client was created,
+   * so a URL based upon it can only fail to be built when that validation is broken
+   */
+  private static URL okapiBasedUrl(WebContext context, String path) {
+    try {
+      return context.getOkapiBasedUrl(path);
+    }
+    catch(MalformedURLException e) {
+      throw new InvalidOkapiLocationException(context.getOkapiLocation(), e);
+    }
+  }
 }
@@ -1,5 +1,8 @@
 package org.folio.circulation.support;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.folio.Environment.getMaxEventLoopExecuteTimeInMilliseconds;
+
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -9,6 +12,7 @@ import org.apache.logging.log4j.Logger;
 
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
 
 public class VertxAssistant {
@@ -25,7 +29,16 @@ public class VertxAssistant {
       return;
     }
 
-    vertx = Vertx.vertx();
+    // blocked event loops are checked as often as the limit and logged with the stack trace
+    final long maxEventLoopExecuteTime = getMaxEventLoopExecuteTimeInMilliseconds();
+
+    vertx = Vertx.vertx(new VertxOptions()
+      .setMaxEventLoopExecuteTime(maxEventLoopExecuteTime)
+      .setMaxEventLoopExecuteTimeUnit(MILLISECONDS)
+      .setBlockedThreadCheckInterval(maxEventLoopExecuteTime)
+      .setBlockedThreadCheckIntervalUnit(MILLISECONDS)
+      .setWarningExceptionTime(maxEventLoopExecuteTime)
+      .setWarningExceptionTimeUnit(MILLISECONDS));
     vertx.exceptionHandler(ex -> log.error("Unhandled exception caught by vertx", ex));
   }
 
@@ -55,6 +68,27 @@ public class VertxAssistant {
     Class<T> verticleClass,
     JsonObject config) {
 
+    return deployVerticle(verticleClass, config, 1);
+  }
+
+  public <T> CompletableFuture<String> deployVerticle(
+    Class<T> verticleClass,
+    JsonObject config,
+    int instances) {
+
+    return deployVerticle(verticleClass, config, instances, true);
+  }
+
+  /**
+   * @param worker whether the instances run on the worker pool rather than an event loop,
+   *               stages run on the context of a worker instance are still run one at a time
+   */
+  public <T> CompletableFuture<String> deployVerticle(
+    Class<T> verticleClass,
+    JsonObject config,
+    int instances,
+    boolean worker) {
+
     String verticleClass1 = verticleClass.getName();
 
     CompletableFuture<String> deployed = new CompletableFuture<>();
@@ -64,9 +98,11 @@ public class VertxAssistant {
     DeploymentOptions options = new DeploymentOptions();
 
     options.setConfig(config);
-    options.setWorker(true);
+    options.setWorker(worker);
+    options.setInstances(instances);
 
-    log.info("Deploying verticle: {}", verticleClass.getSimpleName());
+    log.info("Deploying {} instances of verticle: {}", instances,
+      verticleClass.getSimpleName());
     vertx.deployVerticle(verticleClass1, options, result -> {
       if (result.succeeded()) {
         long elapsedTime = System.currentTimeMillis() - startTime;
@@ -82,6 +118,26 @@ public class VertxAssistant {
     return deployed;
   }
 
+  /**
+   * Runs the task on the worker pool, for work that blocks and must not run on an event loop
+   */
+  public CompletableFuture<Void> executeBlocking(Runnable task) {
+    CompletableFuture<Void> executed = new CompletableFuture<>();
+
+    vertx.<Void>executeBlocking(() -> {
+      task.run();
+      return null;
+    }, false).onComplete(result -> {
+      if (result.succeeded()) {
+        executed.complete(null);
+      } else {
+        executed.completeExceptionally(result.cause());
+      }
+    });
+
+    return executed;
+  }
+
   public CompletableFuture<Void> undeployVerticle(String moduleDeploymentId) {
     CompletableFuture<Void> undeployed = new CompletableFuture<>();
 
@@ -0,0 +1,46 @@
+package org.folio.circulation.support;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.vertx.core.Context;
+
+/**
+ * Runs the stages of a chain of futures on the Vert.x context handling the request, rather
+ * than on the common fork join pool. Each stage still runs after the one before it has
+ * returned, without moving to another thread and back for the next request to storage.
+ */
+public class VertxContextExecutor implements Executor {
+  private final Context context;
+
+  private VertxContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  public static Executor contextExecutor(Context context) {
+    return new VertxContextExecutor(context);
+  }
+
+  /**
+   * Runs CPU bound work on a worker thread when the context is an event loop, so that the
+   * event loop keeps serving other requests meanwhile. The future completes back on the
+   * context. On any other thread the work is run straight away.
+   */
+  public static <T> CompletableFuture<T> offEventLoop(Context context, Supplier<T> work) {
+    if (context == null || !context.isEventLoopContext()) {
+      return completedFuture(work.get());
+    }
+
+    return context.executeBlocking(work::get, false)
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    context.runOnContext(unused -> command.run());
+  }
+}
@@ -1,19 +1,26 @@
 package org.folio.circulation.support.fetching;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.collectingAndThen;
 import static org.apache.commons.collections4.ListUtils.partition;
-import static org.folio.circulation.domain.MultipleRecords.empty;
+import static org.folio.Environment.getCqlIndexValuesBatchSize;
+import static org.folio.Environment.getCqlIndexValuesMaximumConcurrentQueries;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byId;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.http.client.PageLimit.maximumLimit;
+import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.of;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.FindWithCqlQuery;
@@ -23,21 +30,36 @@ import org.folio.circulation.support.results.Result;
 
 import lombok.val;
 
+/**
+ * Finds the records for many values of an index, using queries for batches of the values.
+ * Unless it is given, the number of values in each query is configured for each index, and
+ * only a limited number of those queries are made at the same time, so that searches for
+ * many values do not overwhelm storage or use up the connections to it.
+ */
 public class CqlIndexValuesFinder<T> implements FindWithMultipleCqlIndexValues<T> {
-  private static final int DEFAULT_MAX_ID_VALUES_PER_CQL_SEARCH_QUERY = 50;
+  /** configured number of values in each query by index name */
+  private static final Map<String, Integer> batchSizes = new ConcurrentHashMap<>();
 
   private final FindWithCqlQuery<T> cqlFinder;
-  private final int maxValuesPerCqlSearchQuery;
+  private final Integer maxValuesPerCqlSearchQuery;
+  private final int maxConcurrentQueries;
 
   public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder,
-    int maxValuesPerCqlSearchQuery) {
+    Integer maxValuesPerCqlSearchQuery, int maxConcurrentQueries) {
 
     this.cqlFinder = cqlFinder;
     this.maxValuesPerCqlSearchQuery = maxValuesPerCqlSearchQuery;
+    this.maxConcurrentQueries = Math.max(1, maxConcurrentQueries);
+  }
+
+  public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder,
+    int maxValuesPerCqlSearchQuery) {
+
+    this(cqlFinder, maxValuesPerCqlSearchQuery, getCqlIndexValuesMaximumConcurrentQueries());
   }
 
   public CqlIndexValuesFinder(FindWithCqlQuery<T> cqlFinder) {
-    this(cqlFinder, DEFAULT_MAX_ID_VALUES_PER_CQL_SEARCH_QUERY);
+    this(cqlFinder, null, getCqlIndexValuesMaximumConcurrentQueries());
   }
 
   @Override
@@ -80,30 +102,90 @@ public class CqlIndexValuesFinder<T> implements FindWithMultipleCqlIndexValues<T
     val indexOperator = criteria.getIndexOperator();
     val values = criteria.getValues();
 
-    return partition(new ArrayList<>(values), maxValuesPerCqlSearchQuery)
+    return partition(new ArrayList<>(values), batchSize(indexName))
       .stream()
       .map(partitionedIds -> indexOperator.apply(indexName, partitionedIds))
       .collect(Collectors.toList());
   }
 
+  private int batchSize(String indexName) {
+    if (maxValuesPerCqlSearchQuery != null) {
+      return maxValuesPerCqlSearchQuery;
+    }
+
+    return batchSizes.computeIfAbsent(indexName,
+      name -> Math.max(1, getCqlIndexValuesBatchSize(name)));
+  }
+
   private CompletableFuture<Result<MultipleRecords<T>>> findByBatchQueries(
     List<Result<CqlQuery>> queries) {
 
+    final AtomicReferenceArray<Result<MultipleRecords<T>>> results =
+      new AtomicReferenceArray<>(queries.size());
+    final AtomicInteger nextQuery = new AtomicInteger();
+
+    final CompletableFuture<?>[] runningQueries = IntStream
+      .range(0, Math.min(maxConcurrentQueries, queries.size()))
+      .mapToObj(notUsed -> findByRemainingQueries(queries, nextQuery, results))
+      .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(runningQueries)
+      .thenApply(notUsed -> aggregate(results));
+  }
+
+  /**
+   * Makes the remaining queries one after another, stopping after a query fails
+   */
+  private CompletableFuture<Void> findByRemainingQueries(List<Result<CqlQuery>> queries,
+    AtomicInteger nextQuery, AtomicReferenceArray<Result<MultipleRecords<T>>> results) {
+
+    final int index = nextQuery.getAndIncrement();
+
+    if (index >= queries.size()) {
+      return completedFuture(null);
+    }
+
     // NOTE: query limit is max value to ensure all records are returned
-    List<CompletableFuture<Result<MultipleRecords<T>>>> results = queries.stream()
-      .map(query -> cqlFinder.findByQuery(query, maximumLimit()))
-      .collect(Collectors.toList());
+    return cqlFinder.findByQuery(queries.get(index), maximumLimit())
+      .thenCompose(result -> {
+        results.set(index, result);
+
+        if (result.failed()) {
+          nextQuery.set(queries.size());
+          return completedFuture(null);
+        }
 
-    return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
-      .thenApply(notUsed -> results.stream()
-        .map(CompletableFuture::join)
-        .collect(collectingAndThen(Collectors.toList(), this::aggregate)));
+        return findByRemainingQueries(queries, nextQuery, results);
+      });
   }
 
+  /**
+   * Combines the records of all queries, or returns the failure of the first failed query
+   */
   private Result<MultipleRecords<T>> aggregate(
-    List<Result<MultipleRecords<T>>> results) {
+    AtomicReferenceArray<Result<MultipleRecords<T>>> results) {
+
+    final List<T> allRecords = new ArrayList<>();
+    int totalRecords = 0;
+
+    for (int index = 0; index < results.length(); index++) {
+      final Result<MultipleRecords<T>> result = results.get(index);
+
+      if (result == null) {
+        continue;
+      }
+
+      if (result.failed()) {
+        return failed(result.cause());
+      }
+
+      final MultipleRecords<T> records = result.value();
+      final Integer queryTotalRecords = records.getTotalRecords();
+
+      allRecords.addAll(records.getRecords());
+      totalRecords += queryTotalRecords == null ? records.size() : queryTotalRecords;
+    }
 
-    return Result.combineAll(results)
-      .map(records -> records.stream().reduce(empty(), MultipleRecords::combine));
+    return succeeded(new MultipleRecords<>(allRecords, totalRecords));
   }
 }
@@ -1,75 +1,117 @@
 package org.folio.circulation.support.fetching;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.Environment;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.CqlSortBy;
+import org.folio.circulation.support.CqlSortClause;
 import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
+/**
+ * Fetches the pages of records one after another and processes them in order, one at a
+ * time. Up to {@link #prefetchPages} pages are fetched ahead of the page being processed,
+ * so that fetching overlaps with processing, and no further pages are fetched until those
+ * have been processed.
+ */
 public final class PageableFetcher<T> {
   private static final Logger log = LogManager.getLogger(PageableFetcher.class);
 
-  // This limit needed to prevent stack overflow for recursive fetch
-  private static final int DEFAULT_MAX_ALLOWED_RECORDS_LIMIT = 1_000_000;
+  private static final int NO_RECORDS_LIMIT = Integer.MAX_VALUE;
   private static final PageLimit DEFAULT_PAGE_SIZE_LIMIT = limit(500);
 
   private final GetManyRecordsRepository<T> repository;
   private final PageLimit pageSize;
   private final int maxAllowedRecordsToFetchLimit;
+  private final int prefetchPages;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
-    this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
+    this(repository, DEFAULT_PAGE_SIZE_LIMIT, NO_RECORDS_LIMIT);
+  }
+
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit) {
+
+    this(repository, pageSize, maxAllowedRecordsToFetchLimit,
+      Environment.getPageableFetcherPrefetchPages());
+  }
+
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize,
+    int maxAllowedRecordsToFetchLimit, int prefetchPages) {
+
+    this.repository = repository;
+    this.pageSize = pageSize;
+    this.maxAllowedRecordsToFetchLimit = maxAllowedRecordsToFetchLimit;
+    this.prefetchPages = Math.max(prefetchPages, 0);
   }
 
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
-    return processPagesRecursively(query, pageProcessor, zeroOffset(), 0);
+    return new PagePipeline(
+      (currentRequest, latestPage) -> succeeded(new PageRequest(currentRequest.query(),
+        currentRequest.offset().nextPage(pageSize))),
+      pageProcessor)
+      .run(new PageRequest(query, zeroOffset()));
+  }
+
+  /**
+   * Processes the pages of records sorted by the keys, getting each page by the values of the
+   * keys of the last record of the previous page, rather than by an offset. Unlike an offset,
+   * this does not skip or repeat records when processing a page changes which records match
+   * the query, and getting a page does not become more expensive the further it is.
+   *
+   * @param sortKeys - The keys to sort by, the last one must be unique, like id.
+   */
+  public CompletableFuture<Result<Void>> processPagesByKey(CqlQuery query,
+    List<SortKey<T>> sortKeys, PageProcessor<T> pageProcessor) {
+
+    final List<String> indexes = sortKeys.stream()
+      .map(SortKey::getIndex)
+      .collect(toList());
+
+    final CqlSortBy sortBy = CqlSortBy.sortBy(indexes.stream()
+      .map(CqlSortClause::ascending)
+      .collect(toList()));
+
+    return new PagePipeline(
+      (currentRequest, latestPage) -> CqlQuery.after(indexes, keyValues(sortKeys, latestPage))
+        .map(afterLatestPage -> new PageRequest(query.and(afterLatestPage).sortBy(sortBy),
+          zeroOffset())),
+      pageProcessor)
+      .run(new PageRequest(query.sortBy(sortBy), zeroOffset()));
   }
 
-  private CompletableFuture<Result<Void>> processPagesRecursively(CqlQuery query,
-    PageProcessor<T> pageProcessor, Offset currentOffset, int recordsFetchedOnPreviousIteration) {
-
-    return repository.getMany(query, pageSize, currentOffset)
-      .thenCompose(r -> r.after(records -> pageProcessor.processPage(records)
-          .thenCompose(processResult -> processResult.after(unused -> {
-            final int recordsFetchedSoFar = recordsFetchedOnPreviousIteration + records.size();
-
-            if (hasFetchedAllPages(records)) {
-              log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
-
-              return completedFuture(processResult);
-            } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
-              log.warn("Terminating fetching because records limit in {} has been reached",
-                maxAllowedRecordsToFetchLimit);
-
-              return itemCountLimitHasBeenReached();
-            } else {
-              final var nextOffset = currentOffset.nextPage(pageSize);
-              return processPagesRecursively(query, pageProcessor, nextOffset, recordsFetchedSoFar);
-            }
-          }))
-      ));
+  private List<String> keyValues(List<SortKey<T>> sortKeys, MultipleRecords<T> page) {
+    final T lastRecord = page.getRecords().stream()
+      .reduce((first, second) -> second)
+      .orElse(null);
+
+    return sortKeys.stream()
+      .map(sortKey -> lastRecord == null ? null : sortKey.getValueOf().apply(lastRecord))
+      .collect(toList());
   }
 
-  private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
-    return completedFuture(failed(new ServerErrorFailure(
+  private Result<PageRequest> itemCountLimitHasBeenReached() {
+    return failed(new ServerErrorFailure(
       "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
-        + " and it has been reached")));
+        + " and it has been reached"));
   }
 
-  private boolean hasReachedRecordsLimit(int recordFetchedSoFar) {
+  private boolean hasReachedRecordsLimit(long recordFetchedSoFar) {
     return recordFetchedSoFar >= maxAllowedRecordsToFetchLimit;
   }
 
@@ -80,4 +122,190 @@ public final class PageableFetcher<T> {
 
     return latestPage.size() < pageSize.getLimit();
   }
+
+  /**
+   * Drives the fetching and processing of the pages from a loop, rather than by recursion,
+   * so that neither the stack nor the chain of futures grows with the number of pages.
+   * The state is only changed while holding the lock, the fetching and processing are
+   * started outside of it.
+   */
+  private final class PagePipeline {
+    private final NextPageRequest<T> nextPageRequest;
+    private final PageProcessor<T> pageProcessor;
+    private final CompletableFuture<Result<Void>> completed = new CompletableFuture<>();
+    private final Deque<MultipleRecords<T>> fetchedPages = new ArrayDeque<>();
+
+    // null once all pages have been fetched, failed when no further pages can be fetched
+    private Result<PageRequest> nextRequest;
+    private Result<Void> processingFailure;
+    private boolean fetching;
+    private boolean processing;
+    private boolean running;
+    private long recordsFetched;
+
+    private PagePipeline(NextPageRequest<T> nextPageRequest, PageProcessor<T> pageProcessor) {
+      this.nextPageRequest = nextPageRequest;
+      this.pageProcessor = pageProcessor;
+    }
+
+    private CompletableFuture<Result<Void>> run(PageRequest firstRequest) {
+      synchronized (this) {
+        nextRequest = succeeded(firstRequest);
+      }
+
+      proceed();
+
+      return completed;
+    }
+
+    /**
+     * Starts whatever can be started next, until nothing can. When called while already
+     * proceeding, for example when a page has been fetched synchronously, it returns
+     * straight away and the loop already running picks up the change.
+     */
+    private void proceed() {
+      synchronized (this) {
+        if (running) {
+          return;
+        }
+
+        running = true;
+      }
+
+      while (true) {
+        final Runnable next;
+
+        synchronized (this) {
+          next = nextStep();
+
+          if (next == null) {
+            running = false;
+            return;
+          }
+        }
+
+        next.run();
+      }
+    }
+
+    private Runnable nextStep() {
+      if (completed.isDone()) {
+        return null;
+      }
+
+      if (processingFailure != null) {
+        final Result<Void> failure = processingFailure;
+
+        return () -> completed.complete(failure);
+      }
+
+      if (!processing && !fetchedPages.isEmpty()) {
+        final MultipleRecords<T> page = fetchedPages.poll();
+        processing = true;
+
+        return () -> process(page);
+      }
+
+      if (!fetching && nextRequest != null && nextRequest.succeeded() && canFetchAhead()) {
+        final PageRequest request = nextRequest.value();
+        fetching = true;
+
+        return () -> fetch(request);
+      }
+
+      if (!fetching && !processing && fetchedPages.isEmpty()) {
+        if (nextRequest == null) {
+          log.info("All pages have been fetched, total records fetched {}", recordsFetched);
+
+          return () -> completed.complete(succeeded(null));
+        }
+
+        if (nextRequest.failed()) {
+          final Result<Void> failure = failed(nextRequest.cause());
+
+          return () -> completed.complete(failure);
+        }
+      }
+
+      return null;
+    }
+
+    private boolean canFetchAhead() {
+      return fetchedPages.isEmpty() && !processing || fetchedPages.size() < prefetchPages;
+    }
+
+    private void fetch(PageRequest request) {
+      fetchPage(request).whenComplete((result, throwable) -> {
+        synchronized (this) {
+          fetching = false;
+
+          if (throwable != null) {
+            nextRequest = failed(new ServerErrorFailure(throwable));
+          } else if (result.failed()) {
+            nextRequest = failed(result.cause());
+          } else {
+            afterFetching(request, result.value());
+          }
+        }
+
+        proceed();
+      });
+    }
+
+    private void afterFetching(PageRequest request, MultipleRecords<T> page) {
+      recordsFetched += page.size();
+      fetchedPages.add(page);
+
+      // determined before processing, as the processor may change the records
+      if (hasFetchedAllPages(page)) {
+        nextRequest = null;
+      } else if (hasReachedRecordsLimit(recordsFetched)) {
+        log.warn("Terminating fetching because records limit in {} has been reached",
+          maxAllowedRecordsToFetchLimit);
+
+        nextRequest = itemCountLimitHasBeenReached();
+      } else {
+        nextRequest = nextPageRequest.after(request, page);
+      }
+    }
+
+    private void process(MultipleRecords<T> page) {
+      processPage(page).whenComplete((result, throwable) -> {
+        synchronized (this) {
+          processing = false;
+
+          if (throwable != null) {
+            processingFailure = failed(new ServerErrorFailure(throwable));
+          } else if (result.failed()) {
+            processingFailure = result;
+          }
+        }
+
+        proceed();
+      });
+    }
+
+    private CompletableFuture<Result<MultipleRecords<T>>> fetchPage(PageRequest request) {
+      try {
+        return repository.getMany(request.query(), pageSize, request.offset());
+      } catch (Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    private CompletableFuture<Result<Void>> processPage(MultipleRecords<T> page) {
+      try {
+        return pageProcessor.processPage(page);
+      } catch (Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+  }
+
+  private record PageRequest(CqlQuery query, Offset offset) { }
+
+  @FunctionalInterface
+  private interface NextPageRequest<T> {
+    Result<PageRequest> after(PageRequest currentRequest, MultipleRecords<T> latestPage);
+  }
 }
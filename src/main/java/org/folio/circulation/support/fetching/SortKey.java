@@ -0,0 +1,22 @@
+package org.folio.circulation.support.fetching;
+
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Index that records are sorted by when paging by key, together with how to get the value
+ * of that index from a record, as it is stored.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SortKey<T> {
+  private final String index;
+  private final Function<T, String> valueOf;
+
+  public static <T> SortKey<T> sortKey(String index, Function<T, String> valueOf) {
+    return new SortKey<>(index, valueOf);
+  }
+}
@@ -11,6 +11,7 @@ import static org.folio.circulation.support.results.CommonFailures.failedDueToSe
 
 import java.lang.invoke.MethodHandles;
 import java.net.URLEncoder;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -100,6 +101,39 @@ public class CqlQuery implements QueryParameter {
       format("%s<>(%s)", index, join(" and ", wrapValuesInQuotes(filteredValues))), none()));
   }
 
+  /**
+   * Builds query which matches records that come after the values of the indexes, when
+   * sorted ascending by those indexes in the same order. This is used to get the next page
+   * using the values of the last record of the previous page.
+   *
+   * @param indexes - The property names, the last one must be unique, like id.
+   * @param values - The values of the properties of the last record of the previous page.
+   * @return Result with CqlQuery.
+   */
+  public static Result<CqlQuery> after(List<String> indexes, List<String> values) {
+    if (indexes.isEmpty() || indexes.size() != values.size()
+      || values.stream().anyMatch(Objects::isNull)) {
+      return failedDueToServerError(format(
+        "Cannot generate CQL query for records after values %s of indexes %s", values, indexes));
+    }
+
+    final List<String> alternatives = new ArrayList<>();
+
+    for (int keyIndex = 0; keyIndex < indexes.size(); keyIndex++) {
+      final List<String> conditions = new ArrayList<>();
+
+      for (int previousKeyIndex = 0; previousKeyIndex < keyIndex; previousKeyIndex++) {
+        conditions.add(format("%s==\"%s\"", indexes.get(previousKeyIndex),
+          values.get(previousKeyIndex)));
+      }
+
+      conditions.add(format("%s>\"%s\"", indexes.get(keyIndex), values.get(keyIndex)));
+      alternatives.add(format("(%s)", join(" and ", conditions)));
+    }
+
+    return of(() -> new CqlQuery(format("(%s)", join(" or ", alternatives)), none()));
+  }
+
   private CqlQuery(String query, CqlSortBy sortBy) {
     this.query = query;
     this.sortBy = sortBy;
@@ -0,0 +1,214 @@
+package org.folio.circulation.support.http.client;
+
+import static org.folio.HttpStatus.HTTP_OK;
+
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.circulation.support.metrics.MetricsWriter;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Client used for a single request to the module, that makes identical GET requests only
+ * once. A GET for the same URL and query parameters as one that is in flight, or that has
+ * completed successfully, shares its response instead of being sent again.
+ * <p>
+ * A POST, PUT or DELETE forgets all of the shared responses, as a write to one interface
+ * can change the records of others. Responses other than 200 are not shared once they
+ * have completed. At most {@link #MAXIMUM_SHARED_RESPONSES} responses are kept, so
+ * that long running processes, like anonymization, do not hold on to every page they have
+ * fetched.
+ */
+public class DeduplicatingOkapiHttpClient implements OkapiHttpClient {
+  private static final Logger log = LogManager.getLogger(MethodHandles.lookup().lookupClass());
+
+  static final int MAXIMUM_SHARED_RESPONSES = 100;
+
+  private static final LongAdder totalSavedGets = new LongAdder();
+
+  private final OkapiHttpClient client;
+  private final Map<String, CompletableFuture<Result<Response>>> responses =
+    new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+        Map.Entry<String, CompletableFuture<Result<Response>>> eldest) {
+
+        return size() > MAXIMUM_SHARED_RESPONSES;
+      }
+    };
+  private final AtomicInteger savedGets = new AtomicInteger();
+
+  public DeduplicatingOkapiHttpClient(OkapiHttpClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    return deduplicate(url, queryParameters,
+      () -> client.get(url, timeout, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(URL url,
+    QueryParameter... queryParameters) {
+
+    return deduplicate(url.toString(), queryParameters,
+      () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url,
+    QueryParameter... queryParameters) {
+
+    return deduplicate(url, queryParameters, () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(URL url, JsonObject body) {
+    forgetResponses();
+    return client.post(url, body);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body) {
+    forgetResponses();
+    return client.post(url, body);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body,
+    Duration timeout) {
+
+    forgetResponses();
+    return client.post(url, body, timeout);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(URL url, JsonObject body) {
+    forgetResponses();
+    return client.put(url, body);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body) {
+    forgetResponses();
+    return client.put(url, body);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body,
+    Duration timeout) {
+
+    forgetResponses();
+    return client.put(url, body, timeout);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(URL url,
+    QueryParameter... queryParameters) {
+
+    forgetResponses();
+    return client.delete(url, queryParameters);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url,
+    QueryParameter... queryParameters) {
+
+    forgetResponses();
+    return client.delete(url, queryParameters);
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    forgetResponses();
+    return client.delete(url, timeout, queryParameters);
+  }
+
+  /**
+   * Number of GET requests that shared the response of an identical request
+   * instead of being sent
+   */
+  public int getSavedGets() {
+    return savedGets.get();
+  }
+
+  public static void write(MetricsWriter writer) {
+    writer.counter("okapi_client_deduplicated_gets_total",
+      "GET requests that shared the response of an identical request made for the same "
+        + "request to the module, instead of being sent");
+    writer.sample("okapi_client_deduplicated_gets_total", Map.of(), totalSavedGets.sum());
+  }
+
+  private CompletableFuture<Result<Response>> deduplicate(String url,
+    QueryParameter[] queryParameters, Supplier<CompletableFuture<Result<Response>>> get) {
+
+    final String key = key(url, queryParameters);
+    final CompletableFuture<Result<Response>> sharedResponse;
+
+    synchronized (responses) {
+      sharedResponse = responses.get(key);
+    }
+
+    if (sharedResponse != null) {
+      final int saved = savedGets.incrementAndGet();
+      totalSavedGets.increment();
+      log.debug("deduplicate:: sharing response for {}, {} GET requests saved", key, saved);
+
+      return sharedResponse;
+    }
+
+    final CompletableFuture<Result<Response>> response = get.get();
+
+    synchronized (responses) {
+      responses.put(key, response);
+    }
+
+    response.whenComplete((result, throwable) -> {
+      if (throwable != null || result.failed()
+        || result.value().getStatusCode() != HTTP_OK.toInt()) {
+
+        synchronized (responses) {
+          responses.remove(key, response);
+        }
+      }
+    });
+
+    return response;
+  }
+
+  private void forgetResponses() {
+    synchronized (responses) {
+      responses.clear();
+    }
+  }
+
+  private static String key(String url, QueryParameter[] queryParameters) {
+    final StringBuilder key = new StringBuilder(url);
+    char separator = url.contains("?") ? '&' : '?';
+
+    for (QueryParameter parameter : queryParameters) {
+      final StringBuilder parameterText = new StringBuilder();
+      parameter.consume((name, value) -> parameterText.append(name).append('=').append(value));
+      key.append(separator).append(parameterText);
+      separator = '&';
+    }
+
+    return key.toString();
+  }
+}
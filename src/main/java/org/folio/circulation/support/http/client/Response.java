@@ -3,6 +3,8 @@ package org.folio.circulation.support.http.client;
 import static io.vertx.core.MultiMap.caseInsensitiveMultiMap;
 import static java.lang.String.format;
 
+import java.nio.charset.StandardCharsets;
+
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.support.http.ContentType;
 
@@ -12,8 +14,18 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import lombok.val;
 
+/**
+ * Response received from another module. The body is kept as it was received and is only
+ * decoded when it is used, JSON is decoded straight from the received bytes without
+ * first being turned into text.
+ * <p>
+ * Responses can be shared by identical requests, see {@link DeduplicatingOkapiHttpClient},
+ * so they do not change once made. Each call to {@link #getJson()} decodes a new object,
+ * as those are often changed by whoever uses them, for example a loan being checked in.
+ */
 public class Response {
-  protected final String body;
+  private final Buffer bodyBuffer;
+  private volatile String body;
   private final int statusCode;
   private final String contentType;
   private final MultiMap headers;
@@ -26,7 +38,14 @@ public class Response {
   public Response(int statusCode, String body, String contentType,
     MultiMap headers, String fromUrl) {
 
+    this(statusCode, null, body, contentType, headers, fromUrl);
+  }
+
+  private Response(int statusCode, Buffer bodyBuffer, String body, String contentType,
+    MultiMap headers, String fromUrl) {
+
     this.statusCode = statusCode;
+    this.bodyBuffer = bodyBuffer;
     this.body = body;
     this.contentType = contentType;
     this.headers = headers;
@@ -38,12 +57,17 @@ public class Response {
 
     headers.addAll(response.headers());
 
-    return new Response(response.statusCode(), response.bodyAsString(),
+    final Buffer receivedBody = response.body();
+
+    return new Response(response.statusCode(),
+      receivedBody == null ? Buffer.buffer() : receivedBody, null,
       headers.get(ContentType.CONTENT_TYPE), headers, url);
   }
 
   public boolean hasBody() {
-    return StringUtils.isNotBlank(getBody());
+    return bodyBuffer == null
+      ? StringUtils.isNotBlank(body)
+      : !isBlank(bodyBuffer);
   }
 
   public int getStatusCode() {
@@ -51,16 +75,33 @@ public class Response {
   }
 
   public String getBody() {
+    if (body == null && bodyBuffer != null) {
+      // decoding the same bytes more than once gives the same text, so no need to lock
+      body = bodyBuffer.toString(StandardCharsets.UTF_8);
+    }
+
     return body;
   }
 
-  public JsonObject getJson() {
-    if(hasBody()) {
-      return new JsonObject(getBody());
+  /**
+   * Body as it was received, it must not be changed as the response may be shared
+   */
+  public Buffer getBodyAsBuffer() {
+    if (bodyBuffer != null) {
+      return bodyBuffer;
     }
-    else {
+
+    return body == null ? Buffer.buffer() : Buffer.buffer(body, "UTF-8");
+  }
+
+  public JsonObject getJson() {
+    if(!hasBody()) {
       return new JsonObject();
     }
+
+    return bodyBuffer == null
+      ? new JsonObject(body)
+      : new JsonObject(bodyBuffer);
   }
 
   public String getContentType() {
@@ -81,4 +122,14 @@ public class Response {
       "Response from \"%s\" status code: %s body: \"%s\", content type: \"%s\"",
         getFromUrl(), getStatusCode(), getBody(), getContentType());
   }
+
+  private static boolean isBlank(Buffer buffer) {
+    for (int index = 0; index < buffer.length(); index++) {
+      if (!Character.isWhitespace(buffer.getByte(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
 }
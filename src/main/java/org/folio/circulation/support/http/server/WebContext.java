@@ -1,6 +1,7 @@
 package org.folio.circulation.support.http.server;
 
 import static java.util.stream.Collectors.toMap;
+import static org.folio.circulation.support.VertxContextExecutor.contextExecutor;
 import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
 import static org.folio.circulation.support.http.OkapiHeader.REQUEST_ID;
 import static org.folio.circulation.support.http.OkapiHeader.TENANT;
@@ -10,6 +11,8 @@ import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import org.folio.circulation.support.InvalidOkapiLocationException;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
@@ -20,7 +23,16 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.RoutingContext;
 
 public class WebContext {
+  /**
+   * Limits the URLs kept, as the Okapi location comes from the request
+   */
+  private static final int MAXIMUM_OKAPI_BASED_URLS = 1000;
+
+  /** URLs by Okapi location and path, shared by the requests to the module */
+  private static final Map<String, URL> okapiBasedUrls = new ConcurrentHashMap<>();
+
   private final RoutingContext routingContext;
+  private Executor executor;
 
   public WebContext(RoutingContext routingContext) {
     this.routingContext = routingContext;
@@ -69,10 +81,23 @@ public class WebContext {
   }
 
   public URL getOkapiBasedUrl(String path) throws MalformedURLException {
+    final String key = getOkapiLocation() + " " + path;
+    final URL sharedUrl = okapiBasedUrls.get(key);
+
+    if (sharedUrl != null) {
+      return sharedUrl;
+    }
+
     URL currentRequestUrl = new URL(getOkapiLocation());
 
-    return new URL(currentRequestUrl.getProtocol(), currentRequestUrl.getHost(),
+    final URL url = new URL(currentRequestUrl.getProtocol(), currentRequestUrl.getHost(),
       currentRequestUrl.getPort(), path);
+
+    if (okapiBasedUrls.size() < MAXIMUM_OKAPI_BASED_URLS) {
+      okapiBasedUrls.put(key, url);
+    }
+
+    return url;
   }
 
   public OkapiHttpClient createHttpClient(HttpClient httpClient) {
@@ -90,6 +115,18 @@ public class WebContext {
       getRequestId());
   }
 
+  /**
+   * Executor for the asynchronous stages of handling the request, which runs them
+   * on the Vert.x context of the request
+   */
+  public Executor getExecutor() {
+    if (executor == null) {
+      executor = contextExecutor(routingContext.vertx().getOrCreateContext());
+    }
+
+    return executor;
+  }
+
   public void write(HttpResponse response) {
     response.writeTo(routingContext.response());
   }
@@ -0,0 +1,72 @@
+package org.folio.circulation.support.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of durations over fixed buckets. Recording a duration does not lock
+ * or allocate, so it can be done on the event loop for every evaluation.
+ */
+public class Histogram {
+  /** upper bounds of the buckets in nanoseconds, in ascending order */
+  private final long[] upperBounds;
+  /** number of durations in each bucket, the last one is for durations above all bounds */
+  private final LongAdder[] counts;
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * @param upperBoundsInSeconds upper bounds of the buckets in seconds, in ascending order
+   */
+  public Histogram(double... upperBoundsInSeconds) {
+    this.upperBounds = Arrays.stream(upperBoundsInSeconds)
+      .mapToLong(bound -> (long) (bound * TimeUnit.SECONDS.toNanos(1)))
+      .toArray();
+    this.counts = new LongAdder[upperBounds.length + 1];
+    Arrays.setAll(counts, index -> new LongAdder());
+  }
+
+  public void record(long durationInNanos) {
+    int bucket = 0;
+
+    while (bucket < upperBounds.length && durationInNanos > upperBounds[bucket]) {
+      bucket++;
+    }
+
+    counts[bucket].increment();
+    sum.add(durationInNanos);
+  }
+
+  public int getBucketCount() {
+    return upperBounds.length;
+  }
+
+  public double getUpperBoundInSeconds(int bucket) {
+    return toSeconds(upperBounds[bucket]);
+  }
+
+  /**
+   * Number of durations less than or equal to the upper bound of the bucket.
+   */
+  public long getCumulativeCount(int bucket) {
+    long count = 0;
+
+    for (int index = 0; index <= bucket; index++) {
+      count += counts[index].sum();
+    }
+
+    return count;
+  }
+
+  public long getCount() {
+    return getCumulativeCount(upperBounds.length);
+  }
+
+  public double getSumInSeconds() {
+    return toSeconds(sum.sum());
+  }
+
+  private static double toSeconds(long nanos) {
+    return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+}
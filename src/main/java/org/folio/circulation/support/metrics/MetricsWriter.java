@@ -0,0 +1,101 @@
+package org.folio.circulation.support.metrics;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Writes metrics in the Prometheus text exposition format. Each metric is started with
+ * {@link #metric(String, String, String)}, followed by its samples.
+ */
+public class MetricsWriter {
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final String COUNTER = "counter";
+  private static final String GAUGE = "gauge";
+  private static final String HISTOGRAM = "histogram";
+
+  private final StringBuilder text = new StringBuilder();
+
+  public MetricsWriter counter(String name, String help) {
+    return metric(name, COUNTER, help);
+  }
+
+  public MetricsWriter gauge(String name, String help) {
+    return metric(name, GAUGE, help);
+  }
+
+  public MetricsWriter histogram(String name, String help) {
+    return metric(name, HISTOGRAM, help);
+  }
+
+  public MetricsWriter metric(String name, String type, String help) {
+    text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+      .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+
+    return this;
+  }
+
+  public MetricsWriter sample(String name, Map<String, String> labels, double value) {
+    text.append(name).append(labels(labels)).append(' ').append(format(value)).append('\n');
+
+    return this;
+  }
+
+  public MetricsWriter sample(String name, Map<String, String> labels, long value) {
+    text.append(name).append(labels(labels)).append(' ').append(value).append('\n');
+
+    return this;
+  }
+
+  /**
+   * Writes the buckets, sum and count of the histogram.
+   */
+  public MetricsWriter sample(String name, Map<String, String> labels, Histogram histogram) {
+    for (int bucket = 0; bucket < histogram.getBucketCount(); bucket++) {
+      bucket(name, labels, format(histogram.getUpperBoundInSeconds(bucket)),
+        histogram.getCumulativeCount(bucket));
+    }
+
+    final long count = histogram.getCount();
+    bucket(name, labels, "+Inf", count);
+
+    return sample(name + "_sum", labels, histogram.getSumInSeconds())
+      .sample(name + "_count", labels, count);
+  }
+
+  private void bucket(String name, Map<String, String> labels, String upperBound, long count) {
+    final String labelPairs = labelPairs(labels);
+
+    text.append(name).append("_bucket{")
+      .append(labelPairs).append(labelPairs.isEmpty() ? "" : ",")
+      .append("le=\"").append(upperBound).append("\"} ").append(count).append('\n');
+  }
+
+  private static String labels(Map<String, String> labels) {
+    return labels.isEmpty() ? "" : "{" + labelPairs(labels) + "}";
+  }
+
+  private static String labelPairs(Map<String, String> labels) {
+    return labels.entrySet().stream()
+      .sorted(Map.Entry.comparingByKey())
+      .map(label -> label.getKey() + "=\"" + escape(label.getValue()) + "\"")
+      .collect(Collectors.joining(","));
+  }
+
+  private static String escape(String value) {
+    return String.valueOf(value)
+      .replace("\\", "\\\\")
+      .replace("\"", "\\\"")
+      .replace("\n", "\\n");
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) && !Double.isInfinite(value)
+      ? String.valueOf((long) value) : String.valueOf(value);
+  }
+
+  @Override
+  public String toString() {
+    return text.toString();
+  }
+}
@@ -6,6 +6,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.StringContains.containsString;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.folio.circulation.rules.Campus;
@@ -350,6 +351,35 @@ class CirculationRulesEngineAPITests extends APITests {
     matchesNoticePolicy(matches, 2, np1, 2);
   }
 
+  @Test
+  void canDetermineLoanPoliciesInBatch() {
+    setRules(rulesWithInstitution);
+
+    JsonArray matches = circulationRulesFixture.applyRulesForLoanPoliciesInBatch(List.of(
+      circulationRulesFixture.batchCriteria(m1, t2, g2, s2),
+      circulationRulesFixture.batchCriteria(m2, t2, g2, s2),
+      circulationRulesFixture.batchCriteria(m1, t2, g2, s1),
+      circulationRulesFixture.batchCriteria(m1, t2, g2, s2)));
+
+    assertThat(matches.size(), is(4));
+    assertThat(matches.getJsonObject(0).getString("loanPolicyId"), is(lp2.toString()));
+    assertThat(matches.getJsonObject(1).getString("loanPolicyId"), is(lp3.toString()));
+    assertThat(matches.getJsonObject(2).getString("loanPolicyId"), is(lp4.toString()));
+    assertThat(matches.getJsonObject(3).getString("loanPolicyId"), is(lp2.toString()));
+    assertThat(matches.getJsonObject(1).getString("item_type_id"), is(m2.id));
+    assertThat(matches.getJsonObject(2).getString("location_id"), is(s1.id));
+  }
+
+  @Test
+  void cannotDetermineLoanPoliciesInBatchWithInvalidCriteria() {
+    final Response response = circulationRulesFixture.attemptToApplyRulesForLoanPoliciesInBatch(
+      new JsonObject().put("criteria", new JsonArray()
+        .add(circulationRulesFixture.batchCriteria(m1, t2, g2, s2))
+        .add(circulationRulesFixture.batchCriteria(m1, t2, g2, s2).put("loan_type_id", "0"))));
+
+    assertThat(response.getBody(), containsString("criteria[1].loan_type_id"));
+  }
+
   @Test
   void rulesEvaluationPassesWhenTheProvidedLocationDoesNotExist() {
     // The underlying rules are irrelevant
@@ -0,0 +1,168 @@
+package api.loans;
+
+import static api.support.builders.ItemBuilder.AVAILABLE;
+import static api.support.http.InterfaceUrls.checkOutByBarcodeBatchUrl;
+import static api.support.matchers.ItemMatchers.isCheckedOut;
+import static api.support.matchers.ItemStatusCodeMatcher.hasItemStatus;
+import static api.support.matchers.ValidationErrorMatchers.hasCode;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static org.folio.circulation.domain.policy.Period.months;
+import static org.folio.circulation.support.ErrorCode.ITEM_LIMIT_MATERIAL_TYPE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.Test;
+
+import api.support.APITests;
+import api.support.builders.LoanPolicyBuilder;
+import api.support.http.IndividualResource;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CheckOutByBarcodeBatchTests extends APITests {
+  @Test
+  void canCheckOutManyItemsToTheSamePatron() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var steve = usersFixture.steve();
+
+    final Response response = attemptCheckOutBatch(200,
+      batchRequest(steve, barcodeOf(smallAngryPlanet), barcodeOf(nod)));
+
+    final JsonArray checkOuts = response.getJson().getJsonArray("checkOuts");
+
+    assertThat(response.getJson().getInteger("totalRecords"), is(2));
+
+    assertThat(checkOuts.getJsonObject(0).getString("itemBarcode"),
+      is(barcodeOf(smallAngryPlanet)));
+    assertThat(checkOuts.getJsonObject(0).getJsonObject("loan").getString("itemId"),
+      is(smallAngryPlanet.getId().toString()));
+    assertThat(checkOuts.getJsonObject(0).getJsonObject("loan").getString("userId"),
+      is(steve.getId().toString()));
+
+    assertThat(checkOuts.getJsonObject(1).getString("itemBarcode"), is(barcodeOf(nod)));
+    assertThat(checkOuts.getJsonObject(1).getJsonObject("loan").getString("itemId"),
+      is(nod.getId().toString()));
+
+    assertThat(itemsClient.getById(smallAngryPlanet.getId()).getJson(), isCheckedOut());
+    assertThat(itemsClient.getById(nod.getId()).getJson(), isCheckedOut());
+  }
+
+  @Test
+  void itemsThatCannotBeCheckedOutDoNotStopOtherItems() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var nod = itemsFixture.basedUponNod();
+    final var steve = usersFixture.steve();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, usersFixture.jessica());
+
+    final Response response = attemptCheckOutBatch(200,
+      batchRequest(steve, barcodeOf(smallAngryPlanet), "unknown-barcode", barcodeOf(nod)));
+
+    final JsonArray checkOuts = response.getJson().getJsonArray("checkOuts");
+
+    assertThat(checkOuts.getJsonObject(0).getJsonObject("loan"), is(nullValue()));
+    assertThat(checkOuts.getJsonObject(0), hasErrorWith(
+      hasMessage("Item is already checked out")));
+
+    assertThat(checkOuts.getJsonObject(1).getString("itemBarcode"), is("unknown-barcode"));
+    assertThat(checkOuts.getJsonObject(1).getJsonObject("loan"), is(nullValue()));
+
+    assertThat(checkOuts.getJsonObject(2).getJsonObject("loan"), is(notNullValue()));
+    assertThat(itemsClient.getById(nod.getId()).getJson(), isCheckedOut());
+  }
+
+  @Test
+  void laterItemsAreRefusedWhenEarlierItemsOfTheBatchReachTheItemLimit() {
+    final UUID book = materialTypesFixture.book().getId();
+
+    circulationRulesFixture.updateCirculationRules(createRulesWithItemLimit("m " + book));
+
+    final var nod = itemsFixture.basedUponNod();
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var steve = usersFixture.steve();
+
+    final Response response = attemptCheckOutBatch(200,
+      batchRequest(steve, barcodeOf(nod), barcodeOf(smallAngryPlanet)));
+
+    final JsonArray checkOuts = response.getJson().getJsonArray("checkOuts");
+
+    assertThat(checkOuts.getJsonObject(0).getJsonObject("loan"), is(notNullValue()));
+    assertThat(itemsClient.getById(nod.getId()).getJson(), isCheckedOut());
+
+    assertThat(checkOuts.getJsonObject(1).getJsonObject("loan"), is(nullValue()));
+    assertThat(checkOuts.getJsonObject(1).getInteger("status"), is(422));
+    assertThat(checkOuts.getJsonObject(1), hasErrorWith(allOf(
+      hasMessage("Patron has reached maximum limit of 1 items for material type"),
+      hasCode(ITEM_LIMIT_MATERIAL_TYPE))));
+    assertThat(itemsClient.get(smallAngryPlanet), hasItemStatus(AVAILABLE));
+  }
+
+  @Test
+  void cannotCheckOutAnyItemsWhenPatronCannotBeFound() {
+    final var smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final var steve = usersFixture.steve();
+
+    usersFixture.remove(steve);
+
+    final Response response = attemptCheckOutBatch(422,
+      batchRequest(steve, barcodeOf(smallAngryPlanet)));
+
+    assertThat(response.getJson(), hasErrorWith(
+      hasMessage("Could not find user with matching barcode")));
+  }
+
+  @Test
+  void cannotCheckOutWithoutItemBarcodes() {
+    final Response response = attemptCheckOutBatch(422,
+      batchRequest(usersFixture.steve()));
+
+    assertThat(response.getJson(), hasErrorWith(
+      hasMessage("Batch check out request must have at least one item barcode")));
+  }
+
+  private Response attemptCheckOutBatch(int expectedStatusCode, JsonObject request) {
+    return restAssuredClient.post(request, checkOutByBarcodeBatchUrl(), expectedStatusCode,
+      "check-out-by-barcode-batch-request");
+  }
+
+  private JsonObject batchRequest(IndividualResource patron, String... itemBarcodes) {
+    return new JsonObject()
+      .put("userBarcode", patron.getJson().getString("barcode"))
+      .put("servicePointId", servicePointsFixture.cd1().getId().toString())
+      .put("itemBarcodes", new JsonArray(List.of(itemBarcodes)));
+  }
+
+  private String createRulesWithItemLimit(String ruleCondition) {
+    final String loanPolicyWithItemLimitId = loanPoliciesFixture.create(
+      new LoanPolicyBuilder()
+        .withName("Loan Policy with item limit")
+        .withItemLimit(1)
+        .rolling(months(2))
+        .renewFromCurrentDueDate()).getId().toString();
+    final String anyLoanPolicy = loanPoliciesFixture.canCirculateRolling().getId().toString();
+    final String anyRequestPolicy = requestPoliciesFixture.allowAllRequestPolicy().getId().toString();
+    final String anyNoticePolicy = noticePoliciesFixture.activeNotice().getId().toString();
+    final String anyOverdueFinePolicy = overdueFinePoliciesFixture.facultyStandard().getId().toString();
+    final String anyLostItemFeePolicy = lostItemFeePoliciesFixture.facultyStandard().getId().toString();
+    final String otherPolicies = " r " + anyRequestPolicy + " n " + anyNoticePolicy
+      + " o " + anyOverdueFinePolicy + " i " + anyLostItemFeePolicy;
+
+    return String.join("\n",
+      "priority: t, s, c, b, a, m, g",
+      "fallback-policy: l " + anyLoanPolicy + otherPolicies,
+      ruleCondition + " : l " + loanPolicyWithItemLimitId + otherPolicies);
+  }
+
+  private static String barcodeOf(IndividualResource item) {
+    return item.getJson().getString("barcode");
+  }
+}
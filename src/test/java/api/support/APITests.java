@@ -70,6 +70,10 @@ import api.support.fixtures.TemplateFixture;
 import api.support.fixtures.TenantActivationFixture;
 import api.support.fixtures.UserManualBlocksFixture;
 import api.support.fixtures.UsersFixture;
+import org.folio.circulation.infrastructure.storage.CalendarCache;
+import org.folio.circulation.infrastructure.storage.ConfigurationCache;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
+import org.folio.circulation.infrastructure.storage.inventory.LocationCache;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -359,6 +363,10 @@ public abstract class APITests {
   public final void baseTearDown() {
     forTenantStorage().deleteAll();
     scheduledNoticesClient.deleteAll();
+    LocationCache.getInstance().clear();
+    ReferenceDataCache.getInstance().clear();
+    ConfigurationCache.getInstance().clear();
+    CalendarCache.getInstance().clear();
 
     mockClockManagerToReturnDefaultDateTime();
   }
@@ -205,6 +205,31 @@ public class CirculationRulesFixture {
     return response.getJson().getJsonArray("circulationRuleMatches");
   }
 
+  public JsonArray applyRulesForLoanPoliciesInBatch(List<JsonObject> criteria) {
+    final Response response = restAssuredClient.post(
+      new JsonObject().put("criteria", new JsonArray(criteria)).encodePrettily(),
+      circulationRulesUrl("/loan-policy-batch"), 200,
+      "apply-rules-to-get-loan-policies-in-batch");
+
+    return response.getJson().getJsonArray("circulationRuleMatches");
+  }
+
+  public Response attemptToApplyRulesForLoanPoliciesInBatch(JsonObject body) {
+    return restAssuredClient.post(body.encodePrettily(),
+      circulationRulesUrl("/loan-policy-batch"), 400,
+      "attempt-to-apply-rules-to-get-loan-policies-in-batch");
+  }
+
+  public JsonObject batchCriteria(ItemType itemType, LoanType loanType,
+    PatronGroup patronGroup, ItemLocation location) {
+
+    return new JsonObject()
+      .put("item_type_id", itemType.id)
+      .put("loan_type_id", loanType.id)
+      .put("patron_type_id", patronGroup.id)
+      .put("location_id", location.id);
+  }
+
   private Response applyRulesForPolicy(ItemType itemType, LoanType loanType,
       PatronGroup patronGroup, ItemLocation location, String policyPath,
       String requestId) {
@@ -145,6 +145,10 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/check-out-by-barcode");
   }
 
+  public static URL checkOutByBarcodeBatchUrl() {
+    return circulationModuleUrl("/circulation/check-out-by-barcode/batch");
+  }
+
   public static URL checkInByBarcodeUrl() {
     return circulationModuleUrl("/circulation/check-in-by-barcode");
   }
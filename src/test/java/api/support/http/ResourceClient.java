@@ -13,6 +13,8 @@ import java.net.URL;
 import java.util.List;
 import java.util.UUID;
 
+import org.folio.circulation.infrastructure.storage.ConfigurationCache;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache;
 import org.folio.circulation.support.http.client.Response;
 
 import api.support.MultipleJsonRecords;
@@ -310,8 +312,11 @@ public class ResourceClient {
 
   public IndividualResource create(JsonObject representation) {
 
-    return new IndividualResource(restAssuredClient.post(representation,
-      rootUrl(), 201, "create-record"));
+    final IndividualResource createdRecord = new IndividualResource(
+      restAssuredClient.post(representation, rootUrl(), 201, "create-record"));
+    clearModuleCaches();
+
+    return createdRecord;
   }
 
   public Response attemptCreateAtSpecificLocation(Builder builder) {
@@ -330,6 +335,7 @@ public class ResourceClient {
 
     restAssuredClient.put(representation, location, HTTP_NO_CONTENT,
       "create-record-at-specific-location");
+    clearModuleCaches();
 
     return get(location);
   }
@@ -353,6 +359,7 @@ public class ResourceClient {
 
     restAssuredClient.put(representation, recordUrl(id), HTTP_NO_CONTENT,
       "create-record-at-specific-location");
+    clearModuleCaches();
   }
 
   public Response getById(UUID id) {
@@ -386,6 +393,7 @@ public class ResourceClient {
 
   public void delete(UUID id) {
     restAssuredClient.delete(recordUrl(id), HTTP_NO_CONTENT, "delete-record");
+    clearModuleCaches();
   }
 
   public void delete(IndividualResource resource) {
@@ -394,6 +402,7 @@ public class ResourceClient {
 
   public void deleteAll() {
     restAssuredClient.delete(rootUrl(), HTTP_NO_CONTENT, "delete-all-records");
+    clearModuleCaches();
   }
 
   public void deleteAllIndividually() {
@@ -417,6 +426,15 @@ public class ResourceClient {
     return urlMaker.combine("");
   }
 
+  /**
+   * The module only sees records changed directly in storage, like policies and
+   * configuration, once its cached copies expire.
+   */
+  private static void clearModuleCaches() {
+    ReferenceDataCache.getInstance().clear();
+    ConfigurationCache.getInstance().clear();
+  }
+
   @FunctionalInterface
   public interface UrlMaker {
     URL combine(String subPath);
@@ -0,0 +1,116 @@
+package org.folio.circulation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class ModuleDescriptorPermissionsTest {
+  private static final String BATCH_CHECK_OUT_PATH = "/circulation/check-out-by-barcode/batch";
+  private static final String RULES_PERMISSION = "circulation-storage.circulation-rules.get";
+  private static final List<String> RULES_EVALUATION_PERMISSIONS = List.of(
+    "circulation-storage.circulation-settings.collection.get",
+    "inventory-storage.locations.collection.get",
+    "inventory-storage.location-units.institutions.collection.get",
+    "inventory-storage.location-units.campuses.collection.get",
+    "inventory-storage.location-units.libraries.collection.get",
+    "inventory-storage.service-points.collection.get");
+  /** handlers that only read the rules, without evaluating them */
+  private static final Set<String> RULES_READING_PATHS = Set.of("/circulation/rules");
+
+  private static JsonObject descriptor;
+  private static Map<String, JsonArray> permissionSets;
+
+  @BeforeAll
+  static void readDescriptor() throws Exception {
+    descriptor = new JsonObject(Files.readString(
+      Path.of("descriptors", "ModuleDescriptor-template.json")));
+
+    permissionSets = descriptor.getJsonArray("permissionSets").stream()
+      .map(JsonObject.class::cast)
+      .collect(Collectors.toMap(set -> set.getString("permissionName"),
+        set -> set.getJsonArray("subPermissions", new JsonArray())));
+  }
+
+  @Test
+  void batchCheckOutHasTheModulePermissionsOfSingleCheckOut() {
+    JsonObject batch = handler("POST", BATCH_CHECK_OUT_PATH);
+    JsonObject single = handler("POST", "/circulation/check-out-by-barcode");
+
+    assertThat(modulePermissions(batch), is(modulePermissions(single)));
+    assertThat(batch.getJsonArray("permissionsDesired"),
+      is(single.getJsonArray("permissionsDesired")));
+  }
+
+  @Test
+  void batchCheckOutCanEvaluateCirculationRules() {
+    Set<String> permissions = modulePermissions(handler("POST", BATCH_CHECK_OUT_PATH));
+
+    assertThat(permissions, hasItem(RULES_PERMISSION));
+    assertThat(permissions, hasItems(RULES_EVALUATION_PERMISSIONS.toArray(String[]::new)));
+  }
+
+  @Test
+  void handlersEvaluatingCirculationRulesCanFetchSettingsAndLocations() {
+    List<String> handlersMissingPermissions = handlers()
+      .filter(handler -> !RULES_READING_PATHS.contains(handler.getString("pathPattern")))
+      .filter(handler -> modulePermissions(handler).contains(RULES_PERMISSION))
+      .filter(handler -> !modulePermissions(handler).containsAll(RULES_EVALUATION_PERMISSIONS))
+      .map(handler -> handler.getJsonArray("methods") + " " + handler.getString("pathPattern"))
+      .toList();
+
+    assertThat(handlersMissingPermissions, is(empty()));
+  }
+
+  private static Stream<JsonObject> handlers() {
+    return descriptor.getJsonArray("provides").stream()
+      .map(JsonObject.class::cast)
+      .flatMap(provided -> provided.getJsonArray("handlers").stream())
+      .map(JsonObject.class::cast);
+  }
+
+  private static JsonObject handler(String method, String pathPattern) {
+    return handlers()
+      .filter(handler -> handler.getJsonArray("methods").contains(method))
+      .filter(handler -> pathPattern.equals(handler.getString("pathPattern")))
+      .findFirst()
+      .orElseThrow(() -> new AssertionError("No handler for " + method + " " + pathPattern));
+  }
+
+  /**
+   * Module permissions of the handler, including the sub-permissions of permission sets
+   */
+  private static Set<String> modulePermissions(JsonObject handler) {
+    Set<String> permissions = new HashSet<>();
+
+    handler.getJsonArray("modulePermissions", new JsonArray()).stream()
+      .map(String.class::cast)
+      .forEach(permission -> addPermission(permission, permissions));
+
+    return permissions;
+  }
+
+  private static void addPermission(String permission, Set<String> permissions) {
+    if (permissions.add(permission) && permissionSets.containsKey(permission)) {
+      permissionSets.get(permission).stream()
+        .map(String.class::cast)
+        .forEach(subPermission -> addPermission(subPermission, permissions));
+    }
+  }
+}
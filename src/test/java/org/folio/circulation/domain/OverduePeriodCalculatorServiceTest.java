@@ -5,11 +5,17 @@ import static api.support.fixtures.OpeningHourExamples.allDay;
 import static api.support.fixtures.OpeningHourExamples.morning;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.singletonList;
+import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.utils.ClockUtil.getLocalTime;
 import static org.folio.circulation.support.utils.ClockUtil.getZonedDateTime;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -18,13 +24,19 @@ import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.folio.circulation.domain.policy.LoanPolicy;
 import org.folio.circulation.domain.policy.OverdueFinePolicy;
 import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.infrastructure.storage.CalendarRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.storage.mappers.LocationMapper;
 import org.folio.circulation.support.utils.ClockUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -93,6 +105,37 @@ class OverduePeriodCalculatorServiceTest {
     assertEquals(expectedResult, actualResult);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void openingDaysAreFetchedOncePerServicePointForAllLoans() throws Exception {
+    final ZonedDateTime systemTime = getZonedDateTime();
+    final String servicePointId = UUID.randomUUID().toString();
+    final Item item = Item.from(new JsonObject())
+      .withLocation(new LocationMapper().toDomain(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("primaryServicePoint", servicePointId)));
+    final LoanPolicy loanPolicy = createLoanPolicy(null, null);
+
+    final Loan firstLoan = createOverdueLoan(item, systemTime.minusDays(1));
+    final Loan secondLoan = createOverdueLoan(item, systemTime.minusDays(3));
+
+    final LoanPolicyRepository loanPolicyRepository = mock(LoanPolicyRepository.class);
+    final CalendarRepository calendarRepository = mock(CalendarRepository.class);
+    when(loanPolicyRepository.lookupPolicies(any(List.class), any(), any()))
+      .thenReturn(ofAsync(List.of(loanPolicy, loanPolicy)));
+    when(calendarRepository.fetchOpeningDaysBetweenDates(any(Map.class), eq(systemTime)))
+      .thenReturn(ofAsync(Map.of(servicePointId, List.of())));
+
+    final Map<String, Integer> minutes = new OverduePeriodCalculatorService(
+      calendarRepository, loanPolicyRepository)
+      .getMinutesForLoans(List.of(firstLoan, secondLoan), systemTime)
+      .get(5, TimeUnit.SECONDS).value();
+
+    assertEquals(Map.of(firstLoan.getId(), 0, secondLoan.getId(), 0), minutes);
+    verify(calendarRepository).fetchOpeningDaysBetweenDates(
+      Map.of(servicePointId, secondLoan.getDueDate()), systemTime);
+  }
+
   @ParameterizedTest
   @MethodSource("getOpeningDayDurationTestParameters")
   void getOpeningDayDurationTest(List<OpeningDay> openingDays, int expectedResult) {
@@ -239,6 +282,14 @@ class OverduePeriodCalculatorServiceTest {
     return OverdueFinePolicy.from(json);
   }
 
+  private static Loan createOverdueLoan(Item item, ZonedDateTime dueDate) {
+    return new LoanBuilder()
+      .withDueDate(dueDate)
+      .asDomainObject()
+      .withItem(item)
+      .withOverdueFinePolicy(createOverdueFinePolicy(null, false));
+  }
+
   private static OpeningDay createOpeningDay(
     boolean allDay, LocalDate date, ZoneId dateTimeZone) {
 
@@ -0,0 +1,69 @@
+package org.folio.circulation.domain.representations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CheckOutByBarcodeBatchRequestTests {
+  private static final String SERVICE_POINT_ID = "c4c90014-c8c9-4ade-8f24-b5e313319f4b";
+
+  @Test
+  void requestForEachItemHasTheSamePatronAndLoanDate() {
+    final Result<CheckOutByBarcodeBatchRequest> result = CheckOutByBarcodeBatchRequest.from(
+      batchRequest(List.of("item-1", "item-2")));
+
+    final CheckOutByBarcodeRequest first = result.value().forItem("item-1");
+    final CheckOutByBarcodeRequest second = result.value().forItem("item-2");
+
+    assertThat(first.getItemBarcode(), is("item-1"));
+    assertThat(second.getItemBarcode(), is("item-2"));
+    assertThat(second.getUserBarcode(), is("patron"));
+    assertThat(second.getCheckoutServicePointId(), is(SERVICE_POINT_ID));
+    assertThat(second.getLoanDate(), is(first.getLoanDate()));
+  }
+
+  @Test
+  void repeatedItemBarcodesAreIgnored() {
+    final Result<CheckOutByBarcodeBatchRequest> result = CheckOutByBarcodeBatchRequest.from(
+      batchRequest(List.of("item-1", "item-2", "item-1")));
+
+    assertThat(result.value().getItemBarcodes(), contains("item-1", "item-2"));
+  }
+
+  @Test
+  void failedValidationWhenThereAreNoItemBarcodes() {
+    final Result<CheckOutByBarcodeBatchRequest> result = CheckOutByBarcodeBatchRequest.from(
+      batchRequest(List.of()));
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  void failedValidationWhenThereAreTooManyItemBarcodes() {
+    final List<String> itemBarcodes = IntStream
+      .rangeClosed(0, CheckOutByBarcodeBatchRequest.MAXIMUM_ITEMS)
+      .mapToObj(item -> "item-" + item)
+      .toList();
+
+    final Result<CheckOutByBarcodeBatchRequest> result = CheckOutByBarcodeBatchRequest.from(
+      batchRequest(itemBarcodes));
+
+    assertThat(result.failed(), is(true));
+  }
+
+  private static JsonObject batchRequest(List<String> itemBarcodes) {
+    return new JsonObject()
+      .put("userBarcode", "patron")
+      .put("servicePointId", SERVICE_POINT_ID)
+      .put("itemBarcodes", new JsonArray(itemBarcodes));
+  }
+}
@@ -0,0 +1,58 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class CheckOutByBarcodeBatchResponseTests {
+  @Test
+  void checkedOutItemHasItsLoan() {
+    final JsonObject checkOut = CheckOutByBarcodeBatchResponse.checkOut("item-1",
+      succeeded(new JsonObject().put("id", "loan-1")));
+
+    assertThat(checkOut.getString("itemBarcode"), is("item-1"));
+    assertThat(checkOut.getJsonObject("loan").getString("id"), is("loan-1"));
+    assertThat(checkOut.getInteger("status"), is(nullValue()));
+  }
+
+  @Test
+  void validationFailureIsUnprocessable() {
+    final JsonObject checkOut = CheckOutByBarcodeBatchResponse.checkOut("item-1",
+      failed(singleValidationError("Item is already checked out", "itemBarcode", "item-1")));
+
+    assertThat(checkOut.getInteger("status"), is(422));
+    assertThat(firstErrorMessage(checkOut), is("Item is already checked out"));
+  }
+
+  @Test
+  void serverErrorHasItsReason() {
+    final JsonObject checkOut = CheckOutByBarcodeBatchResponse.checkOut("item-1",
+      failed(new ServerErrorFailure("Failed to fetch loan policy")));
+
+    assertThat(checkOut.getInteger("status"), is(500));
+    assertThat(firstErrorMessage(checkOut), is("Failed to fetch loan policy"));
+  }
+
+  @Test
+  void forwardedFailureHasTheStatusAndBodyOfTheResponse() {
+    final JsonObject checkOut = CheckOutByBarcodeBatchResponse.checkOut("item-1",
+      failed(new ForwardOnFailure(new Response(403, "Access denied", "text/plain"))));
+
+    assertThat(checkOut.getInteger("status"), is(403));
+    assertThat(firstErrorMessage(checkOut), is("Access denied"));
+  }
+
+  private static String firstErrorMessage(JsonObject checkOut) {
+    return checkOut.getJsonArray("errors").getJsonObject(0).getString("message");
+  }
+}
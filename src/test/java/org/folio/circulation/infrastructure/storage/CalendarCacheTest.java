@@ -0,0 +1,106 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class CalendarCacheTest {
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void cachedOpeningsAreNotLoadedAgain() throws Exception {
+    CalendarCache cache = new CalendarCache(60_000, 10);
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    String openings = cache.<String>get("tenant", new Lookup("service-point", "2020-04-08"),
+      loader()).get().value();
+
+    assertThat(openings, is("openings"));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void failedLookupsAreNotCached() throws Exception {
+    CalendarCache cache = new CalendarCache(60_000, 10);
+    Lookup lookup = new Lookup("service-point", "2020-04-08");
+
+    Result<String> failure = cache.<String>get("tenant", lookup, () -> {
+      loads.incrementAndGet();
+      return CompletableFuture.completedFuture(failed(new ServerErrorFailure("unavailable")));
+    }).get();
+    cache.get("tenant", lookup, loader()).get();
+
+    assertThat(failure.failed(), is(true));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void openingsAreCachedPerTenantAndLookup() throws Exception {
+    CalendarCache cache = new CalendarCache(60_000, 10);
+
+    cache.get("tenant-1", new Lookup("service-point", "2020-04-08"), loader()).get();
+    cache.get("tenant-2", new Lookup("service-point", "2020-04-08"), loader()).get();
+    cache.get("tenant-1", new Lookup("service-point", "2020-04-09"), loader()).get();
+
+    assertThat(loads.get(), is(3));
+  }
+
+  @Test
+  void leastRecentlyUsedOpeningsAreRemovedWhenMaximumSizeIsExceeded() throws Exception {
+    CalendarCache cache = new CalendarCache(60_000, 2);
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    cache.get("tenant", new Lookup("service-point", "2020-04-09"), loader()).get();
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    cache.get("tenant", new Lookup("service-point", "2020-04-10"), loader()).get();
+
+    assertThat(loads.get(), is(3));
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    assertThat(loads.get(), is(3));
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-09"), loader()).get();
+    assertThat(loads.get(), is(4));
+  }
+
+  @Test
+  void expiredOpeningsAreLoadedAgain() throws Exception {
+    CalendarCache cache = new CalendarCache(1, 10);
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    TimeUnit.MILLISECONDS.sleep(5);
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void invalidatedOpeningsAreLoadedAgain() throws Exception {
+    CalendarCache cache = new CalendarCache(60_000, 10);
+
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+    cache.invalidate("tenant");
+    cache.get("tenant", new Lookup("service-point", "2020-04-08"), loader()).get();
+
+    assertThat(loads.get(), is(2));
+  }
+
+  private Supplier<CompletableFuture<Result<String>>> loader() {
+    return () -> {
+      loads.incrementAndGet();
+      return ofAsync("openings");
+    };
+  }
+
+  private record Lookup(String servicePointId, String date) { }
+}
@@ -1,22 +1,38 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.time.ZoneOffset.UTC;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.OpeningDay;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
 class CalendarRepositoryTest {
 
   private static final String EXPECTED_PATH =
@@ -45,4 +61,42 @@ class CalendarRepositoryTest {
       String.format(EXPECTED_PATH, servicePointId, startDate.toLocalDate(), endDate.toLocalDate());
     assertThat(actualPath, is(expectedPath));
   }
+
+  @Test
+  void openingDaysAreFetchedOncePerServicePointAndDateRange() throws Exception {
+    Clients clients = mock(Clients.class);
+    CollectionResourceClient calendarClient = mock(CollectionResourceClient.class);
+    CollectionResourceClient configurationClient = mock(CollectionResourceClient.class);
+    when(clients.tenantId()).thenReturn(UUID.randomUUID().toString());
+    when(clients.calendarStorageClient()).thenReturn(calendarClient);
+    when(clients.configurationStorageClient()).thenReturn(configurationClient);
+    when(calendarClient.get(any(String.class))).thenReturn(ofAsync(new Response(HTTP_OK,
+      new JsonObject().put("dates", new JsonArray()).encode(), APPLICATION_JSON)));
+    when(configurationClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(ofAsync(new Response(HTTP_OK, new JsonObject()
+        .put("configs", new JsonArray()).put("totalRecords", 0).encode(), APPLICATION_JSON)));
+
+    String firstServicePointId = UUID.randomUUID().toString();
+    String secondServicePointId = UUID.randomUUID().toString();
+    ZonedDateTime firstStartDate = ZonedDateTime.of(2020, 10, 12, 18, 0, 0, 0, UTC);
+    ZonedDateTime secondStartDate = ZonedDateTime.of(2020, 10, 15, 9, 0, 0, 0, UTC);
+    ZonedDateTime endDate = ZonedDateTime.of(2020, 10, 22, 15, 30, 0, 0, UTC);
+    Map<String, ZonedDateTime> startDates = Map.of(firstServicePointId, firstStartDate,
+      secondServicePointId, secondStartDate);
+
+    CalendarRepository calendarRepository = new CalendarRepository(clients);
+    Map<String, Collection<OpeningDay>> openingDays = calendarRepository
+      .fetchOpeningDaysBetweenDates(startDates, endDate).get(5, TimeUnit.SECONDS).value();
+    // the same range for the same service points is served from the cache
+    calendarRepository.fetchOpeningDaysBetweenDates(startDates, endDate)
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(openingDays.keySet(),
+      containsInAnyOrder(firstServicePointId, secondServicePointId));
+    verify(calendarClient, times(2)).get(any(String.class));
+    verify(calendarClient).get(String.format(EXPECTED_PATH, firstServicePointId,
+      firstStartDate.toLocalDate(), endDate.toLocalDate()));
+    verify(calendarClient).get(String.format(EXPECTED_PATH, secondServicePointId,
+      secondStartDate.toLocalDate(), endDate.toLocalDate()));
+  }
 }
@@ -0,0 +1,105 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationCacheTest {
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void cachedSettingIsNotLoadedAgain() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(60_000);
+
+    cache.get("tenant", "timezone", loader()).get();
+    ZoneId zone = cache.get("tenant", "timezone", loader()).get().value();
+
+    assertThat(zone, is(ZoneOffset.UTC));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void lookupsWaitForSettingBeingLoaded() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(60_000);
+    CompletableFuture<Result<ZoneId>> storage = new CompletableFuture<>();
+    Supplier<CompletableFuture<Result<ZoneId>>> slowLoader = () -> {
+      loads.incrementAndGet();
+      return storage;
+    };
+
+    CompletableFuture<Result<ZoneId>> first = cache.get("tenant", "timezone", slowLoader);
+    CompletableFuture<Result<ZoneId>> second = cache.get("tenant", "timezone", slowLoader);
+    storage.complete(succeeded(ZoneOffset.UTC));
+
+    assertThat(first.get().value(), is(ZoneOffset.UTC));
+    assertThat(second.get().value(), is(ZoneOffset.UTC));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void failedLookupsAreNotCached() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(60_000);
+
+    Result<ZoneId> failure = cache.<ZoneId>get("tenant", "timezone", () -> {
+      loads.incrementAndGet();
+      return CompletableFuture.completedFuture(failed(new ServerErrorFailure("unavailable")));
+    }).get();
+    cache.get("tenant", "timezone", loader()).get();
+
+    assertThat(failure.failed(), is(true));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void settingsAreCachedPerTenantAndName() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(60_000);
+
+    cache.get("tenant-1", "timezone", loader()).get();
+    cache.get("tenant-2", "timezone", loader()).get();
+    cache.get("tenant-1", "other", loader()).get();
+
+    assertThat(loads.get(), is(3));
+  }
+
+  @Test
+  void expiredSettingIsLoadedAgain() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(1);
+
+    cache.get("tenant", "timezone", loader()).get();
+    TimeUnit.MILLISECONDS.sleep(5);
+    cache.get("tenant", "timezone", loader()).get();
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void invalidatedSettingIsLoadedAgain() throws Exception {
+    ConfigurationCache cache = new ConfigurationCache(60_000);
+
+    cache.get("tenant", "timezone", loader()).get();
+    cache.invalidate("tenant");
+    cache.get("tenant", "timezone", loader()).get();
+
+    assertThat(loads.get(), is(2));
+  }
+
+  private Supplier<CompletableFuture<Result<ZoneId>>> loader() {
+    return () -> {
+      loads.incrementAndGet();
+      return ofAsync(ZoneOffset.UTC);
+    };
+  }
+}
@@ -0,0 +1,158 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LOAN_POLICY;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.LOAN_TYPE;
+import static org.folio.circulation.infrastructure.storage.ReferenceDataType.MATERIAL_TYPE;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.MaterialType;
+import org.folio.circulation.infrastructure.storage.ReferenceDataCache.Settings;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class ReferenceDataCacheTest {
+  private final List<Set<String>> loadedIds = new ArrayList<>();
+
+  @Test
+  void cachedRecordsAreNotLoadedAgain() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    Collection<MaterialType> materialTypes = cache.getByIds("tenant", MATERIAL_TYPE,
+      List.of("book", "dvd", "book"), MaterialType::getId, loader()).get().value();
+
+    assertThat(ids(materialTypes), containsInAnyOrder("book", "dvd"));
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("dvd")));
+  }
+
+  @Test
+  void recordLoadedByIdIsUsedForLookupsOfMultipleRecords() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    cache.getById("tenant", MATERIAL_TYPE, "book", MaterialType::getId,
+      id -> ofAsync(materialType(id))).get();
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds.isEmpty(), is(true));
+  }
+
+  @Test
+  void recordsThatAreNotFoundAreNotCached() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    MaterialType notFound = cache.getById("tenant", MATERIAL_TYPE, "book",
+      MaterialType::getId, id -> ofAsync(MaterialType.unknown(null))).get().value();
+    MaterialType found = cache.getById("tenant", MATERIAL_TYPE, "book",
+      MaterialType::getId, id -> ofAsync(materialType(id))).get().value();
+
+    assertThat(notFound.getId(), nullValue());
+    assertThat(found.getId(), is("book"));
+  }
+
+  @Test
+  void recordsAreCachedPerTenantAndType() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    cache.getByIds("tenant-1", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant-2", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant-1", LOAN_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("book"), Set.of("book")));
+  }
+
+  @Test
+  void expiredRecordsAreLoadedAgain() throws Exception {
+    ReferenceDataCache cache = cache(1, 100);
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    TimeUnit.MILLISECONDS.sleep(5);
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("book")));
+  }
+
+  @Test
+  void leastRecentlyUsedRecordsAreRemovedWhenMaximumSizeIsExceeded() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 2);
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book", "dvd"), MaterialType::getId,
+      loader()).get();
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("map"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book", "dvd"), MaterialType::getId,
+      loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book", "dvd"), Set.of("map"), Set.of("dvd")));
+  }
+
+  @Test
+  void invalidatedRecordsAreLoadedAgain() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.invalidate("tenant");
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("book")));
+  }
+
+  @Test
+  void invalidatingPoliciesKeepsOtherRecords() throws Exception {
+    ReferenceDataCache cache = cache(60_000, 100);
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant", LOAN_POLICY, List.of("policy"), MaterialType::getId, loader()).get();
+    cache.invalidatePolicies("tenant");
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant", LOAN_POLICY, List.of("policy"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("policy"), Set.of("policy")));
+  }
+
+  @Test
+  void recordsAreAlwaysLoadedWhenCacheIsDisabledForType() throws Exception {
+    ReferenceDataCache cache = new ReferenceDataCache(type -> type == MATERIAL_TYPE
+      ? new Settings(0, 100) : new Settings(60_000, 100));
+
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+    cache.getByIds("tenant", MATERIAL_TYPE, List.of("book"), MaterialType::getId, loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("book"), Set.of("book")));
+  }
+
+  private static ReferenceDataCache cache(long timeToLive, int maximumSize) {
+    return new ReferenceDataCache(type -> new Settings(timeToLive, maximumSize));
+  }
+
+  private Function<Set<String>, CompletableFuture<Result<Collection<MaterialType>>>> loader() {
+    return ids -> {
+      loadedIds.add(Set.copyOf(ids));
+      return ofAsync(ids.stream()
+        .map(ReferenceDataCacheTest::materialType)
+        .toList());
+    };
+  }
+
+  private static MaterialType materialType(String id) {
+    return new MaterialType(id, id, "local");
+  }
+
+  private static List<String> ids(Collection<MaterialType> materialTypes) {
+    return materialTypes.stream()
+      .map(MaterialType::getId)
+      .toList();
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.circulation.infrastructure.storage.inventory;
+
+import static org.awaitility.Awaitility.await;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+class LocationCacheTest {
+  private final List<Set<String>> loadedIds = new ArrayList<>();
+
+  @Test
+  void cachedLocationsAreNotLoadedAgain() throws Exception {
+    LocationCache cache = new LocationCache(60_000, 0);
+
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    Collection<Location> locations = cache.getLocations("tenant",
+      Set.of("location-1", "location-2"), loader()).get().value();
+
+    assertThat(ids(locations), containsInAnyOrder("location-1", "location-2"));
+    assertThat(loadedIds, contains(Set.of("location-1"), Set.of("location-2")));
+  }
+
+  @Test
+  void locationsAreCachedPerTenant() throws Exception {
+    LocationCache cache = new LocationCache(60_000, 0);
+
+    cache.getLocations("tenant-1", Set.of("location-1"), loader()).get();
+    cache.getLocations("tenant-2", Set.of("location-1"), loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("location-1"), Set.of("location-1")));
+  }
+
+  @Test
+  void expiredLocationsAreLoadedAgain() throws Exception {
+    LocationCache cache = new LocationCache(1, 0);
+
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    TimeUnit.MILLISECONDS.sleep(5);
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+
+    assertThat(loadedIds, contains(Set.of("location-1"), Set.of("location-1")));
+  }
+
+  @Test
+  void locationsDueForRefreshAreReturnedAndReloadedInBackground() throws Exception {
+    LocationCache cache = new LocationCache(60_000, 1);
+    CompletableFuture<Result<Collection<Location>>> refresh = new CompletableFuture<>();
+
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    TimeUnit.MILLISECONDS.sleep(5);
+    CompletableFuture<Result<Collection<Location>>> lookup = cache.getLocations("tenant",
+      Set.of("location-1"), ids -> {
+        loadedIds.add(ids);
+        return refresh;
+      });
+
+    assertThat(lookup.isDone(), is(true));
+    assertThat(ids(lookup.get().value()), contains("location-1"));
+
+    // refresh is already in progress
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    assertThat(loadedIds.size(), is(2));
+
+    refresh.complete(Result.succeeded(List.of(Location.unknown("location-1"))));
+    await().atMost(1, TimeUnit.SECONDS).until(() -> {
+      cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+      return loadedIds.size() == 3;
+    });
+  }
+
+  @Test
+  void locationsAreNotCachedWhenDisabled() throws Exception {
+    LocationCache cache = new LocationCache(0, 0);
+
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    cache.getLocations("tenant", Set.of("location-1"), loader()).get();
+    cache.getLocations(null, Set.of("location-1"), loader()).get();
+
+    assertThat(loadedIds.size(), is(3));
+  }
+
+  private Function<Set<String>, CompletableFuture<Result<Collection<Location>>>> loader() {
+    return ids -> {
+      loadedIds.add(ids);
+      return ofAsync(ids.stream().map(Location::unknown).toList());
+    };
+  }
+
+  private static List<String> ids(Collection<Location> locations) {
+    return locations.stream().map(Location::getId).toList();
+  }
+}
@@ -0,0 +1,176 @@
+package org.folio.circulation.resources;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Asynchronous stages in resources are run by the executor of the request, see
+ * {@link org.folio.circulation.support.http.server.WebContext#getExecutor()}, as without an
+ * executor they run on the common fork join pool and move between threads for each stage
+ */
+class AsynchronousStagesUseExecutorTests {
+  private static final Path RESOURCES_SOURCE = Path.of(
+    "src/main/java/org/folio/circulation/resources");
+
+  /** number of arguments of the methods, when not given an executor */
+  private static final Map<String, Integer> ASYNCHRONOUS_METHODS = Map.ofEntries(
+    Map.entry("thenApplyAsync", 1),
+    Map.entry("thenAcceptAsync", 1),
+    Map.entry("thenRunAsync", 1),
+    Map.entry("thenComposeAsync", 1),
+    Map.entry("whenCompleteAsync", 1),
+    Map.entry("handleAsync", 1),
+    Map.entry("exceptionallyAsync", 1),
+    Map.entry("exceptionallyComposeAsync", 1),
+    Map.entry("supplyAsync", 1),
+    Map.entry("runAsync", 1),
+    Map.entry("thenCombineAsync", 2),
+    Map.entry("thenAcceptBothAsync", 2),
+    Map.entry("runAfterBothAsync", 2),
+    Map.entry("applyToEitherAsync", 2),
+    Map.entry("acceptEitherAsync", 2),
+    Map.entry("runAfterEitherAsync", 2));
+
+  private static final Pattern ASYNCHRONOUS_CALL = Pattern.compile(
+    "\\b(" + String.join("|", ASYNCHRONOUS_METHODS.keySet()) + ")\\(");
+
+  @Test
+  void asynchronousStagesInResourcesAreGivenAnExecutor() throws IOException {
+    final List<String> callsWithoutExecutor = new ArrayList<>();
+
+    try (Stream<Path> files = Files.walk(RESOURCES_SOURCE)) {
+      for (Path file : files.filter(path -> path.toString().endsWith(".java")).toList()) {
+        callsWithoutExecutor.addAll(callsWithoutExecutor(file));
+      }
+    }
+
+    assertThat(callsWithoutExecutor, is(empty()));
+  }
+
+  @Test
+  void callsWithoutExecutorAreFound() {
+    final String source = String.join("\n",
+      "ofAsync(() -> 1)",
+      "  .thenComposeAsync(r -> r.after(value -> lookup(value, \")\")))",
+      "  .thenComposeAsync(r -> r.after(this::lookup), executor)",
+      "  // .thenApplyAsync(r -> r)",
+      "  .thenCombineAsync(other, (first, second) -> first)",
+      "  .thenCombineAsync(other, (first, second) -> first, executor);");
+
+    assertThat(callsWithoutExecutor("Example.java", source), is(List.of(
+      "Example.java:2 thenComposeAsync", "Example.java:5 thenCombineAsync")));
+  }
+
+  private static List<String> callsWithoutExecutor(Path file) throws IOException {
+    return callsWithoutExecutor(file.toString(), Files.readString(file));
+  }
+
+  private static List<String> callsWithoutExecutor(String fileName, String source) {
+    final String code = withoutCommentsAndLiterals(source);
+    final Matcher call = ASYNCHRONOUS_CALL.matcher(code);
+    final List<String> found = new ArrayList<>();
+
+    while (call.find()) {
+      final String method = call.group(1);
+
+      if (numberOfArguments(code, call.end() - 1) <= ASYNCHRONOUS_METHODS.get(method)) {
+        found.add(fileName + ":" + lineOf(code, call.start()) + " " + method);
+      }
+    }
+
+    return found;
+  }
+
+  /**
+   * Counts the arguments of the call whose opening parenthesis is at the index
+   */
+  private static int numberOfArguments(String code, int openingParenthesis) {
+    int depth = 0;
+    int arguments = 1;
+
+    for (int index = openingParenthesis; index < code.length(); index++) {
+      final char character = code.charAt(index);
+
+      if ("({[".indexOf(character) >= 0) {
+        depth++;
+      } else if (")}]".indexOf(character) >= 0) {
+        depth--;
+
+        if (depth == 0) {
+          return arguments;
+        }
+      } else if (character == ',' && depth == 1) {
+        arguments++;
+      }
+    }
+
+    return arguments;
+  }
+
+  /**
+   * Blanks out comments, and string and character literals, keeping the lines as they are
+   */
+  private static String withoutCommentsAndLiterals(String source) {
+    final StringBuilder code = new StringBuilder(source.length());
+    int index = 0;
+
+    while (index < source.length()) {
+      final char character = source.charAt(index);
+
+      if (source.startsWith("//", index)) {
+        index = blankUntil(source, code, index, source.indexOf('\n', index));
+      } else if (source.startsWith("/*", index)) {
+        final int end = source.indexOf("*/", index + 2);
+        index = blankUntil(source, code, index, end < 0 ? -1 : end + 2);
+      } else if (character == '"' || character == '\'') {
+        index = blankUntil(source, code, index, endOfLiteral(source, index));
+      } else {
+        code.append(character);
+        index++;
+      }
+    }
+
+    return code.toString();
+  }
+
+  private static int endOfLiteral(String source, int start) {
+    final char quote = source.charAt(start);
+
+    for (int index = start + 1; index < source.length(); index++) {
+      if (source.charAt(index) == '\\') {
+        index++;
+      } else if (source.charAt(index) == quote) {
+        return index + 1;
+      }
+    }
+
+    return source.length();
+  }
+
+  private static int blankUntil(String source, StringBuilder code, int start, int end) {
+    final int blankEnd = end < 0 ? source.length() : end;
+
+    for (int index = start; index < blankEnd; index++) {
+      code.append(source.charAt(index) == '\n' ? '\n' : ' ');
+    }
+
+    return blankEnd;
+  }
+
+  private static int lineOf(String code, int index) {
+    return (int) code.substring(0, index).chars().filter(character -> character == '\n').count() + 1;
+  }
+}
@@ -0,0 +1,170 @@
+package org.folio.circulation.rules;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.infrastructure.storage.inventory.LocationRepository;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.storage.mappers.LocationMapper;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CirculationRulesProcessorTest {
+  private static final String TENANT_ID = "batch-tenant";
+  private static final String RULES = String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l fallback r request n notice o overdue i lost-item",
+    "m book: l book-policy r request n notice o overdue i lost-item",
+    "a institution-1: l institution-policy r request n notice o overdue i lost-item");
+
+  @Test
+  void executesRulesOncePerDistinctCriteriaAndFetchesLocationsOnce() throws Exception {
+    LocationRepository locationRepository = locationRepositoryMock();
+    CirculationRulesProcessor processor = new CirculationRulesProcessor(TENANT_ID,
+      rulesClientMock(), locationRepository, settingsClientMock());
+
+    List<CirculationRuleMatch> matches = processor.getLoanPolicyAndMatches(List.of(
+      parameters("book", "location-2"),
+      parameters("dvd", "location-2"),
+      parameters("book", "location-2"),
+      parameters("dvd", "location-1"),
+      parameters("dvd", "location-2"))).get().value();
+
+    assertThat(matches.stream().map(CirculationRuleMatch::getPolicyId).toList(), contains(
+      "book-policy", "fallback", "book-policy", "institution-policy", "fallback"));
+    assertThat(CirculationRulesCache.getInstance().getRuleMatchCacheMisses(TENANT_ID), is(3L));
+    verify(locationRepository, times(1)).fetchLocations(Set.of("location-1", "location-2"));
+  }
+
+  @Test
+  void matchesAreNotCachedWithoutMatchCache() throws Exception {
+    String tenantId = "uncached-tenant";
+    CirculationRulesProcessor processor = new CirculationRulesProcessor(tenantId,
+      rulesClientMock(), locationRepositoryMock(), settingsClientMock()).withoutMatchCache();
+
+    List<CirculationRuleMatch> matches = processor.getLoanPolicyAndMatches(List.of(
+      parameters("book", "location-2"),
+      parameters("dvd", "location-1"))).get().value();
+
+    assertThat(matches.stream().map(CirculationRuleMatch::getPolicyId).toList(), contains(
+      "book-policy", "institution-policy"));
+    assertThat(CirculationRulesCache.getInstance().getRuleMatchCacheHits(tenantId), is(0L));
+    assertThat(CirculationRulesCache.getInstance().getRuleMatchCacheMisses(tenantId), is(0L));
+  }
+
+  @Test
+  void rulesAreExecutedWithoutLocationsWhenLocationsCannotBeFetched() throws Exception {
+    LocationRepository locationRepository = mock(LocationRepository.class);
+    when(locationRepository.fetchLocations(anySet()))
+      .thenReturn(completedFuture(failed(new ServerErrorFailure("Locations unavailable"))));
+    CirculationRulesProcessor processor = new CirculationRulesProcessor("no-locations-tenant",
+      rulesClientMock(), locationRepository, settingsClientMock());
+
+    List<CirculationRuleMatch> matches = processor.getLoanPolicyAndMatches(List.of(
+      parameters("book", "location-1"),
+      parameters("dvd", "location-1"))).get().value();
+
+    assertThat(matches.stream().map(CirculationRuleMatch::getPolicyId).toList(), contains(
+      "book-policy", "fallback"));
+  }
+
+  @Test
+  void rulesExecutedOnAnEventLoopCompleteOnIt() throws Exception {
+    final Vertx vertx = Vertx.vertx();
+
+    try {
+      final Context context = vertx.getOrCreateContext();
+      final CirculationRulesProcessor processor = new CirculationRulesProcessor(
+        "event-loop-tenant", rulesClientMock(), locationRepositoryMock(), settingsClientMock());
+      final CompletableFuture<Result<CirculationRuleMatch>> match = new CompletableFuture<>();
+      final CompletableFuture<Context> completionContext = new CompletableFuture<>();
+
+      context.runOnContext(unused -> processor.getLoanPolicyAndMatch(
+        parameters("dvd", "location-1"))
+        .thenAccept(result -> {
+          completionContext.complete(Vertx.currentContext());
+          match.complete(result);
+        }));
+
+      assertThat(match.get(5, TimeUnit.SECONDS).value().getPolicyId(),
+        is("institution-policy"));
+      assertThat(completionContext.get(5, TimeUnit.SECONDS), is(sameInstance(context)));
+    } finally {
+      vertx.close();
+    }
+  }
+
+  private static RulesExecutionParameters parameters(String materialTypeId, String locationId) {
+    return new RulesExecutionParameters("loan-type", locationId, materialTypeId, "patron-group",
+      null);
+  }
+
+  private static CollectionResourceClient rulesClientMock() {
+    CollectionResourceClient client = mock(CollectionResourceClient.class);
+    when(client.get()).thenReturn(ofAsync(new Response(HTTP_OK,
+      new JsonObject().put("rulesAsText", RULES).encode(), APPLICATION_JSON)));
+
+    return client;
+  }
+
+  private static CollectionResourceClient settingsClientMock() {
+    CollectionResourceClient client = mock(CollectionResourceClient.class);
+    when(client.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(ofAsync(new Response(HTTP_OK, new JsonObject()
+        .put("circulationSettings", new JsonArray())
+        .put("totalRecords", 0)
+        .encode(), APPLICATION_JSON)));
+
+    return client;
+  }
+
+  private static LocationRepository locationRepositoryMock() {
+    List<Location> locations = List.of(
+      location("location-1", "institution-1"),
+      location("location-2", "institution-2"));
+
+    LocationRepository locationRepository = mock(LocationRepository.class);
+    when(locationRepository.fetchLocations(anySet()))
+      .thenReturn(ofAsync(new MultipleRecords<>(locations, locations.size())));
+
+    return locationRepository;
+  }
+
+  private static Location location(String id, String institutionId) {
+    return new LocationMapper().toDomain(new JsonObject()
+      .put("id", id)
+      .put("institutionId", institutionId)
+      .put("campusId", "campus")
+      .put("libraryId", "library"));
+  }
+}
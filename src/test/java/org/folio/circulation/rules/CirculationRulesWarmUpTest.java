@@ -0,0 +1,88 @@
+package org.folio.circulation.rules;
+
+import static java.net.HttpURLConnection.HTTP_OK;
+import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.oneOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+class CirculationRulesWarmUpTest {
+  @Test
+  void rulesEnginesCanBeWarmedUp() {
+    CirculationRulesWarmUp warmUp = new CirculationRulesWarmUp(10);
+
+    warmUp.warmUpRulesEngines();
+
+    assertThat(warmUp.isEnabled(), is(true));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void tenantWarmUpDeterminesEachPolicyForTheTenantsLocations() throws Exception {
+    CirculationRulesProcessor processor = processorMock();
+    CollectionResourceClient locationsClient = mock(CollectionResourceClient.class);
+    when(locationsClient.get(any(PageLimit.class))).thenReturn(ofAsync(new Response(HTTP_OK,
+      new JsonObject()
+        .put("locations", new JsonArray()
+          .add(new JsonObject().put("id", "location-1"))
+          .add(new JsonObject().put("id", "location-2")))
+        .put("totalRecords", 2)
+        .encode(), APPLICATION_JSON)));
+
+    new CirculationRulesWarmUp(5).warmUpTenant(processor, locationsClient).get();
+
+    ArgumentCaptor<List<RulesExecutionParameters>> parameters =
+      ArgumentCaptor.forClass(List.class);
+    verify(processor).withoutMatchCache();
+    verify(processor).getLoanPolicyAndMatches(parameters.capture());
+    verify(processor).getRequestPolicyAndMatches(anyList());
+    verify(processor).getNoticePolicyAndMatches(anyList());
+    verify(processor).getOverduePolicyAndMatches(anyList());
+    verify(processor).getLostItemPolicyAndMatches(anyList());
+    assertThat(parameters.getValue(), hasSize(5));
+    assertThat(parameters.getValue().stream().map(RulesExecutionParameters::getLocationId)
+      .toList(), everyItem(oneOf("location-1", "location-2")));
+  }
+
+  @Test
+  void nothingIsDoneWhenDisabled() throws Exception {
+    CirculationRulesProcessor processor = processorMock();
+    CollectionResourceClient locationsClient = mock(CollectionResourceClient.class);
+
+    new CirculationRulesWarmUp(0).warmUpTenant(processor, locationsClient).get();
+
+    verifyNoInteractions(processor, locationsClient);
+  }
+
+  private static CirculationRulesProcessor processorMock() {
+    CirculationRulesProcessor processor = mock(CirculationRulesProcessor.class);
+    when(processor.withoutMatchCache()).thenReturn(processor);
+    when(processor.getLoanPolicyAndMatches(anyList())).thenReturn(ofAsync(List.of()));
+    when(processor.getRequestPolicyAndMatches(anyList())).thenReturn(ofAsync(List.of()));
+    when(processor.getNoticePolicyAndMatches(anyList())).thenReturn(ofAsync(List.of()));
+    when(processor.getOverduePolicyAndMatches(anyList())).thenReturn(ofAsync(List.of()));
+    when(processor.getLostItemPolicyAndMatches(anyList())).thenReturn(ofAsync(List.of()));
+
+    return processor;
+  }
+}
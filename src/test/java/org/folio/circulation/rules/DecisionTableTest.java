@@ -0,0 +1,241 @@
+package org.folio.circulation.rules;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.vertx.core.MultiMap;
+
+/**
+ * Checks that {@link DecisionTable} returns the same results as the {@link Drools}
+ * reference implementation.
+ */
+class DecisionTableTest {
+  private static final String POLICIES = ": l loan-%1$d r request-%1$d n notice-%1$d o overdue-%1$d i lost-item-%1$d";
+  private static final String FALLBACK_POLICY = "fallback-policy" + String.format(POLICIES, 0);
+  private static final String[] PRIORITIES = {
+    "priority: last-line",
+    "priority: first-line",
+    "priority: t, s, c, b, a, m, g",
+    "priority: g m t s c b a",
+    "priority: criterium(t, s, c, b, a, m, g), number-of-criteria, first-line",
+    "priority: criterium(m, g, t, a, b, c, s), number-of-criteria, last-line",
+    "priority: number-of-criteria, criterium(t, s, c, b, a, m, g), last-line",
+    "priority: number-of-criteria, first-line",
+    "priority: criterium(g, t, m, s, c, b, a), last-line",
+  };
+  private static final String CRITERIUM_LETTERS = "mtgsabc";
+  private static final String[][] IDS = {
+    { "book", "dvd", "cd", "map" },
+    { "regular", "special", "reading-room" },
+    { "staff", "student", "visitor", "alumni" },
+    { "shelf", "stacks", "new", "reserve" },
+    { "institution-1", "institution-2" },
+    { "campus-1", "campus-2", "campus-3" },
+    { "library-1", "library-2", "library-3" },
+  };
+
+  @Test
+  void matchesFallbackPolicyWithoutLocation() {
+    String rules = String.join("\n",
+      "priority: last-line",
+      FALLBACK_POLICY,
+      "a all" + String.format(POLICIES, 1),
+      "m book" + String.format(POLICIES, 2),
+      "    b !campus-1" + String.format(POLICIES, 3));
+
+    DecisionTable decisionTable = Text2Drools.convertToDecisionTable(rules);
+
+    assertThat(decisionTable.loanPolicy(params("book", null, null, null), null).getPolicyId(),
+      is("loan-2"));
+    assertThat(decisionTable.loanPolicy(params("dvd", null, null, null), null).getPolicyId(),
+      is("loan-0"));
+    assertThat(decisionTable.loanPolicy(params("book", null, null, null),
+      location("institution-1", "campus-2", "library-1")).getPolicyId(), is("loan-3"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(longs = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20 })
+  void agreesWithDroolsOnRandomRules(long seed) {
+    Random random = new Random(seed);
+    String rules = randomRules(random);
+
+    Drools drools = new Drools("test-tenant-id", Text2Drools.convert(rules));
+    DecisionTable decisionTable = Text2Drools.convertToDecisionTable(rules);
+
+    for (int i = 0; i < 200; i++) {
+      MultiMap params = params(randomId(random, 0), randomId(random, 1), randomId(random, 2),
+        randomId(random, 3));
+      Location location = random.nextInt(5) == 0 ? null
+        : location(randomId(random, 4), randomId(random, 5), randomId(random, 6));
+      String description = rules + "\n" + params + " " + location;
+
+      CirculationRuleMatch expectedLoanPolicy = drools.loanPolicy(params, location);
+      CirculationRuleMatch actualLoanPolicy = decisionTable.loanPolicy(params, location);
+      AppliedRuleConditions expectedConditions = expectedLoanPolicy.getAppliedRuleConditions();
+      AppliedRuleConditions actualConditions = actualLoanPolicy.getAppliedRuleConditions();
+
+      assertThat(description, actualLoanPolicy.getPolicyId(),
+        is(expectedLoanPolicy.getPolicyId()));
+      assertThat(description, actualConditions.isItemTypePresent(),
+        is(expectedConditions.isItemTypePresent()));
+      assertThat(description, actualConditions.isLoanTypePresent(),
+        is(expectedConditions.isLoanTypePresent()));
+      assertThat(description, actualConditions.isPatronGroupPresent(),
+        is(expectedConditions.isPatronGroupPresent()));
+
+      assertSamePolicy(description, drools::requestPolicy, decisionTable::requestPolicy,
+        params, location);
+      assertSamePolicy(description, drools::noticePolicy, decisionTable::noticePolicy,
+        params, location);
+      assertSamePolicy(description, drools::overduePolicy, decisionTable::overduePolicy,
+        params, location);
+      assertSamePolicy(description, drools::lostItemPolicy, decisionTable::lostItemPolicy,
+        params, location);
+
+      assertThat(description, decisionTable.loanPolicies(params, location),
+        is(drools.loanPolicies(params, location)));
+      assertThat(description, decisionTable.requestPolicies(params, location),
+        is(drools.requestPolicies(params, location)));
+      assertThat(description, decisionTable.noticePolicies(params, location),
+        is(drools.noticePolicies(params, location)));
+      assertThat(description, decisionTable.overduePolicies(params, location),
+        is(drools.overduePolicies(params, location)));
+      assertThat(description, decisionTable.lostItemPolicies(params, location),
+        is(drools.lostItemPolicies(params, location)));
+    }
+  }
+
+  private static void assertSamePolicy(String description,
+    BiFunction<MultiMap, Location, CirculationRuleMatch> expected,
+    BiFunction<MultiMap, Location, CirculationRuleMatch> actual,
+    MultiMap params, Location location) {
+
+    assertThat(description, actual.apply(params, location).getPolicyId(),
+      is(expected.apply(params, location).getPolicyId()));
+  }
+
+  private static String randomRules(Random random) {
+    String priority = PRIORITIES[random.nextInt(PRIORITIES.length)];
+    boolean firstLine = priority.equals("priority: first-line");
+    List<String> lines = new ArrayList<>();
+
+    lines.add(priority);
+    if (!firstLine) {
+      lines.add(FALLBACK_POLICY);
+    }
+
+    int statements = 5 + random.nextInt(20);
+    for (int i = 0; i < statements; i++) {
+      addStatement(random, lines, 0);
+    }
+
+    if (firstLine) {
+      lines.add(FALLBACK_POLICY);
+    }
+
+    return String.join("\n", lines);
+  }
+
+  private static void addStatement(Random random, List<String> lines, int indentation) {
+    boolean hasChildren = indentation < 8 && random.nextInt(4) == 0;
+    StringBuilder line = new StringBuilder(" ".repeat(indentation));
+    List<Integer> criteria = new ArrayList<>();
+
+    for (int count = 1 + random.nextInt(3); criteria.size() < count; ) {
+      int criterium = random.nextInt(CRITERIUM_LETTERS.length());
+      if (!criteria.contains(criterium)) {
+        criteria.add(criterium);
+      }
+    }
+
+    for (int criterium : criteria) {
+      if (line.length() > indentation) {
+        line.append(" + ");
+      }
+      line.append(CRITERIUM_LETTERS.charAt(criterium)).append(randomNames(random, criterium));
+    }
+
+    if (!hasChildren || random.nextBoolean()) {
+      line.append(String.format(POLICIES, lines.size()));
+    }
+    lines.add(line.toString());
+
+    if (hasChildren) {
+      for (int i = 1 + random.nextInt(3); i > 0; i--) {
+        addStatement(random, lines, indentation + 4);
+      }
+    }
+  }
+
+  private static String randomNames(Random random, int criterium) {
+    if (random.nextInt(6) == 0) {
+      return " all";
+    }
+
+    String negation = random.nextInt(3) == 0 ? "!" : "";
+    StringBuilder names = new StringBuilder();
+    for (int i = 1 + random.nextInt(2); i > 0; i--) {
+      names.append(" ").append(negation).append(IDS[criterium][random.nextInt(IDS[criterium].length)]);
+    }
+
+    return names.toString();
+  }
+
+  private static String randomId(Random random, int criterium) {
+    int index = random.nextInt(IDS[criterium].length + 2);
+
+    if (index == IDS[criterium].length) {
+      return null;
+    }
+    if (index > IDS[criterium].length) {
+      return "unknown";
+    }
+    return IDS[criterium][index];
+  }
+
+  private static MultiMap params(String itemTypeId, String loanTypeId, String patronGroupId,
+    String locationId) {
+
+    MultiMap params = MultiMap.caseInsensitiveMultiMap();
+
+    if (itemTypeId != null) {
+      params.add(ITEM_TYPE_ID_NAME, itemTypeId);
+    }
+    if (loanTypeId != null) {
+      params.add(LOAN_TYPE_ID_NAME, loanTypeId);
+    }
+    if (patronGroupId != null) {
+      params.add(PATRON_TYPE_ID_NAME, patronGroupId);
+    }
+    if (locationId != null) {
+      params.add(LOCATION_ID_NAME, locationId);
+    }
+
+    return params;
+  }
+
+  private static Location location(String institutionId, String campusId, String libraryId) {
+    return new Location(null, null, null, null, emptyList(), null,
+      Institution.unknown(institutionId), Campus.unknown(campusId), Library.unknown(libraryId),
+      ServicePoint.unknown());
+  }
+}
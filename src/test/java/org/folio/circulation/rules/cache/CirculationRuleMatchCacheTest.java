@@ -0,0 +1,95 @@
+package org.folio.circulation.rules.cache;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.circulation.domain.Campus;
+import org.folio.circulation.domain.Institution;
+import org.folio.circulation.domain.Library;
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.rules.RulesExecutionParameters;
+import org.junit.jupiter.api.Test;
+
+class CirculationRuleMatchCacheTest {
+  private final AtomicInteger evaluations = new AtomicInteger();
+
+  @Test
+  void matchIsDeterminedOncePerPolicyTypeAndCriteria() {
+    CirculationRuleMatchCache cache = new CirculationRuleMatchCache(10);
+    RulesExecutionParameters parameters = parameters("material-type", null);
+
+    CirculationRuleMatch first = cache.get("loan policy", parameters, this::match);
+    CirculationRuleMatch second = cache.get("loan policy", parameters("material-type", null),
+      this::match);
+    cache.get("request policy", parameters, this::match);
+
+    assertThat(second, sameInstance(first));
+    assertThat(evaluations.get(), is(2));
+    assertThat(cache.getHits(), is(1L));
+    assertThat(cache.getMisses(), is(2L));
+  }
+
+  @Test
+  void locationHierarchyIsPartOfTheCriteria() {
+    CirculationRuleMatchCache cache = new CirculationRuleMatchCache(10);
+
+    cache.get("loan policy", parameters("material-type", null), this::match);
+    cache.get("loan policy", parameters("material-type", location("campus-1")), this::match);
+    cache.get("loan policy", parameters("material-type", location("campus-2")), this::match);
+    cache.get("loan policy", parameters("material-type", location("campus-1")), this::match);
+
+    assertThat(evaluations.get(), is(3));
+    assertThat(cache.getHits(), is(1L));
+  }
+
+  @Test
+  void leastRecentlyUsedMatchIsEvicted() {
+    CirculationRuleMatchCache cache = new CirculationRuleMatchCache(2);
+
+    cache.get("loan policy", parameters("book", null), this::match);
+    cache.get("loan policy", parameters("dvd", null), this::match);
+    cache.get("loan policy", parameters("book", null), this::match);
+    cache.get("loan policy", parameters("map", null), this::match);
+
+    assertThat(cache.size(), is(2));
+
+    cache.get("loan policy", parameters("book", null), this::match);
+    cache.get("loan policy", parameters("dvd", null), this::match);
+
+    assertThat(evaluations.get(), is(4));
+  }
+
+  @Test
+  void nothingIsCachedWhenMaximumSizeIsZero() {
+    CirculationRuleMatchCache cache = new CirculationRuleMatchCache(0);
+
+    cache.get("loan policy", parameters("book", null), this::match);
+    cache.get("loan policy", parameters("book", null), this::match);
+
+    assertThat(evaluations.get(), is(2));
+    assertThat(cache.size(), is(0));
+  }
+
+  private CirculationRuleMatch match() {
+    return new CirculationRuleMatch("policy-" + evaluations.incrementAndGet(),
+      new AppliedRuleConditions(false, false, false));
+  }
+
+  private static RulesExecutionParameters parameters(String materialTypeId, Location location) {
+    return new RulesExecutionParameters("loan-type", "location", materialTypeId,
+      "patron-group", location);
+  }
+
+  private static Location location(String campusId) {
+    return new Location(null, null, null, null, emptyList(), null,
+      Institution.unknown("institution"), Campus.unknown(campusId), Library.unknown("library"),
+      ServicePoint.unknown());
+  }
+}
@@ -1,25 +1,51 @@
 package org.folio.circulation.rules.cache;
 
 import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_FORBIDDEN;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.awaitility.Awaitility.await;
 import static org.folio.circulation.support.http.ContentType.APPLICATION_JSON;
+import static org.folio.circulation.support.http.ContentType.TEXT_PLAIN;
 import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.DecisionTable;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.ExecutableRules;
+import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,14 +59,18 @@ class CirculationRulesCacheTest {
       "11111111-1111-1111-1111-111111111111");
     CollectionResourceClient circulationRulesClient2 = createCirculationRulesClientMock(
       "22222222-2222-2222-2222-222222222222");
+    CollectionResourceClient circulationSettingsClient = createCirculationSettingsClientMock(
+      new JsonArray());
 
     Thread thread1 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant1", circulationRulesClient1);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant1", circulationRulesClient1,
+        circulationSettingsClient);
       thread1Finished = true;
     });
 
     Thread thread2 = new Thread(() -> {
-      CirculationRulesCache.getInstance().getDrools("tenant2", circulationRulesClient2);
+      CirculationRulesCache.getInstance().getRulesEngine("tenant2", circulationRulesClient2,
+        circulationSettingsClient);
       thread2Finished = true;
     });
 
@@ -50,14 +80,190 @@ class CirculationRulesCacheTest {
     await().atMost(3, TimeUnit.SECONDS).until(() -> thread1Finished);
     await().atMost(3, TimeUnit.SECONDS).until(() -> thread2Finished);
 
-    String loanPolicyId1 = getLoanPolicyId("tenant1", circulationRulesClient1);
-    String loanPolicyId2 = getLoanPolicyId("tenant2", circulationRulesClient2);
+    String loanPolicyId1 = getLoanPolicyId("tenant1", circulationRulesClient1,
+      circulationSettingsClient);
+    String loanPolicyId2 = getLoanPolicyId("tenant2", circulationRulesClient2,
+      circulationSettingsClient);
 
     assertNotEquals(loanPolicyId1, loanPolicyId2);
   }
 
-  private String getLoanPolicyId(String tenantId, CollectionResourceClient client) throws Exception {
-    return CirculationRulesCache.getInstance().getDrools(tenantId, client)
+  @Test
+  void droolsIsUsedByDefault() throws Exception {
+    assertThat(CirculationRulesCache.getInstance().getRulesEngine("tenant3",
+        createCirculationRulesClientMock("33333333-3333-3333-3333-333333333333"),
+        createCirculationSettingsClientMock(new JsonArray())).get().value(),
+      instanceOf(Drools.class));
+  }
+
+  @Test
+  void decisionTableIsUsedWhenEnabledInSettings() throws Exception {
+    JsonArray settings = new JsonArray().add(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("name", "circulationRulesEngine")
+      .put("value", new JsonObject().put("engine", "decision-table")));
+
+    assertThat(CirculationRulesCache.getInstance().getRulesEngine("tenant4",
+        createCirculationRulesClientMock("44444444-4444-4444-4444-444444444444"),
+        createCirculationSettingsClientMock(settings)).get().value(),
+      instanceOf(DecisionTable.class));
+
+    // rules updates keep the engine of the tenant
+    CirculationRulesCache.getInstance().buildRules("tenant4", "priority: last-line\n" +
+      "fallback-policy: l loan r request n notice o overdue i lost-item");
+
+    assertThat(CirculationRulesCache.getInstance().getRules("tenant4").getEngine(),
+      instanceOf(DecisionTable.class));
+  }
+
+  @Test
+  void engineTypeIsNotKeptWhenSettingCannotBeFetched() throws Exception {
+    CollectionResourceClient circulationSettingsClient = mock(CollectionResourceClient.class);
+    when(circulationSettingsClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(ofAsync(new Response(HTTP_FORBIDDEN, "Access denied", TEXT_PLAIN)));
+
+    assertThat(CirculationRulesCache.getInstance().getRulesEngine("tenant8",
+        createCirculationRulesClientMock("88888888-8888-8888-8888-888888888888"),
+        circulationSettingsClient).get().value(),
+      instanceOf(Drools.class));
+
+    Rules rules = CirculationRulesCache.getInstance().getRules("tenant8");
+    assertThat(rules.isEngineTypeFromSetting(), is(false));
+    assertThat(rules.shouldCheckEngineType(0), is(true));
+  }
+
+  @Test
+  void engineIsChangedWhenSettingIsChanged() throws Exception {
+    final CirculationRulesCache cache = CirculationRulesCache.getInstance();
+    final JsonArray settings = new JsonArray();
+    final CollectionResourceClient circulationSettingsClient = mock(CollectionResourceClient.class);
+    when(circulationSettingsClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenAnswer(invocation -> ofAsync(new Response(HTTP_OK, new JsonObject()
+        .put("circulationSettings", settings)
+        .put("totalRecords", settings.size())
+        .encodePrettily(), APPLICATION_JSON)));
+
+    assertThat(cache.getRulesEngine("tenant10",
+        createCirculationRulesClientMock("10101010-1010-1010-1010-101010101010"),
+        circulationSettingsClient).get().value(),
+      instanceOf(Drools.class));
+
+    final Rules droolsRules = cache.getRules("tenant10");
+
+    // the setting has not changed, the rules are kept
+    assertThat(cache.checkEngineType("tenant10", circulationSettingsClient)
+      .get(5, TimeUnit.SECONDS).value(), sameInstance(droolsRules));
+
+    settings.add(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("name", "circulationRulesEngine")
+      .put("value", new JsonObject().put("engine", "decision-table")));
+
+    cache.checkEngineType("tenant10", circulationSettingsClient).get(5, TimeUnit.SECONDS);
+
+    assertThat(cache.getRules("tenant10").getEngine(), instanceOf(DecisionTable.class));
+    assertThat(cache.getRules("tenant10").getRulesAsText(), is(droolsRules.getRulesAsText()));
+  }
+
+  @Test
+  void ruleMatchesAreCachedUntilRulesAreRebuilt() throws Exception {
+    CirculationRulesCache cache = CirculationRulesCache.getInstance();
+    RulesExecutionParameters parameters = new RulesExecutionParameters("loan-type",
+      "location", "material-type", "patron-group", null);
+
+    ExecutableRules rules = cache.getExecutableRules("tenant5",
+      createCirculationRulesClientMock("55555555-5555-5555-5555-555555555555"),
+      createCirculationSettingsClientMock(new JsonArray())).get().value();
+
+    rules.determineLoanPolicy(parameters);
+    rules.determineLoanPolicy(parameters);
+    rules.determineRequestPolicy(parameters);
+
+    assertThat(cache.getRuleMatchCacheHits("tenant5"), is(1L));
+    assertThat(cache.getRuleMatchCacheMisses("tenant5"), is(2L));
+
+    cache.buildRules("tenant5", "priority: last-line\n" +
+      "fallback-policy: l loan r request n notice o overdue i lost-item");
+
+    assertThat(cache.getRuleMatchCacheHits("tenant5"), is(0L));
+    assertThat(cache.getRuleMatchCacheMisses("tenant5"), is(0L));
+  }
+
+  @Test
+  void concurrentLookupsLoadRulesOnlyOnce() throws Exception {
+    CompletableFuture<Result<Response>> rulesResponse = new CompletableFuture<>();
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(rulesResponse);
+    CollectionResourceClient circulationSettingsClient = createCirculationSettingsClientMock(
+      new JsonArray());
+
+    List<CompletableFuture<Result<CirculationRulesEngine>>> lookups = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      lookups.add(CirculationRulesCache.getInstance().getRulesEngine("tenant6",
+        circulationRulesClient, circulationSettingsClient));
+    }
+
+    rulesResponse.complete(succeeded(new Response(HTTP_OK, new JsonObject()
+      .put("rulesAsText", "priority: last-line\n" +
+        "fallback-policy: l loan r request n notice o overdue i lost-item")
+      .encode(), APPLICATION_JSON)));
+
+    CirculationRulesEngine engine = lookups.get(0).get(5, TimeUnit.SECONDS).value();
+    for (CompletableFuture<Result<CirculationRulesEngine>> lookup : lookups) {
+      assertThat(lookup.get(5, TimeUnit.SECONDS).value(), sameInstance(engine));
+    }
+    verify(circulationRulesClient, times(1)).get();
+  }
+
+  @Test
+  void cachedRulesAreUsedUntilRebuildIsFinished() throws Exception {
+    CirculationRulesCache cache = CirculationRulesCache.getInstance();
+    CirculationRulesEngine originalEngine = cache.getRulesEngine("tenant7",
+      createCirculationRulesClientMock("77777777-7777-7777-7777-777777777777"),
+      createCirculationSettingsClientMock(new JsonArray())).get().value();
+    long builds = cache.getStatistics().builds();
+
+    CompletableFuture<Result<CirculationRulesEngine>> rebuild = cache.rebuildRules("tenant7",
+      "priority: last-line\nfallback-policy: l loan r request n notice o overdue i lost-item");
+
+    // there is no gap in which the tenant has no rules
+    assertThat(cache.getRules("tenant7"), notNullValue());
+
+    CirculationRulesEngine rebuiltEngine = rebuild.get(5, TimeUnit.SECONDS).value();
+    assertThat(rebuiltEngine, not(sameInstance(originalEngine)));
+    assertThat(cache.getRules("tenant7").getEngine(), sameInstance(rebuiltEngine));
+    assertThat(cache.getStatistics().builds(), greaterThan(builds));
+  }
+
+  @Test
+  void loadDoesNotReplaceRulesRebuiltWhileLoading() throws Exception {
+    CirculationRulesCache cache = CirculationRulesCache.getInstance();
+    CompletableFuture<Result<Response>> rulesResponse = new CompletableFuture<>();
+    CollectionResourceClient circulationRulesClient = mock(CollectionResourceClient.class);
+    when(circulationRulesClient.get()).thenReturn(rulesResponse);
+
+    CompletableFuture<String> completingThread = cache.getRulesEngine("tenant9",
+        circulationRulesClient, createCirculationSettingsClientMock(new JsonArray()))
+      .thenApply(r -> Thread.currentThread().getName());
+
+    CirculationRulesEngine rebuiltEngine = cache.rebuildRules("tenant9",
+      "priority: last-line\nfallback-policy: l loan r request n notice o overdue i lost-item")
+      .get(5, TimeUnit.SECONDS).value();
+
+    rulesResponse.complete(succeeded(new Response(HTTP_OK, new JsonObject()
+      .put("rulesAsText", "priority: last-line\n" +
+        "fallback-policy: l stale r stale n stale o stale i stale")
+      .encode(), APPLICATION_JSON)));
+
+    assertThat(completingThread.get(5, TimeUnit.SECONDS),
+      not(startsWith("circulation-rules-compiler")));
+    assertThat(cache.getRules("tenant9").getEngine(), sameInstance(rebuiltEngine));
+  }
+
+  private String getLoanPolicyId(String tenantId, CollectionResourceClient client,
+    CollectionResourceClient settingsClient) throws Exception {
+
+    return CirculationRulesCache.getInstance().getRulesEngine(tenantId, client, settingsClient)
       .get().value().loanPolicy(MultiMap.caseInsensitiveMultiMap(), Location.unknown()).getPolicyId();
   }
 
@@ -74,4 +280,17 @@ class CirculationRulesCacheTest {
 
     return circulationRulesClient;
   }
+
+  private CollectionResourceClient createCirculationSettingsClientMock(JsonArray settings) {
+    String settingsResponse = new JsonObject()
+      .put("circulationSettings", settings)
+      .put("totalRecords", settings.size())
+      .encodePrettily();
+
+    CollectionResourceClient circulationSettingsClient = mock(CollectionResourceClient.class);
+    when(circulationSettingsClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(ofAsync(new Response(HTTP_OK, settingsResponse, APPLICATION_JSON)));
+
+    return circulationSettingsClient;
+  }
 }
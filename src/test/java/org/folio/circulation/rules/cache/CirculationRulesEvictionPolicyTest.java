@@ -0,0 +1,84 @@
+package org.folio.circulation.rules.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.folio.circulation.rules.CirculationRulesEngineType;
+import org.junit.jupiter.api.Test;
+
+class CirculationRulesEvictionPolicyTest {
+  @Test
+  void nothingIsEvictedWithoutLimits() {
+    CirculationRulesEvictionPolicy policy = new CirculationRulesEvictionPolicy(0, 0, 0);
+
+    assertThat(policy.tenantsToEvict(cachedRules(3, 100), System.currentTimeMillis()), empty());
+  }
+
+  @Test
+  void leastRecentlyUsedRulesAreEvictedAboveMaximumTenants() throws Exception {
+    CirculationRulesEvictionPolicy policy = new CirculationRulesEvictionPolicy(2, 0, 0);
+    Map<String, Rules> cachedRules = cachedRules(4, 100);
+    Thread.sleep(5);
+    cachedRules.get("tenant-0").markUsed();
+
+    assertThat(policy.tenantsToEvict(cachedRules, System.currentTimeMillis()),
+      contains("tenant-1", "tenant-2"));
+  }
+
+  @Test
+  void leastRecentlyUsedRulesAreEvictedAboveMaximumSize() {
+    Map<String, Rules> cachedRules = cachedRules(3, 100);
+    long sizeOfTwoRules = 2 * cachedRules.get("tenant-0").getEstimatedSize();
+    CirculationRulesEvictionPolicy policy = new CirculationRulesEvictionPolicy(0,
+      sizeOfTwoRules, 0);
+
+    assertThat(policy.tenantsToEvict(cachedRules, System.currentTimeMillis()),
+      contains("tenant-0"));
+  }
+
+  @Test
+  void mostRecentlyUsedRulesAreNeverEvicted() {
+    CirculationRulesEvictionPolicy policy = new CirculationRulesEvictionPolicy(0, 1, 1);
+
+    assertThat(policy.tenantsToEvict(cachedRules(1, 100), System.currentTimeMillis() + 1000),
+      empty());
+    assertThat(policy.tenantsToEvict(cachedRules(3, 100), System.currentTimeMillis() + 1000),
+      contains("tenant-0", "tenant-1"));
+  }
+
+  @Test
+  void idleRulesAreEvicted() throws Exception {
+    CirculationRulesEvictionPolicy policy = new CirculationRulesEvictionPolicy(10, 0, 1000);
+    Map<String, Rules> cachedRules = cachedRules(3, 100);
+    Thread.sleep(5);
+    cachedRules.get("tenant-1").markUsed();
+    long now = cachedRules.get("tenant-1").getLastUsedTimestamp() + 1000;
+
+    assertThat(policy.tenantsToEvict(cachedRules, now), contains("tenant-0", "tenant-2"));
+  }
+
+  private static Map<String, Rules> cachedRules(int tenants, int rulesLength) {
+    Map<String, Rules> cachedRules = new HashMap<>();
+
+    for (int i = 0; i < tenants; i++) {
+      cachedRules.put("tenant-" + i, new Rules("r".repeat(rulesLength),
+        "d".repeat(rulesLength), CirculationRulesEngineType.DROOLS, true, null,
+        new CirculationRuleMatchCache(0), 0, 0));
+      sleepMillisecond();
+    }
+
+    return cachedRules;
+  }
+
+  private static void sleepMillisecond() {
+    try {
+      Thread.sleep(2);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
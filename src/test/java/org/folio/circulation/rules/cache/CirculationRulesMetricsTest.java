@@ -0,0 +1,104 @@
+package org.folio.circulation.rules.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.metrics.MetricsWriter;
+import org.junit.jupiter.api.Test;
+
+class CirculationRulesMetricsTest {
+  @Test
+  void buildDurationAndRulesSizeAreReportedPerTenant() {
+    CirculationRulesMetrics metrics = new CirculationRulesMetrics();
+    metrics.recordBuild("tenant_a", TimeUnit.MILLISECONDS.toNanos(300), "line 1\nline 2\n");
+
+    String text = write(metrics);
+
+    assertThat(text, containsString("# TYPE circulation_rules_build_seconds histogram\n"));
+    assertThat(text, containsString(
+      "circulation_rules_build_seconds_bucket{tenant=\"tenant_a\",le=\"0.25\"} 0\n"));
+    assertThat(text, containsString(
+      "circulation_rules_build_seconds_bucket{tenant=\"tenant_a\",le=\"0.5\"} 1\n"));
+    assertThat(text, containsString(
+      "circulation_rules_build_seconds_bucket{tenant=\"tenant_a\",le=\"+Inf\"} 1\n"));
+    assertThat(text, containsString(
+      "circulation_rules_build_seconds_sum{tenant=\"tenant_a\"} 0.3\n"));
+    assertThat(text, containsString(
+      "circulation_rules_build_seconds_count{tenant=\"tenant_a\"} 1\n"));
+    assertThat(text, containsString("circulation_rules_size_characters{tenant=\"tenant_a\"} 14\n"));
+    assertThat(text, containsString("circulation_rules_size_lines{tenant=\"tenant_a\"} 2\n"));
+  }
+
+  @Test
+  void evictedRulesAreNoLongerReportedAsInMemory() {
+    CirculationRulesMetrics metrics = new CirculationRulesMetrics();
+    metrics.recordBuild("tenant_a", 1000, "line 1\nline 2\n");
+    metrics.recordEviction("tenant_a");
+
+    String text = write(metrics);
+
+    assertThat(text, containsString("circulation_rules_size_lines{tenant=\"tenant_a\"} 0\n"));
+    assertThat(text, containsString(
+      "circulation_rules_cache_evictions_total{tenant=\"tenant_a\"} 1\n"));
+  }
+
+  @Test
+  void cacheHitsAndMissesAreCountedPerTenant() {
+    CirculationRulesMetrics metrics = new CirculationRulesMetrics();
+    metrics.recordCacheMiss("tenant_a");
+    metrics.recordCacheHit("tenant_a");
+    metrics.recordCacheHit("tenant_a");
+    metrics.recordCacheHit("tenant_b");
+
+    String text = write(metrics);
+
+    assertThat(text, containsString("circulation_rules_cache_hits_total{tenant=\"tenant_a\"} 2\n"));
+    assertThat(text, containsString("circulation_rules_cache_misses_total{tenant=\"tenant_a\"} 1\n"));
+    assertThat(text, containsString("circulation_rules_cache_hits_total{tenant=\"tenant_b\"} 1\n"));
+    assertThat(text, containsString("circulation_rules_cache_misses_total{tenant=\"tenant_b\"} 0\n"));
+  }
+
+  @Test
+  void evaluationsAreReportedPerPolicyType() {
+    CirculationRulesMetrics metrics = new CirculationRulesMetrics();
+    metrics.recordLookup("loan");
+    metrics.recordLookup("loan");
+    metrics.recordEvaluation("loan", TimeUnit.MICROSECONDS.toNanos(200));
+    metrics.recordLookup("request");
+
+    String text = write(metrics);
+
+    assertThat(text, containsString("circulation_rules_lookups_total{policy_type=\"loan\"} 2\n"));
+    assertThat(text, containsString("circulation_rules_lookups_total{policy_type=\"request\"} 1\n"));
+    assertThat(text, containsString(
+      "circulation_rules_evaluation_seconds_bucket{policy_type=\"loan\",le=\"1.0E-4\"} 0\n"));
+    assertThat(text, containsString(
+      "circulation_rules_evaluation_seconds_bucket{policy_type=\"loan\",le=\"2.5E-4\"} 1\n"));
+    assertThat(text, containsString(
+      "circulation_rules_evaluation_seconds_count{policy_type=\"loan\"} 1\n"));
+    assertThat(text, not(containsString(
+      "circulation_rules_evaluation_seconds_count{policy_type=\"request\"}")));
+  }
+
+  @Test
+  void updateLagIsTheTimeSinceTheEvent() {
+    CirculationRulesMetrics metrics = new CirculationRulesMetrics();
+    metrics.recordUpdateApplied(System.currentTimeMillis() - 2000);
+
+    String text = write(metrics);
+
+    assertThat(text, containsString("circulation_rules_update_lag_seconds_bucket{le=\"1\"} 0\n"));
+    assertThat(text, containsString("circulation_rules_update_lag_seconds_bucket{le=\"5\"} 1\n"));
+    assertThat(text, containsString("circulation_rules_update_lag_seconds_count 1\n"));
+  }
+
+  private static String write(CirculationRulesMetrics metrics) {
+    MetricsWriter writer = new MetricsWriter();
+    metrics.write(writer);
+
+    return writer.toString();
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.circulation.rules.cache;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.rules.Drools;
+import org.folio.circulation.rules.Text2Drools;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.vertx.core.MultiMap;
+
+class CirculationRulesSnapshotStoreTest {
+  private static final String RULES = String.join("\n",
+    "priority: t, s, c, b, a, m, g",
+    "fallback-policy: l fallback r request n notice o overdue i lost-item",
+    "m book: l book-policy r request n notice o overdue i lost-item");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void compiledRulesCanBeReadBack() {
+    CirculationRulesSnapshotStore store = new CirculationRulesSnapshotStore(directory.toString());
+    String droolsText = Text2Drools.convert(RULES);
+
+    store.write("snapshot_tenant", droolsText, new Drools("snapshot_tenant", droolsText));
+    Optional<Drools> drools = store.read("snapshot_tenant", droolsText);
+
+    assertThat(drools.isPresent(), is(true));
+    assertThat(drools.get().loanPolicy(MultiMap.caseInsensitiveMultiMap()
+      .add("item_type_id", "book"), Location.unknown()).getPolicyId(), is("book-policy"));
+  }
+
+  @Test
+  void snapshotIsOnlyUsedForTheRulesItWasBuiltFrom() throws IOException {
+    CirculationRulesSnapshotStore store = new CirculationRulesSnapshotStore(directory.toString());
+    String droolsText = Text2Drools.convert(RULES);
+    String changedDroolsText = Text2Drools.convert(RULES.replace("book-policy", "other-policy"));
+
+    store.write("snapshot_tenant", droolsText, new Drools("snapshot_tenant", droolsText));
+
+    assertThat(store.read("snapshot_tenant", changedDroolsText).isPresent(), is(false));
+    assertThat(store.read("other_tenant", droolsText).isPresent(), is(false));
+
+    store.write("snapshot_tenant", changedDroolsText,
+      new Drools("snapshot_tenant", changedDroolsText));
+
+    assertThat(store.read("snapshot_tenant", droolsText).isPresent(), is(false));
+    try (Stream<Path> files = Files.list(directory)) {
+      assertThat(files.toList(), hasSize(1));
+    }
+  }
+
+  @Test
+  void corruptSnapshotIsIgnored() throws IOException {
+    CirculationRulesSnapshotStore store = new CirculationRulesSnapshotStore(directory.toString());
+    String droolsText = Text2Drools.convert(RULES);
+
+    store.write("snapshot_tenant", droolsText, new Drools("snapshot_tenant", droolsText));
+    try (Stream<Path> files = Files.list(directory)) {
+      Files.writeString(files.findFirst().orElseThrow(), "corrupt");
+    }
+
+    assertThat(store.read("snapshot_tenant", droolsText).isPresent(), is(false));
+  }
+
+  @Test
+  void nothingIsStoredWithoutDirectory() {
+    CirculationRulesSnapshotStore store = new CirculationRulesSnapshotStore("");
+    String droolsText = Text2Drools.convert(RULES);
+
+    store.write("snapshot_tenant", droolsText, new Drools("snapshot_tenant", droolsText));
+
+    assertThat(store.isEnabled(), is(false));
+    assertThat(store.read("snapshot_tenant", droolsText).isPresent(), is(false));
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.circulation.support;
+
+import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.folio.circulation.support.http.server.WebContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+class ClientsTest {
+  private Vertx vertx;
+  private HttpClient httpClient;
+
+  @BeforeEach
+  void createHttpClient() {
+    vertx = Vertx.vertx();
+    httpClient = vertx.createHttpClient();
+  }
+
+  @AfterEach
+  void closeVertx() {
+    vertx.close();
+  }
+
+  @Test
+  void invalidOkapiLocationIsRefusedWhenCreatingClients() {
+    final WebContext context = webContext("not a URL");
+
+    assertThrows(InvalidOkapiLocationException.class,
+      () -> Clients.create(context, httpClient));
+  }
+
+  @Test
+  void clientIsCreatedOnceForAllUses() {
+    final Clients clients = Clients.create(webContext("http://okapi:9130"), httpClient);
+
+    assertThat(clients.itemsStorage(), sameInstance(clients.itemsStorage()));
+    assertThat(clients.circulationLoanRules(), sameInstance(clients.circulationLoanRules()));
+  }
+
+  private static WebContext webContext(String okapiLocation) {
+    final RoutingContext routingContext = mock(RoutingContext.class);
+    final HttpServerRequest request = mock(HttpServerRequest.class);
+
+    when(routingContext.request()).thenReturn(request);
+    when(request.getHeader(OKAPI_URL)).thenReturn(okapiLocation);
+
+    return new WebContext(routingContext);
+  }
+}
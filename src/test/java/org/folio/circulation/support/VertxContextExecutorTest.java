@@ -0,0 +1,64 @@
+package org.folio.circulation.support;
+
+import static org.folio.circulation.support.VertxContextExecutor.contextExecutor;
+import static org.folio.circulation.support.VertxContextExecutor.offEventLoop;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+class VertxContextExecutorTest {
+  private Vertx vertx;
+
+  @BeforeEach
+  void createVertx() {
+    vertx = Vertx.vertx();
+  }
+
+  @AfterEach
+  void closeVertx() {
+    vertx.close();
+  }
+
+  @Test
+  void stagesRunOnTheContext() throws Exception {
+    final Context context = vertx.getOrCreateContext();
+
+    final Context stageContext = CompletableFuture.completedFuture(null)
+      .thenApplyAsync(unused -> Vertx.currentContext(), contextExecutor(context))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(stageContext, is(sameInstance(context)));
+  }
+
+  @Test
+  void workIsRunOffTheEventLoopAndCompletesOnIt() throws Exception {
+    final Context context = vertx.getOrCreateContext();
+    final AtomicBoolean ranOnWorker = new AtomicBoolean();
+    final CompletableFuture<Context> completionContext = new CompletableFuture<>();
+
+    context.runOnContext(unused -> offEventLoop(context,
+      () -> ranOnWorker.getAndSet(Context.isOnWorkerThread()))
+      .thenAccept(ignored -> completionContext.complete(Vertx.currentContext())));
+
+    assertThat(completionContext.get(5, TimeUnit.SECONDS), is(sameInstance(context)));
+    assertThat(ranOnWorker.get(), is(true));
+  }
+
+  @Test
+  void workIsRunStraightAwayWithoutEventLoop() throws Exception {
+    final Thread thread = offEventLoop(null, Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+    assertThat(thread, is(sameInstance(Thread.currentThread())));
+  }
+}
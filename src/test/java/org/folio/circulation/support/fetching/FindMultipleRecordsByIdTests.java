@@ -14,16 +14,19 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.FindWithCqlQuery;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
+import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
 import org.junit.Rule;
@@ -140,6 +143,83 @@ class FindMultipleRecordsByIdTests {
     verify(queryFinder, times(0)).findByQuery(any(), any());
   }
 
+  @Test
+  void shouldLimitNumberOfQueriesMadeAtTheSameTime() {
+    final List<CompletableFuture<Result<MultipleRecords<JsonObject>>>> queryResults =
+      new ArrayList<>();
+
+    when(queryFinder.findByQuery(any(), any())).thenAnswer(invocation -> {
+      final CompletableFuture<Result<MultipleRecords<JsonObject>>> queryResult =
+        new CompletableFuture<>();
+      queryResults.add(queryResult);
+      return queryResult;
+    });
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
+      = new CqlIndexValuesFinder<>(queryFinder, 10, 2);
+
+    final CompletableFuture<Result<MultipleRecords<JsonObject>>> futureResult
+      = fetcher.findByIds(generateIds(50));
+
+    assertThat(queryResults.size(), is(2));
+
+    queryResults.get(0).complete(Result.succeeded(MultipleRecords.empty()));
+
+    assertThat(queryResults.size(), is(3));
+
+    while (queryResults.stream().anyMatch(queryResult -> !queryResult.isDone())) {
+      queryResults.stream()
+        .filter(queryResult -> !queryResult.isDone())
+        .findFirst()
+        .ifPresent(queryResult -> queryResult.complete(
+          Result.succeeded(MultipleRecords.empty())));
+    }
+
+    assertThat(queryResults.size(), is(5));
+    assertThat(futureResult.isDone(), is(true));
+  }
+
+  @Test
+  void shouldCombineRecordsOfAllQueriesInOrder()
+      throws InterruptedException, ExecutionException, TimeoutException {
+
+    final AtomicInteger queryNumber = new AtomicInteger();
+
+    when(queryFinder.findByQuery(any(), any())).thenAnswer(invocation -> {
+      final JsonObject record = new JsonObject().put("query", queryNumber.incrementAndGet());
+      return CompletableFuture.completedFuture(Result.succeeded(
+        new MultipleRecords<>(List.of(record), 1)));
+    });
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
+      = new CqlIndexValuesFinder<>(queryFinder, 1, 2);
+
+    final MultipleRecords<JsonObject> result = getFutureResultValue(
+      fetcher.findByIds(generateIds(4)));
+
+    assertThat(result.getTotalRecords(), is(4));
+    assertThat(result.getRecords().stream()
+      .map(record -> record.getInteger("query"))
+      .collect(Collectors.toList()), is(List.of(1, 2, 3, 4)));
+  }
+
+  @Test
+  void shouldStopQueryingAfterAQueryFails()
+      throws InterruptedException, ExecutionException, TimeoutException {
+
+    when(queryFinder.findByQuery(any(), any())).thenReturn(
+      CompletableFuture.completedFuture(Result.failed(new ServerErrorFailure("failed"))));
+
+    final FindWithMultipleCqlIndexValues<JsonObject> fetcher
+      = new CqlIndexValuesFinder<>(queryFinder, 1, 1);
+
+    final Result<MultipleRecords<JsonObject>> result = fetcher.findByIds(generateIds(3))
+      .get(1, SECONDS);
+
+    assertThat(result.failed(), is(true));
+    verify(queryFinder, times(1)).findByQuery(any(), any());
+  }
+
   private Collection<String> generateIds(int size) {
     return Stream.generate(UUID::randomUUID)
       .map(UUID::toString)
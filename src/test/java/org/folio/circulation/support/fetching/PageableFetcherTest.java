@@ -4,6 +4,7 @@ import static java.lang.Math.min;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
+import static org.folio.circulation.support.fetching.SortKey.sortKey;
 import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 import static org.folio.circulation.support.results.Result.failed;
@@ -19,7 +20,10 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -111,6 +115,132 @@ class PageableFetcherTest {
     verify(pageProcessor, times(10)).processPage(any());
   }
 
+  @Test
+  void shouldProcessPagesByKeyWhenProcessingChangesWhichRecordsMatch() {
+    final var pageSize = limit(10);
+    final var storedRecords = range(0, 95).boxed().collect(toList());
+    final var processedRecords = new ArrayList<Integer>();
+    final List<CqlQuery> queries = new ArrayList<>();
+
+    // records are removed from the results once processed, like loans aged to lost
+    final GetManyRecordsRepository<Integer> repository = (query, pageLimit, offset) -> {
+      queries.add(query);
+      final var lastProcessed = processedRecords.isEmpty()
+        ? -1 : processedRecords.get(processedRecords.size() - 1);
+      final var afterKey = afterKey(query);
+
+      return ofAsync(() -> new MultipleRecords<>(storedRecords.stream()
+        .filter(record -> record > lastProcessed && record > afterKey)
+        .skip(offset.getOffset())
+        .limit(pageLimit.getLimit())
+        .collect(toList()), storedRecords.size()));
+    };
+
+    final PageProcessor<Integer> pageProcessor = records -> {
+      processedRecords.addAll(records.getRecords());
+      return ofAsync(() -> null);
+    };
+
+    final var voidResult = new PageableFetcher<>(repository, pageSize, 1000)
+      .processPagesByKey(noQuery().value(),
+        List.of(sortKey("id", record -> String.format("%03d", record))), pageProcessor)
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedRecords, is(storedRecords));
+    assertThat(queries.get(0).toString(), containsString("sortBy id/sort.ascending"));
+    assertThat(queries.get(1).toString(), containsString("((id>\"009\"))"));
+  }
+
+  @Test
+  void shouldFetchNextPageWhileProcessingPage() {
+    final var pageSize = limit(10);
+    final var repository = spy(repository(100));
+    final var processing = new ArrayList<CompletableFuture<Result<Void>>>();
+    final PageProcessor<Integer> pageProcessor = records -> {
+      final var processed = new CompletableFuture<Result<Void>>();
+      processing.add(processed);
+      return processed;
+    };
+
+    final var voidResult = new PageableFetcher<>(repository, pageSize, 1000, 2)
+      .processPages(noQuery().value(), pageProcessor);
+
+    // the first page is being processed, the two after it have been fetched
+    assertThat(processing.size(), is(1));
+    verify(repository, times(3)).getMany(any(), any(), any());
+
+    processing.get(0).complete(Result.succeeded(null));
+
+    assertThat(processing.size(), is(2));
+    verify(repository, times(4)).getMany(any(), any(), any());
+
+    for (int page = 1; page < 11; page++) {
+      processing.get(page).complete(Result.succeeded(null));
+    }
+
+    assertThat(voidResult.getNow(null).succeeded(), is(true));
+    assertThat(processing.size(), is(11));
+    verify(repository, times(11)).getMany(any(), any(), any());
+  }
+
+  @Test
+  void shouldNotFetchAheadWhenPrefetchIsDisabled() {
+    final var pageSize = limit(10);
+    final var repository = spy(repository(100));
+    final var processing = new CompletableFuture<Result<Void>>();
+
+    new PageableFetcher<>(repository, pageSize, 1000, 0)
+      .processPages(noQuery().value(), records -> processing);
+
+    verify(repository, times(1)).getMany(any(), any(), any());
+  }
+
+  @Test
+  void shouldProcessManyPagesWithoutRecordsLimit() {
+    final var processedPages = new ArrayList<MultipleRecords<Integer>>();
+
+    final var voidResult = new PageableFetcher<>(repository(200_000))
+      .processPages(noQuery().value(), records -> {
+        processedPages.add(records);
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    // pages of 500 records, and a last empty page
+    assertThat(processedPages.size(), is(401));
+  }
+
+  @Test
+  void shouldProcessManySynchronousPagesWithoutOverflowingTheStack() {
+    final var processedPages = new ArrayList<MultipleRecords<Integer>>();
+
+    final var voidResult = new PageableFetcher<>(repository(100_000), limit(1),
+      Integer.MAX_VALUE, 1)
+      .processPages(noQuery().value(), records -> {
+        processedPages.add(records);
+        return ofAsync(() -> null);
+      })
+      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+
+    assertThat(voidResult.succeeded(), is(true));
+    assertThat(processedPages.size(), is(100_001));
+  }
+
+  private static int afterKey(CqlQuery query) {
+    final var matcher = Pattern.compile("id>\"(\\d+)\"")
+      .matcher(query.toString());
+
+    int afterKey = -1;
+
+    while (matcher.find()) {
+      afterKey = Integer.parseInt(matcher.group(1));
+    }
+
+    return afterKey;
+  }
+
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
@@ -125,6 +125,23 @@ class CqlQueryTests {
       "sortBy position/sort.ascending lastTime/sort.descending"));
   }
 
+  @Test
+  void canMatchRecordsAfterValuesOfMultipleIndexes() {
+    Result<CqlQuery> query = CqlQuery.after(asList("dueDate", "id"),
+      asList("2020-04-08T10:00:00.000Z", "a6c1b3b2"));
+
+    assertThat(query.value().asText(), is("((dueDate>\"2020-04-08T10:00:00.000Z\") or " +
+      "(dueDate==\"2020-04-08T10:00:00.000Z\" and id>\"a6c1b3b2\"))"));
+  }
+
+  @Test
+  void cannotMatchRecordsAfterMissingValue() {
+    Result<CqlQuery> query = CqlQuery.after(asList("dueDate", "id"), asList(null, "a6c1b3b2"));
+
+    assertThat(query.failed(), is(true));
+    assertThat(query.cause(), is(instanceOf(ServerErrorFailure.class)));
+  }
+
   @Test
   void shouldNotBeEqualToAnotherObject() {
     final CqlQuery query = exactMatch("barcode", "12345").value();
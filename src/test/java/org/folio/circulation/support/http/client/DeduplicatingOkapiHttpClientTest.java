@@ -0,0 +1,120 @@
+package org.folio.circulation.support.http.client;
+
+import static org.folio.circulation.support.http.client.NamedQueryParameter.namedParameter;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+class DeduplicatingOkapiHttpClientTest {
+  private static final String USER_URL = "http://okapi:9130/users/a6c1b3b2";
+  private static final String LOANS_URL = "http://okapi:9130/loan-storage/loans";
+
+  private OkapiHttpClient okapiClient;
+  private DeduplicatingOkapiHttpClient client;
+
+  @BeforeEach
+  void setUp() {
+    okapiClient = mock(OkapiHttpClient.class);
+    client = new DeduplicatingOkapiHttpClient(okapiClient);
+
+    when(okapiClient.get(anyString()))
+      .thenAnswer(invocation -> ofAsync(new Response(200, "{}", "application/json")));
+    when(okapiClient.get(anyString(), any(QueryParameter.class)))
+      .thenAnswer(invocation -> ofAsync(new Response(200, "{}", "application/json")));
+    when(okapiClient.put(anyString(), any(JsonObject.class)))
+      .thenAnswer(invocation -> ofAsync(new Response(204, "", "text/plain")));
+  }
+
+  @Test
+  void identicalGetsAreSentOnce() {
+    final CompletableFuture<Result<Response>> first = client.get(USER_URL);
+    final CompletableFuture<Result<Response>> second = client.get(USER_URL);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(client.getSavedGets(), is(1));
+    verify(okapiClient, times(1)).get(USER_URL);
+  }
+
+  @Test
+  void getsWithDifferentQueryParametersAreSentSeparately() {
+    client.get(LOANS_URL, namedParameter("query", "userId==1"));
+    client.get(LOANS_URL, namedParameter("query", "userId==2"));
+    client.get(LOANS_URL, namedParameter("query", "userId==1"));
+
+    assertThat(client.getSavedGets(), is(1));
+  }
+
+  @Test
+  void inFlightGetIsShared() {
+    final CompletableFuture<Result<Response>> inFlight = new CompletableFuture<>();
+    when(okapiClient.get(USER_URL)).thenReturn(inFlight);
+
+    client.get(USER_URL);
+    client.get(USER_URL);
+    inFlight.complete(Result.succeeded(new Response(200, "{}", "application/json")));
+
+    assertThat(client.getSavedGets(), is(1));
+    verify(okapiClient, times(1)).get(USER_URL);
+  }
+
+  @Test
+  void failedGetsAreNotShared() {
+    when(okapiClient.get(USER_URL))
+      .thenReturn(CompletableFuture.completedFuture(failed(new ServerErrorFailure("timeout"))));
+
+    client.get(USER_URL);
+    client.get(USER_URL);
+
+    assertThat(client.getSavedGets(), is(0));
+  }
+
+  @Test
+  void responsesOtherThanOkAreNotShared() {
+    when(okapiClient.get(USER_URL))
+      .thenAnswer(invocation -> ofAsync(new Response(404, "Not found", "text/plain")));
+
+    client.get(USER_URL);
+    client.get(USER_URL);
+
+    assertThat(client.getSavedGets(), is(0));
+  }
+
+  @Test
+  void writesForgetAllResponses() {
+    client.get(LOANS_URL + "/1");
+    client.get(USER_URL);
+    client.put(LOANS_URL + "/1", new JsonObject());
+    client.get(LOANS_URL + "/1");
+    client.get(USER_URL);
+
+    assertThat(client.getSavedGets(), is(0));
+    verify(okapiClient, times(2)).get(LOANS_URL + "/1");
+    verify(okapiClient, times(2)).get(USER_URL);
+  }
+
+  @Test
+  void writesForgetResponsesOfOtherInterfaces() {
+    client.get(LOANS_URL, namedParameter("query", "userId==1"));
+    client.put("http://okapi:9130/anonymize-storage-loans", new JsonObject());
+    client.get(LOANS_URL, namedParameter("query", "userId==1"));
+
+    assertThat(client.getSavedGets(), is(0));
+  }
+}
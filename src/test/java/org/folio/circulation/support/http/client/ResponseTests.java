@@ -0,0 +1,68 @@
+package org.folio.circulation.support.http.client;
+
+import static io.vertx.core.MultiMap.caseInsensitiveMultiMap;
+import static org.folio.circulation.support.http.client.Response.responseFrom;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+
+class ResponseTests {
+  @Test
+  void jsonIsDecodedFromReceivedBody() {
+    final Response response = received("{\"name\": \"Bibliothèque\"}");
+
+    assertThat(response.hasBody(), is(true));
+    assertThat(response.getJson().getString("name"), is("Bibliothèque"));
+    assertThat(response.getBody(), is("{\"name\": \"Bibliothèque\"}"));
+  }
+
+  @Test
+  void eachUseOfJsonCanBeChangedSeparately() {
+    final Response response = received("{\"status\": \"Open\"}");
+
+    final JsonObject first = response.getJson();
+    first.put("status", "Closed");
+
+    assertThat(response.getJson(), is(not(sameInstance(first))));
+    assertThat(response.getJson().getString("status"), is("Open"));
+  }
+
+  @Test
+  void receivedBodyIsForwardedAsItWasReceived() {
+    final Buffer body = Buffer.buffer("{\"id\": \"1\"}");
+    final Response response = received(body);
+
+    assertThat(response.getBodyAsBuffer(), is(sameInstance(body)));
+  }
+
+  @Test
+  void blankReceivedBodyIsNotABody() {
+    assertThat(received(" \r\n").hasBody(), is(false));
+    assertThat(received(" \r\n").getJson(), is(new JsonObject()));
+    assertThat(received((Buffer) null).hasBody(), is(false));
+  }
+
+  private static Response received(String body) {
+    return received(Buffer.buffer(body));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Response received(Buffer body) {
+    final HttpResponse<Buffer> response = mock(HttpResponse.class);
+
+    when(response.statusCode()).thenReturn(200);
+    when(response.headers()).thenReturn(caseInsensitiveMultiMap());
+    when(response.body()).thenReturn(body);
+
+    return responseFrom("http://okapi:9130/service-points", response);
+  }
+}
@@ -0,0 +1,47 @@
+package org.folio.circulation.support.http.server;
+
+import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
+
+import java.net.URL;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+@ExtendWith(MockitoExtension.class)
+class WebContextTest {
+  @Mock
+  private RoutingContext routingContext;
+  @Mock
+  private HttpServerRequest request;
+
+  @BeforeEach
+  public void mockRoutingContext() {
+    when(routingContext.request()).thenReturn(request);
+    when(request.getHeader(OKAPI_URL)).thenReturn("http://okapi:9130/some/path");
+  }
+
+  @Test
+  void okapiBasedUrlReplacesPathOfOkapiLocation() throws Exception {
+    final URL url = new WebContext(routingContext).getOkapiBasedUrl("/item-storage/items");
+
+    assertThat(url.toString(), is("http://okapi:9130/item-storage/items"));
+  }
+
+  @Test
+  void okapiBasedUrlIsSharedByRequests() throws Exception {
+    final URL first = new WebContext(routingContext).getOkapiBasedUrl("/users");
+    final URL second = new WebContext(routingContext).getOkapiBasedUrl("/users");
+
+    assertThat(second, is(sameInstance(first)));
+  }
+}